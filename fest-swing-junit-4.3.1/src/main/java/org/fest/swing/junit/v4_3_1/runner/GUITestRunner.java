@@ -62,12 +62,17 @@ public class GUITestRunner extends Runner {
   }
 
   /**
-   * Run the tests for this runner, taking screenshots of failing tests.
+   * Run the tests for this runner, taking screenshots of failing tests. This method waits for the screenshots to be
+   * saved when all tests have been run.
    * @param notifier will be notified of events while tests are being run, started, finishing, and failing.
    */
   @Override
   public void run(RunNotifier notifier) {
-    new InnerRunner(this, notifier).runProtected();
+    try {
+      new InnerRunner(this, notifier).runProtected();
+    } finally {
+      screenshotTaker.flush();
+    }
   }
 
   // called by InnerRunner
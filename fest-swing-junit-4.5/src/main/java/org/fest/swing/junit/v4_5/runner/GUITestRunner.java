@@ -16,6 +16,7 @@ package org.fest.swing.junit.v4_5.runner;
 
 import org.fest.swing.junit.runner.FailureScreenshotTaker;
 import org.fest.swing.junit.runner.ImageFolderCreator;
+import org.junit.runner.notification.RunNotifier;
 import org.junit.runners.BlockJUnit4ClassRunner;
 import org.junit.runners.model.*;
 
@@ -39,6 +40,19 @@ public class GUITestRunner extends BlockJUnit4ClassRunner {
     screenshotTaker = new FailureScreenshotTaker(new ImageFolderCreator().createImageFolder());
   }
 
+  /**
+   * Runs the tests for this runner, waiting for the screenshots of failed tests to be saved when all tests have been
+   * run.
+   * @param notifier will be notified of events while tests are being run, started, finishing, and failing.
+   */
+  @Override public void run(RunNotifier notifier) {
+    try {
+      super.run(notifier);
+    } finally {
+      screenshotTaker.flush();
+    }
+  }
+
   /**
    * Returns a <code>{@link Statement}</code> that invokes {@code method} on {@code test}. The created statement will
    * take and save the screenshot of the desktop in case of a failure.
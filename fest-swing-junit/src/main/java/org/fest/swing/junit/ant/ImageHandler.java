@@ -17,9 +17,15 @@ package org.fest.swing.junit.ant;
 
 import static java.io.File.separator;
 import static java.util.logging.Level.SEVERE;
-import static org.fest.util.Strings.isEmpty;
+import static org.fest.util.Strings.*;
 
 import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.logging.Logger;
 
 import org.fest.swing.image.ImageFileWriter;
@@ -32,6 +38,7 @@ import org.fest.swing.image.ImageFileWriter;
 public final class ImageHandler {
 
   private static final String EMPTY_STRING = "";
+  private static final int BUFFER_SIZE = 8192;
 
   private static Logger logger = Logger.getAnonymousLogger();
 
@@ -105,5 +112,49 @@ public final class ImageHandler {
     return EMPTY_STRING;
   }
 
+  /**
+   * Copies the image file in the given source path to the given path. Failures in copying the image file are simply
+   * logged, no exceptions are thrown.
+   * @param sourcePath the path of the image file to copy.
+   * @param path the path where to copy the image file to.
+   * @return empty <code>String</code>. This method is used by this extensions XSL stylesheets to copy images saved
+   * outside of the XML report.
+   */
+  public static String copyImageFile(String sourcePath, String path) {
+    if (isEmpty(sourcePath)) return EMPTY_STRING;
+    if (isEmpty(path)) return EMPTY_STRING;
+    File source = new File(sourcePath.replace("/", separator));
+    File target = new File(path.replace("/", separator));
+    try {
+      if (source.getCanonicalFile().equals(target.getCanonicalFile())) return EMPTY_STRING;
+      copy(source, target);
+    } catch (Exception ignored) {
+      logger.log(SEVERE, ignored.getMessage());
+    }
+    return EMPTY_STRING;
+  }
+
+  private static void copy(File source, File target) throws IOException {
+    File parent = target.getParentFile();
+    if (parent != null && !parent.isDirectory() && !parent.mkdirs()) {
+      throw new IOException(concat("Unable to create folder ", quote(parent.getPath())));
+    }
+    InputStream in = new FileInputStream(source);
+    try {
+      OutputStream out = new FileOutputStream(target);
+      try {
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+          out.write(buffer, 0, read);
+        }
+      } finally {
+        out.close();
+      }
+    } finally {
+      in.close();
+    }
+  }
+
   private ImageHandler() {}
 }
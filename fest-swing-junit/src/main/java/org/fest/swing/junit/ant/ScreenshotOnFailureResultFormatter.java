@@ -15,6 +15,10 @@
 package org.fest.swing.junit.ant;
 
 import static org.apache.tools.ant.taskdefs.optional.junit.XMLConstants.ERROR;
+import static org.fest.util.Strings.isEmpty;
+
+import java.io.File;
+
 import junit.framework.Test;
 
 import org.apache.tools.ant.taskdefs.optional.junit.JUnitTest;
@@ -27,11 +31,22 @@ import org.fest.swing.junit.xml.XmlNode;
  * <strong>Note:</strong> A test is consider a GUI test if it is marked with the annotation
  * <code>{@link org.fest.swing.annotation.GUITest}</code>.
  * </p>
+ * <p>
+ * By default, screenshots are embedded in the XML report as base64 characters. If the system property
+ * <code>{@value #SCREENSHOT_FOLDER_PROPERTY}</code> is set, screenshots are saved as PNG files in the folder it
+ * specifies instead, and the XML report only contains the paths of those files.
+ * </p>
  *
  * @author Alex Ruiz
  */
 public final class ScreenshotOnFailureResultFormatter extends XmlJUnitResultFormatter {
 
+  /**
+   * Name of the system property specifying the folder where to save screenshots of failed GUI tests, instead of
+   * embedding them in the XML report.
+   */
+  public static final String SCREENSHOT_FOLDER_PROPERTY = "fest.swing.junit.screenshotFolder";
+
   private ScreenshotXmlWriter screenshotXmlWriter;
 
   /**
@@ -41,12 +56,18 @@ public final class ScreenshotOnFailureResultFormatter extends XmlJUnitResultForm
    */
   @Override protected void onStartTestSuite(JUnitTest suite) {
     try {
-      screenshotXmlWriter = new ScreenshotXmlWriter();
+      screenshotXmlWriter = new ScreenshotXmlWriter(screenshotFolder());
     } catch (ImageException e) {
       informCannotTakeScreenshots(e);
     }
   }
 
+  static File screenshotFolder() {
+    String folder = System.getProperty(SCREENSHOT_FOLDER_PROPERTY);
+    if (isEmpty(folder)) return null;
+    return new File(folder);
+  }
+
   private void informCannotTakeScreenshots(ImageException error) {
     XmlNode errorNode = xmlRootNode().addNewNode(ERROR);
     writeErrorAndStackTrace(error, errorNode);
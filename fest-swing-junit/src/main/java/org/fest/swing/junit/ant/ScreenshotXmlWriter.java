@@ -14,6 +14,7 @@
  */
 package org.fest.swing.junit.ant;
 
+import static java.util.logging.Level.SEVERE;
 import static org.fest.swing.image.ImageFileExtensions.PNG;
 import static org.fest.swing.junit.ant.ImageHandler.encodeBase64;
 import static org.fest.swing.junit.ant.Tests.*;
@@ -21,41 +22,98 @@ import static org.fest.swing.junit.xml.XmlAttribute.name;
 import static org.fest.util.Strings.*;
 
 import java.awt.image.BufferedImage;
+import java.io.File;
+import java.util.logging.Logger;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
 
 import junit.framework.Test;
 
+import org.fest.swing.image.ImageFileWriter;
 import org.fest.swing.image.ScreenshotTaker;
 import org.fest.swing.junit.xml.XmlNode;
 
 /**
  * Understands taking a screenshot of the desktop and, encoding and writing the resulting image into a XML element.
+ * <p>
+ * If a screenshot folder is specified, screenshots are not encoded. Instead, they are saved as PNG files in that folder,
+ * and the XML element only contains the path of the saved file (in the attribute "path".) This keeps large images out
+ * of the XML report held in memory until the test suite ends.
+ * </p>
  *
  * @author Alex Ruiz
  */
 class ScreenshotXmlWriter {
 
+  private static Logger logger = Logger.getAnonymousLogger();
+
   private static final String SCREENSHOT_ELEMENT = "screenshot";
   private static final String SCREENSHOT_FILE_ATTRIBUTE = "file";
+  private static final String SCREENSHOT_PATH_ATTRIBUTE = "path";
 
   private final ScreenshotTaker screenshotTaker;
   private final GUITestRecognizer guiTestRecognizer;
+  private final File screenshotFolder;
+  private final ImageFileWriter imageFileWriter;
 
   ScreenshotXmlWriter() {
-    this(new ScreenshotTaker(), new GUITestRecognizer());
+    this(null);
+  }
+
+  ScreenshotXmlWriter(File screenshotFolder) {
+    this(new ScreenshotTaker(), new GUITestRecognizer(), screenshotFolder, new ImageFileWriter());
   }
 
   ScreenshotXmlWriter(ScreenshotTaker screenshotTaker, GUITestRecognizer guiTestRecognizer) {
+    this(screenshotTaker, guiTestRecognizer, null, new ImageFileWriter());
+  }
+
+  ScreenshotXmlWriter(ScreenshotTaker screenshotTaker, GUITestRecognizer guiTestRecognizer, File screenshotFolder,
+      ImageFileWriter imageFileWriter) {
     this.screenshotTaker = screenshotTaker;
     this.guiTestRecognizer = guiTestRecognizer;
+    this.screenshotFolder = screenshotFolder;
+    this.imageFileWriter = imageFileWriter;
   }
 
   void writeScreenshot(XmlNode target, Test test) {
     String testClass = testClassNameFrom(test);
     String testMethod = testMethodNameFrom(test);
     if (!guiTestRecognizer.isGUITest(testClass, testMethod)) return;
+    String imageFileName = imageFileName(testClass, testMethod);
+    if (screenshotFolder != null) {
+      saveScreenshotAndWritePath(target, imageFileName);
+      return;
+    }
     String image = takeScreenshotAndReturnEncoded();
     if (isEmpty(image)) return;
-    writeScreenshotFileName(target, image, imageFileName(testClass, testMethod));
+    writeScreenshotFileName(target, image, imageFileName);
+  }
+
+  void writeScreenshot(XMLStreamWriter writer, Test test) throws XMLStreamException {
+    String testClass = testClassNameFrom(test);
+    String testMethod = testMethodNameFrom(test);
+    if (!guiTestRecognizer.isGUITest(testClass, testMethod)) return;
+    String imageFileName = imageFileName(testClass, testMethod);
+    if (screenshotFolder != null) {
+      String path = saveScreenshot(imageFileName);
+      if (isEmpty(path)) return;
+      writeScreenshotElementStart(writer, imageFileName);
+      writer.writeAttribute(SCREENSHOT_PATH_ATTRIBUTE, path);
+      writer.writeEndElement();
+      return;
+    }
+    String image = takeScreenshotAndReturnEncoded();
+    if (isEmpty(image)) return;
+    writeScreenshotElementStart(writer, imageFileName);
+    writer.writeCharacters(image);
+    writer.writeEndElement();
+  }
+
+  private void writeScreenshotElementStart(XMLStreamWriter writer, String imageFileName) throws XMLStreamException {
+    writer.writeStartElement(SCREENSHOT_ELEMENT);
+    writer.writeAttribute(SCREENSHOT_FILE_ATTRIBUTE, imageFileName);
   }
 
   private String takeScreenshotAndReturnEncoded() {
@@ -64,9 +122,37 @@ class ScreenshotXmlWriter {
   }
 
   private void writeScreenshotFileName(XmlNode target, String encodedImage, String imageFileName) {
+    XmlNode screenshotNode = addScreenshotNode(target, imageFileName);
+    screenshotNode.addText(encodedImage);
+  }
+
+  private void saveScreenshotAndWritePath(XmlNode target, String imageFileName) {
+    String path = saveScreenshot(imageFileName);
+    if (isEmpty(path)) return;
+    XmlNode screenshotNode = addScreenshotNode(target, imageFileName);
+    screenshotNode.addAttribute(name(SCREENSHOT_PATH_ATTRIBUTE).value(path));
+  }
+
+  private String saveScreenshot(String imageFileName) {
+    try {
+      if (!screenshotFolder.isDirectory() && !screenshotFolder.mkdirs()) {
+        logger.severe(concat("Unable to create screenshot folder ", quote(screenshotFolder.getPath())));
+        return null;
+      }
+      String path = new File(screenshotFolder, imageFileName).getCanonicalPath();
+      BufferedImage image = screenshotTaker.takeDesktopScreenshot();
+      if (!imageFileWriter.writeAsPng(image, path)) return null;
+      return path;
+    } catch (Exception e) {
+      logger.log(SEVERE, "Unable to save screenshot", e);
+      return null;
+    }
+  }
+
+  private XmlNode addScreenshotNode(XmlNode target, String imageFileName) {
     XmlNode screenshotNode = target.parentNode().addNewNode(SCREENSHOT_ELEMENT);
     screenshotNode.addAttribute(name(SCREENSHOT_FILE_ATTRIBUTE).value(imageFileName));
-    screenshotNode.addText(encodedImage);
+    return screenshotNode;
   }
 
   private String imageFileName(String testClass, String testMethod) {
@@ -0,0 +1,71 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.junit.ant;
+
+import static org.fest.swing.junit.ant.ScreenshotOnFailureResultFormatter.screenshotFolder;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+import junit.framework.Test;
+
+import org.apache.tools.ant.taskdefs.optional.junit.JUnitTest;
+import org.fest.swing.image.ImageException;
+
+/**
+ * Understands a streaming JUnit XML report formatter that takes a screenshot when a GUI test fails.
+ * <p>
+ * <strong>Note:</strong> A test is consider a GUI test if it is marked with the annotation
+ * <code>{@link org.fest.swing.annotation.GUITest}</code>.
+ * </p>
+ * <p>
+ * Screenshots are written to the XML report as soon as they are taken, as described in
+ * <code>{@link StreamingXmlJUnitResultFormatter}</code>. The system property
+ * <code>{@value ScreenshotOnFailureResultFormatter#SCREENSHOT_FOLDER_PROPERTY}</code> is honored in the same way as in
+ * <code>{@link ScreenshotOnFailureResultFormatter}</code>.
+ * </p>
+ *
+ * @author Alex Ruiz
+ */
+public final class StreamingScreenshotOnFailureResultFormatter extends StreamingXmlJUnitResultFormatter {
+
+  private ScreenshotXmlWriter screenshotXmlWriter;
+
+  /**
+   * Execution of the JUnit test suite started. Internally, this method creates the writer responsible for writing a
+   * screenshot of the desktop in the XML report.
+   * @param suite the JUnit test suite.
+   */
+  @Override protected void onStartTestSuite(JUnitTest suite) {
+    try {
+      screenshotXmlWriter = new ScreenshotXmlWriter(screenshotFolder());
+    } catch (ImageException e) {
+      writeError(e);
+    }
+  }
+
+  /**
+   * A test failed. This method writes a screenshot of the desktop if the failing test is a GUI test.
+   * @param test the failing test.
+   * @param error the cause of the failure or error.
+   * @param writer the writer of the XML report.
+   * @throws XMLStreamException if the XML report cannot be written.
+   */
+  @Override protected void onFailureOrError(Test test, Throwable error, XMLStreamWriter writer)
+      throws XMLStreamException {
+    if (screenshotXmlWriter == null) return;
+    screenshotXmlWriter.writeScreenshot(writer, test);
+  }
+}
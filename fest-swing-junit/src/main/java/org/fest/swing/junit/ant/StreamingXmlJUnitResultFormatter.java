@@ -0,0 +1,418 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.junit.ant;
+
+import static java.lang.String.valueOf;
+import static java.lang.System.currentTimeMillis;
+import static org.apache.tools.ant.taskdefs.optional.junit.XMLConstants.*;
+import static org.apache.tools.ant.util.FileUtils.close;
+import static org.fest.swing.junit.ant.CommonConstants.*;
+import static org.fest.swing.junit.ant.Tests.*;
+import static org.fest.util.Strings.isEmpty;
+import static org.fest.util.Systems.LINE_SEPARATOR;
+
+import java.io.*;
+import java.net.UnknownHostException;
+import java.util.Date;
+import java.util.Enumeration;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+import junit.framework.AssertionFailedError;
+import junit.framework.Test;
+
+import org.apache.tools.ant.BuildException;
+import org.apache.tools.ant.taskdefs.optional.junit.JUnitResultFormatter;
+import org.apache.tools.ant.taskdefs.optional.junit.JUnitTest;
+
+/**
+ * Understands a JUnit XML report formatter that writes the report as the tests run, instead of building the whole
+ * report in memory.
+ * <p>
+ * Each <code>testcase</code> element is written, using StAX, to a temporary file as soon as its test finishes. Because
+ * the suite statistics are attributes of the root <code>testsuite</code> element, and they are only known once the
+ * whole suite has finished, the temporary file is copied to this formatter's <code>{@link OutputStream}</code> after
+ * the <code>testsuite</code> start tag when the suite ends. Only the data of the currently running test, and small
+ * fixed-size buffers, are kept in memory.
+ * </p>
+ * <p>
+ * The produced XML report has the same format as the one produced by <code>{@link XmlJUnitResultFormatter}</code>.
+ * </p>
+ *
+ * @author Alex Ruiz
+ */
+public class StreamingXmlJUnitResultFormatter implements JUnitResultFormatter {
+
+  private static final int BUFFER_SIZE = 8192;
+  private static final String XML_HEADER = "<?xml version=\"1.0\" encoding=\"UTF-8\" ?>";
+  private static final String LOCALHOST = "localhost";
+  private static final String CDATA_END = "]]>";
+
+  private final XMLOutputFactory xmlOutputFactory;
+  private final StackTraceFilter stackTraceFilter;
+  private final TimestampFormatter timestampFormatter;
+  private final HostNameReader hostNameReader;
+  private final StandardOutputStreams outputStreams;
+
+  private final Map<Test, Long> startTimes = new ConcurrentHashMap<Test, Long>();
+
+  private OutputStream out;  // where to write the log to
+
+  private String timestamp;
+  private File bodyFile;
+  private Writer bodyWriter;
+  private XMLStreamWriter body;
+  private Test openTest;
+
+  /**
+   * Creates a new <code>{@link StreamingXmlJUnitResultFormatter}</code>.
+   */
+  public StreamingXmlJUnitResultFormatter() {
+    this(new StackTraceFilter(), new TimestampFormatter(), new HostNameReader(), new StandardOutputStreams());
+  }
+
+  StreamingXmlJUnitResultFormatter(StackTraceFilter stackTraceFilter, TimestampFormatter timestampFormatter,
+      HostNameReader hostNameReader, StandardOutputStreams outputStreams) {
+    xmlOutputFactory = XMLOutputFactory.newInstance();
+    this.stackTraceFilter = stackTraceFilter;
+    this.timestampFormatter = timestampFormatter;
+    this.hostNameReader = hostNameReader;
+    this.outputStreams = outputStreams;
+  }
+
+  /**
+   * Sets the stream the formatter is supposed to write its results to.
+   * @param out the output stream to use.
+   */
+  public final void setOutput(OutputStream out) {
+    this.out = out;
+  }
+
+  /**
+   * This is what the test has written to <code>System.out</code>,
+   * @param out the <code>String</code> to write.
+   */
+  public final void setSystemOutput(String out) {
+    formatOutput(SYSTEM_OUT, out);
+  }
+
+  /**
+   * This is what the test has written to <code>System.err</code>.
+   * @param out the <code>String</code> to write.
+   */
+  public final void setSystemError(String out) {
+    formatOutput(SYSTEM_ERR, out);
+  }
+
+  private void formatOutput(String type, String output) {
+    try {
+      closeOpenTest();
+      body.writeStartElement(type);
+      writeCData(output);
+      body.writeEndElement();
+      body.writeCharacters(LINE_SEPARATOR);
+    } catch (XMLStreamException e) {
+      throw cannotWrite(e);
+    }
+  }
+
+  /**
+   * The whole test suite started. This method starts writing the XML report to a temporary file.
+   * @param suite the test suite.
+   * @throws BuildException on error.
+   */
+  public final void startTestSuite(JUnitTest suite) {
+    timestamp = timestampFormatter.format(new Date());
+    openTest = null;
+    startTimes.clear();
+    try {
+      bodyFile = File.createTempFile("TEST-", ".xml.part");
+      bodyFile.deleteOnExit();
+      bodyWriter = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(bodyFile), UTF_8), BUFFER_SIZE);
+      body = xmlOutputFactory.createXMLStreamWriter(bodyWriter);
+      body.writeCharacters(LINE_SEPARATOR);
+      writeSuiteProperties(suite);
+    } catch (IOException e) {
+      throw cannotWrite(e);
+    } catch (XMLStreamException e) {
+      throw cannotWrite(e);
+    }
+    onStartTestSuite(suite);
+  }
+
+  private void writeSuiteProperties(JUnitTest suite) throws XMLStreamException {
+    body.writeStartElement(PROPERTIES);
+    Properties properties = suite.getProperties();
+    if (properties != null) {
+      Enumeration<?> propertyNames = properties.propertyNames();
+      while (propertyNames.hasMoreElements()) {
+        String propertyName = (String)propertyNames.nextElement();
+        body.writeEmptyElement(PROPERTY);
+        body.writeAttribute(ATTR_NAME, legalXml(propertyName));
+        body.writeAttribute(ATTR_VALUE, legalXml(properties.getProperty(propertyName)));
+      }
+    }
+    body.writeEndElement();
+    body.writeCharacters(LINE_SEPARATOR);
+  }
+
+  /**
+   * Hook for subclasses to add extra functionality after the whole test suite started.
+   * @param suite the test suite.
+   */
+  protected void onStartTestSuite(JUnitTest suite) {}
+
+  /**
+   * The whole test suite ended. This method writes the root element of the XML report, including the suite statistics,
+   * followed by the contents of the temporary file, to this formatter's <code>{@link OutputStream}</code>.
+   * @param suite the test suite.
+   * @throws BuildException on error.
+   */
+  public final void endTestSuite(JUnitTest suite) {
+    try {
+      closeOpenTest();
+      body.flush();
+      body.close();
+    } catch (XMLStreamException e) {
+      throw cannotWrite(e);
+    } finally {
+      close(bodyWriter);
+    }
+    try {
+      if (out != null) writeReport(suite);
+    } finally {
+      bodyFile.delete();
+    }
+  }
+
+  private void writeReport(JUnitTest suite) {
+    Writer writer = null;
+    try {
+      writer = new BufferedWriter(new OutputStreamWriter(out, UTF_8), BUFFER_SIZE);
+      writer.write(XML_HEADER);
+      writer.write(LINE_SEPARATOR);
+      XMLStreamWriter xml = xmlOutputFactory.createXMLStreamWriter(writer);
+      xml.writeStartElement(TESTSUITE);
+      writeSuiteAttributes(xml, suite);
+      xml.writeCharacters("");  // closes the start tag
+      xml.flush();
+      copyBodyTo(writer);
+      xml.writeEndElement();
+      xml.flush();
+      writer.write(LINE_SEPARATOR);
+      writer.flush();
+    } catch (IOException e) {
+      throw cannotWrite(e);
+    } catch (XMLStreamException e) {
+      throw cannotWrite(e);
+    } finally {
+      if (!outputStreams.isStandardOutOrErr(out)) close(writer);
+    }
+  }
+
+  private void writeSuiteAttributes(XMLStreamWriter xml, JUnitTest suite) throws XMLStreamException {
+    String suiteName = suite.getName();
+    xml.writeAttribute(ATTR_NAME, legalXml(suiteName == null ? UNKNOWN : suiteName));
+    xml.writeAttribute(ATTR_TESTS, valueOf(suite.runCount()));
+    xml.writeAttribute(ATTR_FAILURES, valueOf(suite.failureCount()));
+    xml.writeAttribute(ATTR_ERRORS, valueOf(suite.errorCount()));
+    xml.writeAttribute(ATTR_TIME, valueOf(suite.getRunTime() / 1000.0));
+    xml.writeAttribute(HOSTNAME, hostName());
+    xml.writeAttribute(TIMESTAMP, timestamp);
+  }
+
+  private String hostName() {
+    try {
+      return hostNameReader.localHostName();
+    } catch (UnknownHostException e) {
+      return LOCALHOST;
+    }
+  }
+
+  private void copyBodyTo(Writer writer) throws IOException {
+    Reader reader = new InputStreamReader(new FileInputStream(bodyFile), UTF_8);
+    try {
+      char[] buffer = new char[BUFFER_SIZE];
+      int read;
+      while ((read = reader.read(buffer)) != -1) {
+        writer.write(buffer, 0, read);
+      }
+    } finally {
+      close(reader);
+    }
+  }
+
+  /**
+   * A new test is started.
+   * @param test the test.
+   */
+  public final void startTest(Test test) {
+    startTimes.put(test, currentTimeMillis());
+  }
+
+  /**
+   * A test is finished. This method writes the <code>testcase</code> element of the given test.
+   * @param test the test.
+   */
+  public final void endTest(Test test) {
+    try {
+      if (test != openTest) {
+        closeOpenTest();
+        writeTestCaseStart(test);
+        openTest = test;
+      }
+      closeOpenTest();
+    } catch (XMLStreamException e) {
+      throw cannotWrite(e);
+    }
+    startTimes.remove(test);
+  }
+
+  private void writeTestCaseStart(Test test) throws XMLStreamException {
+    String methodName = testMethodNameFrom(test);
+    if (methodName == null) methodName = UNKNOWN;
+    Long startTime = startTimes.get(test);
+    long executionTime = startTime == null ? 0 : currentTimeMillis() - startTime;
+    body.writeStartElement(TESTCASE);
+    body.writeAttribute(ATTR_NAME, legalXml(methodName));
+    body.writeAttribute(ATTR_CLASSNAME, legalXml(testClassNameFrom(test)));
+    body.writeAttribute(ATTR_TIME, valueOf(executionTime / 1000.0));
+  }
+
+  private void closeOpenTest() throws XMLStreamException {
+    if (openTest == null) return;
+    body.writeEndElement();
+    body.writeCharacters(LINE_SEPARATOR);
+    openTest = null;
+  }
+
+  /**
+   * A test failed.
+   * @param test the test.
+   * @param failedAssertion the failed assertion.
+   */
+  public final void addFailure(Test test, AssertionFailedError failedAssertion) {
+    addFailure(test, (Throwable)failedAssertion);
+  }
+
+  /**
+   * A test failed.
+   * @param test the test.
+   * @param error the exception.
+   */
+  public final void addFailure(Test test, Throwable error) {
+    formatError(FAILURE, test, error);
+  }
+
+  /**
+   * An error occurred while running the test.
+   * @param test the test.
+   * @param error the error.
+   */
+  public final void addError(Test test, Throwable error) {
+    formatError(ERROR, test, error);
+  }
+
+  private void formatError(String type, Test test, Throwable error) {
+    try {
+      if (test == null) {
+        closeOpenTest();
+      } else if (test != openTest) {
+        closeOpenTest();
+        writeTestCaseStart(test);
+        openTest = test;
+      }
+      body.writeStartElement(type);
+      writeErrorAndStackTrace(error);
+      body.writeEndElement();
+      onFailureOrError(test, error, body);
+    } catch (XMLStreamException e) {
+      throw cannotWrite(e);
+    }
+  }
+
+  /**
+   * Writes an <code>error</code> element, containing the stack trace and message of the given error, at the current
+   * position of the XML report.
+   * @param error the given error.
+   */
+  protected final void writeError(Throwable error) {
+    try {
+      body.writeStartElement(ERROR);
+      writeErrorAndStackTrace(error);
+      body.writeEndElement();
+      body.writeCharacters(LINE_SEPARATOR);
+    } catch (XMLStreamException e) {
+      throw cannotWrite(e);
+    }
+  }
+
+  private void writeErrorAndStackTrace(Throwable error) throws XMLStreamException {
+    String message = error.getMessage();
+    if (!isEmpty(message)) body.writeAttribute(ATTR_MESSAGE, legalXml(message));
+    body.writeAttribute(ATTR_TYPE, error.getClass().getName());
+    body.writeCharacters(legalXml(stackTraceFilter.filter(error)));
+  }
+
+  /**
+   * Hook for subclasses to add extra functionality after a test failure or a test execution error. When this method is
+   * called, the given writer is positioned inside the <code>testcase</code> element of the given test, right after the
+   * element describing the failure or error.
+   * @param test the executing test.
+   * @param error the reason of the failure or error.
+   * @param writer the writer of the XML report.
+   * @throws XMLStreamException if the XML report cannot be written.
+   */
+  protected void onFailureOrError(Test test, Throwable error, XMLStreamWriter writer) throws XMLStreamException {}
+
+  private void writeCData(String data) throws XMLStreamException {
+    String legal = legalXml(data);
+    int start = 0;
+    int end;
+    // "]]>" cannot be part of a CDATA section: split it across two sections
+    while ((end = legal.indexOf(CDATA_END, start)) != -1) {
+      body.writeCData(legal.substring(start, end + 2));
+      start = end + 2;
+    }
+    body.writeCData(legal.substring(start));
+  }
+
+  private static String legalXml(String s) {
+    if (s == null) return "";
+    StringBuilder b = null;
+    for (int i = 0; i < s.length(); i++) {
+      char c = s.charAt(i);
+      if (isLegalXmlCharacter(c)) {
+        if (b != null) b.append(c);
+        continue;
+      }
+      if (b == null) b = new StringBuilder(s.length()).append(s, 0, i);
+    }
+    return b == null ? s : b.toString();
+  }
+
+  private static boolean isLegalXmlCharacter(char c) {
+    return c == 0x9 || c == 0xA || c == 0xD || (c >= 0x20 && c <= 0xFFFD);
+  }
+
+  private static BuildException cannotWrite(Exception cause) {
+    return new BuildException("Unable to write log file", cause);
+  }
+}
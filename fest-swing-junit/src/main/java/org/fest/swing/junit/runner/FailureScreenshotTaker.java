@@ -23,6 +23,7 @@ import static org.fest.util.Strings.*;
 import java.io.File;
 import java.util.logging.Logger;
 
+import org.fest.swing.image.AsyncImageFileWriter;
 import org.fest.swing.image.ScreenshotTaker;
 
 /**
@@ -34,20 +35,41 @@ public class FailureScreenshotTaker {
 
   private static Logger logger = Logger.getAnonymousLogger();
 
+  private static final AsyncImageFileWriter IMAGE_WRITER = new AsyncImageFileWriter();
+  private static final long FLUSH_TIMEOUT = 60000;
+
   private final File imageFolder;
   private final ScreenshotTaker screenshotTaker;
+  private final AsyncImageFileWriter imageWriter;
+
+  /**
+   * Returns the writer used to save screenshots in a background thread. The writer can be used to change the
+   * compression level or the scale of the saved screenshots.
+   * @return the writer used to save screenshots.
+   * @since 1.4
+   */
+  public static AsyncImageFileWriter imageWriter() {
+    return IMAGE_WRITER;
+  }
 
   /**
-   * Creates a new </code>{@link FailureScreenshotTaker}</code>.
+   * Creates a new <code>{@link FailureScreenshotTaker}</code>. Screenshots are taken in the calling thread, but they are
+   * saved in a background thread.
    * @param imageFolder the folder where screenshots will be saved to.
+   * @see #flush()
    */
   public FailureScreenshotTaker(File imageFolder) {
-    this(imageFolder, new ScreenshotTaker());
+    this(imageFolder, new ScreenshotTaker(), IMAGE_WRITER);
   }
 
   FailureScreenshotTaker(File imageFolder, ScreenshotTaker screenshotTaker) {
+    this(imageFolder, screenshotTaker, null);
+  }
+
+  FailureScreenshotTaker(File imageFolder, ScreenshotTaker screenshotTaker, AsyncImageFileWriter imageWriter) {
     this.imageFolder = imageFolder;
     this.screenshotTaker = screenshotTaker;
+    this.imageWriter = imageWriter;
   }
 
   /**
@@ -57,10 +79,27 @@ public class FailureScreenshotTaker {
   public void saveScreenshot(String failedTest) {
     try {
       String fileName = concat(imageFolder.getCanonicalPath(), separator, failedTest, ".", PNG);
-      screenshotTaker.saveDesktopAsPng(fileName);
-      logger.info(concat("Screenshot of failed test saved as ", quote(fileName)));
+      if (imageWriter == null) {
+        screenshotTaker.saveDesktopAsPng(fileName);
+        logger.info(concat("Screenshot of failed test saved as ", quote(fileName)));
+        return;
+      }
+      imageWriter.writeAsPng(screenshotTaker.takeDesktopScreenshot(), fileName);
+      logger.info(concat("Screenshot of failed test will be saved as ", quote(fileName)));
     } catch (Exception e) {
       logger.log(WARNING, concat("Unable to take screenshot of failed test ", quote(failedTest)), e);
     }
   }
+
+  /**
+   * Waits until all the screenshots taken so far have been saved. Test runners should call this method when all the
+   * tests have been run.
+   * @since 1.4
+   */
+  public void flush() {
+    if (imageWriter != null && !imageWriter.flush(FLUSH_TIMEOUT)) {
+      logger.warning(concat("Timed out waiting for ", String.valueOf(imageWriter.pendingCount()),
+          " screenshot(s) of failed tests to be saved"));
+    }
+  }
 }
@@ -454,7 +454,14 @@
     <xsl:variable name="encoded.image">
         <xsl:value-of select="."/>   
     </xsl:variable>
-    <xsl:value-of select="java:org.fest.swing.junit.ant.ImageHandler.decodeBase64AndSaveAsPng(string($encoded.image), string($screenshot.fullpath))"/>
+    <xsl:choose>
+        <xsl:when test="@path">
+            <xsl:value-of select="java:org.fest.swing.junit.ant.ImageHandler.copyImageFile(string(@path), string($screenshot.fullpath))"/>
+        </xsl:when>
+        <xsl:otherwise>
+            <xsl:value-of select="java:org.fest.swing.junit.ant.ImageHandler.decodeBase64AndSaveAsPng(string($encoded.image), string($screenshot.fullpath))"/>
+        </xsl:otherwise>
+    </xsl:choose>
     <div>
     <br/>
     <a>
@@ -0,0 +1,74 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.junit.ant;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link ImageHandler#copyImageFile(String, String)}</code>.
+ *
+ * @author Alex Ruiz
+ */
+public class ImageHandler_copyImageFile_Test {
+
+  private File source;
+  private File target;
+
+  @Before public void setUp() throws IOException {
+    source = File.createTempFile("source", ".png");
+    target = new File(source.getParentFile(), "copies" + File.separator + source.getName());
+    OutputStream out = new FileOutputStream(source);
+    try {
+      out.write(new byte[] { 1, 2, 3 });
+    } finally {
+      out.close();
+    }
+  }
+
+  @After public void tearDown() {
+    source.delete();
+    target.delete();
+    target.getParentFile().delete();
+  }
+
+  @Test
+  public void should_copy_image_file_creating_missing_folders() {
+    assertThat(ImageHandler.copyImageFile(source.getPath(), target.getPath())).isEmpty();
+    assertThat(target.isFile()).isTrue();
+    assertThat(target.length()).isEqualTo(3);
+  }
+
+  @Test
+  public void should_return_empty_String_if_source_path_is_empty() {
+    assertThat(ImageHandler.copyImageFile("", target.getPath())).isEmpty();
+    assertThat(target.exists()).isFalse();
+  }
+
+  @Test
+  public void should_return_empty_String_if_source_file_does_not_exist() {
+    assertThat(ImageHandler.copyImageFile(source.getPath() + ".missing", target.getPath())).isEmpty();
+    assertThat(target.exists()).isFalse();
+  }
+}
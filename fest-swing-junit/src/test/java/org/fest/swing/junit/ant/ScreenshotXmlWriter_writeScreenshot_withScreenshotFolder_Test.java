@@ -0,0 +1,100 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.junit.ant;
+
+import static java.awt.image.BufferedImage.TYPE_BYTE_BINARY;
+import static org.easymock.EasyMock.expect;
+import static org.easymock.classextension.EasyMock.createMock;
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.swing.junit.ant.Tests.*;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+
+import junit.framework.TestResult;
+
+import org.fest.mocks.EasyMockTemplate;
+import org.fest.swing.image.ImageFileWriter;
+import org.fest.swing.image.ScreenshotTaker;
+import org.fest.swing.junit.xml.XmlDocument;
+import org.fest.swing.junit.xml.XmlNode;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link ScreenshotXmlWriter}</code>, when screenshots are saved in a folder instead of being embedded
+ * in the XML report.
+ *
+ * @author Alex Ruiz
+ */
+public class ScreenshotXmlWriter_writeScreenshot_withScreenshotFolder_Test {
+
+  private XmlNode root;
+  private XmlNode errorNode;
+  private ScreenshotTaker screenshotTaker;
+  private GUITestRecognizer guiTestRecognizer;
+  private File folder;
+  private MyTest test;
+  private ScreenshotXmlWriter writer;
+
+  @Before public void setUp() throws IOException {
+    XmlDocument document = new XmlDocument();
+    root = document.newRoot("root");
+    errorNode = root.addNewNode("error");
+    screenshotTaker = createMock(ScreenshotTaker.class);
+    guiTestRecognizer = createMock(GUITestRecognizer.class);
+    folder = File.createTempFile("screenshots", "");
+    folder.delete();
+    test = new MyTest();
+    writer = new ScreenshotXmlWriter(screenshotTaker, guiTestRecognizer, folder, new ImageFileWriter());
+  }
+
+  @After public void tearDown() {
+    File[] files = folder.listFiles();
+    if (files != null) for (File file : files) file.delete();
+    folder.delete();
+  }
+
+  @Test
+  public void should_save_screenshot_in_folder_and_add_its_path_to_screenshot_element() throws IOException {
+    final BufferedImage image = new BufferedImage(10, 10, TYPE_BYTE_BINARY);
+    new EasyMockTemplate(screenshotTaker, guiTestRecognizer) {
+      @Override protected void expectations() {
+        expect(guiTestRecognizer.isGUITest(testClassNameFrom(test), testMethodNameFrom(test))).andReturn(true);
+        expect(screenshotTaker.takeDesktopScreenshot()).andReturn(image);
+      }
+
+      @Override protected void codeToTest() throws IOException {
+        writer.writeScreenshot(errorNode, test);
+        assertThat(root.size()).isEqualTo(2);
+        XmlNode screenshotNode = root.child(1);
+        assertThat(screenshotNode.name()).isEqualTo("screenshot");
+        assertThat(screenshotNode.text()).isEmpty();
+        String fileName = screenshotNode.valueOfAttribute("file");
+        File saved = new File(folder, fileName);
+        assertThat(saved.isFile()).isTrue();
+        assertThat(screenshotNode.valueOfAttribute("path")).isEqualTo(saved.getCanonicalPath());
+      }
+    }.run();
+  }
+
+  private static class MyTest implements junit.framework.Test {
+    public int countTestCases() { return 0; }
+    public void run(TestResult result) {}
+  }
+}
@@ -0,0 +1,122 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.junit.ant;
+
+import static java.lang.Double.parseDouble;
+import static javax.xml.parsers.DocumentBuilderFactory.newInstance;
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+
+import junit.framework.AssertionFailedError;
+import junit.framework.TestCase;
+
+import org.apache.tools.ant.taskdefs.optional.junit.JUnitTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+/**
+ * Tests for <code>{@link StreamingXmlJUnitResultFormatter#endTestSuite(JUnitTest)}</code>.
+ *
+ * @author Alex Ruiz
+ */
+public class StreamingXmlJUnitResultFormatter_endTestSuite_Test {
+
+  private ByteArrayOutputStream output;
+  private StreamingXmlJUnitResultFormatter formatter;
+  private JUnitTest suite;
+
+  @Before public void setUp() {
+    formatter = new StreamingXmlJUnitResultFormatter();
+    output = new ByteArrayOutputStream();
+    formatter.setOutput(output);
+    suite = new JUnitTest("test");
+    formatter.startTestSuite(suite);
+    suite.setCounts(18, 8, 6);
+  }
+
+  @Test
+  public void should_write_suite_statistics() throws Exception {
+    formatter.endTestSuite(suite);
+    Element root = parseOutput();
+    assertThat(root.getTagName()).isEqualTo("testsuite");
+    assertThat(root.getAttribute("name")).isEqualTo("test");
+    assertThat(root.getAttribute("tests")).isEqualTo("18");
+    assertThat(root.getAttribute("failures")).isEqualTo("8");
+    assertThat(root.getAttribute("errors")).isEqualTo("6");
+    assertThat(parseDouble(root.getAttribute("time"))).isGreaterThanOrEqualTo(0d);
+    assertThat(root.getAttribute("hostname")).isNotEmpty();
+    assertThat(root.getAttribute("timestamp")).isNotEmpty();
+    assertThat(root.getElementsByTagName("properties").getLength()).isEqualTo(1);
+  }
+
+  @Test
+  public void should_write_passing_and_failing_tests() throws Exception {
+    SomeTest passing = new SomeTest("should_pass");
+    SomeTest failing = new SomeTest("should_fail");
+    formatter.startTest(passing);
+    formatter.endTest(passing);
+    formatter.startTest(failing);
+    formatter.addFailure(failing, new AssertionFailedError("Thrown on purpose"));
+    formatter.endTest(failing);
+    formatter.endTestSuite(suite);
+    NodeList testCases = parseOutput().getElementsByTagName("testcase");
+    assertThat(testCases.getLength()).isEqualTo(2);
+    Element first = (Element)testCases.item(0);
+    assertThat(first.getAttribute("name")).isEqualTo("should_pass");
+    assertThat(first.getAttribute("classname")).isEqualTo(SomeTest.class.getName());
+    assertThat(first.getChildNodes().getLength()).isEqualTo(0);
+    Element second = (Element)testCases.item(1);
+    assertThat(second.getAttribute("name")).isEqualTo("should_fail");
+    Element failure = (Element)second.getElementsByTagName("failure").item(0);
+    assertThat(failure.getAttribute("message")).isEqualTo("Thrown on purpose");
+    assertThat(failure.getAttribute("type")).isEqualTo(AssertionFailedError.class.getName());
+    assertThat(failure.getTextContent()).contains("Thrown on purpose");
+  }
+
+  @Test
+  public void should_write_errors_outside_tests_and_console_output() throws Exception {
+    formatter.addError(null, new RuntimeException("Thrown on purpose"));
+    formatter.setSystemOutput("Hello ]]> World!");
+    formatter.setSystemError("Bye\u0000!");
+    formatter.endTestSuite(suite);
+    Element root = parseOutput();
+    Element error = (Element)root.getElementsByTagName("error").item(0);
+    assertThat(error.getParentNode()).isSameAs(root);
+    assertThat(error.getAttribute("type")).isEqualTo(RuntimeException.class.getName());
+    assertThat(root.getElementsByTagName("system-out").item(0).getTextContent()).isEqualTo("Hello ]]> World!");
+    assertThat(root.getElementsByTagName("system-err").item(0).getTextContent()).isEqualTo("Bye!");
+  }
+
+  @Test
+  public void should_not_throw_error_if_output_is_null() {
+    formatter.setOutput(null);
+    formatter.endTestSuite(suite);
+    assertThat(output.toByteArray()).isEmpty();
+  }
+
+  private Element parseOutput() throws Exception {
+    return newInstance().newDocumentBuilder().parse(new ByteArrayInputStream(output.toByteArray())).getDocumentElement();
+  }
+
+  public static class SomeTest extends TestCase {
+    public SomeTest(String name) {
+      super(name);
+    }
+  }
+}
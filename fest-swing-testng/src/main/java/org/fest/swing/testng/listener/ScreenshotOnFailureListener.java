@@ -16,6 +16,7 @@ package org.fest.swing.testng.listener;
 
 import static java.io.File.separator;
 import static java.util.logging.Level.SEVERE;
+import static java.util.logging.Level.WARNING;
 import static org.fest.swing.testng.listener.ScreenshotFileNameGenerator.screenshotFileNameFrom;
 import static org.fest.util.Strings.*;
 
@@ -23,6 +24,7 @@ import java.lang.reflect.Method;
 import java.util.logging.Logger;
 
 import org.fest.swing.annotation.GUITestFinder;
+import org.fest.swing.image.AsyncImageFileWriter;
 import org.fest.swing.image.ImageException;
 import org.fest.swing.image.ScreenshotTaker;
 import org.fest.util.VisibleForTesting;
@@ -57,6 +59,9 @@ public class ScreenshotOnFailureListener extends AbstractTestListener {
 
   private static Logger logger = Logger.getAnonymousLogger();
 
+  private static final AsyncImageFileWriter IMAGE_WRITER = new AsyncImageFileWriter();
+  private static final long FLUSH_TIMEOUT = 60000;
+
   private ScreenshotTaker screenshotTaker;
   private OutputDirectory output;
   private boolean ready;
@@ -72,6 +77,16 @@ public class ScreenshotOnFailureListener extends AbstractTestListener {
     }
   }
 
+  /**
+   * Returns the writer used to save screenshots in a background thread. The writer can be used to change the
+   * compression level or the scale of the saved screenshots.
+   * @return the writer used to save screenshots.
+   * @since 1.4
+   */
+  public static AsyncImageFileWriter imageWriter() {
+    return IMAGE_WRITER;
+  }
+
   @VisibleForTesting
   String output() { return output.path(); }
 
@@ -86,16 +101,26 @@ public class ScreenshotOnFailureListener extends AbstractTestListener {
     ready = output.hasPath() && screenshotTaker != null;
   }
 
+  /**
+   * Waits until the screenshots of the failed tests have been saved, after all the tests have run.
+   * @param context the given method context.
+   */
+  @Override public void onFinish(ITestContext context) {
+    if (!IMAGE_WRITER.flush(FLUSH_TIMEOUT))
+      logger.log(WARNING, concat("Timed out waiting for ", String.valueOf(IMAGE_WRITER.pendingCount()),
+          " screenshot(s) of failed tests to be saved"));
+  }
+
   /**
    * When a test fails, this method takes a screenshot of the desktop and adds an hyperlink to the screenshot it in the
-   * HTML test report.
+   * HTML test report. The screenshot is taken in the current thread, but it is saved in a background thread.
    * @param result contains information about the failing test.
    */
   @Override public void onTestFailure(ITestResult result) {
     if (!ready || !isGUITest(result)) return;
     String screenshotFileName = takeScreenshotAndReturnFileName(result);
     if (isEmpty(screenshotFileName)) return;
-    logger.info(concat("Screenshot of desktop saved as: ", quote(screenshotFileName)));
+    logger.info(concat("Screenshot of desktop will be saved as: ", quote(screenshotFileName)));
     Reporter.setCurrentTestResult(result);
     Reporter.log(concat("<a href=\"", screenshotFileName, "\">Screenshot</a>"));
   }
@@ -111,7 +136,7 @@ public class ScreenshotOnFailureListener extends AbstractTestListener {
     String imagePath = concat(output(), separator, imageName);
     try {
       output.createIfNecessary();
-      screenshotTaker.saveDesktopAsPng(imagePath);
+      IMAGE_WRITER.writeAsPng(screenshotTaker.takeDesktopScreenshot(), imagePath);
     } catch (Exception e) {
       logger.log(SEVERE, e.getMessage(), e);
       return null;
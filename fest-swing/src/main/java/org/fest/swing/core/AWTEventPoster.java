@@ -20,6 +20,7 @@ import java.awt.AWTEvent;
 import java.awt.Component;
 import java.awt.EventQueue;
 import java.awt.Toolkit;
+import java.util.List;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -58,6 +59,19 @@ class AWTEventPoster {
     pause(settings.delayBetweenEvents());
   }
 
+  // Post the given events, in order, to the corresponding event queue for the given component. Unlike postEvent, this
+  // method does not wait between events: it only waits once, after posting all of them.
+  void postEvents(@Nullable Component c, @Nonnull List<? extends AWTEvent> events) {
+    EventQueue eventQueue = eventQueueFor(c);
+    for (AWTEvent event : events) {
+      inputState.update(event);
+      if (eventQueue != null) {
+        eventQueue.postEvent(event);
+      }
+    }
+    pause(settings.delayBetweenEvents());
+  }
+
   /* Usually only needed when dealing with Applets. */
   private @Nullable EventQueue eventQueueFor(@Nullable Component c) {
     return c != null ? windowMonitor.eventQueueFor(c) : toolkit.getSystemEventQueue();
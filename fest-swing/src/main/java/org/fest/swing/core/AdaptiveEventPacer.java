@@ -0,0 +1,255 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.core;
+
+import static java.awt.AWTEvent.KEY_EVENT_MASK;
+import static java.awt.AWTEvent.MOUSE_EVENT_MASK;
+import static java.awt.AWTEvent.MOUSE_MOTION_EVENT_MASK;
+import static java.awt.AWTEvent.MOUSE_WHEEL_EVENT_MASK;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.fest.swing.timing.Pause.pause;
+import static org.fest.util.Lists.newArrayList;
+
+import java.awt.AWTEvent;
+import java.awt.event.AWTEventListener;
+import java.awt.event.KeyEvent;
+import java.util.Iterator;
+import java.util.List;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.fest.util.VisibleForTesting;
+
+/**
+ * <p>
+ * Paces the input events generated by an AWT {@code Robot} by measuring how long each event takes to be dispatched by
+ * the AWT event queue, instead of sleeping a fixed delay after each event.
+ * </p>
+ *
+ * <p>
+ * After generating an event, the caller waits until the event is dispatched, plus a settle delay. The settle delay
+ * starts at zero. It is doubled when an event is dispatched after the caller stopped waiting for it (i.e. events arrived
+ * out of order or the event queue is slower than expected,) and it is slowly reduced again while events arrive in time.
+ * </p>
+ *
+ * <p>
+ * The caller stops waiting for an event after a few times the average round trip measured so far (the time between
+ * generating an event and its dispatch.) Some events are never dispatched (e.g. the mouse is moved to where it already
+ * is, or over a part of the screen that does not belong to a Java window,) so an event that does not arrive does not
+ * change the settle delay. The total wait for an event never exceeds the given maximum delay.
+ * </p>
+ *
+ * @author Alex Ruiz
+ */
+@ThreadSafe
+class AdaptiveEventPacer implements AWTEventListener {
+  static final long EVENT_MASK = MOUSE_EVENT_MASK | MOUSE_MOTION_EVENT_MASK | MOUSE_WHEEL_EVENT_MASK | KEY_EVENT_MASK;
+
+  static final int NO_KEY_CODE = KeyEvent.VK_UNDEFINED;
+
+  private static final int MAX_LATE_EVENTS = 16;
+  private static final int ARRIVALS_BEFORE_SPEED_UP = 8;
+  private static final int ROUND_TRIPS_BEFORE_GIVING_UP = 8;
+  private static final int MIN_DISPATCH_TIMEOUT = 20;
+
+  @GuardedBy("this")
+  private final List<ExpectedEvent> pending = newArrayList();
+
+  @GuardedBy("this")
+  private final List<ExpectedEvent> late = newArrayList();
+
+  @GuardedBy("this")
+  private int settleDelay;
+
+  @GuardedBy("this")
+  private int maxDelay;
+
+  @GuardedBy("this")
+  private int arrivalsInTime;
+
+  @GuardedBy("this")
+  private long averageRoundTrip = -1;
+
+  /**
+   * Registers an event that is about to be generated.
+   *
+   * @param id the id of the expected event (e.g. {@code MouseEvent.MOUSE_PRESSED}.)
+   * @param alternativeId another id the event can be dispatched with (e.g. {@code MOUSE_DRAGGED} for a
+   *          {@code MOUSE_MOVED}), or the same as {@code id}.
+   * @param keyCode the key code of the expected key event, or {@link #NO_KEY_CODE}.
+   * @return the expected event.
+   */
+  synchronized @Nonnull ExpectedEvent expect(int id, int alternativeId, int keyCode) {
+    ExpectedEvent event = new ExpectedEvent(id, alternativeId, keyCode);
+    pending.add(event);
+    return event;
+  }
+
+  /**
+   * Waits until the given event is dispatched, plus the current settle delay, for no longer than the given maximum
+   * delay. If the event is not dispatched within a few times the average round trip, this method stops waiting for it.
+   *
+   * @param event the event to wait for.
+   * @param maxDelayInMs the maximum time to wait, in milliseconds.
+   */
+  void awaitDispatch(@Nonnull ExpectedEvent event, int maxDelayInMs) {
+    long deadline = System.nanoTime() + MILLISECONDS.toNanos(maxDelayInMs);
+    int delayAfterDispatch;
+    synchronized (this) {
+      maxDelay = maxDelayInMs;
+      long dispatchDeadline = event.generatedAt + MILLISECONDS.toNanos(dispatchTimeout());
+      try {
+        long remaining = min(deadline, dispatchDeadline) - System.nanoTime();
+        while (!event.dispatched && remaining > 0) {
+          NANOSECONDS.timedWait(this, remaining);
+          remaining = min(deadline, dispatchDeadline) - System.nanoTime();
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        pending.remove(event);
+        return;
+      }
+      if (!event.dispatched) {
+        pending.remove(event);
+        addToLate(event);
+        return;
+      }
+      long remainingInMs = NANOSECONDS.toMillis(deadline - System.nanoTime());
+      delayAfterDispatch = (int) max(0, min(settleDelay, remainingInMs));
+    }
+    if (delayAfterDispatch > 0) {
+      pause(delayAfterDispatch);
+    }
+  }
+
+  // The maximum time to wait for an event to be dispatched, in milliseconds.
+  @GuardedBy("this")
+  private int dispatchTimeout() {
+    if (averageRoundTrip < 0) {
+      return maxDelay;
+    }
+    long timeout = NANOSECONDS.toMillis(averageRoundTrip) * ROUND_TRIPS_BEFORE_GIVING_UP;
+    return (int) min(maxDelay, max(MIN_DISPATCH_TIMEOUT, timeout));
+  }
+
+  @GuardedBy("this")
+  private void addToLate(@Nonnull ExpectedEvent event) {
+    if (late.size() == MAX_LATE_EVENTS) {
+      late.remove(0);
+    }
+    late.add(event);
+  }
+
+  @Override
+  public void eventDispatched(AWTEvent e) {
+    synchronized (this) {
+      ExpectedEvent event = removeFirstMatching(pending, e);
+      if (event != null) {
+        event.dispatched = true;
+        onDispatchedInTime(System.nanoTime() - event.generatedAt);
+        notifyAll();
+        return;
+      }
+      ExpectedEvent lateEvent = removeFirstMatching(late, e);
+      if (lateEvent != null) {
+        updateAverageRoundTrip(System.nanoTime() - lateEvent.generatedAt);
+        backOff();
+      }
+    }
+  }
+
+  private static @Nullable ExpectedEvent removeFirstMatching(@Nonnull List<ExpectedEvent> events, @Nonnull AWTEvent e) {
+    Iterator<ExpectedEvent> iterator = events.iterator();
+    while (iterator.hasNext()) {
+      ExpectedEvent event = iterator.next();
+      if (event.matches(e)) {
+        iterator.remove();
+        return event;
+      }
+    }
+    return null;
+  }
+
+  @GuardedBy("this")
+  private void onDispatchedInTime(long roundTrip) {
+    updateAverageRoundTrip(roundTrip);
+    if (++arrivalsInTime < ARRIVALS_BEFORE_SPEED_UP) {
+      return;
+    }
+    arrivalsInTime = 0;
+    settleDelay -= max(1, settleDelay / 4);
+    settleDelay = max(0, settleDelay);
+  }
+
+  @GuardedBy("this")
+  private void updateAverageRoundTrip(long roundTrip) {
+    averageRoundTrip = averageRoundTrip < 0 ? roundTrip : (averageRoundTrip * 7 + roundTrip) / 8;
+  }
+
+  @GuardedBy("this")
+  private void backOff() {
+    arrivalsInTime = 0;
+    settleDelay = min(maxDelay, max(1, settleDelay * 2));
+  }
+
+  /**
+   * @return the number of milliseconds to wait after an event is dispatched.
+   */
+  synchronized int settleDelay() {
+    return settleDelay;
+  }
+
+  /**
+   * @return the average time, in milliseconds, between generating an event and its dispatch by the AWT event queue, or
+   *         -1 if no event has been dispatched yet.
+   */
+  synchronized long averageRoundTrip() {
+    return averageRoundTrip < 0 ? -1 : NANOSECONDS.toMillis(averageRoundTrip);
+  }
+
+  @VisibleForTesting
+  synchronized void settleDelay(int newSettleDelay) {
+    settleDelay = newSettleDelay;
+  }
+
+  static class ExpectedEvent {
+    final int id;
+    final int alternativeId;
+    final int keyCode;
+    final long generatedAt = System.nanoTime();
+
+    // accessed only while holding the lock of the pacer
+    boolean dispatched;
+
+    ExpectedEvent(int id, int alternativeId, int keyCode) {
+      this.id = id;
+      this.alternativeId = alternativeId;
+      this.keyCode = keyCode;
+    }
+
+    boolean matches(@Nonnull AWTEvent e) {
+      if (e.getID() != id && e.getID() != alternativeId) {
+        return false;
+      }
+      return keyCode == NO_KEY_CODE || (e instanceof KeyEvent && ((KeyEvent) e).getKeyCode() == keyCode);
+    }
+  }
+}
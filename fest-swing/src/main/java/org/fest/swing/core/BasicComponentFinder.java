@@ -295,16 +295,36 @@ public final class BasicComponentFinder implements ComponentFinder {
 
   @RunsInEDT
   private @Nonnull Component find(@Nonnull ComponentHierarchy h, @Nonnull ComponentMatcher m) {
-    Collection<Component> found = finderDelegate.find(h, m);
+    Collection<Component> found = findUnique(h, m);
     if (found.isEmpty()) {
       throw componentNotFound(h, m);
     }
     if (found.size() > 1) {
-      throw multipleComponentsFound(found, m);
+      // the lookup stopped at the second match, search again to report all the matching components.
+      throw multipleComponentsFound(finderDelegate.find(h, m), m);
     }
     return checkNotNull(found.iterator().next());
   }
 
+  @RunsInEDT
+  private @Nonnull Collection<Component> findUnique(@Nonnull ComponentHierarchy h, @Nonnull ComponentMatcher m) {
+    // a second match is enough to know the lookup is ambiguous, there is no need to keep searching.
+    int limit = 2;
+    if (useComponentIndex()) {
+      // the index is made complete for the hierarchy before returning candidates, so a single matching candidate is
+      // the only matching component, and no candidates means no match.
+      Collection<Component> candidates = ComponentIndex.instance().candidatesFor(h, m);
+      if (candidates != null) {
+        return finderDelegate.findAmong(h, m, candidates, limit);
+      }
+    }
+    return finderDelegate.find(h, m, limit);
+  }
+
+  private boolean useComponentIndex() {
+    return settings != null && settings.useComponentIndex();
+  }
+
   @RunsInEDT
   private @Nonnull ComponentLookupException componentNotFound(
       @Nonnull ComponentHierarchy h, @Nonnull ComponentMatcher m) {
@@ -32,6 +32,7 @@ import static org.fest.swing.core.ComponentRequestFocusTask.giveFocusTo;
 import static org.fest.swing.core.FocusOwnerFinder.focusOwner;
 import static org.fest.swing.core.FocusOwnerFinder.inEdtFocusOwner;
 import static org.fest.swing.core.InputModifiers.unify;
+import static org.fest.swing.core.KeyEventSequence.keyEventsFor;
 import static org.fest.swing.core.MouseButton.LEFT_BUTTON;
 import static org.fest.swing.core.MouseButton.RIGHT_BUTTON;
 import static org.fest.swing.core.Scrolling.scrollToVisible;
@@ -56,10 +57,10 @@ import java.awt.Component;
 import java.awt.Container;
 import java.awt.Dimension;
 import java.awt.EventQueue;
+import java.awt.GraphicsDevice;
 import java.awt.Point;
 import java.awt.Toolkit;
 import java.awt.Window;
-import java.awt.event.InvocationEvent;
 import java.awt.event.KeyEvent;
 import java.awt.event.WindowEvent;
 import java.util.Collection;
@@ -102,24 +103,22 @@ public class BasicRobot implements Robot {
   private static final int POPUP_DELAY = 10000;
   private static final int POPUP_TIMEOUT = 5000;
   private static final int WINDOW_DELAY = 20000;
+  private static final int WINDOW_READY_CHECK_DELAY = 100;
 
   private static final ComponentMatcher POPUP_MATCHER = new TypeMatcher(JPopupMenu.class, true);
 
   @GuardedBy("this")
   private volatile boolean active;
 
-  private static final Runnable EMPTY_RUNNABLE = new Runnable() {
-    @Override
-    public void run() {}
-  };
-
   private static final int BUTTON_MASK = BUTTON1_MASK | BUTTON2_MASK | BUTTON3_MASK;
 
   private static Toolkit toolkit = ToolkitProvider.instance().defaultToolkit();
   private static WindowMonitor windowMonitor = WindowMonitor.instance();
   private static InputState inputState = new InputState(toolkit);
+  private static EventQueueIdleWaiter idleWaiter = new EventQueueIdleWaiter(toolkit);
 
   private final ComponentHierarchy hierarchy;
+  private final ScreenLock screenLock;
   private final Object screenLockOwner;
   private final ComponentFinder finder;
   private final Settings settings;
@@ -127,6 +126,8 @@ public class BasicRobot implements Robot {
   private final InputEventGenerator eventGenerator;
   private final UnexpectedJOptionPaneFinder unexpectedJOptionPaneFinder;
 
+  private volatile long dragMotionCountBeforeLastMove;
+
   /**
    * Creates a new {@link Robot} with a new AWT hierarchy. The created {@code Robot} will not be able to access any
    * AWT and Swing {@code Component}s that were created before it.
@@ -157,18 +158,74 @@ public class BasicRobot implements Robot {
     return new BasicRobot(null, new ExistingHierarchy());
   }
 
+  /**
+   * Creates a new {@link Robot} with a new AWT hierarchy that generates input events in the given screen. The created
+   * {@code Robot} will not be able to access any AWT and Swing {@code Component}s that were created before it.
+   * <p>
+   * The created {@code Robot} acquires the {@link ScreenLock} of the given screen, instead of the one of the default
+   * screen. This allows GUI tests using different screens to run concurrently in the same JVM. Use
+   * {@link org.fest.swing.image.ScreenshotTaker#ScreenshotTaker(GraphicsDevice)} to take screenshots of the same screen.
+   * </p>
+   * <p>
+   * <b>Note:</b> only mouse input is bound to the given screen. The keyboard focus is shared by the whole JVM, and so is
+   * the state of the keyboard and the mouse buttons tracked by all {@code Robot}s (e.g. pressed modifiers or a drag in
+   * progress.) Tests running concurrently on different screens must not type text or drag at the same time, or their
+   * input will be mixed up.
+   * </p>
+   * 
+   * @param screen the screen the created {@code Robot} will operate on.
+   * @return the created {@code Robot}.
+   * @throws NullPointerException if the given screen is {@code null}.
+   * @since 1.4
+   */
+  public static @Nonnull Robot robotWithNewAwtHierarchy(@Nonnull GraphicsDevice screen) {
+    ScreenLock screenLock = ScreenLock.instance(screen);
+    Object screenLockOwner = acquire(screenLock);
+    return new BasicRobot(screenLock, screenLockOwner, ignoreExistingComponents(), screen);
+  }
+
+  /**
+   * Creates a new {@link Robot} that has access to all the AWT and Swing {@code Component}s in the AWT hierarchy, and
+   * that generates input events in the given screen.
+   * <p>
+   * The created {@code Robot} acquires the {@link ScreenLock} of the given screen, instead of the one of the default
+   * screen. The same limits described in {@link #robotWithNewAwtHierarchy(GraphicsDevice)} apply: keyboard focus and
+   * input state are shared by all the {@code Robot}s in the JVM.
+   * </p>
+   * 
+   * @param screen the screen the created {@code Robot} will operate on.
+   * @return the created {@code Robot}.
+   * @throws NullPointerException if the given screen is {@code null}.
+   * @since 1.4
+   */
+  public static @Nonnull Robot robotWithCurrentAwtHierarchy(@Nonnull GraphicsDevice screen) {
+    ScreenLock screenLock = ScreenLock.instance(screen);
+    Object screenLockOwner = acquire(screenLock);
+    return new BasicRobot(screenLock, screenLockOwner, new ExistingHierarchy(), screen);
+  }
+
   private static @Nonnull Object acquireScreenLock() {
+    return acquire(ScreenLock.instance());
+  }
+
+  private static @Nonnull Object acquire(@Nonnull ScreenLock screenLock) {
     Object screenLockOwner = new Object();
-    ScreenLock.instance().acquire(screenLockOwner);
+    screenLock.acquire(screenLockOwner);
     return screenLockOwner;
   }
 
   @VisibleForTesting
   BasicRobot(@Nullable Object screenLockOwner, @Nonnull ComponentHierarchy hierarchy) {
+    this(ScreenLock.instance(), screenLockOwner, hierarchy, null);
+  }
+
+  private BasicRobot(@Nonnull ScreenLock screenLock, @Nullable Object screenLockOwner,
+      @Nonnull ComponentHierarchy hierarchy, @Nullable GraphicsDevice screen) {
+    this.screenLock = screenLock;
     this.screenLockOwner = screenLockOwner;
     this.hierarchy = hierarchy;
     settings = new Settings();
-    eventGenerator = new RobotEventGenerator(settings);
+    eventGenerator = new RobotEventGenerator(settings, screen);
     eventPoster = new AWTEventPoster(toolkit, inputState, windowMonitor, settings);
     finder = new BasicComponentFinder(hierarchy, settings);
     unexpectedJOptionPaneFinder = new UnexpectedJOptionPaneFinder(finder);
@@ -229,7 +286,7 @@ public class BasicRobot implements Robot {
   @RunsInEDT
   private void waitForWindow(@Nonnull Window w) {
     long start = currentTimeMillis();
-    while (!windowMonitor.isWindowReady(w) || !isShowing(w)) {
+    while (!windowMonitor.waitForWindowReady(w, WINDOW_READY_CHECK_DELAY) || !isShowing(w)) {
       long elapsed = currentTimeMillis() - start;
       if (elapsed > WINDOW_DELAY) {
         throw new WaitTimedOutError(concat("Timed out waiting for Window to open (", String.valueOf(elapsed), "ms)"));
@@ -372,7 +429,6 @@ public class BasicRobot implements Robot {
   }
 
   private void releaseScreenLock() {
-    ScreenLock screenLock = ScreenLock.instance();
     if (screenLock.acquiredBy(screenLockOwner)) {
       screenLock.release(screenLockOwner);
     }
@@ -537,6 +593,7 @@ public class BasicRobot implements Robot {
     if (!waitForComponentToBeReady(c, settings.timeoutToBeVisible())) {
       throw actionFailure(concat("Could not obtain position of component ", format(c)));
     }
+    dragMotionCountBeforeLastMove = inputState.dragMotionCount();
     eventGenerator.moveMouse(c, x, y);
     waitForIdle();
   }
@@ -671,11 +728,29 @@ public class BasicRobot implements Robot {
     if (text.isEmpty()) {
       return;
     }
+    if (settings.batchTextEntry()) {
+      enterTextInBatch(text);
+      return;
+    }
     for (char character : text.toCharArray()) {
       type(character);
     }
   }
 
+  @RunsInEDT
+  private void enterTextInBatch(@Nonnull String text) {
+    Component focus = focusOwner();
+    if (focus == null) {
+      return;
+    }
+    List<KeyEvent> keyEvents = keyEventsFor(focus, text);
+    // Allow any pending robot events to complete; otherwise we might stuff the key events before previous
+    // robot-generated events are posted.
+    waitForIdle();
+    eventPoster.postEvents(focus, keyEvents);
+    waitForIdle();
+  }
+
   /** {@inheritDoc} */
   @RunsInEDT
   @Override
@@ -781,55 +856,10 @@ public class BasicRobot implements Robot {
   }
 
   private void waitForIdle(@Nonnull EventQueue eventQueue) {
-    if (EventQueue.isDispatchThread()) {
-      throw new IllegalThreadStateException("Cannot call method from the event dispatcher thread");
-    }
     // Abbot: as of Java 1.3.1, robot.waitForIdle only waits for the last event on the queue at the time of this
     // invocation to be processed. We need better than that. Make sure the given event queue is empty when this method
     // returns.
-    // We always post at least one idle event to allow any current event dispatch processing to finish.
-    long start = currentTimeMillis();
-    int count = 0;
-    do {
-      // Timed out waiting for idle
-      int idleTimeout = settings.idleTimeout();
-      if (postInvocationEvent(eventQueue, idleTimeout)) {
-        break;
-      }
-      // Timed out waiting for idle event queue
-      if (currentTimeMillis() - start > idleTimeout) {
-        break;
-      }
-      ++count;
-      // Force a yield
-      pause();
-      // Abbot: this does not detect invocation events (i.e. what gets posted with EventQueue.invokeLater), so if
-      // someone is repeatedly posting one, we might get stuck. Not too worried, since if a Runnable keeps calling
-      // invokeLater on itself, *nothing* else gets much chance to run, so it seems to be a bad programming practice.
-    } while (eventQueue.peekEvent() != null);
-  }
-
-  // Indicates whether we timed out waiting for the invocation to run
-  @RunsInEDT
-  private boolean postInvocationEvent(@Nonnull EventQueue eventQueue, long timeout) {
-    Object lock = new RobotIdleLock();
-    synchronized (lock) {
-      eventQueue.postEvent(new InvocationEvent(toolkit, EMPTY_RUNNABLE, lock, true));
-      long start = currentTimeMillis();
-      try {
-        // NOTE: on fast linux systems when showing a dialog, if we don't provide a timeout, we're never notified, and
-        // the test will wait forever (up through 1.5.0_05).
-        lock.wait(timeout);
-        return (currentTimeMillis() - start) >= settings.idleTimeout();
-      } catch (InterruptedException e) {
-      }
-      return false;
-    }
-  }
-
-  private static class RobotIdleLock {
-    RobotIdleLock() {
-    }
+    idleWaiter.waitForIdle(eventQueue, settings.idleTimeout());
   }
 
   /** {@inheritDoc} */
@@ -838,6 +868,40 @@ public class BasicRobot implements Robot {
     return inputState.dragInProgress();
   }
 
+  /**
+   * Waits until this robot is in a dragging operation, or until the given timeout expires. This method returns as soon
+   * as the mouse press that starts the drag operation has been processed.
+   * 
+   * @param timeout the maximum time to wait, in milliseconds.
+   * @return {@code true} if this robot is currently in a dragging operation, {@code false} otherwise.
+   */
+  boolean waitForDragInProgress(long timeout) {
+    try {
+      return inputState.waitForDragInProgress(timeout);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return inputState.dragInProgress();
+    }
+  }
+
+  /**
+   * Waits until a drag motion, caused by the last mouse movement over an AWT or Swing {@code Component}, has been
+   * processed, or until the given timeout expires. In the case of a native drag/drop operation, this method returns as
+   * soon as the drag source has been notified of the drag motion.
+   * 
+   * @param timeout the maximum time to wait, in milliseconds.
+   * @return {@code true} if a drag motion was processed and this robot is still in a dragging operation, {@code false}
+   *         otherwise.
+   */
+  boolean waitForDragOver(long timeout) {
+    try {
+      return inputState.waitForDragMotion(dragMotionCountBeforeLastMove, timeout);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return inputState.dragInProgress();
+    }
+  }
+
   /** {@inheritDoc} */
   @RunsInEDT
   @Override
@@ -116,22 +116,41 @@ public class ComponentDragAndDrop {
   @RunsInEDT
   public void drop(@Nonnull Component target, @Nonnull Point where) {
     dragOver(target, where);
-    TimeoutWatch watch = startWatchWithTimeoutOf(settings().eventPostingDelay() * 4);
-    while (!robot.isDragging()) {
-      if (watch.isTimeOut()) {
-        throw actionFailure("There is no drag in effect");
-      }
-      pause();
+    if (!waitForDragInProgress(settings().eventPostingDelay() * 4)) {
+      throw actionFailure("There is no drag in effect");
     }
     int dropDelay = settings().dropDelay();
     int delayBetweenEvents = delayBetweenEvents();
     if (dropDelay > delayBetweenEvents) {
-      pause(dropDelay - delayBetweenEvents);
+      waitForDragOver(dropDelay - delayBetweenEvents);
     }
     robot.releaseMouseButtons();
     robot.waitForIdle();
   }
 
+  private boolean waitForDragInProgress(long timeout) {
+    if (robot instanceof BasicRobot) {
+      return ((BasicRobot) robot).waitForDragInProgress(timeout);
+    }
+    TimeoutWatch watch = startWatchWithTimeoutOf(timeout);
+    while (!robot.isDragging()) {
+      if (watch.isTimeOut()) {
+        return false;
+      }
+      pause();
+    }
+    return true;
+  }
+
+  // the drop delay is an upper bound: a BasicRobot stops waiting as soon as the drag motion has been processed.
+  private void waitForDragOver(long timeout) {
+    if (robot instanceof BasicRobot) {
+      ((BasicRobot) robot).waitForDragOver(timeout);
+      return;
+    }
+    pause(timeout);
+  }
+
   private int delayBetweenEvents() {
     return settings().delayBetweenEvents();
   }
@@ -14,12 +14,25 @@
  */
 package org.fest.swing.core;
 
+import static java.awt.AWTEvent.COMPONENT_EVENT_MASK;
+import static java.awt.AWTEvent.CONTAINER_EVENT_MASK;
+import static java.awt.AWTEvent.HIERARCHY_EVENT_MASK;
+import static java.awt.AWTEvent.WINDOW_EVENT_MASK;
+import static java.awt.event.ComponentEvent.COMPONENT_HIDDEN;
+import static java.awt.event.ComponentEvent.COMPONENT_SHOWN;
+import static java.awt.event.ContainerEvent.COMPONENT_ADDED;
+import static java.awt.event.ContainerEvent.COMPONENT_REMOVED;
+import static java.awt.event.HierarchyEvent.HIERARCHY_CHANGED;
+import static java.awt.event.WindowEvent.WINDOW_OPENED;
 import static java.util.Collections.emptyList;
 import static org.fest.util.Strings.concat;
 import static org.fest.util.SystemProperties.lineSeparator;
 
+import java.awt.AWTEvent;
 import java.awt.Component;
 import java.awt.Container;
+import java.awt.Toolkit;
+import java.awt.event.AWTEventListener;
 import java.util.Collection;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -30,6 +43,7 @@ import org.fest.assertions.BasicDescription;
 import org.fest.assertions.Description;
 import org.fest.swing.exception.ComponentLookupException;
 import org.fest.swing.timing.Condition;
+import org.fest.swing.util.ToolkitProvider;
 
 /**
  * Condition that is satisfied if an AWT or Swing {@code Component} that matches certain search criteria is found.
@@ -38,6 +52,9 @@ import org.fest.swing.timing.Condition;
  * @author Alex Ruiz
  */
 public final class ComponentFoundCondition extends Condition {
+  private static final long HIERARCHY_CHANGE_EVENT_MASK = CONTAINER_EVENT_MASK | COMPONENT_EVENT_MASK
+      | HIERARCHY_EVENT_MASK | WINDOW_EVENT_MASK;
+
   private final ComponentFinder finder;
   private final ComponentMatcher matcher;
   private final Container root;
@@ -46,6 +63,15 @@ public final class ComponentFoundCondition extends Condition {
 
   private final AtomicReference<ComponentLookupException> notFoundError = new AtomicReference<ComponentLookupException>();
 
+  private final AWTEventListener hierarchyChangeListener = new AWTEventListener() {
+    @Override
+    public void eventDispatched(AWTEvent e) {
+      if (mayChangeLookupResult(e.getID())) {
+        wakeUp();
+      }
+    }
+  };
+
   /**
    * Creates a new {@link ComponentFoundCondition}.
    *
@@ -121,6 +147,40 @@ public final class ComponentFoundCondition extends Condition {
     return matchFound;
   }
 
+  /**
+   * Listens for AWT events that indicate that a {@code Component} was added, removed, shown or hidden. Only a
+   * {@link TypeMatcher} depends on nothing else; matchers that look at other properties (e.g. name, text or enabled
+   * state) can change their result without any of these events, and this condition is polled for them.
+   */
+  @Override
+  protected boolean addWakeUpListeners() {
+    toolkit().addAWTEventListener(hierarchyChangeListener, HIERARCHY_CHANGE_EVENT_MASK);
+    return matcher instanceof TypeMatcher;
+  }
+
+  @Override
+  protected void removeWakeUpListeners() {
+    toolkit().removeAWTEventListener(hierarchyChangeListener);
+  }
+
+  private static boolean mayChangeLookupResult(int eventId) {
+    switch (eventId) {
+    case COMPONENT_ADDED:
+    case COMPONENT_REMOVED:
+    case COMPONENT_SHOWN:
+    case COMPONENT_HIDDEN:
+    case HIERARCHY_CHANGED:
+    case WINDOW_OPENED:
+      return true;
+    default:
+      return false;
+    }
+  }
+
+  private static @Nonnull Toolkit toolkit() {
+    return ToolkitProvider.instance().defaultToolkit();
+  }
+
   private void resetMatcher(boolean matchFound) {
     if (!(matcher instanceof ResettableComponentMatcher)) {
       return;
@@ -0,0 +1,310 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.core;
+
+import static java.awt.AWTEvent.CONTAINER_EVENT_MASK;
+import static java.awt.AWTEvent.WINDOW_EVENT_MASK;
+import static java.awt.event.ContainerEvent.COMPONENT_ADDED;
+import static java.awt.event.ContainerEvent.COMPONENT_REMOVED;
+import static java.awt.event.WindowEvent.WINDOW_OPENED;
+import static org.fest.swing.edt.GuiActionRunner.execute;
+import static org.fest.util.Lists.newArrayList;
+import static org.fest.util.Maps.newHashMap;
+import static org.fest.util.Maps.newWeakHashMap;
+
+import java.awt.AWTEvent;
+import java.awt.Component;
+import java.awt.Container;
+import java.awt.Toolkit;
+import java.awt.event.AWTEventListener;
+import java.awt.event.ContainerEvent;
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.fest.swing.annotation.RunsInCurrentThread;
+import org.fest.swing.annotation.RunsInEDT;
+import org.fest.swing.edt.GuiQuery;
+import org.fest.swing.hierarchy.ComponentHierarchy;
+import org.fest.swing.hierarchy.ExistingHierarchy;
+import org.fest.swing.util.ToolkitProvider;
+import org.fest.util.VisibleForTesting;
+
+/**
+ * <p>
+ * Index of AWT and Swing {@code Component}s by name and by type. The index is populated with the {@code Component}s
+ * in the existing AWT hierarchy when created, and it is kept up to date by listening to {@code ContainerEvent}s,
+ * {@code WindowEvent}s and changes in the "name" property of the indexed {@code Component}s.
+ * </p>
+ *
+ * <p>
+ * {@code Component}s are weakly referenced by this index, so {@code Component}s from disposed {@code Window}s can be
+ * garbage-collected. The index only provides candidates for a lookup: it is up to the caller to verify that those
+ * candidates are still in the {@link ComponentHierarchy} being searched and that they match the search criteria.
+ * </p>
+ *
+ * @author Alex Ruiz
+ */
+@ThreadSafe
+final class ComponentIndex {
+  private static final long EVENT_MASK = CONTAINER_EVENT_MASK | WINDOW_EVENT_MASK;
+  private static final String NAME_PROPERTY = "name";
+
+  private final ComponentHierarchy hierarchy;
+
+  private final Object lock = new Object();
+
+  @GuardedBy("lock")
+  private final Map<Component, String> indexed = newWeakHashMap();
+
+  @GuardedBy("lock")
+  private final Map<String, Set<Component>> componentsByName = newHashMap();
+
+  @GuardedBy("lock")
+  private final Map<Class<?>, Set<Component>> componentsByType = newHashMap();
+
+  private final AWTEventListener hierarchyListener = new AWTEventListener() {
+    @Override
+    public void eventDispatched(AWTEvent e) {
+      int id = e.getID();
+      if (id == COMPONENT_ADDED) {
+        ContainerEvent event = (ContainerEvent) e;
+        addTree(event.getChild());
+        // the parent may have been created before this index, outside of any indexed Container (e.g. the pop-up menu
+        // of a JMenu or a Window that has not been opened yet.)
+        addTreeIfNotIndexed(event.getContainer());
+      } else if (id == COMPONENT_REMOVED) {
+        removeTree(((ContainerEvent) e).getChild());
+      } else if (id == WINDOW_OPENED) {
+        addTree((Component) e.getSource());
+      }
+    }
+  };
+
+  private final PropertyChangeListener nameListener = new PropertyChangeListener() {
+    @Override
+    public void propertyChange(PropertyChangeEvent e) {
+      rename((Component) e.getSource(), (String) e.getNewValue());
+    }
+  };
+
+  @VisibleForTesting
+  @RunsInCurrentThread
+  ComponentIndex(@Nonnull Toolkit toolkit, @Nonnull ComponentHierarchy hierarchy) {
+    this.hierarchy = hierarchy;
+    toolkit.addAWTEventListener(hierarchyListener, EVENT_MASK);
+    for (Container root : hierarchy.roots()) {
+      addTree(root);
+    }
+  }
+
+  /**
+   * <p>
+   * Returns the indexed {@code Component}s that may match the given matcher in the given hierarchy.
+   * </p>
+   *
+   * <p>
+   * This index only learns about {@code Component}s through the events it listens to, and it does not see a root of the
+   * given hierarchy that was never opened or added to an indexed {@code Container} (e.g. a {@code Container} created
+   * before this index and used as the root of a lookup.) Such roots, and their children, are indexed before looking up
+   * the candidates. This way the returned candidates include every {@code Component} in the given hierarchy that can
+   * match, and callers can trust a single candidate to be the only match.
+   * </p>
+   *
+   * @param h the hierarchy the lookup is performed in.
+   * @param m the matcher to get the candidates for.
+   * @return the candidates for the given matcher, or {@code null} if the given matcher cannot use this index.
+   */
+  @RunsInEDT
+  @Nullable Collection<Component> candidatesFor(final @Nonnull ComponentHierarchy h,
+      final @Nonnull ComponentMatcher m) {
+    if (!(m instanceof NameMatcher) && !(m instanceof TypeMatcher)) {
+      return null;
+    }
+    return execute(new GuiQuery<Collection<Component>>() {
+      @Override
+      protected @Nullable Collection<Component> executeInEDT() {
+        for (Container root : h.roots()) {
+          addTreeIfNotIndexed(root);
+        }
+        return candidatesFor(m);
+      }
+    });
+  }
+
+  /**
+   * Returns the indexed {@code Component}s that may match the given matcher.
+   *
+   * @param m the matcher to get the candidates for.
+   * @return the candidates for the given matcher, or {@code null} if the given matcher cannot use this index.
+   */
+  @Nullable Collection<Component> candidatesFor(@Nonnull ComponentMatcher m) {
+    if (m instanceof NameMatcher) {
+      return componentsNamed(((NameMatcher) m).name());
+    }
+    if (m instanceof TypeMatcher) {
+      return componentsOfType(((TypeMatcher) m).type());
+    }
+    return null;
+  }
+
+  @Nonnull List<Component> componentsNamed(@Nonnull String name) {
+    synchronized (lock) {
+      Set<Component> named = componentsByName.get(name);
+      if (named == null) {
+        return newArrayList();
+      }
+      return newArrayList(named);
+    }
+  }
+
+  @Nonnull List<Component> componentsOfType(@Nonnull Class<?> type) {
+    List<Component> ofType = newArrayList();
+    synchronized (lock) {
+      for (Map.Entry<Class<?>, Set<Component>> entry : componentsByType.entrySet()) {
+        if (type.isAssignableFrom(entry.getKey())) {
+          ofType.addAll(entry.getValue());
+        }
+      }
+    }
+    return ofType;
+  }
+
+  @RunsInCurrentThread
+  private void addTree(@Nonnull Component root) {
+    add(root);
+    for (Component child : hierarchy.childrenOf(root)) {
+      addTree(child);
+    }
+  }
+
+  @RunsInCurrentThread
+  private void addTreeIfNotIndexed(@Nullable Component root) {
+    if (root == null || isIndexed(root)) {
+      return;
+    }
+    addTree(root);
+  }
+
+  private boolean isIndexed(@Nonnull Component c) {
+    synchronized (lock) {
+      return indexed.containsKey(c);
+    }
+  }
+
+  @RunsInCurrentThread
+  private void add(@Nonnull Component c) {
+    String name = c.getName();
+    synchronized (lock) {
+      if (indexed.containsKey(c)) {
+        return;
+      }
+      indexed.put(c, name);
+      if (name != null) {
+        entry(componentsByName, name).add(c);
+      }
+      entry(componentsByType, c.getClass()).add(c);
+    }
+    c.addPropertyChangeListener(NAME_PROPERTY, nameListener);
+  }
+
+  @RunsInCurrentThread
+  private void removeTree(@Nonnull Component root) {
+    remove(root);
+    for (Component child : hierarchy.childrenOf(root)) {
+      removeTree(child);
+    }
+  }
+
+  @RunsInCurrentThread
+  private void remove(@Nonnull Component c) {
+    c.removePropertyChangeListener(NAME_PROPERTY, nameListener);
+    synchronized (lock) {
+      if (!indexed.containsKey(c)) {
+        return;
+      }
+      String name = indexed.remove(c);
+      if (name != null) {
+        removeEntry(componentsByName, name, c);
+      }
+      removeEntry(componentsByType, c.getClass(), c);
+    }
+  }
+
+  private void rename(@Nonnull Component c, @Nullable String newName) {
+    synchronized (lock) {
+      if (!indexed.containsKey(c)) {
+        return;
+      }
+      String oldName = indexed.put(c, newName);
+      if (oldName != null) {
+        removeEntry(componentsByName, oldName, c);
+      }
+      if (newName != null) {
+        entry(componentsByName, newName).add(c);
+      }
+    }
+  }
+
+  @GuardedBy("lock")
+  private static @Nonnull <K> Set<Component> entry(@Nonnull Map<K, Set<Component>> map, @Nonnull K key) {
+    Set<Component> components = map.get(key);
+    if (components == null) {
+      components = Collections.newSetFromMap(new WeakHashMap<Component, Boolean>());
+      map.put(key, components);
+    }
+    return components;
+  }
+
+  @GuardedBy("lock")
+  private static <K> void removeEntry(@Nonnull Map<K, Set<Component>> map, @Nonnull K key, @Nonnull Component c) {
+    Set<Component> components = map.get(key);
+    if (components == null) {
+      return;
+    }
+    components.remove(c);
+    if (components.isEmpty()) {
+      map.remove(key);
+    }
+  }
+
+  /**
+   * @return the singleton instance of this class.
+   */
+  @RunsInEDT
+  static @Nonnull ComponentIndex instance() {
+    return SingletonLazyLoader.INSTANCE;
+  }
+
+  @RunsInEDT
+  private static class SingletonLazyLoader {
+    static final ComponentIndex INSTANCE = execute(new GuiQuery<ComponentIndex>() {
+      @Override
+      protected @Nullable ComponentIndex executeInEDT() {
+        return new ComponentIndex(ToolkitProvider.instance().defaultToolkit(), new ExistingHierarchy());
+      }
+    });
+  }
+}
@@ -0,0 +1,142 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.core;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import java.awt.EventQueue;
+import java.awt.Toolkit;
+import java.awt.event.InvocationEvent;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+import javax.annotation.Nonnull;
+
+/**
+ * <p>
+ * Waits for an AWT {@code EventQueue} to be drained.
+ * </p>
+ *
+ * <p>
+ * Instead of polling the queue from the current thread, this waiter posts a marker event to the end of the queue. When
+ * the marker is dispatched, it checks whether more events arrived in the meantime: if so, it posts itself again to the
+ * end of the queue, otherwise it wakes up the waiting thread. This way the waiting thread is notified as soon as the
+ * queue is empty, without sleeping in fixed intervals.
+ * </p>
+ *
+ * <p>
+ * All the threads waiting on the same {@code EventQueue} share a single marker. If each thread posted its own marker,
+ * every marker would find the others still in the queue and post itself again, and none of them would ever see the
+ * queue drained.
+ * </p>
+ *
+ * @author Alex Ruiz
+ */
+final class EventQueueIdleWaiter {
+  private static final Object LOCK = new Object();
+  private static final Map<EventQueue, DrainMarker> pendingMarkers = new HashMap<EventQueue, DrainMarker>();
+
+  private final Toolkit toolkit;
+
+  EventQueueIdleWaiter(@Nonnull Toolkit toolkit) {
+    this.toolkit = toolkit;
+  }
+
+  /**
+   * Waits until the given {@code EventQueue} has no pending events. At least one event is always posted, to allow any
+   * current event dispatch processing to finish.
+   *
+   * @param eventQueue the {@code EventQueue} to wait for.
+   * @param timeout the maximum time to wait, in milliseconds.
+   * @return {@code true} if the given {@code EventQueue} was drained before the timeout expired, {@code false}
+   *         otherwise.
+   * @throws IllegalThreadStateException if this method is called in the event dispatch thread (EDT.)
+   */
+  boolean waitForIdle(@Nonnull EventQueue eventQueue, long timeout) {
+    if (EventQueue.isDispatchThread()) {
+      throw new IllegalThreadStateException("Cannot call method from the event dispatcher thread");
+    }
+    DrainMarker marker = join(eventQueue);
+    try {
+      return marker.idle.await(timeout, MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      leave(marker);
+    }
+    return false;
+  }
+
+  private @Nonnull DrainMarker join(@Nonnull EventQueue eventQueue) {
+    synchronized (LOCK) {
+      DrainMarker marker = pendingMarkers.get(eventQueue);
+      if (marker == null) {
+        marker = new DrainMarker(eventQueue);
+        pendingMarkers.put(eventQueue, marker);
+        marker.post();
+      }
+      marker.waiterCount++;
+      return marker;
+    }
+  }
+
+  private static void leave(@Nonnull DrainMarker marker) {
+    synchronized (LOCK) {
+      if (--marker.waiterCount > 0) {
+        return;
+      }
+      // nobody is waiting anymore: stop re-posting the marker.
+      marker.cancelled = true;
+      if (pendingMarkers.get(marker.eventQueue) == marker) {
+        pendingMarkers.remove(marker.eventQueue);
+      }
+    }
+  }
+
+  private class DrainMarker implements Runnable {
+    final CountDownLatch idle = new CountDownLatch(1);
+    final EventQueue eventQueue;
+
+    int waiterCount;
+    boolean cancelled;
+
+    DrainMarker(@Nonnull EventQueue eventQueue) {
+      this.eventQueue = eventQueue;
+    }
+
+    void post() {
+      eventQueue.postEvent(new InvocationEvent(toolkit, this));
+    }
+
+    @Override
+    public void run() {
+      synchronized (LOCK) {
+        if (cancelled) {
+          return;
+        }
+        // if some code keeps posting events (e.g. a Runnable calling invokeLater on itself) the queue never gets
+        // drained, and the waiters give up once their timeout expires.
+        if (eventQueue.peekEvent() != null) {
+          post();
+          return;
+        }
+        // threads that start waiting from now on need a new marker.
+        pendingMarkers.remove(eventQueue);
+      }
+      idle.countDown();
+    }
+  }
+}
@@ -23,7 +23,9 @@ import java.util.Collection;
 import java.util.Set;
 
 import javax.annotation.Nonnull;
+import javax.swing.JPopupMenu;
 
+import org.fest.swing.annotation.RunsInCurrentThread;
 import org.fest.swing.annotation.RunsInEDT;
 import org.fest.swing.edt.GuiQuery;
 import org.fest.swing.hierarchy.ComponentHierarchy;
@@ -31,93 +33,122 @@ import org.fest.swing.hierarchy.ComponentHierarchy;
 /**
  * Finds all the AWT and Swing {@code Components} in a {@link ComponentHierarchy} that match the search criteria
  * specified in a {@link ComponentMatcher}.
+ * <p>
+ * The whole search (traversal of the hierarchy and evaluation of the matcher) is performed in a single trip to the
+ * event dispatch thread (EDT.)
+ * </p>
  * 
  * @author Alex Ruiz
  */
 final class FinderDelegate {
-  @RunsInEDT
-  @Nonnull Collection<Component> find(@Nonnull ComponentHierarchy h, @Nonnull ComponentMatcher m) {
-    Set<Component> found = newLinkedHashSet();
-    for (Component c : rootsOf(h)) {
-      find(h, m, checkNotNull(c), found);
-    }
-    return found;
-  }
+  static final int NO_LIMIT = Integer.MAX_VALUE;
 
   @RunsInEDT
-  private void find(@Nonnull ComponentHierarchy h, @Nonnull ComponentMatcher m, @Nonnull Component root,
-      @Nonnull Set<Component> found) {
-    for (Component c : childrenOfComponent(root, h)) {
-      find(h, m, checkNotNull(c), found);
-    }
-    if (isMatching(root, m)) {
-      found.add(root);
-    }
+  @Nonnull Collection<Component> find(@Nonnull ComponentHierarchy h, @Nonnull ComponentMatcher m) {
+    return find(h, m, NO_LIMIT);
   }
 
+  /**
+   * Finds the {@code Component}s that match the search criteria specified in the given {@link ComponentMatcher},
+   * stopping the search as soon as the given number of matching {@code Component}s has been found.
+   * 
+   * @param h the hierarchy to traverse.
+   * @param m the search criteria.
+   * @param limit the maximum number of matching {@code Component}s to find.
+   * @return the matching {@code Component}s, in the order they were found.
+   */
   @RunsInEDT
-  private static @Nonnull Collection<Component> childrenOfComponent(
-      final @Nonnull Component c, final @Nonnull ComponentHierarchy h) {
-    Collection<Component> children = execute(new GuiQuery<Collection<Component>>() {
+  @Nonnull Collection<Component> find(final @Nonnull ComponentHierarchy h, final @Nonnull ComponentMatcher m,
+      final int limit) {
+    Collection<Component> found = execute(new GuiQuery<Collection<Component>>() {
       @Override
       protected Collection<Component> executeInEDT() {
-        return h.childrenOf(c);
+        Set<Component> matching = newLinkedHashSet();
+        for (Component root : h.roots()) {
+          if (!find(h, m, checkNotNull(root), matching, limit)) {
+            break;
+          }
+        }
+        return matching;
       }
     });
-    return checkNotNull(children);
+    return checkNotNull(found);
   }
 
+  /**
+   * Finds, among the given candidates, the {@code Component}s that are in the given {@link ComponentHierarchy} and
+   * match the search criteria specified in the given {@link ComponentMatcher}, stopping the search as soon as the given
+   * number of matching {@code Component}s has been found.
+   * 
+   * @param h the hierarchy the matching {@code Component}s should belong to.
+   * @param m the search criteria.
+   * @param candidates the {@code Component}s to verify.
+   * @param limit the maximum number of matching {@code Component}s to find.
+   * @return the matching {@code Component}s, in the order they were found.
+   */
   @RunsInEDT
-  private static boolean isMatching(@Nonnull final Component c, @Nonnull final ComponentMatcher m) {
-    Boolean matching = execute(new GuiQuery<Boolean>() {
+  @Nonnull Collection<Component> findAmong(final @Nonnull ComponentHierarchy h, final @Nonnull ComponentMatcher m,
+      final @Nonnull Collection<Component> candidates, final int limit) {
+    Collection<Component> found = execute(new GuiQuery<Collection<Component>>() {
       @Override
-      protected Boolean executeInEDT() {
-        return m.matches(c);
+      protected Collection<Component> executeInEDT() {
+        Set<Component> matching = newLinkedHashSet();
+        Collection<? extends Component> roots = h.roots();
+        for (Component c : candidates) {
+          if (isInHierarchy(h, roots, c) && m.matches(c)) {
+            matching.add(c);
+            if (matching.size() >= limit) {
+              break;
+            }
+          }
+        }
+        return matching;
       }
     });
-    return checkNotNull(matching);
+    return checkNotNull(found);
   }
 
-  @RunsInEDT
-  @Nonnull <T extends Component> Collection<T> find(@Nonnull ComponentHierarchy h, @Nonnull GenericTypeMatcher<T> m) {
-    Set<T> found = newLinkedHashSet();
-    for (Component c : rootsOf(h)) {
-      find(h, m, checkNotNull(c), found);
+  // a Component is reachable in a hierarchy walk if any of its ancestors is one of the roots of the hierarchy.
+  @RunsInCurrentThread
+  private static boolean isInHierarchy(@Nonnull ComponentHierarchy h, @Nonnull Collection<? extends Component> roots,
+      @Nonnull Component c) {
+    if (!h.contains(c)) {
+      return false;
     }
-    return found;
-  }
-
-  @RunsInEDT
-  private static @Nonnull Collection<? extends Component> rootsOf(final @Nonnull ComponentHierarchy h) {
-    Collection<? extends Component> roots = execute(new GuiQuery<Collection<? extends Component>>() {
-      @Override
-      protected Collection<? extends Component> executeInEDT() {
-        return h.roots();
+    Component current = c;
+    while (current != null) {
+      if (roots.contains(current)) {
+        return true;
       }
-    });
-    return checkNotNull(roots);
+      Component parent = h.parentOf(current);
+      if (parent == null && current instanceof JPopupMenu) {
+        parent = ((JPopupMenu) current).getInvoker();
+      }
+      current = parent;
+    }
+    return false;
   }
 
-  @RunsInEDT
-  private <T extends Component> void find(@Nonnull ComponentHierarchy h, @Nonnull GenericTypeMatcher<T> m,
-      @Nonnull Component root, Set<T> found) {
-    for (Component c : childrenOfComponent(root, h)) {
-      find(h, m, checkNotNull(c), found);
+  @RunsInCurrentThread
+  private static boolean find(@Nonnull ComponentHierarchy h, @Nonnull ComponentMatcher m, @Nonnull Component root,
+      @Nonnull Set<Component> found, int limit) {
+    for (Component c : h.childrenOf(root)) {
+      if (!find(h, m, checkNotNull(c), found, limit)) {
+        return false;
+      }
     }
-    if (isMatching(root, m)) {
-      found.add(m.supportedType().cast(root));
+    if (m.matches(root)) {
+      found.add(root);
     }
+    return found.size() < limit;
   }
 
   @RunsInEDT
-  private static <T extends Component> boolean isMatching(final @Nonnull Component c,
-      final @Nonnull GenericTypeMatcher<T> m) {
-    Boolean matching = execute(new GuiQuery<Boolean>() {
-      @Override
-      protected Boolean executeInEDT() {
-        return m.matches(c);
-      }
-    });
-    return checkNotNull(matching);
+  @Nonnull <T extends Component> Collection<T> find(@Nonnull ComponentHierarchy h, @Nonnull GenericTypeMatcher<T> m) {
+    Set<T> found = newLinkedHashSet();
+    for (Component c : find(h, (ComponentMatcher) m)) {
+      found.add(m.supportedType().cast(c));
+    }
+    return found;
   }
 }
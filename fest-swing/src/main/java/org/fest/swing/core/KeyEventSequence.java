@@ -0,0 +1,83 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.core;
+
+import static java.awt.event.KeyEvent.CHAR_UNDEFINED;
+import static java.awt.event.KeyEvent.KEY_PRESSED;
+import static java.awt.event.KeyEvent.KEY_RELEASED;
+import static java.awt.event.KeyEvent.KEY_TYPED;
+import static java.awt.event.KeyEvent.VK_UNDEFINED;
+import static java.lang.System.currentTimeMillis;
+import static org.fest.swing.keystroke.KeyStrokeMap.keyStrokeFor;
+import static org.fest.swing.util.Modifiers.keysFor;
+import static org.fest.swing.util.Modifiers.maskFor;
+import static org.fest.util.Lists.newArrayList;
+
+import java.awt.Component;
+import java.awt.event.KeyEvent;
+import java.util.List;
+
+import javax.annotation.Nonnull;
+import javax.swing.KeyStroke;
+
+import org.fest.swing.keystroke.KeyStrokeMap;
+
+/**
+ * Converts text into the sequence of {@code KeyEvent}s a user would generate when typing it.
+ * <p>
+ * Characters that have a mapping in the {@link KeyStrokeMap} generate the events {@code KEY_PRESSED},
+ * {@code KEY_TYPED} and {@code KEY_RELEASED}, surrounded by the {@code KEY_PRESSED} and {@code KEY_RELEASED} events of
+ * any modifier needed (e.g. "shift".) Characters without a mapping only generate a {@code KEY_TYPED} event.
+ * </p>
+ * 
+ * @author Alex Ruiz
+ */
+final class KeyEventSequence {
+  static @Nonnull List<KeyEvent> keyEventsFor(@Nonnull Component c, @Nonnull String text) {
+    List<KeyEvent> events = newArrayList();
+    long when = currentTimeMillis();
+    for (char character : text.toCharArray()) {
+      KeyStroke keyStroke = keyStrokeFor(character);
+      if (keyStroke == null) {
+        events.add(new KeyEvent(c, KEY_TYPED, when, 0, VK_UNDEFINED, character));
+        continue;
+      }
+      addKeyEvents(events, c, when, character, keyStroke);
+    }
+    return events;
+  }
+
+  private static void addKeyEvents(@Nonnull List<KeyEvent> events, @Nonnull Component c, long when, char character,
+      @Nonnull KeyStroke keyStroke) {
+    int keyCode = keyStroke.getKeyCode();
+    int modifiers = keyStroke.getModifiers();
+    int[] modifierKeys = keysFor(modifiers);
+    int pressedModifiers = 0;
+    for (int modifierKey : modifierKeys) {
+      pressedModifiers |= maskFor(modifierKey);
+      events.add(new KeyEvent(c, KEY_PRESSED, when, pressedModifiers, modifierKey, CHAR_UNDEFINED));
+    }
+    events.add(new KeyEvent(c, KEY_PRESSED, when, modifiers, keyCode, character));
+    events.add(new KeyEvent(c, KEY_TYPED, when, modifiers, VK_UNDEFINED, character));
+    events.add(new KeyEvent(c, KEY_RELEASED, when, modifiers, keyCode, character));
+    for (int i = modifierKeys.length - 1; i >= 0; i--) {
+      int modifierKey = modifierKeys[i];
+      pressedModifiers &= ~maskFor(modifierKey);
+      events.add(new KeyEvent(c, KEY_RELEASED, when, pressedModifiers, modifierKey, CHAR_UNDEFINED));
+    }
+  }
+
+  private KeyEventSequence() {}
+}
@@ -109,6 +109,10 @@ public final class NameMatcher extends AbstractComponentMatcher {
     return areEqual(name, c.getName()) && type.isInstance(c) && requireShowingMatches(c);
   }
 
+  @Nonnull String name() {
+    return name;
+  }
+
   @Override
   public String toString() {
     String format = "%s[name='%s', type=%s, requireShowing=%b]";
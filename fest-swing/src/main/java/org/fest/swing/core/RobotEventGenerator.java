@@ -14,10 +14,20 @@
  */
 package org.fest.swing.core;
 
+import static java.awt.GraphicsEnvironment.isHeadless;
+import static java.awt.event.KeyEvent.KEY_PRESSED;
+import static java.awt.event.KeyEvent.KEY_RELEASED;
+import static java.awt.event.MouseEvent.MOUSE_DRAGGED;
+import static java.awt.event.MouseEvent.MOUSE_MOVED;
+import static java.awt.event.MouseEvent.MOUSE_PRESSED;
+import static java.awt.event.MouseEvent.MOUSE_RELEASED;
+import static java.awt.event.MouseEvent.MOUSE_WHEEL;
 import static org.fest.swing.awt.AWT.isPointInScreenBoundaries;
 import static org.fest.swing.awt.AWT.translate;
+import static org.fest.swing.core.AdaptiveEventPacer.NO_KEY_CODE;
 import static org.fest.swing.exception.ActionFailedException.actionFailure;
 import static org.fest.swing.exception.UnexpectedException.unexpected;
+import static org.fest.swing.listener.WeakEventListener.attachAsWeakEventListener;
 import static org.fest.swing.timing.Pause.pause;
 import static org.fest.swing.util.Platform.isOSX;
 import static org.fest.swing.util.Platform.isWindows;
@@ -25,12 +35,20 @@ import static org.fest.util.Preconditions.checkNotNull;
 
 import java.awt.AWTException;
 import java.awt.Component;
+import java.awt.GraphicsDevice;
+import java.awt.MouseInfo;
 import java.awt.Point;
+import java.awt.PointerInfo;
+import java.awt.Rectangle;
 import java.awt.Robot;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
+import org.fest.swing.core.AdaptiveEventPacer.ExpectedEvent;
 import org.fest.swing.util.RobotFactory;
+import org.fest.swing.util.ToolkitProvider;
+import org.fest.util.VisibleForTesting;
 
 /**
  * Simulates user input by using an AWT {@code Robot}.
@@ -42,6 +60,11 @@ class RobotEventGenerator implements InputEventGenerator {
 
   private final Robot robot;
   private final Settings settings;
+  private final Rectangle screenBounds;
+  private final AdaptiveEventPacer pacer = new AdaptiveEventPacer();
+  private final Point lastMouseLocation = currentMouseLocation();
+
+  private boolean pacerAttached;
 
   RobotEventGenerator() {
     this(new Settings());
@@ -51,9 +74,17 @@ class RobotEventGenerator implements InputEventGenerator {
     this(new RobotFactory(), settings);
   }
 
+  RobotEventGenerator(@Nonnull Settings settings, @Nullable GraphicsDevice screen) {
+    this(new RobotFactory(), settings, screen);
+  }
+
   RobotEventGenerator(@Nonnull RobotFactory robotFactory, @Nonnull Settings settings) {
+    this(robotFactory, settings, null);
+  }
+
+  RobotEventGenerator(@Nonnull RobotFactory robotFactory, @Nonnull Settings settings, @Nullable GraphicsDevice screen) {
     try {
-      robot = robotFactory.newRobotInPrimaryScreen();
+      robot = screen != null ? robotFactory.newRobotInScreen(screen) : robotFactory.newRobotInPrimaryScreen();
       if (isWindows() || isOSX()) {
         pause(500);
       }
@@ -61,23 +92,42 @@ class RobotEventGenerator implements InputEventGenerator {
       throw unexpected(e);
     }
     this.settings = settings;
+    screenBounds = screen != null ? screen.getDefaultConfiguration().getBounds() : null;
     settings.attachTo(robot);
   }
 
+  // Starts from where the pointer is, so the first move to that location is not expected to generate an event.
+  private static @Nonnull Point currentMouseLocation() {
+    PointerInfo pointer = isHeadless() ? null : MouseInfo.getPointerInfo();
+    return pointer != null ? pointer.getLocation() : new Point(-1, -1);
+  }
+
   @Nonnull Robot robot() {
     return robot;
   }
 
+  @VisibleForTesting
+  @Nonnull AdaptiveEventPacer pacer() {
+    return pacer;
+  }
+
   /** {@inheritDoc} */
   @Override
   public void pressMouse(@Nonnull Component c, @Nonnull Point where, int buttons) {
     Point p = checkNotNull(translate(c, where.x, where.y));
-    if (!isPointInScreenBoundaries(p)) {
+    if (!isPointInScreen(p)) {
       throw actionFailure("The component to click is out of the boundaries of the screen");
     }
     pressMouse(p, buttons);
   }
 
+  private boolean isPointInScreen(@Nonnull Point p) {
+    if (screenBounds != null) {
+      return screenBounds.contains(p);
+    }
+    return isPointInScreenBoundaries(p);
+  }
+
   /** {@inheritDoc} */
   @Override
   public void pressMouse(@Nonnull Point where, int buttons) {
@@ -88,19 +138,25 @@ class RobotEventGenerator implements InputEventGenerator {
   /** {@inheritDoc} */
   @Override
   public void pressMouse(int buttons) {
+    ExpectedEvent event = expect(MOUSE_PRESSED, MOUSE_PRESSED, NO_KEY_CODE);
     robot.mousePress(buttons);
+    awaitDispatch(event);
   }
 
   /** {@inheritDoc} */
   @Override
   public void releaseMouse(int buttons) {
+    ExpectedEvent event = expect(MOUSE_RELEASED, MOUSE_RELEASED, NO_KEY_CODE);
     robot.mouseRelease(buttons);
+    awaitDispatch(event);
   }
 
   /** {@inheritDoc} */
   @Override
   public void rotateMouseWheel(int amount) {
+    ExpectedEvent event = expect(MOUSE_WHEEL, MOUSE_WHEEL, NO_KEY_CODE);
     robot.mouseWheel(amount);
+    awaitDispatch(event);
   }
 
   /** {@inheritDoc} */
@@ -113,29 +169,57 @@ class RobotEventGenerator implements InputEventGenerator {
   /** {@inheritDoc} */
   @Override
   public void moveMouse(int x, int y) {
+    // moving the mouse to where it already is does not generate any event
+    boolean moved = lastMouseLocation.x != x || lastMouseLocation.y != y;
+    ExpectedEvent event = moved ? expect(MOUSE_MOVED, MOUSE_DRAGGED, NO_KEY_CODE) : null;
     robot.mouseMove(x, y);
+    lastMouseLocation.setLocation(x, y);
+    awaitDispatch(event);
   }
 
   /** {@inheritDoc} */
   @Override
   public void pressKey(int keyCode, char keyChar) {
+    ExpectedEvent event = expect(KEY_PRESSED, KEY_PRESSED, keyCode);
     try {
       robot.keyPress(keyCode);
     } catch (IllegalArgumentException e) {
       throw new IllegalArgumentException(String.format("Invalid key code '%d'", keyCode));
     }
+    awaitDispatch(event);
   }
 
   /** {@inheritDoc} */
   @Override
   public void releaseKey(int keyCode) {
+    long start = System.currentTimeMillis();
+    ExpectedEvent event = expect(KEY_RELEASED, KEY_RELEASED, keyCode);
     robot.keyRelease(keyCode);
+    awaitDispatch(event);
     if (!isOSX()) {
       return;
     }
-    int delayBetweenEvents = settings.delayBetweenEvents();
-    if (KEY_INPUT_DELAY > delayBetweenEvents) {
-      pause(KEY_INPUT_DELAY - delayBetweenEvents);
+    // the robot's auto delay, or the adaptive pacing, may have already waited part of the key input delay.
+    long elapsed = System.currentTimeMillis() - start;
+    if (KEY_INPUT_DELAY > elapsed) {
+      pause(KEY_INPUT_DELAY - elapsed);
+    }
+  }
+
+  private @Nullable ExpectedEvent expect(int id, int alternativeId, int keyCode) {
+    if (!settings.adaptiveEventPacing() || settings.delayBetweenEvents() <= 0) {
+      return null;
+    }
+    if (!pacerAttached) {
+      attachAsWeakEventListener(ToolkitProvider.instance().defaultToolkit(), pacer, AdaptiveEventPacer.EVENT_MASK);
+      pacerAttached = true;
+    }
+    return pacer.expect(id, alternativeId, keyCode);
+  }
+
+  private void awaitDispatch(@Nullable ExpectedEvent event) {
+    if (event != null) {
+      pacer.awaitDispatch(event, settings.delayBetweenEvents());
     }
   }
 }
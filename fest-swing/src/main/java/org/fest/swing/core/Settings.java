@@ -42,6 +42,10 @@ public class Settings {
   private int dropDelay;
   private int eventPostingDelay;
   private int idleTimeout;
+  private boolean useComponentIndex;
+  private boolean batchTextEntry;
+  private boolean cacheListContents;
+  private boolean adaptiveEventPacing;
 
   private java.awt.Robot robot;
 
@@ -97,7 +101,40 @@ public class Settings {
   }
 
   private void updateRobotAutoDelay() {
-    robot.setAutoDelay(delayBetweenEvents);
+    robot.setAutoDelay(adaptiveEventPacing ? 0 : delayBetweenEvents);
+  }
+
+  /**
+   * @return whether the delay in between generated events adapts to the time the AWT event queue takes to dispatch
+   *         them. The default value is {@code false}.
+   * @since 1.4
+   */
+  public boolean adaptiveEventPacing() {
+    return adaptiveEventPacing;
+  }
+
+  /**
+   * <p>
+   * Updates whether the delay in between generated events adapts to the time the AWT event queue takes to dispatch
+   * them.
+   * </p>
+   *
+   * <p>
+   * When enabled, after generating an event FEST waits until the event is dispatched by the AWT event queue, instead of
+   * always waiting {@link #delayBetweenEvents()} milliseconds. An event that is not dispatched within a few times the
+   * measured dispatch time is not waited for any longer. If events are dispatched late or out of order, FEST waits a
+   * little longer after each event, and shortens that wait again once events are dispatched in time. The value of
+   * {@code delayBetweenEvents} is still the maximum time to wait for each event.
+   * </p>
+   *
+   * @param newValue the new value for this setting.
+   * @since 1.4
+   */
+  public void adaptiveEventPacing(boolean newValue) {
+    adaptiveEventPacing = newValue;
+    if (robot != null) {
+      updateRobotAutoDelay();
+    }
   }
 
   /**
@@ -145,7 +182,9 @@ public class Settings {
   }
 
   /**
-   * Updates the number of milliseconds to wait for a sub-menu to appear. The default value is 100 milliseconds.
+   * Updates the number of milliseconds to wait for a sub-menu to appear. The default value is 100 milliseconds. This
+   * is an upper bound: menu navigation continues as soon as the sub-menu is showing. If the sub-menu has not appeared
+   * after this time, the pop-up menu is looked up until {@link #timeoutToFindPopup()} expires.
    *
    * @param ms the time in milliseconds. It should be between 0 and 10000.
    * @since 1.2
@@ -210,7 +249,9 @@ public class Settings {
 
   /**
    * Updates the number of milliseconds between the final mouse movement and mouse release to ensure drop ends. The
-   * default value for Windows is 200. For other platforms, the default value is 0.
+   * default value for Windows is 200. For other platforms, the default value is 0. When using a {@link BasicRobot},
+   * this value is an upper bound: the mouse button is released as soon as the final mouse movement has been processed,
+   * either as a mouse drag event or, for native drag/drop, as a notification to the drag source.
    *
    * @param ms the time in milliseconds. For Windows, the minimum value is 200. For other platforms, the minimum value
    *          is 0. The maximum value for all platforms is 60000.
@@ -254,6 +295,94 @@ public class Settings {
     this.idleTimeout = valueToUpdate(ms, 0, Integer.MAX_VALUE);
   }
 
+  /**
+   * @return whether lookups of AWT or Swing {@code Component}s by name or by type use an index of the AWT hierarchy,
+   *         instead of traversing the whole hierarchy. The default value is {@code false}.
+   * @since 1.4
+   */
+  public boolean useComponentIndex() {
+    return useComponentIndex;
+  }
+
+  /**
+   * <p>
+   * Indicates whether lookups of AWT or Swing {@code Component}s by name or by type should use an index of the AWT
+   * hierarchy, instead of traversing the whole hierarchy. The default value is {@code false}.
+   * </p>
+   *
+   * <p>
+   * The index listens for AWT events and registers a {@code PropertyChangeListener} for the "name" property in every
+   * {@code Component}. Roots of a lookup that the index has not seen yet (e.g. a {@code Window} that was never opened)
+   * are indexed before the lookup, so the index covers the whole hierarchy being searched, including ambiguous matches.
+   * Lookups that cannot be answered by the index (e.g. using an arbitrary {@link ComponentMatcher}) still traverse the
+   * whole hierarchy.
+   * </p>
+   *
+   * @param newValue the new value for this setting.
+   * @since 1.4
+   */
+  public void useComponentIndex(boolean newValue) {
+    useComponentIndex = newValue;
+  }
+
+  /**
+   * @return whether {@link Robot#enterText(String)} posts all the key events for the text at once, instead of typing the
+   *         text character by character. The default value is {@code false}.
+   * @since 1.4
+   */
+  public boolean batchTextEntry() {
+    return batchTextEntry;
+  }
+
+  /**
+   * <p>
+   * Indicates whether {@link Robot#enterText(String)} should post all the key events for the text at once, instead of
+   * typing the text character by character. The default value is {@code false}.
+   * </p>
+   *
+   * <p>
+   * In batch mode, the whole text is converted up front into {@code KEY_PRESSED}, {@code KEY_TYPED} and
+   * {@code KEY_RELEASED} events, using the {@link org.fest.swing.keystroke.KeyStrokeMap}. These events are posted to the
+   * focus owner without any delay between them, followed by a single wait for the AWT event queue to be idle. This is
+   * considerably faster when entering long text, but the events are not generated by the operating system.
+   * </p>
+   *
+   * @param newValue the new value for this setting.
+   * @since 1.4
+   */
+  public void batchTextEntry(boolean newValue) {
+    batchTextEntry = newValue;
+  }
+
+  /**
+   * @return whether the contents of {@code JList}s and {@code JComboBox}es, as read by their drivers, are cached until
+   *         their models change. The default value is {@code false}.
+   * @since 1.4
+   */
+  public boolean cacheListContents() {
+    return cacheListContents;
+  }
+
+  /**
+   * <p>
+   * Updates whether the contents of {@code JList}s and {@code JComboBox}es, as read by their drivers, are cached until
+   * their models change.
+   * </p>
+   *
+   * <p>
+   * Reading the contents of a list means rendering every item and reading the text of the rendered {@code Component}.
+   * When caching is enabled, the contents are read once and reused by subsequent verifications, until the list's model
+   * reports a change (or the list's model, renderer or cell reader is replaced.) Caching should only be enabled if the
+   * text rendered for an item depends on the item itself only.
+   * </p>
+   *
+   * @param newValue the new value for this setting.
+   * @since 1.4
+   */
+  public void cacheListContents(boolean newValue) {
+    cacheListContents = newValue;
+  }
+
   private int valueToUpdate(int value, int min, int max) {
     return max(min, min(max, value));
   }
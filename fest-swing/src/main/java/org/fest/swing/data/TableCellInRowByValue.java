@@ -29,6 +29,7 @@ import org.fest.swing.annotation.RunsInEDT;
 import org.fest.swing.cell.JTableCellReader;
 import org.fest.swing.edt.GuiQuery;
 import org.fest.swing.exception.ActionFailedException;
+import org.fest.swing.util.Pair;
 
 /**
  * <p>
@@ -50,6 +51,8 @@ import org.fest.swing.exception.ActionFailedException;
  * @since 1.2
  */
 public class TableCellInRowByValue implements TableCellFinder {
+  private static final int CELLS_PER_SLICE = 10000;
+
   /**
    * <p>
    * Starting point for the creation of a {@link TableCellInRowByValue}.
@@ -142,24 +145,50 @@ public class TableCellInRowByValue implements TableCellFinder {
   }
 
   @RunsInEDT
-  private static int findRowIndex(final @Nonnull JTable table, final @Nonnull JTableCellReader cellReader,
-      final @Nonnull String[] values) {
-    Integer result = execute(new GuiQuery<Integer>() {
+  private static int findRowIndex(@Nonnull JTable table, @Nonnull JTableCellReader cellReader,
+      @Nonnull String[] values) {
+    // rows are searched in slices, each in its own query, so the EDT can process other events while a large table is
+    // being searched
+    int firstRow = 0;
+    while (firstRow >= 0) {
+      Pair<Integer, Integer> result = findRowIndex(table, cellReader, values, firstRow);
+      int row = checkNotNull(result.first);
+      if (row != -1) {
+        return row;
+      }
+      firstRow = checkNotNull(result.second);
+    }
+    return -1;
+  }
+
+  /**
+   * Returns the index of the matching row, or -1 if the slice does not contain a matching row, together with the index
+   * of the first row of the next slice, or -1 if there are no more rows to search.
+   */
+  @RunsInEDT
+  private static @Nonnull Pair<Integer, Integer> findRowIndex(final @Nonnull JTable table,
+      final @Nonnull JTableCellReader cellReader, final @Nonnull String[] values, final int firstRow) {
+    Pair<Integer, Integer> result = execute(new GuiQuery<Pair<Integer, Integer>>() {
       @Override
-      protected Integer executeInEDT() {
+      protected Pair<Integer, Integer> executeInEDT() {
         validateEqualSize(table, values);
         int rowCount = table.getRowCount();
-        for (int row = 0; row < rowCount; row++) {
+        int lastRow = Math.min(rowCount, firstRow + rowsPerSlice(values.length));
+        for (int row = firstRow; row < lastRow; row++) {
           if (matchingRow(table, cellReader, values, row)) {
-            return row;
+            return Pair.of(row, -1);
           }
         }
-        return -1;
+        return Pair.of(-1, lastRow < rowCount ? lastRow : -1);
       }
     });
     return checkNotNull(result);
   }
 
+  private static int rowsPerSlice(int columnCount) {
+    return Math.max(1, CELLS_PER_SLICE / Math.max(1, columnCount));
+  }
+
   @RunsInCurrentThread
   private static void validateEqualSize(final @Nonnull JTable table, final @Nonnull String[] values) {
     int columnCount = table.getColumnCount();
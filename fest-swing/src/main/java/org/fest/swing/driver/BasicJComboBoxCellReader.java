@@ -101,4 +101,33 @@ public class BasicJComboBoxCellReader implements JComboBoxCellReader {
     ListCellRenderer renderer = comboBox.getRenderer();
     return renderer.getListCellRendererComponent(REFERENCE_JLIST, item, index, true, true);
   }
+
+  /**
+   * <p>
+   * Returns the internal values of the items in the given range, as expected in a test. The renderer of the
+   * {@code JComboBox} is looked up only once for the whole range.
+   * </p>
+   *
+   * <p>
+   * <b>Note:</b> This method is accessed in the current executing thread. Such thread may or may not be the event
+   * dispatch thread (EDT.) Client code must call this method from the EDT.
+   * </p>
+   *
+   * @param comboBox the given {@code JComboBox}.
+   * @param from the index of the first item to read (inclusive.)
+   * @param to the index of the last item to read (exclusive.)
+   * @return the internal values of the items in the given range.
+   */
+  @RunsInCurrentThread
+  @Nonnull String[] valuesAt(@Nonnull JComboBox comboBox, int from, int to) {
+    ListCellRenderer renderer = comboBox.getRenderer();
+    String[] values = new String[to - from];
+    for (int i = from; i < to; i++) {
+      Object item = comboBox.getItemAt(i);
+      Component c = renderer.getListCellRendererComponent(REFERENCE_JLIST, item, i, true, true);
+      String value = (c != null) ? rendererReader.valueFrom(c) : null;
+      values[i - from] = (value != null) ? value : asText(item);
+    }
+    return values;
+  }
 }
@@ -22,6 +22,8 @@ import java.awt.Component;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.swing.JList;
+import javax.swing.ListCellRenderer;
+import javax.swing.ListModel;
 
 import org.fest.swing.annotation.RunsInCurrentThread;
 import org.fest.swing.cell.JListCellReader;
@@ -79,4 +81,34 @@ public class BasicJListCellReader implements JListCellReader {
     }
     return asText(element);
   }
+
+  /**
+   * <p>
+   * Returns the internal values of the cells in the given range, as expected in a test. The model and the cell renderer
+   * of the {@code JList} are looked up only once for the whole range.
+   * </p>
+   * 
+   * <p>
+   * <b>Note:</b> This method is accessed in the current executing thread. Such thread may or may not be the event
+   * dispatch thread (EDT.) Client code must call this method from the EDT.
+   * </p>
+   * 
+   * @param list the given {@code JList}.
+   * @param from the index of the first cell to read (inclusive.)
+   * @param to the index of the last cell to read (exclusive.)
+   * @return the internal values of the cells in the given range.
+   */
+  @RunsInCurrentThread
+  @Nonnull String[] valuesAt(@Nonnull JList list, int from, int to) {
+    ListModel model = list.getModel();
+    ListCellRenderer renderer = list.getCellRenderer();
+    String[] values = new String[to - from];
+    for (int i = from; i < to; i++) {
+      Object element = model.getElementAt(i);
+      Component c = renderer.getListCellRendererComponent(list, element, i, true, true);
+      String value = (c != null) ? rendererReader.valueFrom(c) : null;
+      values[i - from] = (value != null) ? value : asText(element);
+    }
+    return values;
+  }
 }
@@ -16,11 +16,13 @@ package org.fest.swing.driver;
 
 import static java.lang.String.valueOf;
 import static org.fest.swing.driver.ModelValueToString.asText;
+import static org.fest.util.Maps.newWeakHashMap;
 import static org.fest.util.Preconditions.checkNotNull;
 
 import java.awt.Color;
 import java.awt.Component;
 import java.awt.Font;
+import java.util.Map;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -28,6 +30,8 @@ import javax.swing.JCheckBox;
 import javax.swing.JComboBox;
 import javax.swing.JLabel;
 import javax.swing.JTable;
+import javax.swing.table.DefaultTableCellRenderer;
+import javax.swing.table.TableCellRenderer;
 
 import org.fest.swing.annotation.RunsInCurrentThread;
 import org.fest.swing.cell.JTableCellReader;
@@ -39,6 +43,8 @@ import org.fest.swing.cell.JTableCellReader;
  * @author Alex Ruiz
  */
 public class BasicJTableCellReader implements JTableCellReader {
+  private static final Map<Class<?>, Boolean> DEFAULT_RENDERING_BY_TABLE_TYPE = newWeakHashMap();
+
   private final CellRendererReader rendererReader;
   private final BasicJComboBoxCellReader comboBoxCellReader = new BasicJComboBoxCellReader();
 
@@ -86,7 +92,11 @@ public class BasicJTableCellReader implements JTableCellReader {
   @Override
   @RunsInCurrentThread
   public @Nullable String valueAt(@Nonnull JTable table, int row, int column) {
-    Component c = cellRendererIn(table, row, column);
+    return valueFrom(table, row, column, cellRendererIn(table, row, column));
+  }
+
+  @RunsInCurrentThread
+  @Nullable String valueFrom(@Nonnull JTable table, int row, int column, @Nullable Component c) {
     String value = (c != null) ? rendererReader.valueFrom(c) : null;
     if (value != null) {
       return value;
@@ -172,8 +182,62 @@ public class BasicJTableCellReader implements JTableCellReader {
     return c != null ? c.getForeground() : null;
   }
 
+  /**
+   * Indicates whether the value this reader returns for any cell in the given column is simply the {@code toString}
+   * value of the object in the {@code JTable}'s model (or an empty {@code String} if that object is {@code null.}) This
+   * is the case when neither this reader nor the {@code JTable} customize how cells are read or rendered, and the
+   * column uses a plain {@code DefaultTableCellRenderer}. In that case, callers may skip the cell renderer completely.
+   * 
+   * @param table the given {@code JTable}.
+   * @param column the column index.
+   * @return {@code true} if the value of a cell in the given column can be obtained from the model directly.
+   */
+  @RunsInCurrentThread
+  boolean readsModelValueAsText(@Nonnull JTable table, int column) {
+    if (getClass() != BasicJTableCellReader.class || rendererReader.getClass() != BasicCellRendererReader.class) {
+      return false;
+    }
+    if (!usesDefaultRendering(table.getClass())) {
+      return false;
+    }
+    Class<?> rendererType = table.getCellRenderer(0, column).getClass();
+    return rendererType == DefaultTableCellRenderer.class || rendererType == DefaultTableCellRenderer.UIResource.class;
+  }
+
+  private static boolean usesDefaultRendering(@Nonnull Class<?> tableType) {
+    synchronized (DEFAULT_RENDERING_BY_TABLE_TYPE) {
+      Boolean defaultRendering = DEFAULT_RENDERING_BY_TABLE_TYPE.get(tableType);
+      if (defaultRendering == null) {
+        defaultRendering = declaredInJTable(tableType, "getCellRenderer", int.class, int.class)
+            && declaredInJTable(tableType, "prepareRenderer", TableCellRenderer.class, int.class, int.class);
+        DEFAULT_RENDERING_BY_TABLE_TYPE.put(tableType, defaultRendering);
+      }
+      return defaultRendering;
+    }
+  }
+
+  private static boolean declaredInJTable(@Nonnull Class<?> tableType, @Nonnull String methodName,
+      @Nonnull Class<?>... parameterTypes) {
+    try {
+      return tableType.getMethod(methodName, parameterTypes).getDeclaringClass() == JTable.class;
+    } catch (NoSuchMethodException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Returns the {@code String} a plain {@code DefaultTableCellRenderer} would display for the given model value.
+   * 
+   * @param value the value in the {@code JTable}'s model.
+   * @return the {@code String} a plain {@code DefaultTableCellRenderer} would display for the given value.
+   * @see #readsModelValueAsText(JTable, int)
+   */
+  static @Nonnull String modelValueAsText(@Nullable Object value) {
+    return value == null ? "" : value.toString();
+  }
+
   @RunsInCurrentThread
-  private @Nullable Component cellRendererIn(final @Nonnull JTable table, final int row, final int column) {
+  @Nullable Component cellRendererIn(final @Nonnull JTable table, final int row, final int column) {
     return table.prepareRenderer(table.getCellRenderer(row, column), row, column);
   }
 }
@@ -14,18 +14,23 @@
  */
 package org.fest.swing.driver;
 
+import static org.fest.swing.edt.GuiActionRunner.execute;
 import static org.fest.swing.format.Formatting.format;
 import static org.fest.swing.query.ComponentEnabledQuery.isEnabled;
 import static org.fest.util.Preconditions.checkNotNull;
 import static org.fest.util.Strings.concat;
 
 import java.awt.Component;
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
 
 import javax.annotation.Nonnull;
+import javax.swing.JComponent;
 
 import org.fest.assertions.Description;
 import org.fest.swing.annotation.RunsInEDT;
 import org.fest.swing.edt.GuiLazyLoadingDescription;
+import org.fest.swing.edt.GuiTask;
 import org.fest.swing.timing.Condition;
 
 /**
@@ -34,8 +39,17 @@ import org.fest.swing.timing.Condition;
  * @author Yvonne Wang
  */
 class ComponentEnabledCondition extends Condition {
+  private static final String ENABLED_PROPERTY = "enabled";
+
   private Component c;
 
+  private final PropertyChangeListener enabledListener = new PropertyChangeListener() {
+    @Override
+    public void propertyChange(PropertyChangeEvent e) {
+      wakeUp();
+    }
+  };
+
   static @Nonnull ComponentEnabledCondition untilIsEnabled(@Nonnull Component c) {
     return new ComponentEnabledCondition(c);
   }
@@ -60,6 +74,33 @@ class ComponentEnabledCondition extends Condition {
     return isEnabled(checkNotNull(c));
   }
 
+  /**
+   * Listens for changes in the "enabled" property of the {@code Component} in this condition. Only Swing
+   * {@code JComponent}s notify such changes, this condition is polled for other {@code Component}s.
+   */
+  @Override @RunsInEDT
+  protected boolean addWakeUpListeners() {
+    final Component component = checkNotNull(c);
+    execute(new GuiTask() {
+      @Override
+      protected void executeInEDT() {
+        component.addPropertyChangeListener(ENABLED_PROPERTY, enabledListener);
+      }
+    });
+    return component instanceof JComponent;
+  }
+
+  @Override @RunsInEDT
+  protected void removeWakeUpListeners() {
+    final Component component = checkNotNull(c);
+    execute(new GuiTask() {
+      @Override
+      protected void executeInEDT() {
+        component.removePropertyChangeListener(ENABLED_PROPERTY, enabledListener);
+      }
+    });
+  }
+
   /** ${@inheritDoc} */
   @Override
   protected void done() {
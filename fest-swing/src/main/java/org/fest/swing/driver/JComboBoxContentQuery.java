@@ -20,7 +20,9 @@ import static org.fest.util.Preconditions.checkNotNull;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.swing.JComboBox;
+import javax.swing.ListModel;
 
+import org.fest.swing.annotation.RunsInCurrentThread;
 import org.fest.swing.annotation.RunsInEDT;
 import org.fest.swing.cell.JComboBoxCellReader;
 import org.fest.swing.edt.GuiQuery;
@@ -33,20 +35,45 @@ import org.fest.swing.edt.GuiQuery;
  */
 final class JComboBoxContentQuery {
   @RunsInEDT
-  static @Nonnull String[] contents(final @Nonnull JComboBox comboBox, final @Nonnull JComboBoxCellReader cellReader) {
+  static @Nonnull String[] contents(@Nonnull JComboBox comboBox, @Nonnull JComboBoxCellReader cellReader) {
+    return contents(comboBox, cellReader, false);
+  }
+
+  @RunsInEDT
+  static @Nonnull String[] contents(final @Nonnull JComboBox comboBox, final @Nonnull JComboBoxCellReader cellReader,
+      final boolean useCache) {
     String[] result = execute(new GuiQuery<String[]>() {
       @Override
       protected @Nullable String[] executeInEDT() {
-        int itemCount = comboBox.getItemCount();
-        String[] values = new String[itemCount];
-        for (int i = 0; i < itemCount; i++) {
-          values[i] = cellReader.valueAt(comboBox, i);
+        if (!useCache) {
+          return valuesAt(comboBox, cellReader);
         }
-        return values;
+        ListContentCache cache = ListContentCache.instance();
+        String[] contents = cache.contentsOf(comboBox, cellReader);
+        if (contents == null) {
+          ListModel model = comboBox.getModel();
+          contents = valuesAt(comboBox, cellReader);
+          cache.put(comboBox, model, cellReader, contents);
+        }
+        return contents;
       }
     });
     return checkNotNull(result);
   }
 
+  @RunsInCurrentThread
+  private static @Nonnull String[] valuesAt(@Nonnull JComboBox comboBox, @Nonnull JComboBoxCellReader cellReader) {
+    int itemCount = comboBox.getItemCount();
+    // a subclass may override valueAt, which the bulk read would skip.
+    if (cellReader.getClass() == BasicJComboBoxCellReader.class) {
+      return ((BasicJComboBoxCellReader) cellReader).valuesAt(comboBox, 0, itemCount);
+    }
+    String[] values = new String[itemCount];
+    for (int i = 0; i < itemCount; i++) {
+      values[i] = cellReader.valueAt(comboBox, i);
+    }
+    return values;
+  }
+
   private JComboBoxContentQuery() {}
 }
@@ -49,6 +49,7 @@ import org.fest.swing.annotation.RunsInCurrentThread;
 import org.fest.swing.annotation.RunsInEDT;
 import org.fest.swing.cell.JComboBoxCellReader;
 import org.fest.swing.core.Robot;
+import org.fest.swing.edt.GuiBatch;
 import org.fest.swing.edt.GuiQuery;
 import org.fest.swing.edt.GuiTask;
 import org.fest.swing.exception.ActionFailedException;
@@ -107,7 +108,16 @@ public class JComboBoxDriver extends JComponentDriver {
    */
   @RunsInEDT
   public @Nonnull String[] contentsOf(@Nonnull JComboBox comboBox) {
-    return contents(comboBox, cellReader());
+    return cachedContentsOf(comboBox).clone();
+  }
+
+  /*
+   * Returns the contents of the given JComboBox, reusing them across calls if Settings.cacheListContents() is enabled.
+   * The returned array may be shared and must not be modified.
+   */
+  @RunsInEDT
+  private @Nonnull String[] cachedContentsOf(@Nonnull JComboBox comboBox) {
+    return contents(comboBox, cellReader(), settings().cacheListContents());
   }
 
   /**
@@ -146,10 +156,11 @@ public class JComboBoxDriver extends JComponentDriver {
 
   @RunsInEDT
   private void selectItem(@Nonnull JComboBox comboBox, @Nonnull TextMatcher matcher) {
-    int index = matchingItemIndex(comboBox, matcher, cellReader());
+    int index = settings().cacheListContents() ? matchingItemIndex(cachedContentsOf(comboBox), matcher)
+        : matchingItemIndex(comboBox, matcher, cellReader());
     if (index < 0) {
       String format = "Unable to find item matching %s among the JComboBox contents: ";
-      String msg = String.format(format, matcher.description(), format(contentsOf(comboBox)));
+      String msg = String.format(format, matcher.description(), format(cachedContentsOf(comboBox)));
       throw new LocationUnavailableException(msg);
     }
     selectItem(comboBox, index);
@@ -290,21 +301,21 @@ public class JComboBoxDriver extends JComponentDriver {
    */
   @RunsInEDT
   public void selectItem(final @Nonnull JComboBox comboBox, int index) {
-    validateCanSelectItem(comboBox, index);
-    showDropDownList(comboBox);
+    // Location of pop-up button activator is LAF-dependent
+    execute(new GuiBatch().add(validateCanSelectItem(comboBox, index)).add(setDropDownVisible(comboBox, true)));
+    robot.waitForIdle();
     selectItemAtIndex(comboBox, index);
     hideDropDownListIfVisible(comboBox);
   }
 
-  @RunsInEDT
-  private static void validateCanSelectItem(final @Nonnull JComboBox comboBox, final int index) {
-    execute(new GuiTask() {
+  private static @Nonnull GuiTask validateCanSelectItem(final @Nonnull JComboBox comboBox, final int index) {
+    return new GuiTask() {
       @Override
       protected void executeInEDT() {
         checkEnabledAndShowing(comboBox);
         checkItemIndexInBounds(comboBox, index);
       }
-    });
+    };
   }
 
   @VisibleForTesting
@@ -316,7 +327,7 @@ public class JComboBoxDriver extends JComponentDriver {
 
   @RunsInEDT
   private void selectItemAtIndex(@Nonnull final JComboBox comboBox, final int index) {
-    JList dropDownList = dropDownListFinder.findDropDownList();
+    JList dropDownList = dropDownListFinder.findDropDownList(comboBox);
     if (dropDownList != null) {
       listDriver.selectItem(dropDownList, index);
       return;
@@ -332,12 +343,16 @@ public class JComboBoxDriver extends JComponentDriver {
 
   @RunsInEDT
   private void dropDownVisibleThroughUIDelegate(@Nonnull final JComboBox comboBox, final boolean visible) {
-    execute(new GuiTask() {
+    execute(setDropDownVisible(comboBox, visible));
+    robot.waitForIdle();
+  }
+
+  private static @Nonnull GuiTask setDropDownVisible(@Nonnull final JComboBox comboBox, final boolean visible) {
+    return new GuiTask() {
       @Override protected void executeInEDT() {
         comboBox.setPopupVisible(visible);
       }
-    });
-    robot.waitForIdle();
+    };
   }
 
   /**
@@ -14,23 +14,37 @@
  */
 package org.fest.swing.driver;
 
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.fest.swing.edt.GuiActionRunner.execute;
 import static org.fest.swing.timing.Pause.pause;
 import static org.fest.swing.util.TimeoutWatch.startWatchWithTimeoutOf;
 import static org.fest.util.Lists.newArrayList;
+import static org.fest.util.Preconditions.checkNotNull;
 
 import java.awt.Component;
 import java.awt.Container;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
 
+import javax.accessibility.Accessible;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import javax.swing.JComboBox;
 import javax.swing.JList;
 import javax.swing.JPopupMenu;
+import javax.swing.event.PopupMenuEvent;
+import javax.swing.event.PopupMenuListener;
+import javax.swing.plaf.ComboBoxUI;
+import javax.swing.plaf.basic.ComboPopup;
 
+import org.fest.swing.annotation.RunsInCurrentThread;
 import org.fest.swing.annotation.RunsInEDT;
 import org.fest.swing.core.ComponentMatcher;
 import org.fest.swing.core.Robot;
 import org.fest.swing.core.TypeMatcher;
+import org.fest.swing.edt.GuiQuery;
+import org.fest.swing.edt.GuiTask;
+import org.fest.swing.util.Pair;
 import org.fest.swing.util.TimeoutWatch;
 
 /**
@@ -69,6 +83,114 @@ final class JComboBoxDropDownListFinder {
     return findListIn(popup);
   }
 
+  /**
+   * <p>
+   * Finds the {@code JList} in the pop-up raised by the given {@code JComboBox}, if the LAF actually uses one.
+   * </p>
+   *
+   * <p>
+   * If the LAF of the {@code JComboBox} exposes its pop-up as a {@code ComboPopup}, the {@code JList} is obtained
+   * directly from it, as soon as the {@code JComboBox} notifies that its pop-up became visible. Otherwise, this method
+   * looks up the {@code JList} in the active pop-up menu, as {@link #findDropDownList()} does.
+   * </p>
+   *
+   * @param comboBox the {@code JComboBox} that raised the pop-up.
+   * @return the found {@code JList}, or {@code null} if a drop-down list cannot be found.
+   */
+  @RunsInEDT
+  @Nullable JList findDropDownList(@Nonnull JComboBox comboBox) {
+    final PopupVisibleListener listener = new PopupVisibleListener(comboBox);
+    Pair<Boolean, JList> popupInfo = execute(new GuiQuery<Pair<Boolean, JList>>() {
+      @Override
+      protected Pair<Boolean, JList> executeInEDT() {
+        return listener.startListening();
+      }
+    });
+    checkNotNull(popupInfo);
+    JList list = popupInfo.second;
+    if (list == null) {
+      return findDropDownList();
+    }
+    if (popupInfo.first) {
+      return list;
+    }
+    try {
+      if (!listener.waitForPopup(robot.settings().timeoutToFindPopup())) {
+        return null;
+      }
+    } finally {
+      execute(new GuiTask() {
+        @Override
+        protected void executeInEDT() {
+          listener.stopListening();
+        }
+      });
+    }
+    robot.waitForIdle();
+    return list;
+  }
+
+  private static class PopupVisibleListener implements PopupMenuListener {
+    private final JComboBox comboBox;
+    private final CountDownLatch popupVisible = new CountDownLatch(1);
+
+    PopupVisibleListener(@Nonnull JComboBox comboBox) {
+      this.comboBox = comboBox;
+    }
+
+    /*
+     * Returns the JList in the pop-up of the JComboBox (or null if the LAF does not use a ComboPopup) and whether the
+     * pop-up is already visible. Starts listening for the pop-up to become visible only if it is not.
+     */
+    @RunsInCurrentThread
+    @Nonnull Pair<Boolean, JList> startListening() {
+      ComboPopup popup = comboPopupOf(comboBox);
+      if (popup == null) {
+        return Pair.of(false, null);
+      }
+      if (popup.isVisible()) {
+        return Pair.of(true, popup.getList());
+      }
+      comboBox.addPopupMenuListener(this);
+      return Pair.of(false, popup.getList());
+    }
+
+    @RunsInCurrentThread
+    void stopListening() {
+      comboBox.removePopupMenuListener(this);
+    }
+
+    boolean waitForPopup(long timeout) {
+      try {
+        return popupVisible.await(timeout, MILLISECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return false;
+      }
+    }
+
+    @Override
+    public void popupMenuWillBecomeVisible(PopupMenuEvent e) {
+      popupVisible.countDown();
+    }
+
+    @Override
+    public void popupMenuWillBecomeInvisible(PopupMenuEvent e) {}
+
+    @Override
+    public void popupMenuCanceled(PopupMenuEvent e) {}
+  }
+
+  @RunsInCurrentThread
+  private static @Nullable ComboPopup comboPopupOf(@Nonnull JComboBox comboBox) {
+    ComboBoxUI ui = comboBox.getUI();
+    if (ui == null || ui.getAccessibleChildrenCount(comboBox) == 0) {
+      return null;
+    }
+    Accessible child = ui.getAccessibleChild(comboBox, 0);
+    return (child instanceof ComboPopup) ? (ComboPopup) child : null;
+  }
+
   private @Nullable JList findListIn(@Nonnull Container parent) {
     List<Component> found = newArrayList(robot.finder().findAll(parent, LIST_MATCHER));
     if (found.size() != 1) {
@@ -51,5 +51,15 @@ final class JComboBoxMatchingItemQuery {
     return Preconditions.checkNotNull(result);
   }
 
+  static int matchingItemIndex(@Nonnull String[] contents, @Nonnull TextMatcher matcher) {
+    for (int i = 0; i < contents.length; i++) {
+      String value = contents[i];
+      if (value != null && matcher.isMatching(value)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
   private JComboBoxMatchingItemQuery() {}
 }
@@ -18,8 +18,11 @@ import static org.fest.swing.edt.GuiActionRunner.execute;
 import static org.fest.util.Preconditions.checkNotNull;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import javax.swing.JList;
+import javax.swing.ListModel;
 
+import org.fest.swing.annotation.RunsInCurrentThread;
 import org.fest.swing.annotation.RunsInEDT;
 import org.fest.swing.cell.JListCellReader;
 import org.fest.swing.edt.GuiQuery;
@@ -32,18 +35,72 @@ import org.fest.swing.edt.GuiQuery;
  */
 final class JListContentQuery {
   @RunsInEDT
-  static @Nonnull String[] contents(final @Nonnull JList list, final @Nonnull JListCellReader cellReader) {
+  static @Nonnull String[] contents(@Nonnull JList list, @Nonnull JListCellReader cellReader) {
+    return contents(list, cellReader, false);
+  }
+
+  @RunsInEDT
+  static @Nonnull String[] contents(final @Nonnull JList list, final @Nonnull JListCellReader cellReader,
+      final boolean useCache) {
     String[] result = execute(new GuiQuery<String[]>() {
       @Override protected String[] executeInEDT() {
-        String[] values = new String[list.getModel().getSize()];
-        for (int i = 0; i < values.length; i++) {
-          values[i] = cellReader.valueAt(list, i);
-        }
-        return values;
+        return contentsOf(list, cellReader, useCache ? ListContentCache.instance() : null);
       }
     });
     return checkNotNull(result);
   }
 
+  @RunsInEDT
+  static @Nonnull String[] contents(final @Nonnull JList list, final int from, final int to,
+      final @Nonnull JListCellReader cellReader) {
+    String[] result = execute(new GuiQuery<String[]>() {
+      @Override protected String[] executeInEDT() {
+        checkRange(from, to, list.getModel().getSize());
+        return valuesAt(list, from, to, cellReader);
+      }
+    });
+    return checkNotNull(result);
+  }
+
+  /**
+   * Returns the contents of the given {@code JList}, reading them from the given cache if they are still valid. The
+   * returned array is shared with the cache and must not be modified.
+   */
+  @RunsInCurrentThread
+  static @Nonnull String[] contentsOf(@Nonnull JList list, @Nonnull JListCellReader cellReader,
+      @Nullable ListContentCache cache) {
+    if (cache == null) {
+      return valuesAt(list, 0, list.getModel().getSize(), cellReader);
+    }
+    String[] contents = cache.contentsOf(list, cellReader);
+    if (contents == null) {
+      ListModel model = list.getModel();
+      contents = valuesAt(list, 0, model.getSize(), cellReader);
+      cache.put(list, model, cellReader, contents);
+    }
+    return contents;
+  }
+
+  @RunsInCurrentThread
+  private static @Nonnull String[] valuesAt(@Nonnull JList list, int from, int to,
+      @Nonnull JListCellReader cellReader) {
+    // a subclass may override valueAt, which the bulk read would skip.
+    if (cellReader.getClass() == BasicJListCellReader.class) {
+      return ((BasicJListCellReader) cellReader).valuesAt(list, from, to);
+    }
+    String[] values = new String[to - from];
+    for (int i = from; i < to; i++) {
+      values[i - from] = cellReader.valueAt(list, i);
+    }
+    return values;
+  }
+
+  static void checkRange(int from, int to, int size) {
+    if (from < 0 || to > size || from > to) {
+      String msg = String.format("Range [%d, %d) should be within [0, %d)", from, to, size);
+      throw new IndexOutOfBoundsException(msg);
+    }
+  }
+
   private JListContentQuery() {}
 }
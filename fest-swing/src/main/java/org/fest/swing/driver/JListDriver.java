@@ -108,7 +108,34 @@ public class JListDriver extends JComponentDriver {
    */
   @RunsInEDT
   public @Nonnull String[] contentsOf(@Nonnull JList list) {
-    return contents(list, cellReader());
+    return cachedContentsOf(list).clone();
+  }
+
+  /**
+   * Returns an array of {@code String}s that represents the items of the given {@code JList} in the given range of
+   * indices. Only the items in the range are read.
+   *
+   * @param list the target {@code JList}.
+   * @param from the index of the first item to read (inclusive.)
+   * @param to the index of the last item to read (exclusive.)
+   * @return an array of {@code String}s that represents the items of the given {@code JList} in the given range.
+   * @throws IndexOutOfBoundsException if {@code from} is negative, {@code to} is greater than the number of items in
+   *           the {@code JList}, or {@code from} is greater than {@code to}.
+   * @see #replaceCellReader(JListCellReader)
+   * @since 1.4
+   */
+  @RunsInEDT
+  public @Nonnull String[] contentsOf(@Nonnull JList list, int from, int to) {
+    return contents(list, from, to, cellReader());
+  }
+
+  /*
+   * Returns the contents of the given JList, reusing them across calls if Settings.cacheListContents() is enabled.
+   * The returned array may be shared and must not be modified.
+   */
+  @RunsInEDT
+  private @Nonnull String[] cachedContentsOf(@Nonnull JList list) {
+    return contents(list, cellReader(), settings().cacheListContents());
   }
 
   /**
@@ -148,20 +175,20 @@ public class JListDriver extends JComponentDriver {
 
   @RunsInEDT
   private void selectItems(final @Nonnull  JList list, final @Nonnull TextMatcher matcher) {
-    final List<Integer> indices = matchingItemIndices(list, matcher, cellReader());
-    if (indices.isEmpty()) {
+    final int[] indices = matchingItemIndices(list, matcher, cellReader(), settings().cacheListContents());
+    if (indices.length == 0) {
       throw failMatchingNotFound(list, matcher);
     }
     clearSelection(list);
     new MultipleSelectionTemplate(robot) {
       @Override
       int elementCount() {
-        return indices.size();
+        return indices.length;
       }
 
       @Override
       void selectElement(int index) {
-        selectItem(list, indices.get(index));
+        selectItem(list, indices[index]);
       }
     }.multiSelect();
   }
@@ -488,7 +515,7 @@ public class JListDriver extends JComponentDriver {
 
   @RunsInEDT
   private void requireSelectedItems(@Nonnull JList list, @Nonnull TextMatcher matcher) {
-    List<String> matchingValues = matchingItemValues(list, matcher, cellReader());
+    List<String> matchingValues = matchingItemValues(list, matcher, cellReader(), settings().cacheListContents());
     assertThat(selectionValues(list, cellReader())).as(propertyName(list, SELECTED_INDICES_PROPERTY))
     .isEqualTo(matchingValues);
   }
@@ -794,7 +821,7 @@ public class JListDriver extends JComponentDriver {
       @Nonnull TextMatcher matcher) {
     String format = "Unable to find item matching the %s %s among the JList contents %s";
     String msg = String.format(format, matcher.description(), matcher.formattedValues(),
-        format(contents(list, cellReader())));
+        format(cachedContentsOf(list)));
     return new LocationUnavailableException(msg);
   }
 
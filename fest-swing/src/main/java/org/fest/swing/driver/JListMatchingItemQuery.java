@@ -14,18 +14,17 @@
  */
 package org.fest.swing.driver;
 
-import static java.util.Collections.sort;
+import static java.util.Arrays.copyOf;
 import static org.fest.swing.driver.JListCellBoundsQuery.cellBounds;
 import static org.fest.swing.driver.JListCellCenterQuery.cellCenter;
+import static org.fest.swing.driver.JListContentQuery.contentsOf;
 import static org.fest.swing.edt.GuiActionRunner.execute;
 import static org.fest.util.Lists.newArrayList;
 import static org.fest.util.Preconditions.checkNotNull;
-import static org.fest.util.Sets.newHashSet;
 
 import java.awt.Point;
 import java.awt.Rectangle;
 import java.util.List;
-import java.util.Set;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -70,34 +69,43 @@ final class JListMatchingItemQuery {
   }
 
   @RunsInEDT
-  static @Nonnull List<Integer> matchingItemIndices(final @Nonnull JList list, final @Nonnull TextMatcher matcher,
-      final @Nonnull JListCellReader cellReader) {
-    List<Integer> result = execute(new GuiQuery<List<Integer>>() {
-      @Override protected List<Integer> executeInEDT() {
-        Set<Integer> indices = newHashSet();
-        int size = list.getModel().getSize();
-        for (int i = 0; i < size; i++) {
-          if (matcher.isMatching(cellReader.valueAt(list, i))) {
-            indices.add(i);
+  static @Nonnull int[] matchingItemIndices(@Nonnull JList list, @Nonnull TextMatcher matcher,
+      @Nonnull JListCellReader cellReader) {
+    return matchingItemIndices(list, matcher, cellReader, false);
+  }
+
+  @RunsInEDT
+  static @Nonnull int[] matchingItemIndices(final @Nonnull JList list, final @Nonnull TextMatcher matcher,
+      final @Nonnull JListCellReader cellReader, final boolean useCache) {
+    int[] result = execute(new GuiQuery<int[]>() {
+      @Override protected int[] executeInEDT() {
+        String[] contents = contentsOf(list, cellReader, useCache ? ListContentCache.instance() : null);
+        int[] indices = new int[contents.length];
+        int count = 0;
+        for (int i = 0; i < contents.length; i++) {
+          if (matcher.isMatching(contents[i])) {
+            indices[count++] = i;
           }
         }
-        List<Integer> indexList = newArrayList(indices);
-        sort(indexList);
-        return indexList;
+        return copyOf(indices, count);
       }
     });
     return checkNotNull(result);
   }
 
+  @RunsInEDT
+  static @Nonnull List<String> matchingItemValues(@Nonnull JList list, @Nonnull TextMatcher matcher,
+      @Nonnull JListCellReader cellReader) {
+    return matchingItemValues(list, matcher, cellReader, false);
+  }
+
   @RunsInEDT
   static @Nonnull List<String> matchingItemValues(final @Nonnull JList list, final @Nonnull TextMatcher matcher,
-      final @Nonnull JListCellReader cellReader) {
+      final @Nonnull JListCellReader cellReader, final boolean useCache) {
     List<String> result = execute(new GuiQuery<List<String>>() {
       @Override protected List<String> executeInEDT() {
         List<String> values = newArrayList();
-        int size = list.getModel().getSize();
-        for (int i = 0; i < size; i++) {
-          String value = cellReader.valueAt(list, i);
+        for (String value : contentsOf(list, cellReader, useCache ? ListContentCache.instance() : null)) {
           if (matcher.isMatching(value)) {
             values.add(value);
           }
@@ -17,18 +17,17 @@ package org.fest.swing.driver;
 import static java.lang.Boolean.getBoolean;
 import static org.fest.swing.core.WindowAncestorFinder.windowAncestorOf;
 import static org.fest.swing.driver.ComponentPreconditions.checkEnabledAndShowing;
-import static org.fest.swing.driver.JMenuPopupMenuQuery.popupMenuOf;
-import static org.fest.swing.driver.WindowMoveToFrontTask.toFront;
 import static org.fest.swing.edt.GuiActionRunner.execute;
 import static org.fest.swing.exception.ActionFailedException.actionFailure;
 import static org.fest.swing.format.Formatting.format;
-import static org.fest.swing.timing.Pause.pause;
 import static org.fest.swing.util.Platform.isOSX;
 import static org.fest.util.Preconditions.checkNotNull;
 import static org.fest.util.Strings.concat;
 
 import java.awt.Component;
 import java.awt.Window;
+import java.util.LinkedList;
+import java.util.List;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -36,8 +35,10 @@ import javax.swing.JMenu;
 import javax.swing.JMenuItem;
 import javax.swing.JPopupMenu;
 
+import org.fest.swing.annotation.RunsInCurrentThread;
 import org.fest.swing.annotation.RunsInEDT;
 import org.fest.swing.core.Robot;
+import org.fest.swing.edt.GuiBatch;
 import org.fest.swing.edt.GuiQuery;
 import org.fest.swing.edt.GuiTask;
 import org.fest.swing.exception.ActionFailedException;
@@ -68,7 +69,14 @@ public class JMenuItemDriver extends JComponentDriver {
   }
 
   /**
+   * <p>
    * Finds and selects the given {@code JMenuItem}.
+   * </p>
+   *
+   * <p>
+   * If the {@code JMenuItem} is in a sub-menu, the chain of menus leading to it is activated first, from the top-most
+   * menu down. Each menu in the chain is clicked as soon as the pop-up of its parent menu is showing.
+   * </p>
    * 
    * @param menuItem the {@code JMenuItem} to select.
    * @throws IllegalStateException if the menu to select is disabled.
@@ -77,50 +85,85 @@ public class JMenuItemDriver extends JComponentDriver {
    */
   @RunsInEDT
   public void click(@Nonnull JMenuItem menuItem) {
-    show(menuItem);
-    doClick(menuItem);
-    ensurePopupIsShowing(menuItem);
+    GuiQuery<List<MenuPathElement>> pathQuery = menuPathTo(menuItem);
+    GuiBatch batch = new GuiBatch().add(pathQuery).add(menuBarWindowToFront(menuItem));
+    execute(batch);
+    for (MenuPathElement element : checkNotNull(batch.resultOf(pathQuery))) {
+      show(element);
+      doClick(element.menuItem);
+      ensurePopupIsShowing(element.menuItem, element.popup);
+    }
   }
 
   @RunsInEDT
-  private void show(@Nonnull JMenuItem menuItem) {
-    JMenuItemLocation location = locationOf(menuItem);
-    activateParentIfIsMenu(location);
-    moveParentWindowToFront(location);
-    if (menuItem instanceof JMenu && !location.inMenuBar()) {
-      waitForSubMenuToShow();
+  private void show(@Nonnull MenuPathElement element) {
+    moveMouseTo(element.menuBarWindow);
+    if (element.menuItem instanceof JMenu && !element.location.inMenuBar()) {
+      waitForSubMenuToShow(element.location.parentPopup());
     }
   }
 
-  @RunsInEDT
-  private static @Nonnull JMenuItemLocation locationOf(final @Nonnull JMenuItem menuItem) {
-    JMenuItemLocation result = execute(new GuiQuery<JMenuItemLocation>() {
+  /*
+   * Returns the given menu item, preceded by the menus that need to be clicked to show it (from the top-most menu
+   * down.)
+   */
+  private static @Nonnull GuiQuery<List<MenuPathElement>> menuPathTo(final @Nonnull JMenuItem menuItem) {
+    return new GuiQuery<List<MenuPathElement>>() {
       @Override
-      protected JMenuItemLocation executeInEDT() {
-        return new JMenuItemLocation(menuItem);
+      protected List<MenuPathElement> executeInEDT() {
+        return pathTo(menuItem);
       }
-    });
-    return checkNotNull(result);
+    };
   }
 
-  @RunsInEDT
-  private void activateParentIfIsMenu(@Nonnull JMenuItemLocation location) {
-    if (!location.isParentAMenu()) {
-      return;
-    }
-    Component c = location.parentOrInvoker();
-    if (c instanceof JMenuItem) {
-      click((JMenuItem) c);
+  // Make sure the window is in front, or its menus may be obscured by another window.
+  private static @Nonnull GuiTask menuBarWindowToFront(final @Nonnull JMenuItem menuItem) {
+    return new GuiTask() {
+      @Override
+      protected void executeInEDT() {
+        Window w = pathTo(menuItem).getFirst().menuBarWindow;
+        if (w != null) {
+          w.toFront();
+        }
+      }
+    };
+  }
+
+  @RunsInCurrentThread
+  private static @Nonnull LinkedList<MenuPathElement> pathTo(@Nonnull JMenuItem menuItem) {
+    LinkedList<MenuPathElement> path = new LinkedList<MenuPathElement>();
+    JMenuItem current = menuItem;
+    while (current != null) {
+      MenuPathElement element = new MenuPathElement(current);
+      path.addFirst(element);
+      current = element.parentMenuToActivate();
     }
+    return path;
   }
 
-  @RunsInEDT
-  private void moveParentWindowToFront(@Nonnull JMenuItemLocation location) {
-    if (!location.inMenuBar()) {
-      return;
+  private static class MenuPathElement {
+    final JMenuItem menuItem;
+    final JMenuItemLocation location;
+    final Window menuBarWindow;
+    final JPopupMenu popup;
+
+    @RunsInCurrentThread
+    MenuPathElement(@Nonnull JMenuItem menuItem) {
+      this.menuItem = menuItem;
+      location = new JMenuItemLocation(menuItem);
+      menuBarWindow = location.inMenuBar() ? windowAncestorOf(location.parentOrInvoker()) : null;
+      popup = (menuItem instanceof JMenu) ? ((JMenu) menuItem).getPopupMenu() : null;
+    }
+
+    @RunsInCurrentThread
+    @Nullable JMenuItem parentMenuToActivate() {
+      Component parent = location.parentOrInvoker();
+      if (!(parent instanceof JMenuItem)) {
+        return null;
+      }
+      JPopupMenu parentPopup = location.parentPopup();
+      return (parentPopup == null || !parentPopup.isShowing()) ? (JMenuItem) parent : null;
     }
-    // TODO windowAncestorOf is not being called in EDT
-    moveToFront(windowAncestorOf(location.parentOrInvoker()));
   }
 
   @RunsInEDT
@@ -149,29 +192,30 @@ public class JMenuItemDriver extends JComponentDriver {
   }
 
   @RunsInEDT
-  private void ensurePopupIsShowing(@Nonnull JMenuItem menuItem) {
-    if (!(menuItem instanceof JMenu)) {
+  private void ensurePopupIsShowing(@Nonnull JMenuItem menuItem, @Nullable JPopupMenu popup) {
+    if (popup == null) {
       return;
     }
-    JPopupMenu popup = popupMenuOf((JMenu) menuItem);
-    // TODO review EDT access
+    // Falls back to polling (and moving the mouse over the menu) if the pop-up does not show up right away.
+    waitForSubMenuToShow(popup);
     if (!waitForShowing(popup, robot.settings().timeoutToFindPopup())) {
       throw actionFailure(concat("Clicking on menu item <", format(menuItem), "> never showed a pop-up menu"));
     }
-    waitForSubMenuToShow();
   }
 
-  private void waitForSubMenuToShow() {
-    pause(robot.settings().timeoutToFindSubMenu());
+  @RunsInEDT
+  private void waitForSubMenuToShow(@Nullable JPopupMenu popup) {
+    if (popup != null) {
+      PopupMenuShowingWaiter.waitForShowing(popup, robot.settings().timeoutToFindSubMenu());
+    }
+    robot.waitForIdle();
   }
 
   @RunsInEDT
-  private void moveToFront(@Nullable Window w) {
+  private void moveMouseTo(@Nullable Window w) {
     if (w == null) {
       return;
     }
-    // Make sure the window is in front, or its menus may be obscured by another window.
-    toFront(w);
     robot.waitForIdle();
     robot.moveMouse(w);
   }
@@ -25,6 +25,7 @@ import static org.fest.swing.driver.JTableHasSelectionQuery.hasSelection;
 import static org.fest.swing.driver.JTableHeaderQuery.tableHeader;
 import static org.fest.swing.driver.JTableMatchingCellQuery.cellWithValue;
 import static org.fest.swing.driver.JTableSingleRowCellSelectedQuery.isCellSelected;
+import static org.fest.swing.driver.JTableSnapshotQuery.snapshotOf;
 import static org.fest.swing.driver.TextAssert.verifyThat;
 import static org.fest.swing.edt.GuiActionRunner.execute;
 import static org.fest.swing.exception.ActionFailedException.actionFailure;
@@ -189,6 +190,44 @@ public class JTableDriver extends JComponentDriver {
     return cellWithValue(table, new PatternTextMatcher(pattern), cellReader());
   }
 
+  /**
+   * Returns a cell, in the given columns of the {@code JTable}, whose value matches the given one.
+   *
+   * @param table the target {@code JTable}.
+   * @param value the value of the cell to look for. It can be a regular expression.
+   * @param columns the indices of the columns to search, in the order they should be searched in each row.
+   * @return a cell from the given {@code JTable} whose value matches the given one.
+   * @throws NullPointerException if the array of column indices is {@code null}.
+   * @throws IllegalArgumentException if the array of column indices is empty.
+   * @throws IndexOutOfBoundsException if any of the column indices is out of bounds.
+   * @throws ActionFailedException if a cell with a matching value cannot be found.
+   * @since 1.4
+   */
+  @RunsInEDT
+  public @Nonnull TableCell cell(@Nonnull JTable table, @Nullable String value, @Nonnull int... columns) {
+    return cellWithValue(table, new StringTextMatcher(value), cellReader(), checkNotNullOrEmpty(columns));
+  }
+
+  /**
+   * Returns a cell, in the given columns of the {@code JTable}, whose value matches the given regular expression
+   * pattern.
+   *
+   * @param table the target {@code JTable}.
+   * @param pattern the regular expression pattern to match
+   * @param columns the indices of the columns to search, in the order they should be searched in each row.
+   * @return a cell from the given {@code JTable} whose value matches the given one.
+   * @throws NullPointerException if the given regular expression is {@code null}.
+   * @throws NullPointerException if the array of column indices is {@code null}.
+   * @throws IllegalArgumentException if the array of column indices is empty.
+   * @throws IndexOutOfBoundsException if any of the column indices is out of bounds.
+   * @throws ActionFailedException if a cell with a matching value cannot be found.
+   * @since 1.4
+   */
+  @RunsInEDT
+  public @Nonnull TableCell cell(@Nonnull JTable table, @Nonnull Pattern pattern, @Nonnull int... columns) {
+    return cellWithValue(table, new PatternTextMatcher(pattern), cellReader(), checkNotNullOrEmpty(columns));
+  }
+
   /**
    * Returns the {@code String} representation of the value at the given cell, using this driver's
    * {@link JTableCellReader}.
@@ -553,6 +592,61 @@ public class JTableDriver extends JComponentDriver {
     return tableContents(table, cellReader());
   }
 
+  /**
+   * Captures the contents of all the cells in the {@code JTable}, in a single pass in the event dispatch thread (EDT,)
+   * using this driver's {@link JTableCellReader}. The returned snapshot can be queried repeatedly without accessing the
+   * {@code JTable} again.
+   *
+   * @param table the target {@code JTable}.
+   * @param includeStyles indicates whether the fonts and colors of the cells should be captured as well.
+   * @return the captured contents of the {@code JTable}.
+   * @see #replaceCellReader(JTableCellReader)
+   * @since 1.4
+   */
+  @RunsInEDT
+  public @Nonnull JTableSnapshot snapshot(@Nonnull JTable table, boolean includeStyles) {
+    return snapshotOf(table, cellReader(), includeStyles);
+  }
+
+  /**
+   * Captures the contents of a rectangular window of cells in the {@code JTable}, in a single pass in the event dispatch
+   * thread (EDT,) using this driver's {@link JTableCellReader}. The window is truncated at the last row and column of
+   * the {@code JTable}.
+   *
+   * @param table the target {@code JTable}.
+   * @param origin the top-left cell of the window.
+   * @param rowCount the maximum number of rows to capture.
+   * @param columnCount the maximum number of columns to capture.
+   * @param includeStyles indicates whether the fonts and colors of the cells should be captured as well.
+   * @return the captured contents of the window.
+   * @throws NullPointerException if {@code origin} is {@code null}.
+   * @throws IndexOutOfBoundsException if any of the indices (row and column) of {@code origin} is out of bounds.
+   * @throws IllegalArgumentException if {@code rowCount} or {@code columnCount} is negative.
+   * @see #replaceCellReader(JTableCellReader)
+   * @since 1.4
+   */
+  @RunsInEDT
+  public @Nonnull JTableSnapshot snapshot(@Nonnull JTable table, @Nonnull TableCell origin, int rowCount,
+      int columnCount, boolean includeStyles) {
+    return snapshotOf(table, cellReader(), origin, rowCount, columnCount, includeStyles);
+  }
+
+  /**
+   * Asserts that the {@code String} representation of the cell values in the given snapshot is equal to the given
+   * {@code String} array. This method does not access the {@code JTable} the snapshot was taken from.
+   *
+   * @param snapshot the snapshot to verify.
+   * @param contents the expected {@code String} representation of the cell values in the snapshot.
+   * @throws AssertionError if the contents of the snapshot are not equal to the given ones.
+   * @since 1.4
+   */
+  public void requireContents(@Nonnull JTableSnapshot snapshot, @Nonnull String[][] contents) {
+    String[][] actual = snapshot.contents();
+    if (!equal(actual, contents)) {
+      failNotEqual(actual, contents, null);
+    }
+  }
+
   /**
    * Asserts that the value of the given cell matches the given value.
    *
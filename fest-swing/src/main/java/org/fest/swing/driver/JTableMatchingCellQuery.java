@@ -14,12 +14,17 @@
  */
 package org.fest.swing.driver;
 
+import static java.lang.Math.max;
+import static java.lang.Math.min;
 import static org.fest.swing.data.TableCell.row;
+import static org.fest.swing.driver.BasicJTableCellReader.modelValueAsText;
+import static org.fest.swing.driver.JTableCellPreconditions.checkColumnInBounds;
 import static org.fest.swing.edt.GuiActionRunner.execute;
 import static org.fest.swing.exception.ActionFailedException.actionFailure;
 import static org.fest.util.Preconditions.checkNotNull;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import javax.swing.JTable;
 
 import org.fest.swing.annotation.RunsInCurrentThread;
@@ -27,47 +32,102 @@ import org.fest.swing.annotation.RunsInEDT;
 import org.fest.swing.cell.JTableCellReader;
 import org.fest.swing.data.TableCell;
 import org.fest.swing.edt.GuiQuery;
+import org.fest.swing.util.Pair;
 import org.fest.swing.util.TextMatcher;
 
 /**
- * Returns the first cell in a {@code JTable} whose value matches the given one. This query is executed in the event
- * dispatch thread (EDT.)
+ * <p>
+ * Returns the first cell in a {@code JTable} whose value matches the given one.
+ * </p>
+ * 
+ * <p>
+ * To keep the application under test responsive when searching large {@code JTable}s, rows are searched in slices of
+ * about {@link #CELLS_PER_SLICE} cells. Each slice is searched in a separate query executed in the event dispatch
+ * thread (EDT,) giving the EDT the chance to process other events between slices.
+ * </p>
  * 
  * @author Alex Ruiz
  */
 final class JTableMatchingCellQuery {
+  static final int CELLS_PER_SLICE = 10000;
+
+  @RunsInEDT
+  static @Nonnull TableCell cellWithValue(@Nonnull JTable table, @Nonnull TextMatcher matcher,
+      @Nonnull JTableCellReader cellReader) {
+    return cellWithValue(table, matcher, cellReader, null);
+  }
+
   @RunsInEDT
   static @Nonnull TableCell cellWithValue(final @Nonnull JTable table, final @Nonnull TextMatcher matcher,
-      final @Nonnull JTableCellReader cellReader) {
-    TableCell result = execute(new GuiQuery<TableCell>() {
-      @Override
-      protected TableCell executeInEDT() {
-        return findMatchingCell(table, matcher, cellReader);
+      final @Nonnull JTableCellReader cellReader, final @Nullable int[] columns) {
+    int firstRow = 0;
+    while (firstRow >= 0) {
+      final int sliceStart = firstRow;
+      Pair<TableCell, Integer> result = execute(new GuiQuery<Pair<TableCell, Integer>>() {
+        @Override
+        protected Pair<TableCell, Integer> executeInEDT() {
+          return findMatchingCell(table, matcher, cellReader, columns, sliceStart);
+        }
+      });
+      checkNotNull(result);
+      if (result.first != null) {
+        return result.first;
       }
-    });
-    return checkNotNull(result);
+      firstRow = checkNotNull(result.second);
+    }
+    String msg = String.format("Unable to find cell matching %s %s", matcher.description(), matcher.formattedValues());
+    throw actionFailure(msg);
   }
 
+  /**
+   * Returns the matching cell in the slice starting at the given row, or {@code null} if the slice does not contain a
+   * matching cell, together with the index of the first row of the next slice, or -1 if there are no more rows to
+   * search.
+   */
   @RunsInCurrentThread
-  private static @Nonnull TableCell findMatchingCell(@Nonnull JTable table, @Nonnull TextMatcher matcher,
-      @Nonnull JTableCellReader cellReader) {
+  private static @Nonnull Pair<TableCell, Integer> findMatchingCell(@Nonnull JTable table, @Nonnull TextMatcher matcher,
+      @Nonnull JTableCellReader cellReader, @Nullable int[] columns, int firstRow) {
+    int[] searched = columns != null ? columns : allColumnsOf(table);
+    for (int column : searched) {
+      checkColumnInBounds(table, column);
+    }
+    boolean[] readFromModel = columnsReadFromModel(table, cellReader, searched);
     int rCount = table.getRowCount();
-    int cCount = table.getColumnCount();
-    for (int r = 0; r < rCount; r++) {
-      for (int c = 0; c < cCount; c++) {
-        if (cellHasValue(table, r, c, matcher, cellReader)) {
-          return row(r).column(c);
+    int lastRow = min(rCount, firstRow + max(1, CELLS_PER_SLICE / max(1, searched.length)));
+    for (int r = firstRow; r < lastRow; r++) {
+      for (int i = 0; i < searched.length; i++) {
+        int c = searched[i];
+        String value = readFromModel[i] ? modelValueAsText(table.getValueAt(r, c)) : cellReader.valueAt(table, r, c);
+        if (matcher.isMatching(value)) {
+          return Pair.of(row(r).column(c), -1);
         }
       }
     }
-    String msg = String.format("Unable to find cell matching %s %s", matcher.description(), matcher.formattedValues());
-    throw actionFailure(msg);
+    return Pair.<TableCell, Integer>of(null, lastRow < rCount ? lastRow : -1);
   }
 
   @RunsInCurrentThread
-  private static boolean cellHasValue(@Nonnull JTable table, int row, int column, @Nonnull TextMatcher matcher,
-      @Nonnull JTableCellReader cellReader) {
-    return matcher.isMatching(cellReader.valueAt(table, row, column));
+  private static @Nonnull int[] allColumnsOf(@Nonnull JTable table) {
+    int[] columns = new int[table.getColumnCount()];
+    for (int c = 0; c < columns.length; c++) {
+      columns[c] = c;
+    }
+    return columns;
+  }
+
+  @RunsInCurrentThread
+  private static @Nonnull boolean[] columnsReadFromModel(@Nonnull JTable table, @Nonnull JTableCellReader cellReader,
+      @Nonnull int[] columns) {
+    boolean[] readFromModel = new boolean[columns.length];
+    // BasicJTableCellReader.readsModelValueAsText rejects subclasses, which may override valueAt.
+    if (!(cellReader instanceof BasicJTableCellReader)) {
+      return readFromModel;
+    }
+    BasicJTableCellReader basicReader = (BasicJTableCellReader) cellReader;
+    for (int i = 0; i < columns.length; i++) {
+      readFromModel[i] = basicReader.readsModelValueAsText(table, columns[i]);
+    }
+    return readFromModel;
   }
 
   private JTableMatchingCellQuery() {}
@@ -0,0 +1,241 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.driver;
+
+import java.awt.Color;
+import java.awt.Font;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.fest.swing.data.TableCell;
+import org.fest.swing.util.TextMatcher;
+
+/**
+ * <p>
+ * Immutable copy of the contents of a rectangular window of cells in a {@code JTable}, captured in a single pass in the
+ * event dispatch thread (EDT.) Once created, a snapshot can be queried any number of times from any thread without
+ * accessing the {@code JTable} again.
+ * </p>
+ *
+ * <p>
+ * Cell values are stored column by column, and equal values share a single {@code String} instance. When styles are
+ * captured, fonts and colors are stored as indices into a small palette of distinct values.
+ * </p>
+ *
+ * <p>
+ * All row and column indices taken by this class are the indices of the cell in the {@code JTable}, not in the
+ * snapshot.
+ * </p>
+ *
+ * @author Alex Ruiz
+ * @since 1.4
+ */
+@Immutable
+public final class JTableSnapshot {
+  static final int NO_STYLE = -1;
+
+  private final int firstRow;
+  private final int rowCount;
+  private final int firstColumn;
+  private final int columnCount;
+  private final String[][] values;
+
+  private final boolean stylesIncluded;
+  private final Font[] fonts;
+  private final Color[] colors;
+  private final int[][] fontIndices;
+  private final int[][] backgroundIndices;
+  private final int[][] foregroundIndices;
+
+  JTableSnapshot(int firstRow, int rowCount, int firstColumn, @Nonnull String[][] values) {
+    this(firstRow, rowCount, firstColumn, values, null, null, null, null, null);
+  }
+
+  JTableSnapshot(int firstRow, int rowCount, int firstColumn, @Nonnull String[][] values, @Nullable Font[] fonts,
+      @Nullable Color[] colors, @Nullable int[][] fontIndices, @Nullable int[][] backgroundIndices,
+      @Nullable int[][] foregroundIndices) {
+    this.firstRow = firstRow;
+    this.rowCount = rowCount;
+    this.firstColumn = firstColumn;
+    this.columnCount = values.length;
+    this.values = values;
+    this.stylesIncluded = fontIndices != null;
+    this.fonts = fonts;
+    this.colors = colors;
+    this.fontIndices = fontIndices;
+    this.backgroundIndices = backgroundIndices;
+    this.foregroundIndices = foregroundIndices;
+  }
+
+  /**
+   * @return the index, in the {@code JTable}, of the first row in this snapshot.
+   */
+  public int firstRow() {
+    return firstRow;
+  }
+
+  /**
+   * @return the number of rows in this snapshot.
+   */
+  public int rowCount() {
+    return rowCount;
+  }
+
+  /**
+   * @return the index, in the {@code JTable}, of the first column in this snapshot.
+   */
+  public int firstColumn() {
+    return firstColumn;
+  }
+
+  /**
+   * @return the number of columns in this snapshot.
+   */
+  public int columnCount() {
+    return columnCount;
+  }
+
+  /**
+   * @return {@code true} if this snapshot contains the fonts and colors of the captured cells; {@code false} otherwise.
+   */
+  public boolean stylesIncluded() {
+    return stylesIncluded;
+  }
+
+  /**
+   * Indicates whether the given {@code JTable} cell is part of this snapshot.
+   *
+   * @param row the row index of the cell in the {@code JTable}.
+   * @param column the column index of the cell in the {@code JTable}.
+   * @return {@code true} if the cell is part of this snapshot; {@code false} otherwise.
+   */
+  public boolean contains(int row, int column) {
+    return row >= firstRow && row < firstRow + rowCount && column >= firstColumn && column < firstColumn + columnCount;
+  }
+
+  /**
+   * Returns the {@code String} representation of the value of the given {@code JTable} cell, as read by the
+   * {@link org.fest.swing.cell.JTableCellReader} used to take this snapshot.
+   *
+   * @param row the row index of the cell in the {@code JTable}.
+   * @param column the column index of the cell in the {@code JTable}.
+   * @return the {@code String} representation of the value of the given cell.
+   * @throws IndexOutOfBoundsException if the cell is not part of this snapshot.
+   */
+  public @Nullable String valueAt(int row, int column) {
+    checkInBounds(row, column);
+    return values[column - firstColumn][row - firstRow];
+  }
+
+  /**
+   * Returns the font of the cell renderer for the given {@code JTable} cell.
+   *
+   * @param row the row index of the cell in the {@code JTable}.
+   * @param column the column index of the cell in the {@code JTable}.
+   * @return the font of the cell renderer for the given cell.
+   * @throws IllegalStateException if this snapshot does not include styles.
+   * @throws IndexOutOfBoundsException if the cell is not part of this snapshot.
+   */
+  public @Nullable Font fontAt(int row, int column) {
+    int index = styleIndex(fontIndices, row, column);
+    return index == NO_STYLE ? null : fonts[index];
+  }
+
+  /**
+   * Returns the background color of the cell renderer for the given {@code JTable} cell.
+   *
+   * @param row the row index of the cell in the {@code JTable}.
+   * @param column the column index of the cell in the {@code JTable}.
+   * @return the background color of the cell renderer for the given cell.
+   * @throws IllegalStateException if this snapshot does not include styles.
+   * @throws IndexOutOfBoundsException if the cell is not part of this snapshot.
+   */
+  public @Nullable Color backgroundAt(int row, int column) {
+    int index = styleIndex(backgroundIndices, row, column);
+    return index == NO_STYLE ? null : colors[index];
+  }
+
+  /**
+   * Returns the foreground color of the cell renderer for the given {@code JTable} cell.
+   *
+   * @param row the row index of the cell in the {@code JTable}.
+   * @param column the column index of the cell in the {@code JTable}.
+   * @return the foreground color of the cell renderer for the given cell.
+   * @throws IllegalStateException if this snapshot does not include styles.
+   * @throws IndexOutOfBoundsException if the cell is not part of this snapshot.
+   */
+  public @Nullable Color foregroundAt(int row, int column) {
+    int index = styleIndex(foregroundIndices, row, column);
+    return index == NO_STYLE ? null : colors[index];
+  }
+
+  private int styleIndex(@Nullable int[][] indices, int row, int column) {
+    if (indices == null) {
+      throw new IllegalStateException("Styles were not included in this snapshot");
+    }
+    checkInBounds(row, column);
+    return indices[column - firstColumn][row - firstRow];
+  }
+
+  /**
+   * Returns the first cell, scanning row by row, whose value matches the given {@code TextMatcher}.
+   *
+   * @param matcher indicates whether the value of a cell matches the expected one.
+   * @return the first matching cell (in {@code JTable} coordinates,) or {@code null} if a matching cell could not be
+   *         found.
+   */
+  public @Nullable TableCell findCell(@Nonnull TextMatcher matcher) {
+    for (int r = 0; r < rowCount; r++) {
+      for (int c = 0; c < columnCount; c++) {
+        if (matcher.isMatching(values[c][r])) {
+          return TableCell.row(r + firstRow).column(c + firstColumn);
+        }
+      }
+    }
+    return null;
+  }
+
+  /**
+   * @return the {@code String} representation of the captured cells, as a new two-dimensional array indexed by row and
+   *         then by column.
+   */
+  public @Nonnull String[][] contents() {
+    String[][] contents = new String[rowCount][columnCount];
+    for (int c = 0; c < columnCount; c++) {
+      String[] column = values[c];
+      for (int r = 0; r < rowCount; r++) {
+        contents[r][c] = column[r];
+      }
+    }
+    return contents;
+  }
+
+  private void checkInBounds(int row, int column) {
+    if (contains(row, column)) {
+      return;
+    }
+    String msg = String.format("Cell [%d, %d] is outside of the snapshot (rows <%d> to <%d>, columns <%d> to <%d>)",
+        row, column, firstRow, firstRow + rowCount - 1, firstColumn, firstColumn + columnCount - 1);
+    throw new IndexOutOfBoundsException(msg);
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%s[firstRow=%d, rowCount=%d, firstColumn=%d, columnCount=%d, stylesIncluded=%b]",
+        getClass().getName(), firstRow, rowCount, firstColumn, columnCount, stylesIncluded);
+  }
+}
@@ -0,0 +1,193 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.driver;
+
+import static java.util.Arrays.fill;
+import static org.fest.swing.driver.BasicJTableCellReader.modelValueAsText;
+import static org.fest.swing.driver.JTableCellPreconditions.checkCellIndicesInBounds;
+import static org.fest.swing.driver.JTableSnapshot.NO_STYLE;
+import static org.fest.swing.edt.GuiActionRunner.execute;
+import static org.fest.util.Maps.newHashMap;
+import static org.fest.util.Preconditions.checkNotNull;
+
+import java.awt.Color;
+import java.awt.Component;
+import java.awt.Font;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.swing.JTable;
+
+import org.fest.swing.annotation.RunsInCurrentThread;
+import org.fest.swing.annotation.RunsInEDT;
+import org.fest.swing.cell.JTableCellReader;
+import org.fest.swing.data.TableCell;
+import org.fest.swing.edt.GuiQuery;
+
+/**
+ * Takes a {@link JTableSnapshot} of a {@code JTable}. This query is executed in the event dispatch thread (EDT.)
+ * 
+ * @author Alex Ruiz
+ */
+final class JTableSnapshotQuery {
+  @RunsInEDT
+  static @Nonnull JTableSnapshot snapshotOf(final @Nonnull JTable table, final @Nonnull JTableCellReader cellReader,
+      final boolean includeStyles) {
+    JTableSnapshot result = execute(new GuiQuery<JTableSnapshot>() {
+      @Override
+      protected @Nonnull JTableSnapshot executeInEDT() {
+        return snapshotOf(table, cellReader, 0, table.getRowCount(), 0, table.getColumnCount(), includeStyles);
+      }
+    });
+    return checkNotNull(result);
+  }
+
+  @RunsInEDT
+  static @Nonnull JTableSnapshot snapshotOf(final @Nonnull JTable table, final @Nonnull JTableCellReader cellReader,
+      final @Nonnull TableCell origin, final int rowCount, final int columnCount, final boolean includeStyles) {
+    checkNotNull(origin);
+    checkNotNegative(rowCount, "rowCount");
+    checkNotNegative(columnCount, "columnCount");
+    JTableSnapshot result = execute(new GuiQuery<JTableSnapshot>() {
+      @Override
+      protected @Nonnull JTableSnapshot executeInEDT() {
+        checkCellIndicesInBounds(table, origin);
+        int rows = Math.min(rowCount, table.getRowCount() - origin.row);
+        int columns = Math.min(columnCount, table.getColumnCount() - origin.column);
+        return snapshotOf(table, cellReader, origin.row, rows, origin.column, columns, includeStyles);
+      }
+    });
+    return checkNotNull(result);
+  }
+
+  private static void checkNotNegative(int count, @Nonnull String name) {
+    if (count < 0) {
+      throw new IllegalArgumentException(String.format("%s <%d> should not be negative", name, count));
+    }
+  }
+
+  @RunsInCurrentThread
+  private static @Nonnull JTableSnapshot snapshotOf(@Nonnull JTable table, @Nonnull JTableCellReader cellReader,
+      int firstRow, int rowCount, int firstColumn, int columnCount, boolean includeStyles) {
+    CellCollector collector = new CellCollector(rowCount, columnCount, includeStyles);
+    // Subclasses of BasicJTableCellReader may override any of its methods, so the renderer can only be shared when the
+    // cell reader is exactly a BasicJTableCellReader.
+    BasicJTableCellReader basicReader = null;
+    if (cellReader.getClass() == BasicJTableCellReader.class) {
+      basicReader = (BasicJTableCellReader) cellReader;
+    }
+    for (int c = 0; c < columnCount; c++) {
+      int column = firstColumn + c;
+      boolean readFromModel = basicReader != null && !includeStyles && basicReader.readsModelValueAsText(table, column);
+      for (int r = 0; r < rowCount; r++) {
+        int row = firstRow + r;
+        if (readFromModel) {
+          collector.value(c, r, modelValueAsText(table.getValueAt(row, column)));
+          continue;
+        }
+        if (basicReader != null) {
+          Component renderer = basicReader.cellRendererIn(table, row, column);
+          collector.value(c, r, basicReader.valueFrom(table, row, column, renderer));
+          if (includeStyles && renderer != null) {
+            collector.styles(c, r, renderer.getFont(), renderer.getBackground(), renderer.getForeground());
+          }
+          continue;
+        }
+        collector.value(c, r, cellReader.valueAt(table, row, column));
+        if (includeStyles) {
+          Font font = cellReader.fontAt(table, row, column);
+          Color background = cellReader.backgroundAt(table, row, column);
+          Color foreground = cellReader.foregroundAt(table, row, column);
+          collector.styles(c, r, font, background, foreground);
+        }
+      }
+    }
+    return collector.snapshot(firstRow, rowCount, firstColumn);
+  }
+
+  private static class CellCollector {
+    private final String[][] values;
+    private final Map<String, String> distinctValues = newHashMap();
+
+    private final boolean includeStyles;
+    private final int[][] fontIndices;
+    private final int[][] backgroundIndices;
+    private final int[][] foregroundIndices;
+    private final List<Font> fonts = new ArrayList<Font>();
+    private final Map<Font, Integer> fontPalette = newHashMap();
+    private final List<Color> colors = new ArrayList<Color>();
+    private final Map<Color, Integer> colorPalette = newHashMap();
+
+    CellCollector(int rowCount, int columnCount, boolean includeStyles) {
+      values = new String[columnCount][rowCount];
+      this.includeStyles = includeStyles;
+      fontIndices = includeStyles ? newStyleIndices(rowCount, columnCount) : null;
+      backgroundIndices = includeStyles ? newStyleIndices(rowCount, columnCount) : null;
+      foregroundIndices = includeStyles ? newStyleIndices(rowCount, columnCount) : null;
+    }
+
+    private static @Nonnull int[][] newStyleIndices(int rowCount, int columnCount) {
+      int[][] indices = new int[columnCount][rowCount];
+      for (int[] column : indices) {
+        fill(column, NO_STYLE);
+      }
+      return indices;
+    }
+
+    void value(int column, int row, @Nullable String value) {
+      if (value == null) {
+        return;
+      }
+      String distinct = distinctValues.get(value);
+      if (distinct == null) {
+        distinctValues.put(value, value);
+        distinct = value;
+      }
+      values[column][row] = distinct;
+    }
+
+    void styles(int column, int row, @Nullable Font font, @Nullable Color background, @Nullable Color foreground) {
+      fontIndices[column][row] = indexOf(font, fonts, fontPalette);
+      backgroundIndices[column][row] = indexOf(background, colors, colorPalette);
+      foregroundIndices[column][row] = indexOf(foreground, colors, colorPalette);
+    }
+
+    private static <T> int indexOf(@Nullable T style, @Nonnull List<T> styles, @Nonnull Map<T, Integer> palette) {
+      if (style == null) {
+        return NO_STYLE;
+      }
+      Integer index = palette.get(style);
+      if (index == null) {
+        index = styles.size();
+        styles.add(style);
+        palette.put(style, index);
+      }
+      return index;
+    }
+
+    @Nonnull JTableSnapshot snapshot(int firstRow, int rowCount, int firstColumn) {
+      if (!includeStyles) {
+        return new JTableSnapshot(firstRow, rowCount, firstColumn, values);
+      }
+      return new JTableSnapshot(firstRow, rowCount, firstColumn, values, fonts.toArray(new Font[fonts.size()]),
+          colors.toArray(new Color[colors.size()]), fontIndices, backgroundIndices, foregroundIndices);
+    }
+  }
+
+  private JTableSnapshotQuery() {}
+}
@@ -14,14 +14,23 @@
  */
 package org.fest.swing.driver;
 
+import static javax.swing.JTree.TREE_MODEL_PROPERTY;
 import static org.fest.swing.driver.JTreeChildOfPathCountQuery.childCount;
+import static org.fest.swing.edt.GuiActionRunner.execute;
 import static org.fest.util.Strings.concat;
 
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+
 import javax.annotation.Nonnull;
 import javax.swing.JTree;
+import javax.swing.event.TreeModelEvent;
+import javax.swing.event.TreeModelListener;
+import javax.swing.tree.TreeModel;
 import javax.swing.tree.TreePath;
 
 import org.fest.swing.annotation.RunsInEDT;
+import org.fest.swing.edt.GuiTask;
 import org.fest.swing.timing.Condition;
 
 /**
@@ -33,6 +42,9 @@ class JTreeChildrenShowUpCondition extends Condition {
   private JTree tree;
   private TreePath path;
 
+  private TreeModel model;
+  private final ModelChangeListener modelChangeListener = new ModelChangeListener();
+
   static @Nonnull JTreeChildrenShowUpCondition untilChildrenShowUp(@Nonnull JTree tree, @Nonnull TreePath path) {
     return new JTreeChildrenShowUpCondition(tree, path);
   }
@@ -48,6 +60,74 @@ class JTreeChildrenShowUpCondition extends Condition {
     return childCount(tree, path) != 0;
   }
 
+  /**
+   * Listens for changes in the model of the {@code JTree}, and for the replacement of such model.
+   */
+  @Override @RunsInEDT
+  protected boolean addWakeUpListeners() {
+    execute(new GuiTask() {
+      @Override
+      protected void executeInEDT() {
+        model = tree.getModel();
+        if (model != null) {
+          model.addTreeModelListener(modelChangeListener);
+        }
+        tree.addPropertyChangeListener(TREE_MODEL_PROPERTY, modelChangeListener);
+      }
+    });
+    return true;
+  }
+
+  @Override @RunsInEDT
+  protected void removeWakeUpListeners() {
+    execute(new GuiTask() {
+      @Override
+      protected void executeInEDT() {
+        tree.removePropertyChangeListener(TREE_MODEL_PROPERTY, modelChangeListener);
+        if (model != null) {
+          model.removeTreeModelListener(modelChangeListener);
+        }
+        model = null;
+      }
+    });
+  }
+
+  private class ModelChangeListener implements TreeModelListener, PropertyChangeListener {
+    @Override
+    public void treeNodesChanged(TreeModelEvent e) {
+      wakeUp();
+    }
+
+    @Override
+    public void treeNodesInserted(TreeModelEvent e) {
+      wakeUp();
+    }
+
+    @Override
+    public void treeNodesRemoved(TreeModelEvent e) {
+      wakeUp();
+    }
+
+    @Override
+    public void treeStructureChanged(TreeModelEvent e) {
+      wakeUp();
+    }
+
+    // Moves the listener to the new model, or later changes in the new model would not be noticed.
+    @Override
+    public void propertyChange(PropertyChangeEvent e) {
+      TreeModel oldModel = (TreeModel) e.getOldValue();
+      if (oldModel != null) {
+        oldModel.removeTreeModelListener(this);
+      }
+      model = (TreeModel) e.getNewValue();
+      if (model != null) {
+        model.addTreeModelListener(this);
+      }
+      wakeUp();
+    }
+  }
+
   @Override protected void done() {
     tree = null;
     path = null;
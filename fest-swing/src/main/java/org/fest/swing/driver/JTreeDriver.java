@@ -979,6 +979,28 @@ public class JTreeDriver extends JComponentDriver {
     return nodeText(tree, row, location(), pathFinder());
   }
 
+  /**
+   * <p>
+   * Returns a lazy, depth-first walk over the nodes in the model of the given {@code JTree}. Each node is returned
+   * together with its {@code TreePath} and its text, as read by this driver's {@link JTreeCellReader}. The root node is
+   * included only if it is visible.
+   * </p>
+   *
+   * <p>
+   * Nodes are read in the event dispatch thread (EDT) in small batches, as they are requested, which makes it possible
+   * to search or verify large trees without copying all of their nodes. Collapsed nodes are included as well. If the
+   * model changes while a walk is in progress, nodes may be skipped or returned more than once.
+   * </p>
+   *
+   * @param tree the given {@code JTree}.
+   * @return the walk over the nodes of the given {@code JTree}.
+   * @see #replaceCellReader(JTreeCellReader)
+   * @since 1.4
+   */
+  public @Nonnull Iterable<Pair<TreePath, String>> walk(@Nonnull JTree tree) {
+    return new JTreeWalk(tree, pathFinder.cellReader());
+  }
+
   @VisibleForTesting
   JTreeCellReader cellReader() {
     return pathFinder.cellReader();
@@ -15,13 +15,19 @@
 package org.fest.swing.driver;
 
 import static org.fest.util.Lists.newArrayList;
+import static org.fest.util.Maps.newHashMap;
+import static org.fest.util.Maps.newWeakHashMap;
 import static org.fest.util.Strings.quote;
 
 import java.util.List;
+import java.util.Map;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.swing.JTree;
+import javax.swing.tree.DefaultMutableTreeNode;
+import javax.swing.tree.DefaultTreeCellRenderer;
+import javax.swing.tree.TreeCellRenderer;
 import javax.swing.tree.TreeModel;
 import javax.swing.tree.TreePath;
 
@@ -30,17 +36,42 @@ import org.fest.swing.cell.JTreeCellReader;
 import org.fest.swing.exception.LocationUnavailableException;
 
 /**
+ * <p>
  * Lookup of {@code TreePath}s which text matches the given one.
+ * </p>
+ * 
+ * <p>
+ * To avoid reading the text of every sibling at every level on each lookup, this finder remembers, for each
+ * {@code JTree}, the text of the children of the nodes it has already searched. Only text that cannot change without
+ * the model changing is remembered: the cell reader, the {@code JTree} and its cell renderer must be a plain
+ * {@link BasicJTreeCellReader}, {@code JTree} and {@code DefaultTreeCellRenderer}, and all the children of a node must
+ * be {@code DefaultMutableTreeNode}s with a {@code String} user object. Before using the remembered text of a node's
+ * children, this finder verifies that the node still has the same number of children, with the same user objects. If
+ * anything changed, including a user object replaced without notifying the model's listeners, the text of all the
+ * children is read again.
+ * {@code TreeModelListener}s are not used, since they cannot tell about such changes.
+ * </p>
+ * 
+ * <p>
+ * <b>Note:</b> Instances of this class must be accessed in the event dispatch thread (EDT.)
+ * </p>
  * 
  * @author Alex Ruiz
  */
 class JTreePathFinder {
-  // TODO TEST
   private static final String SEPARATOR = "/";
+  private static final Object MORE_THAN_ONE_MATCH = new Object();
+
+  // parent nodes are weakly referenced, and snapshots only reference user objects (Strings,) so neither the JTree nor
+  // its nodes are kept from being garbage-collected.
+  private final Map<JTree, Map<Object, ChildrenSnapshot>> childIndices = newWeakHashMap();
 
   private JTreeCellReader cellReader;
   private String separator;
 
+  private String lastPath;
+  private String[] lastPathElements;
+
   JTreePathFinder() {
     replaceCellReader(new BasicJTreeCellReader());
     replaceSeparator(SEPARATOR);
@@ -50,12 +81,12 @@ class JTreePathFinder {
   @Nonnull TreePath findMatchingPath(@Nonnull JTree tree, @Nonnull String path) {
     String[] pathStrings = splitPath(path);
     TreeModel model = tree.getModel();
+    Map<Object, ChildrenSnapshot> childIndex = childIndexFor(tree);
     List<Object> newPathValues = newArrayList();
     Object node = model.getRoot();
     int pathElementCount = pathStrings.length;
     for (int stringIndex = 0; stringIndex < pathElementCount; stringIndex++) {
       String pathString = pathStrings[stringIndex];
-      Object match = null;
       if (stringIndex == 0 && tree.isRootVisible()) {
         if (!pathString.equals(value(tree, node))) {
           throw pathNotFound(path);
@@ -63,30 +94,89 @@ class JTreePathFinder {
         newPathValues.add(node);
         continue;
       }
-      int childCount = model.getChildCount(node);
-      for (int childIndex = 0; childIndex < childCount; childIndex++) {
-        Object child = model.getChild(node, childIndex);
-        if (pathString.equals(value(tree, child))) {
-          if (match != null) {
-            throw multipleMatchingNodes(pathString, value(tree, node));
-          }
-          match = child;
-        }
-      }
-      if (match == null) {
-        throw pathNotFound(path);
-      }
+      Object match = matchingChild(tree, model, childIndex, node, pathString, path);
       newPathValues.add(match);
       node = match;
     }
     return new TreePath(newPathValues.toArray());
   }
 
+  // returns null if the text of the nodes in the given JTree may change without the model changing.
+  @RunsInCurrentThread
+  private @Nullable Map<Object, ChildrenSnapshot> childIndexFor(@Nonnull JTree tree) {
+    TreeCellRenderer renderer = tree.getCellRenderer();
+    if (cellReader.getClass() != BasicJTreeCellReader.class || tree.getClass() != JTree.class || renderer == null
+        || renderer.getClass() != DefaultTreeCellRenderer.class) {
+      childIndices.remove(tree);
+      return null;
+    }
+    Map<Object, ChildrenSnapshot> childIndex = childIndices.get(tree);
+    if (childIndex == null) {
+      childIndex = newWeakHashMap();
+      childIndices.put(tree, childIndex);
+    }
+    return childIndex;
+  }
+
+  @RunsInCurrentThread
+  private @Nonnull Object matchingChild(@Nonnull JTree tree, @Nonnull TreeModel model,
+      @Nullable Map<Object, ChildrenSnapshot> childIndex, @Nonnull Object parent, @Nonnull String pathString,
+      @Nonnull String path) {
+    Object match;
+    ChildrenSnapshot snapshot = childIndex != null ? childIndex.get(parent) : null;
+    if (snapshot != null && snapshot.isUpToDate(model, parent)) {
+      match = snapshot.matchingChild(model, parent, pathString);
+    } else {
+      Map<String, Object> children = childrenByText(tree, model, parent);
+      if (childIndex != null) {
+        rememberChildren(childIndex, model, parent, children);
+      }
+      match = children.get(pathString);
+    }
+    if (match == MORE_THAN_ONE_MATCH) {
+      throw multipleMatchingNodes(pathString, value(tree, parent));
+    }
+    if (match == null) {
+      throw pathNotFound(path);
+    }
+    return match;
+  }
+
+  @RunsInCurrentThread
+  private @Nonnull Map<String, Object> childrenByText(@Nonnull JTree tree, @Nonnull TreeModel model,
+      @Nonnull Object parent) {
+    Map<String, Object> children = newHashMap();
+    int childCount = model.getChildCount(parent);
+    for (int childIndex = 0; childIndex < childCount; childIndex++) {
+      Object child = model.getChild(parent, childIndex);
+      String text = value(tree, child);
+      if (text == null) {
+        continue;
+      }
+      children.put(text, children.containsKey(text) ? MORE_THAN_ONE_MATCH : child);
+    }
+    return children;
+  }
+
+  @RunsInCurrentThread
+  private static void rememberChildren(@Nonnull Map<Object, ChildrenSnapshot> childIndex, @Nonnull TreeModel model,
+      @Nonnull Object parent, @Nonnull Map<String, Object> childrenByText) {
+    ChildrenSnapshot snapshot = ChildrenSnapshot.take(model, parent, childrenByText);
+    if (snapshot == null) {
+      childIndex.remove(parent);
+      return;
+    }
+    childIndex.put(parent, snapshot);
+  }
+
   private @Nonnull LocationUnavailableException pathNotFound(@Nonnull String path) {
     throw new LocationUnavailableException(String.format("Unable to find path %s", quote(path)));
   }
 
   private @Nonnull String[] splitPath(@Nonnull String path) {
+    if (path.equals(lastPath)) {
+      return lastPathElements;
+    }
     List<String> result = newArrayList();
     int separatorSize = separator.length();
     int index = 0;
@@ -99,7 +189,9 @@ class JTreePathFinder {
       result.add(path.substring(index, separatorPosition));
       index = separatorPosition + separatorSize;
     }
-    return result.toArray(new String[result.size()]);
+    lastPathElements = result.toArray(new String[result.size()]);
+    lastPath = path;
+    return lastPathElements;
   }
 
   private @Nonnull LocationUnavailableException multipleMatchingNodes(@Nonnull String matchingText,
@@ -118,13 +210,93 @@ class JTreePathFinder {
 
   void replaceSeparator(@Nonnull String newSeparator) {
     separator = newSeparator;
+    lastPath = null;
+    lastPathElements = null;
   }
 
   void replaceCellReader(@Nonnull JTreeCellReader newCellReader) {
     cellReader = newCellReader;
+    childIndices.clear();
   }
 
   @Nonnull JTreeCellReader cellReader() {
     return cellReader;
   }
+
+  /**
+   * Position of the children of a node by text, together with the user objects of the children at the time their text
+   * was read. The text is still valid as long as the node has the same number of children, with the same
+   * {@code String} user objects.
+   */
+  private static class ChildrenSnapshot {
+    private static final int MORE_THAN_ONE_MATCH_INDEX = -1;
+
+    private final Map<String, Integer> childIndicesByText;
+    private final Object[] userObjects;
+
+    // returns null if the text of any of the children may change without the model changing.
+    @RunsInCurrentThread
+    static @Nullable ChildrenSnapshot take(@Nonnull TreeModel model, @Nonnull Object parent,
+        @Nonnull Map<String, Object> childrenByText) {
+      int childCount = model.getChildCount(parent);
+      Object[] userObjects = new Object[childCount];
+      Map<Object, Integer> positions = newHashMap();
+      for (int i = 0; i < childCount; i++) {
+        Object child = model.getChild(parent, i);
+        Object userObject = stringUserObjectOf(child);
+        if (userObject == null) {
+          return null;
+        }
+        userObjects[i] = userObject;
+        positions.put(child, i);
+      }
+      Map<String, Integer> childIndicesByText = newHashMap();
+      for (Map.Entry<String, Object> entry : childrenByText.entrySet()) {
+        Object child = entry.getValue();
+        childIndicesByText.put(entry.getKey(), child == MORE_THAN_ONE_MATCH ? MORE_THAN_ONE_MATCH_INDEX
+            : positions.get(child));
+      }
+      return new ChildrenSnapshot(childIndicesByText, userObjects);
+    }
+
+    private ChildrenSnapshot(@Nonnull Map<String, Integer> childIndicesByText, @Nonnull Object[] userObjects) {
+      this.childIndicesByText = childIndicesByText;
+      this.userObjects = userObjects;
+    }
+
+    @RunsInCurrentThread
+    boolean isUpToDate(@Nonnull TreeModel model, @Nonnull Object parent) {
+      int childCount = userObjects.length;
+      if (model.getChildCount(parent) != childCount) {
+        return false;
+      }
+      for (int i = 0; i < childCount; i++) {
+        if (stringUserObjectOf(model.getChild(parent, i)) != userObjects[i]) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    @RunsInCurrentThread
+    @Nullable Object matchingChild(@Nonnull TreeModel model, @Nonnull Object parent, @Nonnull String text) {
+      Integer index = childIndicesByText.get(text);
+      if (index == null) {
+        return null;
+      }
+      if (index.intValue() == MORE_THAN_ONE_MATCH_INDEX) {
+        return MORE_THAN_ONE_MATCH;
+      }
+      return model.getChild(parent, index);
+    }
+
+    // the text a DefaultTreeCellRenderer shows for a DefaultMutableTreeNode is its user object's toString().
+    private static @Nullable Object stringUserObjectOf(@Nullable Object node) {
+      if (node == null || node.getClass() != DefaultMutableTreeNode.class) {
+        return null;
+      }
+      Object userObject = ((DefaultMutableTreeNode) node).getUserObject();
+      return userObject instanceof String ? userObject : null;
+    }
+  }
 }
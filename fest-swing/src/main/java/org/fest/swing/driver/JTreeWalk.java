@@ -0,0 +1,157 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.driver;
+
+import static org.fest.swing.edt.GuiActionRunner.execute;
+import static org.fest.util.Preconditions.checkNotNull;
+
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.NoSuchElementException;
+
+import javax.annotation.Nonnull;
+import javax.swing.JTree;
+import javax.swing.tree.TreeModel;
+import javax.swing.tree.TreePath;
+
+import org.fest.swing.annotation.RunsInCurrentThread;
+import org.fest.swing.annotation.RunsInEDT;
+import org.fest.swing.cell.JTreeCellReader;
+import org.fest.swing.edt.GuiTask;
+import org.fest.swing.util.Pair;
+
+/**
+ * <p>
+ * Lazy, depth-first walk over the nodes in the model of a {@code JTree}. Each node is returned together with its
+ * {@code TreePath} and its text, as read by a {@link JTreeCellReader}. The root node is included only if it is visible.
+ * </p>
+ * 
+ * <p>
+ * Nodes are read in the event dispatch thread (EDT,) in batches of {@link #BATCH_SIZE} nodes, only when they are
+ * requested. Nodes are read from the model, so collapsed nodes are included as well. If the model changes while a walk
+ * is in progress, nodes may be skipped or returned more than once.
+ * </p>
+ * 
+ * @author Alex Ruiz
+ */
+class JTreeWalk implements Iterable<Pair<TreePath, String>> {
+  static final int BATCH_SIZE = 256;
+
+  private final JTree tree;
+  private final JTreeCellReader cellReader;
+
+  JTreeWalk(@Nonnull JTree tree, @Nonnull JTreeCellReader cellReader) {
+    this.tree = tree;
+    this.cellReader = cellReader;
+  }
+
+  @Override
+  public @Nonnull Iterator<Pair<TreePath, String>> iterator() {
+    return new NodeIterator(tree, cellReader);
+  }
+
+  private static class NodeIterator implements Iterator<Pair<TreePath, String>> {
+    private final JTree tree;
+    private final JTreeCellReader cellReader;
+
+    private final LinkedList<Pair<TreePath, String>> batch = new LinkedList<Pair<TreePath, String>>();
+    private final LinkedList<Parent> pending = new LinkedList<Parent>();
+    private TreeModel model;
+    private boolean started;
+
+    NodeIterator(@Nonnull JTree tree, @Nonnull JTreeCellReader cellReader) {
+      this.tree = tree;
+      this.cellReader = cellReader;
+    }
+
+    @Override
+    public boolean hasNext() {
+      if (batch.isEmpty() && (!started || !pending.isEmpty())) {
+        readNextBatch();
+      }
+      return !batch.isEmpty();
+    }
+
+    @Override
+    public @Nonnull Pair<TreePath, String> next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      return checkNotNull(batch.removeFirst());
+    }
+
+    @Override
+    public void remove() {
+      throw new UnsupportedOperationException();
+    }
+
+    @RunsInEDT
+    private void readNextBatch() {
+      execute(new GuiTask() {
+        @Override
+        protected void executeInEDT() {
+          if (!started) {
+            start();
+          }
+          readNodes();
+        }
+      });
+    }
+
+    @RunsInCurrentThread
+    private void start() {
+      started = true;
+      model = tree.getModel();
+      Object root = model.getRoot();
+      if (root == null) {
+        return;
+      }
+      TreePath rootPath = new TreePath(root);
+      if (tree.isRootVisible()) {
+        add(rootPath);
+      }
+      pending.addFirst(new Parent(rootPath));
+    }
+
+    @RunsInCurrentThread
+    private void readNodes() {
+      while (batch.size() < BATCH_SIZE && !pending.isEmpty()) {
+        Parent parent = pending.getFirst();
+        Object node = parent.path.getLastPathComponent();
+        if (parent.nextChildIndex >= model.getChildCount(node)) {
+          pending.removeFirst();
+          continue;
+        }
+        TreePath childPath = parent.path.pathByAddingChild(model.getChild(node, parent.nextChildIndex++));
+        add(childPath);
+        pending.addFirst(new Parent(childPath));
+      }
+    }
+
+    @RunsInCurrentThread
+    private void add(@Nonnull TreePath path) {
+      batch.add(Pair.of(path, cellReader.valueAt(tree, path.getLastPathComponent())));
+    }
+  }
+
+  private static class Parent {
+    final TreePath path;
+    int nextChildIndex;
+
+    Parent(@Nonnull TreePath path) {
+      this.path = path;
+    }
+  }
+}
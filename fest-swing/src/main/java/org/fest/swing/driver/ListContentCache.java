@@ -0,0 +1,142 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.driver;
+
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.swing.JComponent;
+import javax.swing.ListModel;
+import javax.swing.event.ListDataEvent;
+import javax.swing.event.ListDataListener;
+
+import org.fest.swing.annotation.RunsInCurrentThread;
+
+/**
+ * <p>
+ * Caches the contents of {@code JList}s and {@code JComboBox}es, as read by a cell reader. Cached contents are
+ * discarded as soon as the model of the list reports a change, or when the model or the renderer of the list is
+ * replaced.
+ * </p>
+ *
+ * <p>
+ * Cached contents are stored in the list itself (as a client property,) so they do not keep the list from being
+ * garbage-collected.
+ * </p>
+ *
+ * <p>
+ * <b>Note:</b> Methods in this class are accessed in the current executing thread. Such thread may or may not be the
+ * event dispatch thread (EDT.) Client code must call methods in this class from the EDT.
+ * </p>
+ *
+ * @author Alex Ruiz
+ */
+final class ListContentCache {
+  private static final ListContentCache INSTANCE = new ListContentCache();
+
+  static @Nonnull ListContentCache instance() {
+    return INSTANCE;
+  }
+
+  // Client property key of the cached entries. Each cache uses its own key.
+  private final Object entryKey = new Object();
+
+  /**
+   * Returns the cached contents of the given list, if they were read using the given cell reader.
+   *
+   * @param list the given {@code JList} or {@code JComboBox}.
+   * @param cellReader the cell reader used to read the contents of the list.
+   * @return the cached contents, or {@code null} if the contents are not cached or are not valid anymore. The returned
+   *         array should not be modified.
+   */
+  @RunsInCurrentThread
+  @Nullable String[] contentsOf(@Nonnull JComponent list, @Nonnull Object cellReader) {
+    Entry entry = entryOf(list);
+    if (entry == null || entry.cellReader != cellReader) {
+      return null;
+    }
+    return entry.contents;
+  }
+
+  /**
+   * Caches the contents of the given list.
+   *
+   * @param list the given {@code JList} or {@code JComboBox}.
+   * @param model the model of the given list.
+   * @param cellReader the cell reader used to read the contents of the list.
+   * @param contents the contents of the list. The given array should not be modified once it is cached.
+   */
+  @RunsInCurrentThread
+  void put(@Nonnull JComponent list, @Nonnull ListModel model, @Nonnull Object cellReader,
+      @Nonnull String[] contents) {
+    Entry entry = entryOf(list);
+    if (entry == null) {
+      entry = new Entry(model);
+      list.addPropertyChangeListener(entry);
+      list.putClientProperty(entryKey, entry);
+    } else if (entry.model != model) {
+      entry.listenTo(model);
+    }
+    entry.cellReader = cellReader;
+    entry.contents = contents;
+  }
+
+  @RunsInCurrentThread
+  private @Nullable Entry entryOf(@Nonnull JComponent list) {
+    return (Entry) list.getClientProperty(entryKey);
+  }
+
+  private static class Entry implements ListDataListener, PropertyChangeListener {
+    ListModel model;
+    Object cellReader;
+    String[] contents;
+
+    Entry(@Nonnull ListModel model) {
+      this.model = model;
+      model.addListDataListener(this);
+    }
+
+    void listenTo(@Nonnull ListModel newModel) {
+      model.removeListDataListener(this);
+      model = newModel;
+      newModel.addListDataListener(this);
+    }
+
+    @Override
+    public void intervalAdded(ListDataEvent e) {
+      contents = null;
+    }
+
+    @Override
+    public void intervalRemoved(ListDataEvent e) {
+      contents = null;
+    }
+
+    @Override
+    public void contentsChanged(ListDataEvent e) {
+      contents = null;
+    }
+
+    @Override
+    public void propertyChange(PropertyChangeEvent e) {
+      String propertyName = e.getPropertyName();
+      if ("model".equals(propertyName) || "cellRenderer".equals(propertyName) || "renderer".equals(propertyName)) {
+        contents = null;
+      }
+    }
+  }
+}
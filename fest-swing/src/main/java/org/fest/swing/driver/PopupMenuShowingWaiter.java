@@ -0,0 +1,132 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.driver;
+
+import static java.awt.event.HierarchyEvent.SHOWING_CHANGED;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.fest.swing.edt.GuiActionRunner.execute;
+import static org.fest.util.Preconditions.checkNotNull;
+
+import java.awt.event.HierarchyEvent;
+import java.awt.event.HierarchyListener;
+import java.util.concurrent.CountDownLatch;
+
+import javax.annotation.Nonnull;
+import javax.swing.JPopupMenu;
+import javax.swing.MenuElement;
+import javax.swing.MenuSelectionManager;
+import javax.swing.event.ChangeEvent;
+import javax.swing.event.ChangeListener;
+
+import org.fest.swing.annotation.RunsInCurrentThread;
+import org.fest.swing.annotation.RunsInEDT;
+import org.fest.swing.edt.GuiQuery;
+import org.fest.swing.edt.GuiTask;
+
+/**
+ * Waits for a {@code JPopupMenu} to be showing and to be part of the menu selection, without polling. The wait ends as
+ * soon as the {@code JPopupMenu} or the {@code MenuSelectionManager} report the change.
+ *
+ * @author Alex Ruiz
+ */
+final class PopupMenuShowingWaiter implements HierarchyListener, ChangeListener {
+  private final JPopupMenu popupMenu;
+  private final CountDownLatch showing = new CountDownLatch(1);
+
+  /**
+   * Waits for the given {@code JPopupMenu} to be showing and to be part of the menu selection.
+   *
+   * @param popupMenu the {@code JPopupMenu} to wait for.
+   * @param timeout the maximum time to wait, in milliseconds.
+   * @return {@code true} if the {@code JPopupMenu} is showing, {@code false} if the timeout expired.
+   */
+  @RunsInEDT
+  static boolean waitForShowing(@Nonnull JPopupMenu popupMenu, long timeout) {
+    final PopupMenuShowingWaiter waiter = new PopupMenuShowingWaiter(popupMenu);
+    Boolean alreadyShowing = execute(new GuiQuery<Boolean>() {
+      @Override
+      protected Boolean executeInEDT() {
+        return waiter.startWaiting();
+      }
+    });
+    if (checkNotNull(alreadyShowing)) {
+      return true;
+    }
+    try {
+      return waiter.showing.await(timeout, MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    } finally {
+      execute(new GuiTask() {
+        @Override
+        protected void executeInEDT() {
+          waiter.stopWaiting();
+        }
+      });
+    }
+  }
+
+  private PopupMenuShowingWaiter(@Nonnull JPopupMenu popupMenu) {
+    this.popupMenu = popupMenu;
+  }
+
+  @RunsInCurrentThread
+  private boolean startWaiting() {
+    if (isShowing()) {
+      return true;
+    }
+    popupMenu.addHierarchyListener(this);
+    MenuSelectionManager.defaultManager().addChangeListener(this);
+    return false;
+  }
+
+  @RunsInCurrentThread
+  private void stopWaiting() {
+    popupMenu.removeHierarchyListener(this);
+    MenuSelectionManager.defaultManager().removeChangeListener(this);
+  }
+
+  @Override
+  public void hierarchyChanged(HierarchyEvent e) {
+    if ((e.getChangeFlags() & SHOWING_CHANGED) != 0) {
+      checkShowing();
+    }
+  }
+
+  @Override
+  public void stateChanged(ChangeEvent e) {
+    checkShowing();
+  }
+
+  private void checkShowing() {
+    if (isShowing()) {
+      showing.countDown();
+    }
+  }
+
+  @RunsInCurrentThread
+  private boolean isShowing() {
+    if (!popupMenu.isShowing()) {
+      return false;
+    }
+    for (MenuElement e : MenuSelectionManager.defaultManager().getSelectedPath()) {
+      if (e == popupMenu) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
@@ -15,13 +15,16 @@
 package org.fest.swing.edt;
 
 import static javax.swing.SwingUtilities.isEventDispatchThread;
+import static org.fest.reflect.core.Reflection.method;
 import static org.fest.util.Preconditions.checkNotNull;
 
 import java.lang.ref.WeakReference;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import javax.swing.JComponent;
 import javax.swing.RepaintManager;
+import javax.swing.SwingUtilities;
 
 /**
  * <p>
@@ -41,7 +44,7 @@ import javax.swing.RepaintManager;
 abstract class CheckThreadViolationRepaintManager extends RepaintManager {
   private final boolean completeCheck;
 
-  private WeakReference<JComponent> lastComponent;
+  private volatile WeakReference<JComponent> lastComponent;
 
   CheckThreadViolationRepaintManager() {
     // it is recommended to pass the complete check
@@ -53,7 +56,7 @@ abstract class CheckThreadViolationRepaintManager extends RepaintManager {
   }
 
   @Override
-  public synchronized void addInvalidComponent(JComponent component) {
+  public void addInvalidComponent(JComponent component) {
     checkThreadViolations(checkNotNull(component));
     super.addInvalidComponent(component);
   }
@@ -65,38 +68,82 @@ abstract class CheckThreadViolationRepaintManager extends RepaintManager {
   }
 
   private void checkThreadViolations(@Nonnull JComponent c) {
-    if (!isEventDispatchThread() && (completeCheck || c.isShowing())) {
-      boolean imageUpdate = false;
-      boolean repaint = false;
-      boolean fromSwing = false;
-      StackTraceElement[] stackTrace = Thread.currentThread().getStackTrace();
-      for (StackTraceElement st : stackTrace) {
-        if (repaint && st.getClassName().startsWith("javax.swing.")) {
-          fromSwing = true;
-        }
-        if (repaint && "imageUpdate".equals(st.getMethodName())) {
-          imageUpdate = true;
-        }
-        if ("repaint".equals(st.getMethodName())) {
-          repaint = true;
-          fromSwing = false;
-        }
-      }
-      if (imageUpdate) {
-        // assuming it is java.awt.image.ImageObserver.imageUpdate(...)
-        // image was asynchronously updated, that's ok
-        return;
+    if (isEventDispatchThread() || !(completeCheck || c.isShowing()) || !shouldCheck()) {
+      return;
+    }
+    StackTraceElement[] stackTrace = Thread.currentThread().getStackTrace();
+    if (!isViolation(stackTrace)) {
+      return;
+    }
+    // ignore the last processed component
+    WeakReference<JComponent> last = lastComponent;
+    if (last != null && c == last.get()) {
+      return;
+    }
+    lastComponent = new WeakReference<JComponent>(c);
+    violationFound(c, stackTrace);
+  }
+
+  /**
+   * Forgets the last {@code JComponent} a violation was found for, so the next violation on it is not ignored.
+   */
+  void forgetLastComponent() {
+    lastComponent = null;
+  }
+
+  /**
+   * Indicates whether the current access to a {@code JComponent}, outside the event dispatch thread, should be checked
+   * for violations. Subclasses may override this method to check only a sample of the accesses.
+   * 
+   * @return {@code true} if the current access should be checked, {@code false} otherwise.
+   */
+  boolean shouldCheck() {
+    return true;
+  }
+
+  /**
+   * Indicates whether the given stack trace, captured when accessing a {@code JComponent} outside the event dispatch
+   * thread, belongs to an EDT rule violation.
+   * 
+   * @param stackTrace the captured stack trace.
+   * @return {@code true} if the stack trace belongs to an EDT rule violation, {@code false} otherwise.
+   */
+  boolean isViolation(@Nonnull StackTraceElement[] stackTrace) {
+    boolean imageUpdate = false;
+    boolean repaint = false;
+    boolean fromSwing = false;
+    for (StackTraceElement st : stackTrace) {
+      if (repaint && st.getClassName().startsWith("javax.swing.")) {
+        fromSwing = true;
       }
-      if (repaint && !fromSwing) {
-        // no problems here, since repaint() is thread safe
-        return;
+      if (repaint && "imageUpdate".equals(st.getMethodName())) {
+        imageUpdate = true;
       }
-      // ignore the last processed component
-      if (lastComponent != null && c == lastComponent.get()) {
-        return;
+      if ("repaint".equals(st.getMethodName())) {
+        repaint = true;
+        fromSwing = false;
       }
-      lastComponent = new WeakReference<JComponent>(c);
-      violationFound(c, stackTrace);
+    }
+    if (imageUpdate) {
+      // assuming it is java.awt.image.ImageObserver.imageUpdate(...)
+      // image was asynchronously updated, that's ok
+      return false;
+    }
+    if (repaint && !fromSwing) {
+      // no problems here, since repaint() is thread safe
+      return false;
+    }
+    return true;
+  }
+
+  static @Nullable Object currentRepaintManager() {
+    try {
+      return method("appContextGet").withReturnType(Object.class)
+          .withParameterTypes(Object.class)
+          .in(SwingUtilities.class)
+          .invoke(RepaintManager.class);
+    } catch (RuntimeException e) {
+      return null;
     }
   }
 
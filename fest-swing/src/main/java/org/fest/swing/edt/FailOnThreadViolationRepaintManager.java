@@ -14,13 +14,10 @@
  */
 package org.fest.swing.edt;
 
-import static org.fest.reflect.core.Reflection.method;
 
 import javax.annotation.Nonnull;
-import javax.annotation.Nullable;
 import javax.swing.JComponent;
 import javax.swing.RepaintManager;
-import javax.swing.SwingUtilities;
 
 import org.fest.swing.exception.EdtViolationException;
 
@@ -55,17 +52,6 @@ public class FailOnThreadViolationRepaintManager extends CheckThreadViolationRep
     return installNew();
   }
 
-  private static @Nullable Object currentRepaintManager() {
-    try {
-      return method("appContextGet").withReturnType(Object.class)
-          .withParameterTypes(Object.class)
-          .in(SwingUtilities.class)
-          .invoke(RepaintManager.class);
-    } catch (RuntimeException e) {
-      return null;
-    }
-  }
-
   private static @Nonnull FailOnThreadViolationRepaintManager installNew() {
     FailOnThreadViolationRepaintManager m = new FailOnThreadViolationRepaintManager();
     setCurrentManager(m);
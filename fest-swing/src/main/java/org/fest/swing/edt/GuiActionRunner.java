@@ -19,6 +19,7 @@ import static javax.swing.SwingUtilities.isEventDispatchThread;
 import static org.fest.swing.exception.UnexpectedException.unexpected;
 import static org.fest.util.Throwables.appendStackTraceInCurentThreadToThrowable;
 
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 
 import javax.annotation.Nonnull;
@@ -110,6 +111,67 @@ public class GuiActionRunner {
     }
   }
 
+  /**
+   * Executes the actions in the given batch, in the order they were added, in a single trip to the event dispatch thread
+   * (EDT.) This method waits until all the actions have finished their execution. If an action fails, the actions after
+   * it are not executed. The results of the queries in the batch can be obtained through
+   * {@link GuiBatch#resultOf(GuiQuery)}.
+   *
+   * @param batch the batch to execute.
+   * @throws UnexpectedException wrapping any <b>checked</b> exception thrown when executing an action in the event
+   *           dispatch thread (EDT.) Unchecked exceptions are re-thrown without any wrapping.
+   * @see #executeInEDT()
+   * @since 1.4
+   */
+  public static void execute(@Nonnull GuiBatch batch) {
+    batch.startExecution();
+    List<GuiAction> actions = batch.actions();
+    if (!executeInEDT) {
+      executeInCurrentThread(batch, actions);
+      return;
+    }
+    GuiTask task = new BatchTask(actions);
+    run(task);
+    rethrowCaughtExceptionIn(task);
+    for (GuiAction action : actions) {
+      if (action instanceof GuiQuery) {
+        GuiQuery<?> query = (GuiQuery<?>) action;
+        batch.result(query, query.result());
+        query.clearResult();
+      }
+      rethrowCaughtExceptionIn(action);
+    }
+  }
+
+  private static void executeInCurrentThread(@Nonnull GuiBatch batch, @Nonnull List<GuiAction> actions) {
+    for (GuiAction action : actions) {
+      if (action instanceof GuiQuery) {
+        GuiQuery<?> query = (GuiQuery<?>) action;
+        batch.result(query, executeInCurrentThread(query));
+        continue;
+      }
+      executeInCurrentThread((GuiTask) action);
+    }
+  }
+
+  private static class BatchTask extends GuiTask {
+    private final List<GuiAction> actions;
+
+    BatchTask(@Nonnull List<GuiAction> actions) {
+      this.actions = actions;
+    }
+
+    @Override
+    protected void executeInEDT() {
+      for (GuiAction action : actions) {
+        action.run();
+        if (action.catchedException() != null) {
+          return;
+        }
+      }
+    }
+  }
+
   private static void run(@Nonnull final GuiAction action) {
     if (isEventDispatchThread()) {
       action.run();
@@ -0,0 +1,132 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.edt;
+
+import static org.fest.util.Lists.newArrayList;
+import static org.fest.util.Preconditions.checkNotNull;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * <p>
+ * Groups instances of {@link GuiQuery} and {@link GuiTask} so they can be executed, in the order they were added, in a
+ * single trip to the event dispatch thread (EDT.)
+ * </p>
+ *
+ * <p>
+ * Example:
+ *
+ * <pre>
+ * GuiQuery&lt;Boolean&gt; enabled = new GuiQuery&lt;Boolean&gt;() {
+ *   protected Boolean executeInEDT() {
+ *     return button.isEnabled();
+ *   }
+ * };
+ * GuiQuery&lt;String&gt; text = new GuiQuery&lt;String&gt;() {
+ *   protected String executeInEDT() {
+ *     return button.getText();
+ *   }
+ * };
+ * GuiBatch batch = new GuiBatch().add(enabled).add(text);
+ * GuiActionRunner.execute(batch);
+ * boolean isEnabled = batch.resultOf(enabled);
+ * </pre>
+ *
+ * </p>
+ *
+ * <p>
+ * Each action captures its own exception. If an action fails, the actions after it are not executed, and
+ * {@link GuiActionRunner#execute(GuiBatch)} re-throws the exception of the failed action, exactly as if each action was
+ * executed separately.
+ * </p>
+ *
+ * @author Alex Ruiz
+ * @since 1.4
+ */
+@NotThreadSafe
+public class GuiBatch {
+  private final List<GuiAction> actions = newArrayList();
+  private final Map<GuiQuery<?>, Object> results = new IdentityHashMap<GuiQuery<?>, Object>();
+  private boolean executed;
+
+  /**
+   * Adds the given query to this batch.
+   *
+   * @param query the query to add.
+   * @return this batch.
+   * @throws NullPointerException if the given query is {@code null}.
+   */
+  public @Nonnull GuiBatch add(@Nonnull GuiQuery<?> query) {
+    actions.add(checkNotNull(query));
+    return this;
+  }
+
+  /**
+   * Adds the given task to this batch.
+   *
+   * @param task the task to add.
+   * @return this batch.
+   * @throws NullPointerException if the given task is {@code null}.
+   */
+  public @Nonnull GuiBatch add(@Nonnull GuiTask task) {
+    actions.add(checkNotNull(task));
+    return this;
+  }
+
+  /**
+   * Returns the result of the given query, obtained the last time this batch was executed.
+   *
+   * @param query a query in this batch.
+   * @return the result of the given query.
+   * @throws IllegalStateException if this batch has not been executed yet.
+   * @throws IllegalArgumentException if the given query is not part of this batch.
+   */
+  @SuppressWarnings("unchecked")
+  public @Nullable <T> T resultOf(@Nonnull GuiQuery<T> query) {
+    if (!executed) {
+      throw new IllegalStateException("The batch has not been executed yet");
+    }
+    if (!results.containsKey(query)) {
+      throw new IllegalArgumentException("The given query is not part of this batch");
+    }
+    return (T) results.get(query);
+  }
+
+  /**
+   * @return the number of actions in this batch.
+   */
+  public int size() {
+    return actions.size();
+  }
+
+  @Nonnull List<GuiAction> actions() {
+    return actions;
+  }
+
+  void startExecution() {
+    results.clear();
+    executed = true;
+  }
+
+  void result(@Nonnull GuiQuery<?> query, @Nullable Object result) {
+    results.put(query, result);
+  }
+}
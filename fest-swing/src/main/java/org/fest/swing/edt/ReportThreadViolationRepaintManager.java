@@ -0,0 +1,255 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.edt;
+
+import static org.fest.util.Lists.newArrayList;
+import static org.fest.util.Maps.newConcurrentHashMap;
+import static org.fest.util.SystemProperties.lineSeparator;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
+import javax.swing.JComponent;
+import javax.swing.RepaintManager;
+
+import org.fest.swing.exception.EdtViolationException;
+
+/**
+ * <p>
+ * Collects Event Dispatch Thread rule violations into a report, instead of failing as soon as a violation is detected.
+ * See <a href="http://java.sun.com/docs/books/tutorial/uiswing/misc/threads.html">How to Use Threads</a> for more info
+ * </p>
+ * 
+ * <p>
+ * This repaint manager is meant to stay installed while running applications that update many components outside the
+ * event dispatch thread (e.g. background rendering), where {@link FailOnThreadViolationRepaintManager} would be too
+ * expensive:
+ * <ul>
+ * <li>violations are grouped by call site (the first stack frame that does not belong to the JDK.) Each call site is
+ * reported once, together with the number of times it was detected</li>
+ * <li>consecutive violations on the same {@code JComponent} are counted once</li>
+ * <li>whether a call site violates EDT rules is decided only once, the first time the call site is found. This only
+ * saves scanning the stack trace again: the stack trace itself is still taken on every checked access, and that is the
+ * expensive part. Accesses whose stack trace only has JDK frames have no call site, and are always scanned. Since the
+ * decision depends on the frames around the call site too, a call site reached in different ways (e.g. the same
+ * {@code repaint} call made both from Swing code and from other code) gets the decision of the first way it was
+ * reached</li>
+ * <li>optionally, only one out of every <em>n</em> accesses outside the event dispatch thread is checked. This is what
+ * reduces the cost of checking, since the stack trace is only taken for the accesses that are checked</li>
+ * </ul>
+ * </p>
+ * 
+ * @author Alex Ruiz
+ * @since 1.4
+ */
+@ThreadSafe
+public class ReportThreadViolationRepaintManager extends CheckThreadViolationRepaintManager {
+  private static final StackTraceElement UNKNOWN_CALL_SITE = new StackTraceElement("<unknown>", "<unknown>", null, -1);
+
+  private static final List<String> REPAINT_MANAGER_CLASS_NAMES = newArrayList(
+      CheckThreadViolationRepaintManager.class.getName(), FailOnThreadViolationRepaintManager.class.getName(),
+      ReportThreadViolationRepaintManager.class.getName());
+
+  private final int sampleRate;
+  private final AtomicLong accessCount = new AtomicLong();
+
+  private final ConcurrentMap<StackTraceElement, Boolean> verdicts = newConcurrentHashMap();
+  private final ConcurrentMap<StackTraceElement, Violation> violations = newConcurrentHashMap();
+
+  /**
+   * <p>
+   * Creates a new {@link ReportThreadViolationRepaintManager}, that checks every access to a {@code JComponent} outside
+   * the event dispatch thread, and sets it as the current repaint manager.
+   * </p>
+   * 
+   * <p>
+   * If a {@code ReportThreadViolationRepaintManager} is already installed, this method returns it instead.
+   * </p>
+   * 
+   * @return the created (and installed) repaint manager.
+   * @see RepaintManager#setCurrentManager(RepaintManager)
+   */
+  public static @Nonnull ReportThreadViolationRepaintManager install() {
+    return install(1);
+  }
+
+  /**
+   * <p>
+   * Creates a new {@link ReportThreadViolationRepaintManager}, that checks only one out of every {@code sampleRate}
+   * accesses to a {@code JComponent} outside the event dispatch thread, and sets it as the current repaint manager.
+   * </p>
+   * 
+   * <p>
+   * If a {@code ReportThreadViolationRepaintManager} is already installed, this method returns it instead.
+   * </p>
+   * 
+   * @param sampleRate indicates how often accesses are checked. A value of 1 checks all of them.
+   * @return the created (and installed) repaint manager.
+   * @throws IllegalArgumentException if {@code sampleRate} is less than 1.
+   * @see RepaintManager#setCurrentManager(RepaintManager)
+   */
+  public static @Nonnull ReportThreadViolationRepaintManager install(int sampleRate) {
+    Object m = currentRepaintManager();
+    if (m instanceof ReportThreadViolationRepaintManager) {
+      return (ReportThreadViolationRepaintManager) m;
+    }
+    ReportThreadViolationRepaintManager newManager = new ReportThreadViolationRepaintManager(true, sampleRate);
+    setCurrentManager(newManager);
+    return newManager;
+  }
+
+  /**
+   * Creates a new {@link ReportThreadViolationRepaintManager} that checks every access to a {@code JComponent} outside
+   * the event dispatch thread.
+   */
+  public ReportThreadViolationRepaintManager() {
+    this(true, 1);
+  }
+
+  /**
+   * Creates a new {@link ReportThreadViolationRepaintManager}.
+   * 
+   * @param completeCheck indicates whether components that are not showing should be checked too.
+   * @param sampleRate indicates how often accesses are checked. A value of 1 checks all of them.
+   * @throws IllegalArgumentException if {@code sampleRate} is less than 1.
+   */
+  public ReportThreadViolationRepaintManager(boolean completeCheck, int sampleRate) {
+    super(completeCheck);
+    if (sampleRate < 1) {
+      throw new IllegalArgumentException("The sample rate should be greater than zero");
+    }
+    this.sampleRate = sampleRate;
+  }
+
+  @Override
+  boolean shouldCheck() {
+    return sampleRate == 1 || accessCount.incrementAndGet() % sampleRate == 0;
+  }
+
+  @Override
+  boolean isViolation(@Nonnull StackTraceElement[] stackTrace) {
+    StackTraceElement callSite = callSiteIn(stackTrace);
+    if (callSite == UNKNOWN_CALL_SITE) {
+      // unrelated stack traces with JDK frames only would share the same verdict.
+      return super.isViolation(stackTrace);
+    }
+    Boolean verdict = verdicts.get(callSite);
+    if (verdict == null) {
+      verdict = super.isViolation(stackTrace);
+      verdicts.putIfAbsent(callSite, verdict);
+    }
+    return verdict;
+  }
+
+  @Override
+  void violationFound(@Nonnull JComponent c, @Nonnull StackTraceElement[] stackTrace) {
+    StackTraceElement callSite = callSiteIn(stackTrace);
+    Violation violation = violations.get(callSite);
+    if (violation == null) {
+      Violation newViolation = new Violation(c.getClass().getName(), stackTrace);
+      violation = violations.putIfAbsent(callSite, newViolation);
+      if (violation == null) {
+        violation = newViolation;
+      }
+    }
+    violation.count.incrementAndGet();
+  }
+
+  private static @Nonnull StackTraceElement callSiteIn(@Nonnull StackTraceElement[] stackTrace) {
+    for (StackTraceElement e : stackTrace) {
+      if (!isJdkOrRepaintManagerFrame(e.getClassName())) {
+        return e;
+      }
+    }
+    return UNKNOWN_CALL_SITE;
+  }
+
+  private static boolean isJdkOrRepaintManagerFrame(@Nonnull String className) {
+    return className.startsWith("java.") || className.startsWith("javax.") || className.startsWith("sun.")
+        || className.startsWith("com.sun.") || REPAINT_MANAGER_CLASS_NAMES.contains(className);
+  }
+
+  /**
+   * @return the number of EDT rule violations detected, including repeated violations from the same call site.
+   *         Consecutive violations on the same {@code JComponent} are counted once.
+   */
+  public int violationCount() {
+    int count = 0;
+    for (Violation violation : violations.values()) {
+      count += violation.count.get();
+    }
+    return count;
+  }
+
+  /**
+   * Returns a report of the EDT rule violations detected, grouped by call site. Each call site includes the number of
+   * times it was detected, the type of the first {@code JComponent} involved and the stack trace of its first
+   * detection.
+   * 
+   * @return a report of the EDT rule violations detected, or an empty {@code String} if none was detected.
+   */
+  public @Nonnull String report() {
+    StringBuilder b = new StringBuilder();
+    for (Violation violation : violations.values()) {
+      b.append(String.format("EDT violation detected %d time(s) on component of type %s", violation.count.get(),
+          violation.componentType));
+      b.append(lineSeparator());
+      for (StackTraceElement e : violation.stackTrace) {
+        b.append("\tat ").append(e).append(lineSeparator());
+      }
+    }
+    return b.toString();
+  }
+
+  /**
+   * Verifies that no EDT rule violations were detected.
+   * 
+   * @throws EdtViolationException if any EDT rule violation was detected. The message of the exception contains the
+   *           {@link #report() report} of all violations, and its stack trace is the one of the first violation.
+   */
+  public void requireNoViolations() {
+    List<Violation> found = newArrayList(violations.values());
+    if (found.isEmpty()) {
+      return;
+    }
+    EdtViolationException e = new EdtViolationException(String.format("%d EDT violation(s) detected:%s%s",
+        violationCount(), lineSeparator(), report()));
+    e.setStackTrace(found.get(0).stackTrace);
+    throw e;
+  }
+
+  /**
+   * Discards all the EDT rule violations detected so far.
+   */
+  public void reset() {
+    violations.clear();
+    forgetLastComponent();
+  }
+
+  private static class Violation {
+    final String componentType;
+    final StackTraceElement[] stackTrace;
+    final AtomicInteger count = new AtomicInteger();
+
+    Violation(@Nonnull String componentType, @Nonnull StackTraceElement[] stackTrace) {
+      this.componentType = componentType;
+      this.stackTrace = stackTrace;
+    }
+  }
+}
@@ -38,6 +38,7 @@ import org.fest.swing.data.TableCell;
 import org.fest.swing.data.TableCellFinder;
 import org.fest.swing.driver.BasicJTableCellReader;
 import org.fest.swing.driver.JTableDriver;
+import org.fest.swing.driver.JTableSnapshot;
 import org.fest.swing.exception.ActionFailedException;
 import org.fest.swing.exception.ComponentLookupException;
 
@@ -158,6 +159,43 @@ public class JTableFixture extends AbstractJPopupMenuInvokerFixture<JTableFixtur
     return new JTableCellFixture(this, cell);
   }
 
+  /**
+   * Returns a {@link JTableCellFixture} wrapping the table cell, in the given columns, whose value matches the given one.
+   *
+   * @param value the value of the cell to look for. It can be a regular expression.
+   * @param columns the indices of the columns to search, in the order they should be searched in each row.
+   * @return a {@code JTableCellFixture} wrapping the table cell whose value matches the given one.
+   * @throws NullPointerException if the array of column indices is {@code null}.
+   * @throws IllegalArgumentException if the array of column indices is empty.
+   * @throws IndexOutOfBoundsException if any of the column indices is out of bounds.
+   * @throws ActionFailedException if a cell with a matching value cannot be found.
+   * @since 1.4
+   */
+  public @Nonnull JTableCellFixture cell(@Nullable String value, @Nonnull int... columns) {
+    TableCell cell = driver().cell(target(), value, columns);
+    return new JTableCellFixture(this, cell);
+  }
+
+  /**
+   * Returns a {@link JTableCellFixture} wrapping the table cell, in the given columns, whose value matches the given
+   * regular expression pattern.
+   *
+   * @param valuePattern the regular expression pattern to match.
+   * @param columns the indices of the columns to search, in the order they should be searched in each row.
+   * @return a {@code JTableCellFixture} wrapping the table cell whose value matches the given regular expression
+   *         pattern.
+   * @throws NullPointerException if the given regular expression pattern is {@code null}.
+   * @throws NullPointerException if the array of column indices is {@code null}.
+   * @throws IllegalArgumentException if the array of column indices is empty.
+   * @throws IndexOutOfBoundsException if any of the column indices is out of bounds.
+   * @throws ActionFailedException if a cell with a matching value cannot be found.
+   * @since 1.4
+   */
+  public @Nonnull JTableCellFixture cell(@Nonnull Pattern valuePattern, @Nonnull int... columns) {
+    TableCell cell = driver().cell(target(), valuePattern, columns);
+    return new JTableCellFixture(this, cell);
+  }
+
   /**
    * Returns a {@link JTableCellFixture} wrapping the table cell found by the given {@link TableCellFinder}.
    *
@@ -227,6 +265,53 @@ public class JTableFixture extends AbstractJPopupMenuInvokerFixture<JTableFixtur
     return driver().contents(target());
   }
 
+  /**
+   * Captures the values of all the cells in this fixture's {@code JTable}, in a single pass in the event dispatch thread
+   * (EDT,) using this fixture's {@link JTableCellReader}. The returned snapshot can be queried repeatedly without
+   * accessing the {@code JTable} again.
+   *
+   * @return the captured contents of this fixture's {@code JTable}.
+   * @see #replaceCellReader(JTableCellReader)
+   * @since 1.4
+   */
+  public @Nonnull JTableSnapshot snapshot() {
+    return snapshot(false);
+  }
+
+  /**
+   * Captures the values, and optionally the fonts and colors, of all the cells in this fixture's {@code JTable}, in a
+   * single pass in the event dispatch thread (EDT,) using this fixture's {@link JTableCellReader}.
+   *
+   * @param includeStyles indicates whether the fonts and colors of the cells should be captured as well.
+   * @return the captured contents of this fixture's {@code JTable}.
+   * @see #replaceCellReader(JTableCellReader)
+   * @since 1.4
+   */
+  public @Nonnull JTableSnapshot snapshot(boolean includeStyles) {
+    return driver().snapshot(target(), includeStyles);
+  }
+
+  /**
+   * Captures the values, and optionally the fonts and colors, of a rectangular window of cells in this fixture's
+   * {@code JTable}, in a single pass in the event dispatch thread (EDT,) using this fixture's {@link JTableCellReader}.
+   * The window is truncated at the last row and column of the {@code JTable}.
+   *
+   * @param origin the top-left cell of the window.
+   * @param rowCount the maximum number of rows to capture.
+   * @param columnCount the maximum number of columns to capture.
+   * @param includeStyles indicates whether the fonts and colors of the cells should be captured as well.
+   * @return the captured contents of the window.
+   * @throws NullPointerException if {@code origin} is {@code null}.
+   * @throws IndexOutOfBoundsException if any of the indices (row and column) of {@code origin} is out of bounds.
+   * @throws IllegalArgumentException if {@code rowCount} or {@code columnCount} is negative.
+   * @see #replaceCellReader(JTableCellReader)
+   * @since 1.4
+   */
+  public @Nonnull JTableSnapshot snapshot(@Nonnull TableCell origin, int rowCount, int columnCount,
+      boolean includeStyles) {
+    return driver().snapshot(target(), origin, rowCount, columnCount, includeStyles);
+  }
+
   /**
    * Returns the number of rows that can be shown in this fixture's {@code JTable}, given unlimited space.
    *
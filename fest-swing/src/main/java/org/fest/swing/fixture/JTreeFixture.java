@@ -18,6 +18,7 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.swing.JPopupMenu;
 import javax.swing.JTree;
+import javax.swing.tree.TreePath;
 
 import org.fest.swing.cell.JTreeCellReader;
 import org.fest.swing.core.MouseButton;
@@ -28,6 +29,7 @@ import org.fest.swing.driver.JTreeDriver;
 import org.fest.swing.exception.ActionFailedException;
 import org.fest.swing.exception.ComponentLookupException;
 import org.fest.swing.exception.LocationUnavailableException;
+import org.fest.swing.util.Pair;
 
 /**
  * <p>
@@ -654,4 +656,17 @@ public class JTreeFixture extends AbstractJPopupMenuInvokerFixture<JTreeFixture,
   public @Nullable String valueAt(@Nonnull String path) {
     return driver().nodeValue(target(), path);
   }
-}
\ No newline at end of file
+
+  /**
+   * Returns a lazy, depth-first walk over the nodes in the model of this fixture's {@code JTree}. Each node is returned
+   * together with its {@code TreePath} and its text, as read by this fixture's {@link JTreeCellReader}. Nodes are read
+   * in small batches, as they are requested.
+   *
+   * @return the walk over the nodes of this fixture's {@code JTree}.
+   * @see JTreeDriver#walk(JTree)
+   * @since 1.4
+   */
+  public @Nonnull Iterable<Pair<TreePath, String>> walk() {
+    return driver().walk(target());
+  }
+}
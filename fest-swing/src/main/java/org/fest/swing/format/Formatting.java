@@ -16,17 +16,20 @@ package org.fest.swing.format;
 
 import static org.fest.swing.edt.GuiActionRunner.execute;
 import static org.fest.util.Maps.newConcurrentHashMap;
+import static org.fest.util.Maps.newWeakHashMap;
 import static org.fest.util.Preconditions.checkNotNull;
 import static org.fest.util.Strings.isNullOrEmpty;
 
 import java.awt.Component;
 import java.awt.Dialog;
 import java.awt.Frame;
+import java.util.Map;
 import java.util.concurrent.ConcurrentMap;
 import java.util.logging.Logger;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
 import javax.swing.AbstractButton;
 import javax.swing.JButton;
 import javax.swing.JLabel;
@@ -70,6 +73,10 @@ public class Formatting {
 
   private static final ConcurrentMap<Class<?>, ComponentFormatter> FORMATTERS = newConcurrentHashMap();
 
+  /** Formatters already resolved for a {@code Component} type, including the types with no formatter at all. */
+  @GuardedBy("RESOLVED_FORMATTERS")
+  private static final Map<Class<?>, ComponentFormatter> RESOLVED_FORMATTERS = newWeakHashMap();
+
   private static Logger logger = Logger.getLogger(Formatting.class.getCanonicalName());
 
   static {
@@ -123,6 +130,9 @@ public class Formatting {
   public static void register(@Nonnull ComponentFormatter formatter) {
     Class<?> key = formatter.targetType();
     ComponentFormatter previous = FORMATTERS.put(key, formatter);
+    synchronized (RESOLVED_FORMATTERS) {
+      RESOLVED_FORMATTERS.clear();
+    }
     if (previous != null) {
       String format = "Replaced formatter %s with %s for type %s";
       logger.info(String.format(format, previous.toString(), formatter.toString(), key.getName()));
@@ -182,13 +192,24 @@ public class Formatting {
   }
 
   private static @Nullable ComponentFormatter formatterFor(@Nonnull Class<?> type) {
+    synchronized (RESOLVED_FORMATTERS) {
+      if (RESOLVED_FORMATTERS.containsKey(type)) {
+        return RESOLVED_FORMATTERS.get(type);
+      }
+      ComponentFormatter formatter = lookUpFormatterFor(type);
+      RESOLVED_FORMATTERS.put(type, formatter);
+      return formatter;
+    }
+  }
+
+  private static @Nullable ComponentFormatter lookUpFormatterFor(@Nonnull Class<?> type) {
     ComponentFormatter formatter = FORMATTERS.get(type);
     if (formatter != null) {
       return formatter;
     }
     Class<?> superType = type.getSuperclass();
     if (superType != null) {
-      return formatterFor(superType);
+      return lookUpFormatterFor(superType);
     }
     return null;
   }
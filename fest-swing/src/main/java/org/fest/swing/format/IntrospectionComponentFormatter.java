@@ -14,18 +14,14 @@
  */
 package org.fest.swing.format;
 
-import static org.fest.swing.exception.ActionFailedException.actionFailure;
 import static org.fest.util.Lists.newArrayList;
 import static org.fest.util.Maps.newHashMap;
 import static org.fest.util.Preconditions.checkNotNull;
-import static org.fest.util.Strings.concat;
 import static org.fest.util.Strings.quote;
 import static org.fest.util.ToString.toStringOf;
 
 import java.awt.Component;
-import java.beans.BeanInfo;
-import java.beans.Introspector;
-import java.beans.PropertyDescriptor;
+import java.lang.reflect.Method;
 import java.util.List;
 import java.util.Map;
 
@@ -39,6 +35,10 @@ import org.fest.util.Arrays;
  * Formatter that uses <a href="http://docs.oracle.com/javase/tutorial/javabeans/index.html"
  * target="_blank">introspection</a> to display property values of an AWT or Swing {@code Component}. This formatter
  * does not support nested properties.
+ * <p>
+ * The read methods of the properties to display are looked up the first time a {@code Component} is formatted, and
+ * reused afterwards. The properties "name", "enabled", "visible" and "showing" are read directly, without reflection.
+ * </p>
  *
  * @author Alex Ruiz
  */
@@ -46,7 +46,7 @@ public final class IntrospectionComponentFormatter extends ComponentFormatterTem
   private final Class<? extends Component> targetType;
   private final List<String> propertyNames;
 
-  private final Map<String, PropertyDescriptor> descriptors = newHashMap();
+  private volatile PropertyReader[] readers;
 
   /**
    * Creates a new {@link IntrospectionComponentFormatter}.
@@ -59,27 +59,50 @@ public final class IntrospectionComponentFormatter extends ComponentFormatterTem
       @Nonnull String... propertyNames) {
     this.targetType = checkNotNull(targetType);
     this.propertyNames = newArrayList(propertyNames);
-    populate();
   }
 
-  private void populate() {
-    BeanInfo beanInfo = null;
-    try {
-      beanInfo = Introspector.getBeanInfo(targetType, Object.class);
-    } catch (Exception e) {
-      throw actionFailure(concat("Unable to get BeanInfo for type ", targetType.getName()), e);
+  private @Nonnull PropertyReader[] readers() {
+    PropertyReader[] result = readers;
+    if (result == null) {
+      result = new PropertyReader[propertyNames.size()];
+      for (int i = 0; i < result.length; i++) {
+        result[i] = readerFor(checkNotNull(propertyNames.get(i)));
+      }
+      readers = result;
+    }
+    return result;
+  }
+
+  private @Nonnull PropertyReader readerFor(@Nonnull String property) {
+    PropertyReader reader = PropertyReader.DIRECT_READERS.get(property);
+    if (reader != null) {
+      return reader;
     }
-    for (PropertyDescriptor d : beanInfo.getPropertyDescriptors()) {
-      register(checkNotNull(d));
+    return new MethodPropertyReader(readMethodFor(property));
+  }
+
+  private @Nullable Method readMethodFor(@Nonnull String property) {
+    if (property.isEmpty()) {
+      return null;
+    }
+    String suffix = Character.toUpperCase(property.charAt(0)) + property.substring(1);
+    Method readMethod = publicMethod("is" + suffix);
+    if (readMethod != null && readMethod.getReturnType() == boolean.class) {
+      return readMethod;
     }
+    readMethod = publicMethod("get" + suffix);
+    if (readMethod != null && readMethod.getReturnType() != void.class) {
+      return readMethod;
+    }
+    return null;
   }
 
-  private void register(@Nonnull PropertyDescriptor d) {
-    String name = d.getName();
-    if (!propertyNames.contains(name)) {
-      return;
+  private @Nullable Method publicMethod(@Nonnull String name) {
+    try {
+      return targetType.getMethod(name);
+    } catch (NoSuchMethodException e) {
+      return null;
     }
-    descriptors.put(name, d);
   }
 
   /**
@@ -95,11 +118,12 @@ public final class IntrospectionComponentFormatter extends ComponentFormatterTem
   @RunsInCurrentThread
   @Override
   protected @Nonnull String doFormat(@Nonnull Component c) {
+    PropertyReader[] propertyReaders = readers();
     StringBuilder b = new StringBuilder();
     b.append(c.getClass().getName()).append("[");
-    int max = propertyNames.size() - 1;
+    int max = propertyReaders.length - 1;
     for (int i = 0; i <= max; i++) {
-      appendProperty(b, checkNotNull(propertyNames.get(i)), c);
+      appendProperty(b, checkNotNull(propertyNames.get(i)), propertyReaders[i], c);
       if (i < max) {
         b.append(", ");
       }
@@ -108,21 +132,18 @@ public final class IntrospectionComponentFormatter extends ComponentFormatterTem
     return b.toString();
   }
 
-  private void appendProperty(@Nonnull StringBuilder b, @Nonnull String name, @Nonnull Component c) {
+  private void appendProperty(@Nonnull StringBuilder b, @Nonnull String name, @Nonnull PropertyReader reader,
+      @Nonnull Component c) {
     b.append(name).append("=");
     try {
-      b.append(propertyValue(c, name));
+      b.append(propertyValue(c, reader));
     } catch (Exception e) {
       b.append(String.format("<Unable to read property [%s: %s]>", e.getClass().getName(), quote(e.getMessage())));
     }
   }
 
-  private @Nullable Object propertyValue(@Nonnull Component c, @Nonnull String property) throws Exception {
-    if ("showing".equals(property)) {
-      return c.isShowing();
-    }
-    PropertyDescriptor descriptor = descriptors.get(property);
-    Object value = descriptor.getReadMethod().invoke(c);
+  private @Nullable Object propertyValue(@Nonnull Component c, @Nonnull PropertyReader reader) throws Exception {
+    Object value = reader.read(c);
     if (isOneDimensionalArray(value)) {
       return Arrays.format(value);
     }
@@ -145,4 +166,51 @@ public final class IntrospectionComponentFormatter extends ComponentFormatterTem
   public String toString() {
     return String.format("%s[propertyNames=%s", getClass().getName(), toStringOf(propertyNames));
   }
+
+  private abstract static class PropertyReader {
+    static final Map<String, PropertyReader> DIRECT_READERS = newHashMap();
+
+    static {
+      DIRECT_READERS.put("name", new PropertyReader() {
+        @Override
+        @Nullable Object read(@Nonnull Component c) {
+          return c.getName();
+        }
+      });
+      DIRECT_READERS.put("enabled", new PropertyReader() {
+        @Override
+        @Nullable Object read(@Nonnull Component c) {
+          return c.isEnabled();
+        }
+      });
+      DIRECT_READERS.put("visible", new PropertyReader() {
+        @Override
+        @Nullable Object read(@Nonnull Component c) {
+          return c.isVisible();
+        }
+      });
+      DIRECT_READERS.put("showing", new PropertyReader() {
+        @Override
+        @Nullable Object read(@Nonnull Component c) {
+          return c.isShowing();
+        }
+      });
+    }
+
+    abstract @Nullable Object read(@Nonnull Component c) throws Exception;
+  }
+
+  private static class MethodPropertyReader extends PropertyReader {
+    private final Method readMethod;
+
+    MethodPropertyReader(@Nullable Method readMethod) {
+      this.readMethod = readMethod;
+    }
+
+    @Override
+    @Nullable Object read(@Nonnull Component c) throws Exception {
+      // a missing read method is reported as a property that cannot be read, as it was when using a BeanInfo
+      return checkNotNull(readMethod).invoke(c);
+    }
+  }
 }
@@ -15,14 +15,19 @@
 package org.fest.swing.hierarchy;
 
 import static java.awt.AWTEvent.COMPONENT_EVENT_MASK;
+import static java.awt.AWTEvent.CONTAINER_EVENT_MASK;
 import static java.awt.AWTEvent.WINDOW_EVENT_MASK;
+import static java.awt.event.ContainerEvent.COMPONENT_ADDED;
+import static java.awt.event.ContainerEvent.COMPONENT_REMOVED;
 import static org.fest.swing.listener.WeakEventListener.attachAsWeakEventListener;
 import static org.fest.util.Lists.emptyList;
 
+import java.awt.AWTEvent;
 import java.awt.Component;
 import java.awt.Container;
 import java.awt.Toolkit;
 import java.awt.Window;
+import java.awt.event.AWTEventListener;
 import java.util.Collection;
 
 import javax.annotation.Nonnull;
@@ -50,6 +55,17 @@ public class NewHierarchy extends ExistingHierarchy {
   private final WindowFilter filter;
   private final TransientWindowListener transientWindowListener;
 
+  // The filter caches whether components are ignored, until a component is moved to a different parent.
+  private final AWTEventListener hierarchyChangeListener = new AWTEventListener() {
+    @Override
+    public void eventDispatched(AWTEvent e) {
+      int id = e.getID();
+      if (id == COMPONENT_ADDED || id == COMPONENT_REMOVED) {
+        filter.hierarchyChanged();
+      }
+    }
+  };
+
   /**
    * Creates a new {@link NewHierarchy} which does not contain any existing AWT or Swing {@code Component}s.
    *
@@ -91,6 +107,7 @@ public class NewHierarchy extends ExistingHierarchy {
       ignoreExisting();
     }
     attachAsWeakEventListener(toolkit, transientWindowListener, WINDOW_EVENT_MASK | COMPONENT_EVENT_MASK);
+    attachAsWeakEventListener(toolkit, hierarchyChangeListener, CONTAINER_EVENT_MASK);
   }
 
   /**
@@ -149,11 +166,9 @@ public class NewHierarchy extends ExistingHierarchy {
     if (filter.isIgnored(c)) {
       return emptyList();
     }
-    Collection<Component> children = super.childrenOf(c);
     // this only removes those components which are directly filtered, not necessarily those which have a filtered
     // ancestor.
-    children.removeAll(filter.filtered());
-    return children;
+    return filter.notIgnored(c, super.childrenOf(c));
   }
 
   /**
@@ -18,12 +18,16 @@ import static org.fest.swing.awt.AWT.isSharedInvisibleFrame;
 import static org.fest.util.Maps.newWeakHashMap;
 
 import java.awt.Component;
+import java.awt.Container;
 import java.awt.Window;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import javax.swing.MenuElement;
 
 import org.fest.swing.annotation.RunsInCurrentThread;
 
@@ -51,6 +55,14 @@ class WindowFilter {
   // Map of components implicitly ignored; these will be removed if they are re-shown.
   final Map<Component, Boolean> implicitlyIgnored = newWeakHashMap();
 
+  // Verdicts of isIgnored, valid while the set of ignored components has not changed and no component has been added to
+  // or removed from a parent since they were cached. Children reached during a hierarchy walk inherit the verdict of their
+  // parent, so the Window of each component is looked up at most once.
+  private final Map<Component, Verdict> verdicts = newWeakHashMap();
+
+  // Incremented every time the cached verdicts become invalid.
+  private int modificationCount;
+
   boolean isImplicitlyIgnored(@Nonnull Component c) {
     return implicitlyIgnored.containsKey(c);
   }
@@ -64,10 +76,13 @@ class WindowFilter {
     if (ignored.containsKey(c)) {
       return true;
     }
-    if (c instanceof Window && isIgnored(c.getParent())) {
-      return true;
+    Verdict verdict = verdicts.get(c);
+    if (verdict != null && verdict.modificationCount == modificationCount) {
+      return verdict.ignored;
     }
-    return !(c instanceof Window) && isWindowIgnored(c);
+    boolean isIgnored = c instanceof Window ? isIgnored(c.getParent()) : isWindowIgnored(c);
+    verdicts.put(c, new Verdict(isIgnored, modificationCount));
+    return isIgnored;
   }
 
   private boolean isWindowIgnored(@Nullable Component c) {
@@ -75,6 +90,45 @@ class WindowFilter {
     return w != null && isIgnored(w);
   }
 
+  /**
+   * Returns the given children of a parent that is not ignored, omitting the ones that are directly ignored. Since
+   * ignoring a {@code Window} ignores all of its components, the returned children that belong to the same
+   * {@code Window} as the parent are not ignored either, and later calls to {@link #isIgnored(Component)} for them do
+   * not need to look up their {@code Window}.
+   *
+   * @param parent the parent of the given children. It must not be ignored.
+   * @param children the children of the given parent.
+   * @return the children that are not ignored.
+   */
+  @RunsInCurrentThread
+  @Nonnull List<Component> notIgnored(@Nonnull Component parent, @Nonnull Collection<Component> children) {
+    List<Component> notIgnored = new ArrayList<Component>(children.size());
+    for (Component child : children) {
+      if (ignored.containsKey(child)) {
+        continue;
+      }
+      if (parent instanceof Container && isInSameWindow(child, parent)) {
+        verdicts.put(child, new Verdict(false, modificationCount));
+      }
+      notIgnored.add(child);
+    }
+    return notIgnored;
+  }
+
+  // Windows and menu elements are not contained in the window of their parent (e.g. owned windows, pop-up menus.)
+  private static boolean isInSameWindow(@Nonnull Component child, @Nonnull Component parent) {
+    return !(child instanceof Window) && !(child instanceof MenuElement) && child.getParent() == parent;
+  }
+
+  /**
+   * Discards the cached results of {@link #isIgnored(Component)}, since a {@code Component} may have been moved to a
+   * different {@code Window}. Must be called every time a {@code Component} is added to or removed from a parent.
+   */
+  @RunsInCurrentThread
+  void hierarchyChanged() {
+    modificationCount++;
+  }
+
   void implicitlyIgnore(@Nonnull Component c) {
     implicitlyIgnored.put(c, true);
   }
@@ -114,10 +168,21 @@ class WindowFilter {
   }
 
   private void doFilter(@Nonnull Component c, boolean ignore) {
+    modificationCount++;
     if (ignore) {
       ignored.put(c, true);
       return;
     }
     ignored.remove(c);
   }
+
+  private static class Verdict {
+    final boolean ignored;
+    final int modificationCount;
+
+    Verdict(boolean ignored, int modificationCount) {
+      this.ignored = ignored;
+      this.modificationCount = modificationCount;
+    }
+  }
 }
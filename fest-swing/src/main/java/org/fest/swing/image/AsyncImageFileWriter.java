@@ -0,0 +1,274 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.image;
+
+import static java.awt.RenderingHints.KEY_INTERPOLATION;
+import static java.awt.RenderingHints.VALUE_INTERPOLATION_BILINEAR;
+import static java.awt.image.BufferedImage.TYPE_CUSTOM;
+import static java.awt.image.BufferedImage.TYPE_INT_ARGB;
+import static java.lang.Math.max;
+import static java.lang.Math.round;
+import static java.lang.System.currentTimeMillis;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.logging.Level.WARNING;
+import static org.fest.swing.image.ImageFileExtensions.PNG;
+import static org.fest.util.Preconditions.checkNotNull;
+import static org.fest.util.Preconditions.checkNotNullOrEmpty;
+import static org.fest.util.Strings.concat;
+import static org.fest.util.Strings.quote;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.logging.Logger;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.fest.util.VisibleForTesting;
+
+/**
+ * <p>
+ * Writes images as PNG files in a background thread, keeping the (expensive) image encoding off the thread that
+ * requests it. For example, a screenshot of a failed test can be taken in the test thread and written to disk while the
+ * next test is running.
+ * </p>
+ *
+ * <p>
+ * Images waiting to be written are kept in a bounded queue. When the queue is full, the image is written in the calling
+ * thread. Use {@link #flush(long)} to wait for all pending images to be written (e.g. when a test suite finishes.)
+ * </p>
+ *
+ * @author Alex Ruiz
+ * @since 1.4
+ */
+@ThreadSafe
+public class AsyncImageFileWriter {
+  /** Default maximum number of images waiting to be written. */
+  public static final int DEFAULT_QUEUE_CAPACITY = 8;
+
+  /** Value indicating that images should be written using the default compression level of the PNG writer. */
+  public static final int DEFAULT_COMPRESSION_LEVEL = -1;
+
+  private static Logger logger = Logger.getAnonymousLogger();
+
+  private final ImageFileWriter writer;
+  private final ThreadPoolExecutor executor;
+
+  private final Object lock = new Object();
+
+  @GuardedBy("lock")
+  private int pendingCount;
+
+  private volatile int compressionLevel = DEFAULT_COMPRESSION_LEVEL;
+  private volatile double scaleFactor = 1d;
+
+  /**
+   * Creates a new {@link AsyncImageFileWriter} using a queue of {@link #DEFAULT_QUEUE_CAPACITY} images.
+   */
+  public AsyncImageFileWriter() {
+    this(DEFAULT_QUEUE_CAPACITY);
+  }
+
+  /**
+   * Creates a new {@link AsyncImageFileWriter}.
+   *
+   * @param queueCapacity the maximum number of images waiting to be written.
+   * @throws IllegalArgumentException if the given capacity is less than 1.
+   */
+  public AsyncImageFileWriter(int queueCapacity) {
+    this(new ImageFileWriter(), queueCapacity);
+  }
+
+  @VisibleForTesting
+  AsyncImageFileWriter(@Nonnull ImageFileWriter writer, int queueCapacity) {
+    if (queueCapacity < 1) {
+      throw new IllegalArgumentException(concat("The queue capacity should be greater than zero, but was <",
+          String.valueOf(queueCapacity), ">"));
+    }
+    this.writer = writer;
+    executor = new ThreadPoolExecutor(1, 1, 0L, MILLISECONDS, new ArrayBlockingQueue<Runnable>(queueCapacity),
+        new WriterThreadFactory(), new RunInCallerThread());
+  }
+
+  /**
+   * @return the compression level used when writing images, from 0 (no compression) to 9 (best compression), or
+   *         {@link #DEFAULT_COMPRESSION_LEVEL}.
+   */
+  public int compressionLevel() {
+    return compressionLevel;
+  }
+
+  /**
+   * Updates the compression level used when writing images. Lower levels are faster to encode but produce bigger files.
+   *
+   * @param level the new compression level, from 0 (no compression) to 9 (best compression), or
+   *          {@link #DEFAULT_COMPRESSION_LEVEL}.
+   * @throws IllegalArgumentException if the given level is not between -1 and 9.
+   */
+  public void compressionLevel(int level) {
+    if (level < DEFAULT_COMPRESSION_LEVEL || level > 9) {
+      throw new IllegalArgumentException(concat("The compression level should be between -1 and 9, but was <",
+          String.valueOf(level), ">"));
+    }
+    compressionLevel = level;
+  }
+
+  /**
+   * @return the factor used to scale images before writing them. The default value is 1 (no scaling.)
+   */
+  public double scaleFactor() {
+    return scaleFactor;
+  }
+
+  /**
+   * Updates the factor used to scale images before writing them. For example, a factor of 0.5 writes images at half
+   * their original width and height. Scaling is performed in the background thread.
+   *
+   * @param factor the new scale factor, greater than 0 and less than or equal to 1.
+   * @throws IllegalArgumentException if the given factor is not greater than 0 and less than or equal to 1.
+   */
+  public void scaleFactor(double factor) {
+    if (factor <= 0d || factor > 1d) {
+      throw new IllegalArgumentException(concat("The scale factor should be greater than 0 and less than or equal to 1, "
+          + "but was <", String.valueOf(factor), ">"));
+    }
+    scaleFactor = factor;
+  }
+
+  /**
+   * Queues the given image to be written as a PNG file. If the queue is full, the image is written in the current
+   * thread. Any error that occurs while writing the image is logged.
+   *
+   * @param image the image to write.
+   * @param filePath the path of the file to write the image to.
+   * @throws NullPointerException if the given image is {@code null}.
+   * @throws NullPointerException if the given file path is {@code null}.
+   * @throws IllegalArgumentException if the given file path is empty.
+   * @throws IllegalArgumentException if the given file path does not end with ".png".
+   */
+  public void writeAsPng(@Nonnull final BufferedImage image, @Nonnull final String filePath) {
+    checkNotNull(image);
+    checkNotNullOrEmpty(filePath);
+    if (!filePath.endsWith(PNG)) {
+      String format = String.format("The file in path '%s' should have extension 'png'", filePath);
+      throw new IllegalArgumentException(format);
+    }
+    final int level = compressionLevel;
+    final double factor = scaleFactor;
+    synchronized (lock) {
+      pendingCount++;
+    }
+    executor.execute(new Runnable() {
+      @Override
+      public void run() {
+        try {
+          writer.writeAsPng(scale(image, factor), filePath, level);
+        } catch (Throwable t) {
+          logger.log(WARNING, concat("Unable to save image as ", quote(filePath)), t);
+        } finally {
+          writeFinished();
+        }
+      }
+    });
+  }
+
+  private void writeFinished() {
+    synchronized (lock) {
+      pendingCount--;
+      lock.notifyAll();
+    }
+  }
+
+  @VisibleForTesting
+  static @Nonnull BufferedImage scale(@Nonnull BufferedImage image, double factor) {
+    if (factor >= 1d) {
+      return image;
+    }
+    int width = max(1, (int) round(image.getWidth() * factor));
+    int height = max(1, (int) round(image.getHeight() * factor));
+    int type = image.getType() != TYPE_CUSTOM ? image.getType() : TYPE_INT_ARGB;
+    BufferedImage scaled = new BufferedImage(width, height, type);
+    Graphics2D g = scaled.createGraphics();
+    try {
+      g.setRenderingHint(KEY_INTERPOLATION, VALUE_INTERPOLATION_BILINEAR);
+      g.drawImage(image, 0, 0, width, height, null);
+    } finally {
+      g.dispose();
+    }
+    return scaled;
+  }
+
+  /**
+   * @return the number of images that have been queued but not written yet.
+   */
+  public int pendingCount() {
+    synchronized (lock) {
+      return pendingCount;
+    }
+  }
+
+  /**
+   * Waits until all the queued images have been written, or until the given timeout expires.
+   *
+   * @param timeout the maximum time to wait, in milliseconds.
+   * @return {@code true} if all the queued images have been written, {@code false} otherwise.
+   */
+  public boolean flush(long timeout) {
+    long deadline = currentTimeMillis() + timeout;
+    synchronized (lock) {
+      try {
+        while (pendingCount > 0) {
+          long remaining = deadline - currentTimeMillis();
+          if (remaining <= 0) {
+            return false;
+          }
+          lock.wait(remaining);
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return pendingCount == 0;
+    }
+  }
+
+  /**
+   * Writes all the queued images and stops the background thread. Images queued after this method is called are
+   * written in the calling thread.
+   */
+  public void shutdown() {
+    executor.shutdown();
+  }
+
+  private static class WriterThreadFactory implements ThreadFactory {
+    @Override
+    public Thread newThread(Runnable r) {
+      Thread thread = new Thread(r, "FEST image writer");
+      thread.setDaemon(true);
+      return thread;
+    }
+  }
+
+  private static class RunInCallerThread implements RejectedExecutionHandler {
+    @Override
+    public void rejectedExecution(Runnable r, ThreadPoolExecutor executor) {
+      r.run();
+    }
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.image;
+
+import static org.fest.util.Lists.newArrayList;
+import static org.fest.util.Maps.newWeakHashMap;
+
+import java.awt.Component;
+import java.awt.Window;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import javax.swing.JComponent;
+import javax.swing.RepaintManager;
+
+import org.fest.swing.annotation.RunsInCurrentThread;
+
+/**
+ * A {@code RepaintManager} that reports the regions marked as dirty to the {@link ScreenCaptureSession}s that capture
+ * a {@code Component}, so they only need to capture the parts of the screen that were repainted.
+ *
+ * @author Alex Ruiz
+ */
+class DamageTrackingRepaintManager extends RepaintManager {
+  @GuardedBy("this")
+  private final Map<ScreenCaptureSession, Boolean> sessions = newWeakHashMap();
+
+  /**
+   * Returns the current {@code DamageTrackingRepaintManager} of the given {@code Component}, installing one if the
+   * {@code Component} uses the default {@code RepaintManager}.
+   *
+   * @param c the given {@code Component}.
+   * @return the current {@code DamageTrackingRepaintManager}, or {@code null} if a different {@code RepaintManager} is
+   *         installed (e.g. {@link org.fest.swing.edt.FailOnThreadViolationRepaintManager}.) Replacing it would lose
+   *         its behavior.
+   */
+  @RunsInCurrentThread
+  static @Nullable DamageTrackingRepaintManager installIfPossible(@Nonnull Component c) {
+    RepaintManager current = RepaintManager.currentManager(c);
+    if (current instanceof DamageTrackingRepaintManager) {
+      return (DamageTrackingRepaintManager) current;
+    }
+    if (current.getClass() != RepaintManager.class) {
+      return null;
+    }
+    DamageTrackingRepaintManager newManager = new DamageTrackingRepaintManager();
+    setCurrentManager(newManager);
+    return newManager;
+  }
+
+  synchronized void track(@Nonnull ScreenCaptureSession session) {
+    sessions.put(session, true);
+  }
+
+  @Override
+  public void addDirtyRegion(JComponent c, int x, int y, int w, int h) {
+    super.addDirtyRegion(c, x, y, w, h);
+    damaged(c, x, y, w, h);
+  }
+
+  @Override
+  public void addDirtyRegion(Window window, int x, int y, int w, int h) {
+    super.addDirtyRegion(window, x, y, w, h);
+    damaged(window, x, y, w, h);
+  }
+
+  private void damaged(@Nullable Component c, int x, int y, int w, int h) {
+    if (c == null || w <= 0 || h <= 0) {
+      return;
+    }
+    List<ScreenCaptureSession> toNotify;
+    synchronized (this) {
+      if (sessions.isEmpty()) {
+        return;
+      }
+      toNotify = newArrayList(sessions.keySet());
+    }
+    for (ScreenCaptureSession session : toNotify) {
+      session.damaged(c, x, y, w, h);
+    }
+  }
+}
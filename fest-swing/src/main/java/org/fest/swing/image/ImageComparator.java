@@ -0,0 +1,223 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.image;
+
+import static java.awt.image.BufferedImage.TYPE_INT_RGB;
+import static java.lang.Math.abs;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static org.fest.swing.image.ImagePixels.pixelsOf;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+
+import javax.annotation.Nonnull;
+
+/**
+ * <p>
+ * Compares images pixel by pixel, with tolerance.
+ * </p>
+ *
+ * <p>
+ * Two images match if they have the same size and the number of pixels whose color differs (in any of the red, green
+ * or blue channels) by more than the color tolerance is not greater than the maximum number of different pixels.
+ * </p>
+ *
+ * <p>
+ * Comparisons work on the raw pixels of the images, tile by tile, and stop as soon as the images are known not to
+ * match. Before comparing pixels, the perceptual (average) hashes of both images are compared: images whose hashes are
+ * too far apart are sent straight to the (more expensive) pass that creates the image showing the differences.
+ * </p>
+ *
+ * @author Alex Ruiz
+ * @since 1.4
+ */
+public class ImageComparator {
+  /** Maximum Hamming distance between the perceptual hashes of two images that are compared pixel by pixel. */
+  public static final int DEFAULT_MAX_HASH_DISTANCE = 12;
+
+  private static final int TILE_SIZE = 32;
+  private static final int HASH_GRID_SIZE = 8;
+  private static final int HASH_SAMPLES_PER_CELL = 8;
+  private static final int RGB_MASK = 0xFFFFFF;
+  private static final int DIFFERENT_PIXEL_COLOR = 0xFF0000;
+
+  private final int colorTolerance;
+  private final int maxDifferentPixels;
+  private final int maxHashDistance;
+
+  /**
+   * Creates a new {@link ImageComparator} that requires images to be identical.
+   */
+  public ImageComparator() {
+    this(0, 0);
+  }
+
+  /**
+   * Creates a new {@link ImageComparator}.
+   *
+   * @param colorTolerance the maximum difference, in any of the red, green or blue channels, between two pixels that
+   *          are considered equal. It should be between 0 and 255.
+   * @param maxDifferentPixels the maximum number of different pixels between two images that match.
+   * @throws IllegalArgumentException if the color tolerance is not between 0 and 255.
+   * @throws IllegalArgumentException if the maximum number of different pixels is negative.
+   */
+  public ImageComparator(int colorTolerance, int maxDifferentPixels) {
+    this(colorTolerance, maxDifferentPixels, DEFAULT_MAX_HASH_DISTANCE);
+  }
+
+  /**
+   * Creates a new {@link ImageComparator}.
+   *
+   * @param colorTolerance the maximum difference, in any of the red, green or blue channels, between two pixels that
+   *          are considered equal. It should be between 0 and 255.
+   * @param maxDifferentPixels the maximum number of different pixels between two images that match.
+   * @param maxHashDistance the maximum Hamming distance (between 0 and 64) between the perceptual hashes of two images
+   *          that are compared tile by tile. Use 64 to always compare tile by tile.
+   * @throws IllegalArgumentException if the color tolerance is not between 0 and 255.
+   * @throws IllegalArgumentException if the maximum number of different pixels is negative.
+   * @throws IllegalArgumentException if the maximum hash distance is not between 0 and 64.
+   */
+  public ImageComparator(int colorTolerance, int maxDifferentPixels, int maxHashDistance) {
+    checkInRange("color tolerance", colorTolerance, 0, 255);
+    checkInRange("maximum number of different pixels", maxDifferentPixels, 0, Integer.MAX_VALUE);
+    checkInRange("maximum hash distance", maxHashDistance, 0, 64);
+    this.colorTolerance = colorTolerance;
+    this.maxDifferentPixels = maxDifferentPixels;
+    this.maxHashDistance = maxHashDistance;
+  }
+
+  private static void checkInRange(@Nonnull String name, int value, int min, int max) {
+    if (value < min || value > max) {
+      String msg = String.format("The %s should be between %d and %d, but was <%d>", name, min, max, value);
+      throw new IllegalArgumentException(msg);
+    }
+  }
+
+  /**
+   * Compares the given images.
+   *
+   * @param expected the expected image.
+   * @param actual the actual image.
+   * @return the result of the comparison.
+   */
+  public @Nonnull ImageDiff compare(@Nonnull BufferedImage expected, @Nonnull BufferedImage actual) {
+    int width = expected.getWidth();
+    int height = expected.getHeight();
+    if (actual.getWidth() != width || actual.getHeight() != height) {
+      return ImageDiff.sizeMismatch(expected, actual);
+    }
+    int[] expectedPixels = pixelsOf(expected);
+    int[] actualPixels = pixelsOf(actual);
+    boolean similar = maxHashDistance >= 64
+        || hashDistance(expectedPixels, actualPixels, width, height) <= maxHashDistance;
+    if (similar && withinTolerance(expectedPixels, actualPixels, width, height)) {
+      return ImageDiff.match();
+    }
+    return diff(expectedPixels, actualPixels, width, height);
+  }
+
+  private boolean withinTolerance(@Nonnull int[] expected, @Nonnull int[] actual, int width, int height) {
+    int differentPixels = 0;
+    for (int tileY = 0; tileY < height; tileY += TILE_SIZE) {
+      int tileBottom = min(tileY + TILE_SIZE, height);
+      for (int tileX = 0; tileX < width; tileX += TILE_SIZE) {
+        int tileRight = min(tileX + TILE_SIZE, width);
+        for (int y = tileY; y < tileBottom; y++) {
+          int rowStart = y * width;
+          for (int i = rowStart + tileX; i < rowStart + tileRight; i++) {
+            if (((expected[i] ^ actual[i]) & RGB_MASK) == 0 || isSimilar(expected[i], actual[i])) {
+              continue;
+            }
+            if (++differentPixels > maxDifferentPixels) {
+              return false;
+            }
+          }
+        }
+      }
+    }
+    return true;
+  }
+
+  private boolean isSimilar(int rgb1, int rgb2) {
+    return abs(((rgb1 >> 16) & 0xFF) - ((rgb2 >> 16) & 0xFF)) <= colorTolerance
+        && abs(((rgb1 >> 8) & 0xFF) - ((rgb2 >> 8) & 0xFF)) <= colorTolerance
+        && abs((rgb1 & 0xFF) - (rgb2 & 0xFF)) <= colorTolerance;
+  }
+
+  private @Nonnull ImageDiff diff(@Nonnull int[] expected, @Nonnull int[] actual, int width, int height) {
+    BufferedImage diffImage = new BufferedImage(width, height, TYPE_INT_RGB);
+    int[] diffPixels = ((DataBufferInt) diffImage.getRaster().getDataBuffer()).getData();
+    int differentPixels = 0;
+    for (int i = 0; i < width * height; i++) {
+      if (((expected[i] ^ actual[i]) & RGB_MASK) == 0 || isSimilar(expected[i], actual[i])) {
+        int gray = (luminance(actual[i]) + 0x1FE) / 3;
+        diffPixels[i] = (gray << 16) | (gray << 8) | gray;
+        continue;
+      }
+      diffPixels[i] = DIFFERENT_PIXEL_COLOR;
+      differentPixels++;
+    }
+    if (differentPixels <= maxDifferentPixels) {
+      // the perceptual hashes were far apart, but the pixels are within tolerance
+      return ImageDiff.match();
+    }
+    return ImageDiff.mismatch(differentPixels, diffImage);
+  }
+
+  private static int hashDistance(@Nonnull int[] expected, @Nonnull int[] actual, int width, int height) {
+    return Long.bitCount(averageHash(expected, width, height) ^ averageHash(actual, width, height));
+  }
+
+  // average hash: one bit per cell of an 8x8 grid, set if the cell is brighter than the whole image. Cells are sampled
+  // instead of fully scanned, to keep the hash much cheaper than a pixel by pixel comparison.
+  private static long averageHash(@Nonnull int[] pixels, int width, int height) {
+    int[] cellLuminance = new int[HASH_GRID_SIZE * HASH_GRID_SIZE];
+    long total = 0;
+    for (int row = 0; row < HASH_GRID_SIZE; row++) {
+      int top = row * height / HASH_GRID_SIZE;
+      int bottom = max(top + 1, (row + 1) * height / HASH_GRID_SIZE);
+      int stepY = max(1, (bottom - top) / HASH_SAMPLES_PER_CELL);
+      for (int column = 0; column < HASH_GRID_SIZE; column++) {
+        int left = column * width / HASH_GRID_SIZE;
+        int right = max(left + 1, (column + 1) * width / HASH_GRID_SIZE);
+        int stepX = max(1, (right - left) / HASH_SAMPLES_PER_CELL);
+        int sum = 0;
+        int count = 0;
+        for (int y = top; y < bottom && y < height; y += stepY) {
+          for (int x = left; x < right && x < width; x += stepX) {
+            sum += luminance(pixels[y * width + x]);
+            count++;
+          }
+        }
+        int cell = row * HASH_GRID_SIZE + column;
+        cellLuminance[cell] = count > 0 ? sum / count : 0;
+        total += cellLuminance[cell];
+      }
+    }
+    long mean = total / cellLuminance.length;
+    long hash = 0;
+    for (int i = 0; i < cellLuminance.length; i++) {
+      if (cellLuminance[i] > mean) {
+        hash |= 1L << i;
+      }
+    }
+    return hash;
+  }
+
+  private static int luminance(int rgb) {
+    return (((rgb >> 16) & 0xFF) * 77 + ((rgb >> 8) & 0xFF) * 150 + (rgb & 0xFF) * 29) >> 8;
+  }
+}
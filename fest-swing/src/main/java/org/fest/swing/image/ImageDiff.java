@@ -0,0 +1,94 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.image;
+
+import java.awt.image.BufferedImage;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * The result of comparing two images using an {@link ImageComparator}.
+ *
+ * @author Alex Ruiz
+ * @since 1.4
+ */
+public class ImageDiff {
+  private static final ImageDiff MATCH = new ImageDiff(true, 0, null, "The images match");
+
+  private final boolean match;
+  private final int differentPixelCount;
+  private final BufferedImage diffImage;
+  private final String description;
+
+  static @Nonnull ImageDiff match() {
+    return MATCH;
+  }
+
+  static @Nonnull ImageDiff mismatch(int differentPixelCount, @Nonnull BufferedImage diffImage) {
+    String description = String.format("The images have %d different pixel(s)", differentPixelCount);
+    return new ImageDiff(false, differentPixelCount, diffImage, description);
+  }
+
+  static @Nonnull ImageDiff sizeMismatch(@Nonnull BufferedImage expected, @Nonnull BufferedImage actual) {
+    String description = String.format("Expected an image of size [%dx%d] but was [%dx%d]", expected.getWidth(),
+        expected.getHeight(), actual.getWidth(), actual.getHeight());
+    return new ImageDiff(false, -1, null, description);
+  }
+
+  private ImageDiff(boolean match, int differentPixelCount, @Nullable BufferedImage diffImage,
+      @Nonnull String description) {
+    this.match = match;
+    this.differentPixelCount = differentPixelCount;
+    this.diffImage = diffImage;
+    this.description = description;
+  }
+
+  /**
+   * @return {@code true} if the compared images match, {@code false} otherwise.
+   */
+  public boolean matches() {
+    return match;
+  }
+
+  /**
+   * @return the number of pixels that are different in the compared images, or -1 if the images have different sizes.
+   *         If the images match, this method returns 0 (even if some pixels are different, but still within the
+   *         limits of the comparison.)
+   */
+  public int differentPixelCount() {
+    return differentPixelCount;
+  }
+
+  /**
+   * @return an image showing the different pixels in red, over a lighter, gray version of the actual image; or
+   *         {@code null} if the images match or have different sizes.
+   */
+  public @Nullable BufferedImage diffImage() {
+    return diffImage;
+  }
+
+  /**
+   * @return a description of the result of the comparison.
+   */
+  public @Nonnull String description() {
+    return description;
+  }
+
+  @Override
+  public String toString() {
+    return description;
+  }
+}
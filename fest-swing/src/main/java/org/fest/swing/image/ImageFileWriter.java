@@ -14,14 +14,21 @@
  */
 package org.fest.swing.image;
 
+import static javax.imageio.ImageWriteParam.MODE_EXPLICIT;
 import static org.fest.swing.image.ImageFileExtensions.PNG;
 import static org.fest.util.Files.newFile;
 
 import java.awt.image.BufferedImage;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.util.Iterator;
 
 import javax.annotation.Nonnull;
+import javax.imageio.IIOImage;
 import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
 
 /**
  * Writes an image as a file in the file system.
@@ -41,4 +48,47 @@ public class ImageFileWriter {
   public boolean writeAsPng(@Nonnull BufferedImage image, @Nonnull String filePath) throws IOException {
     return ImageIO.write(image, PNG, newFile(filePath));
   }
+
+  /**
+   * Writes an image as a PNG file to the file system, using the given compression level. If there is already a
+   * {@code File} present, its contents are discarded.
+   *
+   * @param image a {@code BufferedImage} to be written.
+   * @param filePath the path of the image file to create.
+   * @param compressionLevel the compression level, from 0 (no compression) to 9 (best compression), or -1 to use the
+   *          default one. The compression level is ignored if the available PNG writer does not support it.
+   * @return {@code false} if the image could not be saved.
+   * @exception IOException if an error occurs during writing.
+   * @since 1.4
+   */
+  public boolean writeAsPng(@Nonnull BufferedImage image, @Nonnull String filePath, int compressionLevel)
+      throws IOException {
+    if (compressionLevel < 0) {
+      return writeAsPng(image, filePath);
+    }
+    Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName(PNG);
+    if (!writers.hasNext()) {
+      return false;
+    }
+    ImageWriter writer = writers.next();
+    ImageWriteParam param = writer.getDefaultWriteParam();
+    if (param.canWriteCompressed()) {
+      param.setCompressionMode(MODE_EXPLICIT);
+      param.setCompressionQuality(1f - Math.min(compressionLevel, 9) / 9f);
+    }
+    FileOutputStream stream = new FileOutputStream(newFile(filePath));
+    try {
+      ImageOutputStream output = ImageIO.createImageOutputStream(stream);
+      try {
+        writer.setOutput(output);
+        writer.write(null, new IIOImage(image, null, null), param);
+        return true;
+      } finally {
+        output.close();
+      }
+    } finally {
+      writer.dispose();
+      stream.close();
+    }
+  }
 }
@@ -0,0 +1,63 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.image;
+
+import static java.awt.image.BufferedImage.TYPE_INT_ARGB;
+import static java.awt.image.BufferedImage.TYPE_INT_RGB;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
+import java.awt.image.DataBufferInt;
+import java.awt.image.Raster;
+import java.awt.image.SinglePixelPackedSampleModel;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Utility methods related to the pixels of images.
+ *
+ * @author Alex Ruiz
+ */
+final class ImagePixels {
+  /**
+   * Returns the pixels of the given image, as packed RGB values, one row after the other. If the image stores its
+   * pixels in an {@code int} array with no padding (e.g. images captured from the screen), the array is returned
+   * directly, without copying it. Otherwise, the pixels are copied in a single bulk operation. The alpha bits of the
+   * pixels of opaque images are unspecified.
+   *
+   * @param image the given image.
+   * @return the pixels of the given image. The returned array should not be modified.
+   */
+  static @Nonnull int[] pixelsOf(@Nonnull BufferedImage image) {
+    int width = image.getWidth();
+    int height = image.getHeight();
+    int type = image.getType();
+    Raster raster = image.getRaster();
+    DataBuffer buffer = raster.getDataBuffer();
+    if ((type == TYPE_INT_RGB || type == TYPE_INT_ARGB) && buffer instanceof DataBufferInt
+        && buffer.getNumBanks() == 1 && raster.getSampleModel() instanceof SinglePixelPackedSampleModel) {
+      SinglePixelPackedSampleModel sampleModel = (SinglePixelPackedSampleModel) raster.getSampleModel();
+      int[] data = ((DataBufferInt) buffer).getData();
+      boolean isWholeBuffer = raster.getSampleModelTranslateX() == 0 && raster.getSampleModelTranslateY() == 0
+          && sampleModel.getScanlineStride() == width && data.length == width * height;
+      if (isWholeBuffer) {
+        return data;
+      }
+    }
+    return image.getRGB(0, 0, width, height, null, 0, width);
+  }
+
+  private ImagePixels() {}
+}
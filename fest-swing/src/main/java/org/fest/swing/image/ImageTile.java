@@ -0,0 +1,59 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.image;
+
+import static org.fest.util.Strings.concat;
+
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+
+import javax.annotation.Nonnull;
+
+/**
+ * A rectangular part of a screen capture.
+ *
+ * @author Alex Ruiz
+ * @since 1.4
+ * @see ScreenCaptureSession
+ */
+public class ImageTile {
+  private final Rectangle bounds;
+  private final BufferedImage image;
+
+  ImageTile(@Nonnull Rectangle bounds, @Nonnull BufferedImage image) {
+    this.bounds = bounds;
+    this.image = image;
+  }
+
+  /**
+   * @return the bounds of this tile, relative to the top-left corner of the captured region.
+   */
+  public @Nonnull Rectangle bounds() {
+    return new Rectangle(bounds);
+  }
+
+  /**
+   * @return the contents of this tile.
+   */
+  public @Nonnull BufferedImage image() {
+    return image;
+  }
+
+  @Override
+  public String toString() {
+    return concat(getClass().getSimpleName(), "[x=", String.valueOf(bounds.x), ", y=", String.valueOf(bounds.y),
+        ", width=", String.valueOf(bounds.width), ", height=", String.valueOf(bounds.height), "]");
+  }
+}
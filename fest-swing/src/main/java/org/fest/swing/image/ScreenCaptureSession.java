@@ -0,0 +1,263 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.image;
+
+import static java.awt.image.BufferedImage.TYPE_INT_RGB;
+import static java.lang.Math.min;
+import static javax.swing.SwingUtilities.convertRectangle;
+import static javax.swing.SwingUtilities.isDescendingFrom;
+import static org.fest.swing.edt.GuiActionRunner.execute;
+import static org.fest.swing.image.ImagePixels.pixelsOf;
+import static org.fest.util.Lists.newArrayList;
+
+import java.awt.Component;
+import java.awt.Graphics;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.util.List;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+import javax.swing.RepaintManager;
+
+import org.fest.swing.annotation.RunsInEDT;
+import org.fest.swing.edt.GuiQuery;
+
+/**
+ * <p>
+ * Captures an AWT or Swing {@code Component}, or a region of the screen, several times, keeping the last captured
+ * frame. Each capture is divided in square tiles, and only the tiles that changed since the previous capture are
+ * returned. This is useful to record every step of a long UI flow without storing (or comparing) the same pixels over
+ * and over.
+ * </p>
+ *
+ * <p>
+ * The first capture, and any capture after the size of the captured region changes, returns all the tiles.
+ * </p>
+ *
+ * <p>
+ * When capturing a {@code Component} that uses the default {@code RepaintManager}, this session replaces it with one
+ * that records the regions marked as dirty. Later captures only take a screenshot of the area repainted since the
+ * previous capture, and no screenshot at all if nothing was repainted. Changes that do not go through the
+ * {@code RepaintManager} (e.g. another window moved over the {@code Component}) are not seen this way: use
+ * {@link #reset()} to capture the whole {@code Component} again. If the {@code Component} moves, or a different
+ * {@code RepaintManager} is installed, the whole {@code Component} is captured and compared, like regions of the screen
+ * always are.
+ * </p>
+ *
+ * @author Alex Ruiz
+ * @since 1.4
+ * @see ScreenshotTaker#newCaptureSession(Component)
+ * @see ScreenshotTaker#newCaptureSession(Rectangle)
+ */
+@ThreadSafe
+public class ScreenCaptureSession {
+  /** The default width and height of a tile, in pixels. */
+  public static final int DEFAULT_TILE_SIZE = 64;
+
+  private final ScreenshotTaker screenshotTaker;
+  private final Component component;
+  private final Rectangle region;
+  private final int tileSize;
+
+  @GuardedBy("this")
+  private BufferedImage lastFrame;
+
+  @GuardedBy("this")
+  private int[] lastPixels;
+
+  @GuardedBy("this")
+  private Rectangle lastBounds;
+
+  @GuardedBy("this")
+  private DamageTrackingRepaintManager repaintManager;
+
+  // Not guarded by "this": the repaint manager reports damage from the EDT while a capture waits for the EDT.
+  private final Object damageLock = new Object();
+
+  @GuardedBy("damageLock")
+  private Rectangle damage;
+
+  ScreenCaptureSession(@Nonnull ScreenshotTaker screenshotTaker, @Nullable Component component,
+      @Nullable Rectangle region, int tileSize) {
+    if (tileSize < 1) {
+      throw new IllegalArgumentException(String.format("The tile size should be greater than zero, but was <%d>",
+          tileSize));
+    }
+    this.screenshotTaker = screenshotTaker;
+    this.component = component;
+    this.region = region;
+    this.tileSize = tileSize;
+  }
+
+  /**
+   * Captures the {@code Component} or screen region of this session, and returns the tiles that changed since the
+   * previous capture.
+   *
+   * @return the tiles that changed since the previous capture, or an empty list if nothing changed.
+   */
+  public synchronized @Nonnull List<ImageTile> captureChangedTiles() {
+    Rectangle bounds = captureBounds();
+    if (!canCaptureDamageOnly(bounds)) {
+      trackDamage();
+      BufferedImage frame = screenshotTaker.takeScreenshot(bounds);
+      boolean sameSize = lastFrame != null && lastFrame.getWidth() == frame.getWidth()
+          && lastFrame.getHeight() == frame.getHeight();
+      Rectangle all = new Rectangle(0, 0, frame.getWidth(), frame.getHeight());
+      return updateLastFrame(frame, bounds, all, sameSize);
+    }
+    // let pending repaints mark their regions as dirty before looking at them.
+    screenshotTaker.waitForIdle();
+    Rectangle damaged = takeDamage();
+    if (damaged == null) {
+      return newArrayList();
+    }
+    Rectangle damagedOnScreen = new Rectangle(damaged);
+    damagedOnScreen.translate(bounds.x, bounds.y);
+    BufferedImage capture = screenshotTaker.takeScreenshot(damagedOnScreen);
+    BufferedImage frame = new BufferedImage(lastFrame.getWidth(), lastFrame.getHeight(), TYPE_INT_RGB);
+    Graphics g = frame.getGraphics();
+    try {
+      g.drawImage(lastFrame, 0, 0, null);
+      g.drawImage(capture, damaged.x, damaged.y, null);
+    } finally {
+      g.dispose();
+    }
+    return updateLastFrame(frame, bounds, damaged, true);
+  }
+
+  private @Nonnull Rectangle captureBounds() {
+    if (component != null) {
+      return screenshotTaker.boundsOnScreenOf(component);
+    }
+    return new Rectangle(region);
+  }
+
+  private boolean canCaptureDamageOnly(@Nonnull Rectangle bounds) {
+    return repaintManager != null && lastFrame != null && bounds.equals(lastBounds)
+        && RepaintManager.currentManager(component) == repaintManager;
+  }
+
+  // Damage reported from now on is captured next time. Damage reported before is part of the capture about to be taken.
+  private void trackDamage() {
+    takeDamage();
+    if (component == null) {
+      return;
+    }
+    repaintManager = installRepaintManager(component);
+    if (repaintManager != null) {
+      repaintManager.track(this);
+    }
+  }
+
+  @RunsInEDT
+  private static @Nullable DamageTrackingRepaintManager installRepaintManager(final @Nonnull Component c) {
+    return execute(new GuiQuery<DamageTrackingRepaintManager>() {
+      @Override
+      protected @Nullable DamageTrackingRepaintManager executeInEDT() {
+        return DamageTrackingRepaintManager.installIfPossible(c);
+      }
+    });
+  }
+
+  private @Nonnull List<ImageTile> updateLastFrame(@Nonnull BufferedImage frame, @Nonnull Rectangle bounds,
+      @Nonnull Rectangle area, boolean compareWithLastFrame) {
+    int[] pixels = pixelsOf(frame);
+    List<ImageTile> tiles = newArrayList();
+    int width = frame.getWidth();
+    int height = frame.getHeight();
+    int areaBottom = min(height, area.y + area.height);
+    int areaRight = min(width, area.x + area.width);
+    for (int y = area.y - area.y % tileSize; y < areaBottom; y += tileSize) {
+      int tileHeight = min(tileSize, height - y);
+      for (int x = area.x - area.x % tileSize; x < areaRight; x += tileSize) {
+        int tileWidth = min(tileSize, width - x);
+        if (compareWithLastFrame && !tileChanged(pixels, lastPixels, width, x, y, tileWidth, tileHeight)) {
+          continue;
+        }
+        tiles.add(new ImageTile(new Rectangle(x, y, tileWidth, tileHeight), frame.getSubimage(x, y, tileWidth,
+            tileHeight)));
+      }
+    }
+    lastFrame = frame;
+    lastPixels = pixels;
+    lastBounds = bounds;
+    return tiles;
+  }
+
+  private static boolean tileChanged(@Nonnull int[] pixels, @Nonnull int[] previous, int width, int x, int y,
+      int tileWidth, int tileHeight) {
+    for (int row = y; row < y + tileHeight; row++) {
+      int start = row * width + x;
+      int end = start + tileWidth;
+      for (int i = start; i < end; i++) {
+        if (pixels[i] != previous[i]) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  /**
+   * @return the last captured frame, or {@code null} if nothing has been captured yet.
+   */
+  public synchronized @Nullable BufferedImage lastFrame() {
+    return lastFrame;
+  }
+
+  /**
+   * Discards the last captured frame. The next capture will return all the tiles.
+   */
+  public synchronized void reset() {
+    lastFrame = null;
+    lastPixels = null;
+    lastBounds = null;
+  }
+
+  /**
+   * Records that the given region of the given {@code Component} was marked as dirty. This method can be called from
+   * any thread.
+   *
+   * @param c the {@code Component} to repaint.
+   * @param x the X coordinate of the dirty region, relative to the {@code Component}.
+   * @param y the Y coordinate of the dirty region, relative to the {@code Component}.
+   * @param w the width of the dirty region.
+   * @param h the height of the dirty region.
+   */
+  void damaged(@Nonnull Component c, int x, int y, int w, int h) {
+    if (component == null || !(c == component || isDescendingFrom(c, component) || isDescendingFrom(component, c))) {
+      return;
+    }
+    Rectangle dirty = convertRectangle(c, new Rectangle(x, y, w, h), component);
+    dirty = dirty.intersection(new Rectangle(0, 0, component.getWidth(), component.getHeight()));
+    if (dirty.isEmpty()) {
+      return;
+    }
+    synchronized (damageLock) {
+      damage = damage == null ? dirty : damage.union(dirty);
+    }
+  }
+
+  private @Nullable Rectangle takeDamage() {
+    synchronized (damageLock) {
+      Rectangle taken = damage;
+      damage = null;
+      return taken;
+    }
+  }
+}
@@ -0,0 +1,159 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.image;
+
+import static org.fest.assertions.Fail.fail;
+import static org.fest.swing.image.ImageFileExtensions.PNG;
+import static org.fest.util.Preconditions.checkNotNull;
+import static org.fest.util.Strings.concat;
+import static org.fest.util.Strings.quote;
+
+import java.awt.Component;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+
+import javax.annotation.Nonnull;
+import javax.imageio.ImageIO;
+
+import org.fest.util.IORuntimeException;
+import org.fest.util.VisibleForTesting;
+
+/**
+ * <p>
+ * Verifies that screenshots of AWT or Swing {@code Component}s match stored baseline images.
+ * </p>
+ *
+ * <p>
+ * When a screenshot does not match its baseline, this class saves the screenshot and an image showing the differences
+ * next to the baseline: for the baseline "login.png", the files "login.actual.png" and "login.diff.png" are created. If
+ * the baseline does not exist, the screenshot is saved as "login.actual.png", so it can be reviewed and renamed to
+ * become the baseline.
+ * </p>
+ *
+ * <pre>
+ * ScreenshotAssert screenshots = new ScreenshotAssert().using(new ImageComparator(8, 20));
+ * screenshots.assertMatchesBaseline(loginDialog, new File(&quot;baselines/login.png&quot;));
+ * </pre>
+ *
+ * @author Alex Ruiz
+ * @since 1.4
+ */
+public class ScreenshotAssert {
+  private final ScreenshotTaker screenshotTaker;
+  private final ImageFileWriter writer;
+  private ImageComparator comparator = new ImageComparator();
+
+  /**
+   * Creates a new {@link ScreenshotAssert}.
+   *
+   * @throws ImageException if an AWT Robot (the responsible for taking screenshots) cannot be instantiated.
+   */
+  public ScreenshotAssert() {
+    this(new ScreenshotTaker(), new ImageFileWriter());
+  }
+
+  @VisibleForTesting
+  ScreenshotAssert(@Nonnull ScreenshotTaker screenshotTaker, @Nonnull ImageFileWriter writer) {
+    this.screenshotTaker = screenshotTaker;
+    this.writer = writer;
+  }
+
+  /**
+   * Specifies the {@link ImageComparator} to use when comparing screenshots with their baselines. By default, images
+   * should be identical.
+   *
+   * @param newComparator the comparator to use.
+   * @return this object.
+   * @throws NullPointerException if the given comparator is {@code null}.
+   */
+  public @Nonnull ScreenshotAssert using(@Nonnull ImageComparator newComparator) {
+    comparator = checkNotNull(newComparator);
+    return this;
+  }
+
+  /**
+   * Verifies that a screenshot of the given AWT or Swing {@code Component} matches the given baseline image.
+   *
+   * @param c the given {@code Component}.
+   * @param baseline the PNG file containing the expected image.
+   * @throws AssertionError if the screenshot does not match the baseline, or if the baseline does not exist.
+   * @throws IORuntimeException if an I/O error occurs while reading the baseline or while saving the screenshot.
+   */
+  public void assertMatchesBaseline(@Nonnull Component c, @Nonnull File baseline) {
+    assertMatchesBaseline(screenshotTaker.takeScreenshotOf(c), baseline);
+  }
+
+  /**
+   * Verifies that the given image matches the given baseline image.
+   *
+   * @param actual the image to verify.
+   * @param baseline the PNG file containing the expected image.
+   * @throws AssertionError if the given image does not match the baseline, or if the baseline does not exist.
+   * @throws IORuntimeException if an I/O error occurs while reading the baseline or while saving the given image.
+   */
+  public void assertMatchesBaseline(@Nonnull BufferedImage actual, @Nonnull File baseline) {
+    checkNotNull(actual);
+    if (!baseline.isFile()) {
+      File actualFile = write(actual, baseline, "actual");
+      fail(concat("The baseline ", quote(baseline.getPath()), " does not exist. The actual image was saved as ",
+          quote(actualFile.getPath())));
+    }
+    ImageDiff diff = comparator.compare(read(baseline), actual);
+    if (diff.matches()) {
+      return;
+    }
+    File actualFile = write(actual, baseline, "actual");
+    String message = concat("The image does not match the baseline ", quote(baseline.getPath()), ": ",
+        diff.description(), ". The actual image was saved as ", quote(actualFile.getPath()));
+    BufferedImage diffImage = diff.diffImage();
+    if (diffImage != null) {
+      File diffFile = write(diffImage, baseline, "diff");
+      message = concat(message, " and the differences as ", quote(diffFile.getPath()));
+    }
+    fail(message);
+  }
+
+  private static @Nonnull BufferedImage read(@Nonnull File baseline) {
+    BufferedImage image = null;
+    try {
+      image = ImageIO.read(baseline);
+    } catch (IOException e) {
+      throw new IORuntimeException(concat("Unable to read baseline ", quote(baseline.getPath())), e);
+    }
+    if (image == null) {
+      throw new IORuntimeException(concat("The baseline ", quote(baseline.getPath()), " is not a supported image"));
+    }
+    return image;
+  }
+
+  private @Nonnull File write(@Nonnull BufferedImage image, @Nonnull File baseline, @Nonnull String suffix) {
+    File file = siblingOf(baseline, suffix);
+    try {
+      writer.writeAsPng(image, file.getPath());
+    } catch (IOException e) {
+      throw new IORuntimeException(concat("Unable to save image as ", quote(file.getPath())), e);
+    }
+    return file;
+  }
+
+  @VisibleForTesting
+  static @Nonnull File siblingOf(@Nonnull File baseline, @Nonnull String suffix) {
+    String name = baseline.getName();
+    int extensionStart = name.lastIndexOf('.');
+    String baseName = extensionStart > 0 ? name.substring(0, extensionStart) : name;
+    return new File(baseline.getParentFile(), concat(baseName, ".", suffix, ".", PNG));
+  }
+}
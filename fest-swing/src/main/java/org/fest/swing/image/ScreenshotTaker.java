@@ -24,6 +24,7 @@ import static org.fest.util.Preconditions.checkNotNull;
 import java.awt.AWTException;
 import java.awt.Component;
 import java.awt.Dimension;
+import java.awt.GraphicsDevice;
 import java.awt.Point;
 import java.awt.Rectangle;
 import java.awt.Robot;
@@ -53,6 +54,7 @@ import org.fest.util.VisibleForTesting;
 public class ScreenshotTaker {
   private final Robot robot;
   private final ImageFileWriter writer;
+  private final GraphicsDevice screen;
 
   /**
    * Creates a new {@link ScreenshotTaker}.
@@ -63,11 +65,29 @@ public class ScreenshotTaker {
     this(new ImageFileWriter(), new RobotFactory());
   }
 
+  /**
+   * Creates a new {@link ScreenshotTaker} that takes screenshots of the given screen.
+   *
+   * @param screen the screen to take screenshots of.
+   * @throws NullPointerException if the given screen is {@code null}.
+   * @throws ImageException if an AWT Robot (the responsible for taking screenshots) cannot be instantiated.
+   * @since 1.4
+   */
+  public ScreenshotTaker(@Nonnull GraphicsDevice screen) {
+    this(new ImageFileWriter(), new RobotFactory(), checkNotNull(screen));
+  }
+
   @VisibleForTesting
   ScreenshotTaker(@Nonnull ImageFileWriter writer, @Nonnull RobotFactory robotFactory) {
+    this(writer, robotFactory, null);
+  }
+
+  @VisibleForTesting
+  ScreenshotTaker(@Nonnull ImageFileWriter writer, @Nonnull RobotFactory robotFactory, @Nullable GraphicsDevice screen) {
     this.writer = writer;
+    this.screen = screen;
     try {
-      robot = robotFactory.newRobotInPrimaryScreen();
+      robot = screen != null ? robotFactory.newRobotInScreen(screen) : robotFactory.newRobotInPrimaryScreen();
     } catch (AWTException e) {
       throw new ImageException("Unable to create AWT Robot", e);
     }
@@ -88,14 +108,20 @@ public class ScreenshotTaker {
   }
 
   /**
-   * Takes a screenshot of the desktop.
+   * Takes a screenshot of the desktop, or of the screen passed when creating this {@code ScreenshotTaker}.
    *
    * @return the screenshot of the desktop.
    * @throws SecurityException if {@code readDisplayPixels} permission is not granted.
    */
   public BufferedImage takeDesktopScreenshot() {
-    Rectangle r = new Rectangle(Toolkit.getDefaultToolkit().getScreenSize());
-    return takeScreenshot(r);
+    return takeScreenshot(desktopBounds());
+  }
+
+  private @Nonnull Rectangle desktopBounds() {
+    if (screen != null) {
+      return screen.getDefaultConfiguration().getBounds();
+    }
+    return new Rectangle(Toolkit.getDefaultToolkit().getScreenSize());
   }
 
   /**
@@ -121,13 +147,47 @@ public class ScreenshotTaker {
    * @throws SecurityException if {@code readDisplayPixels} permission is not granted.
    */
   public @Nonnull BufferedImage takeScreenshotOf(@Nonnull Component c) {
+    return takeScreenshot(boundsOnScreenOf(c));
+  }
+
+  @Nonnull Rectangle boundsOnScreenOf(@Nonnull Component c) {
     Point locationOnScreen = locationOnScreen(c);
     Dimension size = sizeOf(c);
-    Rectangle r = new Rectangle(locationOnScreen.x, locationOnScreen.y, size.width, size.height);
-    return takeScreenshot(r);
+    return new Rectangle(locationOnScreen.x, locationOnScreen.y, size.width, size.height);
+  }
+
+  /**
+   * Creates a new {@link ScreenCaptureSession} that captures the given AWT or Swing {@code Component}, returning only
+   * the parts of the {@code Component} that changed between captures.
+   *
+   * @param c the given {@code Component}.
+   * @return the created session.
+   * @throws NullPointerException if the given {@code Component} is {@code null}.
+   * @since 1.4
+   */
+  public @Nonnull ScreenCaptureSession newCaptureSession(@Nonnull Component c) {
+    return new ScreenCaptureSession(this, checkNotNull(c), null, ScreenCaptureSession.DEFAULT_TILE_SIZE);
+  }
+
+  /**
+   * Creates a new {@link ScreenCaptureSession} that captures the given region of the screen, returning only the parts
+   * of the region that changed between captures.
+   *
+   * @param screenRegion the region of the screen to capture, in screen coordinates.
+   * @return the created session.
+   * @throws NullPointerException if the given region is {@code null}.
+   * @since 1.4
+   */
+  public @Nonnull ScreenCaptureSession newCaptureSession(@Nonnull Rectangle screenRegion) {
+    Rectangle region = new Rectangle(checkNotNull(screenRegion));
+    return new ScreenCaptureSession(this, null, region, ScreenCaptureSession.DEFAULT_TILE_SIZE);
+  }
+
+  void waitForIdle() {
+    robot.waitForIdle();
   }
 
-  private @Nonnull BufferedImage takeScreenshot(Rectangle r) {
+  @Nonnull BufferedImage takeScreenshot(Rectangle r) {
     JTextComponent textComponent = findFocusOwnerAndHideItsCaret();
     robot.waitForIdle();
     try {
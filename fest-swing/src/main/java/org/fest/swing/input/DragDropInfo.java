@@ -14,6 +14,7 @@
  */
 package org.fest.swing.input;
 
+import static java.awt.event.MouseEvent.MOUSE_DRAGGED;
 import static java.awt.event.MouseEvent.MOUSE_MOVED;
 import static java.awt.event.MouseEvent.MOUSE_PRESSED;
 import static java.awt.event.MouseEvent.MOUSE_RELEASED;
@@ -39,6 +40,7 @@ class DragDropInfo {
   private Component source;
   private int x;
   private int y;
+  private long dragMotionCount;
 
   void clear() {
     source(null);
@@ -54,9 +56,31 @@ class DragDropInfo {
       source(event.getComponent());
       x = event.getX();
       y = event.getY();
+      return;
+    }
+    if (mouseEventId == MOUSE_DRAGGED && isDragging()) {
+      dragMotionCount++;
     }
   }
 
+  /**
+   * Counts a drag motion reported to the drag source of a native drag/drop operation. While such operation is in
+   * progress, some platforms (e.g. Windows) do not deliver any {@code MouseEvent}.
+   */
+  void nativeDragMotion() {
+    if (isDragging()) {
+      dragMotionCount++;
+    }
+  }
+
+  /**
+   * @return the number of drag motion events (including the ones reported by native drag/drop) observed since this
+   *         object was created. This value never decreases, so it can be used to detect new drag activity.
+   */
+  long dragMotionCount() {
+    return dragMotionCount;
+  }
+
   @Nullable Component source() {
     return source;
   }
@@ -17,6 +17,7 @@ package org.fest.swing.input;
 import static java.awt.AWTEvent.KEY_EVENT_MASK;
 import static java.awt.AWTEvent.MOUSE_EVENT_MASK;
 import static java.awt.AWTEvent.MOUSE_MOTION_EVENT_MASK;
+import static java.lang.System.currentTimeMillis;
 import static javax.swing.SwingUtilities.getDeepestComponentAt;
 import static org.fest.swing.awt.AWT.locationOnScreenOf;
 import static org.fest.swing.input.MouseInfo.BUTTON_MASK;
@@ -24,9 +25,13 @@ import static org.fest.util.Preconditions.checkNotNull;
 
 import java.awt.AWTEvent;
 import java.awt.Component;
+import java.awt.GraphicsEnvironment;
 import java.awt.IllegalComponentStateException;
 import java.awt.Point;
 import java.awt.Toolkit;
+import java.awt.dnd.DragSource;
+import java.awt.dnd.DragSourceAdapter;
+import java.awt.dnd.DragSourceDragEvent;
 import java.awt.event.AWTEventListener;
 import java.awt.event.InputEvent;
 import java.awt.event.KeyEvent;
@@ -66,6 +71,18 @@ public class InputState {
 
   private EventNormalizer normalizer;
 
+  private final DragSourceAdapter nativeDragListener = new DragSourceAdapter() {
+    @Override
+    public void dragEnter(DragSourceDragEvent e) {
+      nativeDragMotion();
+    }
+
+    @Override
+    public void dragOver(DragSourceDragEvent e) {
+      nativeDragMotion();
+    }
+  };
+
   public InputState(@Nonnull Toolkit toolkit) {
     long mask = MOUSE_MOTION_EVENT_MASK | MOUSE_EVENT_MASK | KEY_EVENT_MASK;
     AWTEventListener listener = new EventDispatchThreadedEventListener() {
@@ -76,6 +93,11 @@ public class InputState {
     };
     normalizer = new EventNormalizer();
     normalizer.startListening(toolkit, listener, mask);
+    // Swing's TransferHandler starts native drag/drop operations from the default DragSource, which notifies its own
+    // listeners of every drag over a drop target.
+    if (!GraphicsEnvironment.isHeadless()) {
+      DragSource.getDefaultDragSource().addDragSourceListener(nativeDragListener);
+    }
   }
 
   public synchronized void clear() {
@@ -88,6 +110,15 @@ public class InputState {
   public void dispose() {
     normalizer.stopListening();
     normalizer = null;
+    if (!GraphicsEnvironment.isHeadless()) {
+      DragSource.getDefaultDragSource().removeDragSourceListener(nativeDragListener);
+    }
+  }
+
+  private synchronized void nativeDragMotion() {
+    dragDropInfo.nativeDragMotion();
+    // wake up any thread waiting for a drag motion
+    notifyAll();
   }
 
   /**
@@ -118,6 +149,8 @@ public class InputState {
           mouseInfo.modifiers(modifiers);
           mouseInfo.update(mouseEvent, eventScreenLocation);
           modifiers(mouseInfo.modifiers());
+          // wake up any thread waiting for a change in the drag/drop state
+          notifyAll();
         }
       }
     }
@@ -207,6 +240,57 @@ public class InputState {
     return dragDropInfo.isDragging();
   }
 
+  /**
+   * Waits until a drag operation is in progress, or until the given timeout expires. This method returns as soon as the
+   * event that starts the drag operation has been processed.
+   * 
+   * @param timeout the maximum time to wait, in milliseconds.
+   * @return {@code true} if there is a drag operation in progress, {@code false} otherwise.
+   * @throws InterruptedException if the current thread is interrupted while waiting.
+   */
+  public synchronized boolean waitForDragInProgress(long timeout) throws InterruptedException {
+    long deadline = currentTimeMillis() + timeout;
+    while (!dragDropInfo.isDragging()) {
+      long remaining = deadline - currentTimeMillis();
+      if (remaining <= 0) {
+        return false;
+      }
+      wait(remaining);
+    }
+    return true;
+  }
+
+  /**
+   * @return the number of drag motion events observed so far. This value never decreases.
+   * @see #waitForDragMotion(long, long)
+   */
+  public synchronized long dragMotionCount() {
+    return dragDropInfo.dragMotionCount();
+  }
+
+  /**
+   * Waits until a drag motion event, newer than the ones already counted in the given value, has been processed. Drag
+   * motion events include the ones reported to the drag source of a native drag/drop operation, while dragging over a
+   * drop target. This method returns {@code false} right away if the drag operation is cancelled.
+   * 
+   * @param lastDragMotionCount the value returned by {@link #dragMotionCount()} before moving the mouse pointer.
+   * @param timeout the maximum time to wait, in milliseconds.
+   * @return {@code true} if a new drag motion event was processed while the drag operation is still in progress,
+   *         {@code false} otherwise.
+   * @throws InterruptedException if the current thread is interrupted while waiting.
+   */
+  public synchronized boolean waitForDragMotion(long lastDragMotionCount, long timeout) throws InterruptedException {
+    long deadline = currentTimeMillis() + timeout;
+    while (dragDropInfo.dragMotionCount() <= lastDragMotionCount) {
+      long remaining = deadline - currentTimeMillis();
+      if (remaining <= 0 || !dragDropInfo.isDragging()) {
+        return false;
+      }
+      wait(remaining);
+    }
+    return dragDropInfo.isDragging();
+  }
+
   /**
    * @return the AWT or Swing {@code Component} where a drag operation started.
    */
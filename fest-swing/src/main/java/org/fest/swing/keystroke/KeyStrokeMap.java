@@ -14,8 +14,19 @@
  */
 package org.fest.swing.keystroke;
 
+import static java.awt.event.InputEvent.ALT_DOWN_MASK;
+import static java.awt.event.InputEvent.ALT_GRAPH_DOWN_MASK;
+import static java.awt.event.InputEvent.ALT_GRAPH_MASK;
+import static java.awt.event.InputEvent.ALT_MASK;
+import static java.awt.event.InputEvent.BUTTON1_DOWN_MASK;
+import static java.awt.event.InputEvent.BUTTON2_DOWN_MASK;
+import static java.awt.event.InputEvent.BUTTON3_DOWN_MASK;
+import static java.awt.event.InputEvent.CTRL_DOWN_MASK;
+import static java.awt.event.InputEvent.CTRL_MASK;
+import static java.awt.event.InputEvent.META_DOWN_MASK;
+import static java.awt.event.InputEvent.META_MASK;
+import static java.awt.event.InputEvent.SHIFT_DOWN_MASK;
 import static java.awt.event.InputEvent.SHIFT_MASK;
-import static java.awt.event.KeyEvent.CHAR_UNDEFINED;
 import static org.fest.swing.util.Platform.osFamily;
 
 import java.util.Locale;
@@ -108,19 +119,29 @@ public class KeyStrokeMap {
    */
   public static char charFor(@Nonnull KeyStroke keyStroke) {
     Character character = maps.charFor(keyStroke);
-    // Try again, but strip all modifiers but shift
-    if (character == null) {
-      character = charWithoutModifiersButShift(keyStroke);
-    }
-    if (character == null) {
-      return CHAR_UNDEFINED;
+    if (character != null) {
+      return character;
     }
-    return character;
+    // Try again, but strip all modifiers but shift
+    return maps.charFor(keyStroke.getKeyCode(), withoutModifiersButShift(keyStroke.getModifiers()));
+  }
+
+  // Same result as 'KeyStroke.getKeyStroke(keyCode, modifiers & ~SHIFT_MASK).getModifiers()', without looking up (or
+  // creating) a KeyStroke.
+  @VisibleForTesting
+  static int withoutModifiersButShift(int modifiers) {
+    int mask = modifiers & ~SHIFT_MASK;
+    int newModifiers = mask & (SHIFT_DOWN_MASK | ALT_DOWN_MASK | ALT_GRAPH_DOWN_MASK | CTRL_DOWN_MASK | META_DOWN_MASK
+        | BUTTON1_DOWN_MASK | BUTTON2_DOWN_MASK | BUTTON3_DOWN_MASK);
+    newModifiers |= downMask(mask, ALT_MASK, ALT_DOWN_MASK) | downMask(mask, ALT_GRAPH_MASK, ALT_GRAPH_DOWN_MASK)
+        | downMask(mask, CTRL_MASK, CTRL_DOWN_MASK) | downMask(mask, META_MASK, META_DOWN_MASK);
+    return newModifiers | downMask(newModifiers, SHIFT_DOWN_MASK, SHIFT_MASK)
+        | downMask(newModifiers, ALT_DOWN_MASK, ALT_MASK) | downMask(newModifiers, ALT_GRAPH_DOWN_MASK, ALT_GRAPH_MASK)
+        | downMask(newModifiers, CTRL_DOWN_MASK, CTRL_MASK) | downMask(newModifiers, META_DOWN_MASK, META_MASK);
   }
 
-  private static @Nullable Character charWithoutModifiersButShift(@Nonnull KeyStroke keyStroke) {
-    int mask = keyStroke.getModifiers() & ~SHIFT_MASK;
-    return maps.charFor(KeyStroke.getKeyStroke(keyStroke.getKeyCode(), mask));
+  private static int downMask(int modifiers, int mask, int mappedMask) {
+    return (modifiers & mask) != 0 ? mappedMask : 0;
   }
 
   private KeyStrokeMap() {}
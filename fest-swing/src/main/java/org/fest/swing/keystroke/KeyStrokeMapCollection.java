@@ -14,8 +14,11 @@
  */
 package org.fest.swing.keystroke;
 
+import static java.awt.event.KeyEvent.CHAR_UNDEFINED;
+import static java.awt.event.KeyEvent.KEY_PRESSED;
 import static org.fest.util.Maps.newHashMap;
 
+import java.util.Arrays;
 import java.util.Map;
 
 import javax.annotation.Nonnull;
@@ -23,33 +26,149 @@ import javax.annotation.Nullable;
 import javax.swing.KeyStroke;
 
 /**
+ * <p>
  * Mapping between characters and {@code KeyStroke}s.
+ * </p>
+ * 
+ * <p>
+ * Lookups are performed on every typed character, so this collection avoids boxing in the common case: characters in
+ * the Latin-1 range are stored in a table indexed by the character itself, and "key pressed" {@code KeyStroke}s are
+ * stored in a table keyed by their key code and modifiers packed in a single {@code int}. Any other character or
+ * {@code KeyStroke} (e.g. extended key codes or "key released" {@code KeyStroke}s) is stored in an overflow map.
+ * </p>
  * 
  * @author Alex Ruiz
  */
 class KeyStrokeMapCollection {
-  private final Map<Character, KeyStroke> charToKeyStroke = newHashMap();
-  private final Map<KeyStroke, Character> keyStrokeToChar = newHashMap();
+  private static final int DIRECT_TABLE_SIZE = 256;
+  private static final int INITIAL_REVERSE_TABLE_CAPACITY = 256;
+
+  private final KeyStroke[] charToKeyStroke = new KeyStroke[DIRECT_TABLE_SIZE];
+  private final Map<Character, KeyStroke> charToKeyStrokeOverflow = newHashMap();
+
+  private int[] keyStrokeKeys = new int[INITIAL_REVERSE_TABLE_CAPACITY];
+  private char[] keyStrokeChars = new char[INITIAL_REVERSE_TABLE_CAPACITY];
+  private boolean[] keyStrokeSlotUsed = new boolean[INITIAL_REVERSE_TABLE_CAPACITY];
+  private int keyStrokeCount;
+  private final Map<KeyStroke, Character> keyStrokeToCharOverflow = newHashMap();
+
+  private boolean empty = true;
 
   void add(@Nonnull Character character, @Nonnull KeyStroke keyStroke) {
-    charToKeyStroke.put(character, keyStroke);
-    keyStrokeToChar.put(keyStroke, character);
+    char c = character;
+    if (c < DIRECT_TABLE_SIZE) {
+      charToKeyStroke[c] = keyStroke;
+    } else {
+      charToKeyStrokeOverflow.put(character, keyStroke);
+    }
+    if (isPackable(keyStroke)) {
+      put(pack(keyStroke.getKeyCode(), keyStroke.getModifiers()), c);
+    } else {
+      keyStrokeToCharOverflow.put(keyStroke, character);
+    }
+    empty = false;
   }
 
   void clear() {
-    charToKeyStroke.clear();
-    keyStrokeToChar.clear();
+    Arrays.fill(charToKeyStroke, null);
+    charToKeyStrokeOverflow.clear();
+    Arrays.fill(keyStrokeSlotUsed, false);
+    keyStrokeCount = 0;
+    keyStrokeToCharOverflow.clear();
+    empty = true;
   }
 
   boolean isEmpty() {
-    return charToKeyStroke.isEmpty() && keyStrokeToChar.isEmpty();
+    return empty;
   }
 
   @Nullable KeyStroke keyStrokeFor(char character) {
-    return charToKeyStroke.get(character);
+    if (character < DIRECT_TABLE_SIZE) {
+      return charToKeyStroke[character];
+    }
+    return charToKeyStrokeOverflow.get(character);
+  }
+
+  @Nullable Character charFor(@Nonnull KeyStroke keyStroke) {
+    if (!isPackable(keyStroke)) {
+      return keyStrokeToCharOverflow.get(keyStroke);
+    }
+    char character = charFor(keyStroke.getKeyCode(), keyStroke.getModifiers());
+    return character != CHAR_UNDEFINED ? character : null;
+  }
+
+  /**
+   * Returns the character mapped to the "key pressed" {@code KeyStroke} with the given key code and modifiers, without
+   * creating a {@code KeyStroke}.
+   * 
+   * @param keyCode the key code.
+   * @param modifiers the modifiers, as returned by {@code KeyStroke.getModifiers()}.
+   * @return the mapped character, or {@code KeyEvent.CHAR_UNDEFINED} if there is no mapping.
+   */
+  char charFor(int keyCode, int modifiers) {
+    if (!isPackable(keyCode, modifiers)) {
+      Character character = keyStrokeToCharOverflow.get(KeyStroke.getKeyStroke(keyCode, modifiers));
+      return character != null ? character : CHAR_UNDEFINED;
+    }
+    int key = pack(keyCode, modifiers);
+    int mask = keyStrokeKeys.length - 1;
+    for (int i = hash(key) & mask; keyStrokeSlotUsed[i]; i = (i + 1) & mask) {
+      if (keyStrokeKeys[i] == key) {
+        return keyStrokeChars[i];
+      }
+    }
+    return CHAR_UNDEFINED;
+  }
+
+  private static boolean isPackable(@Nonnull KeyStroke keyStroke) {
+    // only "key pressed" KeyStrokes are uniquely identified by their key code and modifiers
+    return keyStroke.getKeyEventType() == KEY_PRESSED && isPackable(keyStroke.getKeyCode(), keyStroke.getModifiers());
+  }
+
+  private static boolean isPackable(int keyCode, int modifiers) {
+    return (keyCode & ~0xFFFF) == 0 && (modifiers & ~0xFFFF) == 0;
+  }
+
+  private static int pack(int keyCode, int modifiers) {
+    return (keyCode << 16) | modifiers;
+  }
+
+  private static int hash(int key) {
+    int h = key * 0x9E3779B9;
+    return h ^ (h >>> 16);
+  }
+
+  private void put(int key, char character) {
+    int mask = keyStrokeKeys.length - 1;
+    int i = hash(key) & mask;
+    while (keyStrokeSlotUsed[i]) {
+      if (keyStrokeKeys[i] == key) {
+        keyStrokeChars[i] = character;
+        return;
+      }
+      i = (i + 1) & mask;
+    }
+    keyStrokeSlotUsed[i] = true;
+    keyStrokeKeys[i] = key;
+    keyStrokeChars[i] = character;
+    if (++keyStrokeCount * 2 > keyStrokeKeys.length) {
+      growReverseTable();
+    }
   }
 
-  @Nullable Character charFor(KeyStroke keyStroke) {
-    return keyStrokeToChar.get(keyStroke);
+  private void growReverseTable() {
+    int[] oldKeys = keyStrokeKeys;
+    char[] oldChars = keyStrokeChars;
+    boolean[] oldSlotUsed = keyStrokeSlotUsed;
+    int capacity = oldKeys.length * 2;
+    keyStrokeKeys = new int[capacity];
+    keyStrokeChars = new char[capacity];
+    keyStrokeSlotUsed = new boolean[capacity];
+    keyStrokeCount = 0;
+    for (int i = 0; i < oldKeys.length; i++) {
+      if (oldSlotUsed[i]) {
+        put(oldKeys[i], oldChars[i]);
+      }
+    }
   }
 }
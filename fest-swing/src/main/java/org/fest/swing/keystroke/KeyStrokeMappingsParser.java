@@ -16,13 +16,11 @@ package org.fest.swing.keystroke;
 
 import static java.lang.Thread.currentThread;
 import static org.fest.assertions.Assertions.assertThat;
-import static org.fest.reflect.core.Reflection.field;
 import static org.fest.swing.keystroke.KeyStrokeMapping.mapping;
 import static org.fest.swing.keystroke.KeyStrokeMappingProvider.NO_MASK;
 import static org.fest.util.Closeables.closeQuietly;
 import static org.fest.util.Lists.newArrayList;
 import static org.fest.util.Maps.newHashMap;
-import static org.fest.util.Preconditions.checkNotNull;
 import static org.fest.util.Preconditions.checkNotNullOrEmpty;
 import static org.fest.util.Strings.concat;
 import static org.fest.util.Strings.quote;
@@ -36,12 +34,14 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.util.List;
 import java.util.Map;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
-import org.fest.reflect.exception.ReflectionError;
 import org.fest.swing.exception.ParsingException;
 import org.fest.util.VisibleForTesting;
 
@@ -88,6 +88,11 @@ import org.fest.util.VisibleForTesting;
  * are necessary, we just specify "NO_MASK".
  * </p>
  *
+ * <p>
+ * Key codes and modifiers can also be specified as numbers, in decimal or hexadecimal (e.g. "0x41") notation. Files
+ * generated by tools can use this notation to skip the resolution of names.
+ * </p>
+ *
  * @author Olivier DOREMIEUX
  * @author Alex Ruiz
  *
@@ -100,6 +105,28 @@ public class KeyStrokeMappingsParser {
     SPECIAL_MAPPINGS.put("COMMA", ',');
   }
 
+  // names are resolved once, instead of looking up a field for every parsed line
+  private static final Map<String, Integer> KEY_CODES = intConstantsIn(KeyEvent.class, "VK_");
+  private static final Map<String, Integer> MODIFIERS = intConstantsIn(InputEvent.class, "");
+
+  private static @Nonnull Map<String, Integer> intConstantsIn(@Nonnull Class<?> type, @Nonnull String prefix) {
+    Map<String, Integer> constants = newHashMap();
+    for (Field field : type.getDeclaredFields()) {
+      int modifiers = field.getModifiers();
+      String name = field.getName();
+      if (!Modifier.isPublic(modifiers) || !Modifier.isStatic(modifiers) || field.getType() != int.class
+          || !name.startsWith(prefix)) {
+        continue;
+      }
+      try {
+        constants.put(name.substring(prefix.length()), field.getInt(null));
+      } catch (IllegalAccessException ignored) {
+        // public fields are always accessible
+      }
+    }
+    return constants;
+  }
+
   /**
    * <p>
    * Creates a {@link KeyStrokeMappingProvider} containing all the character-keystroke mappings specified in the file
@@ -201,23 +228,32 @@ public class KeyStrokeMappingsParser {
   }
 
   private static int keyCodeFrom(@Nonnull String s) {
-    try {
-      Integer keyCode = field("VK_" + s).ofType(int.class).in(KeyEvent.class).get();
-      return checkNotNull(keyCode);
-    } catch (ReflectionError e) {
-      throw new ParsingException(concat("Unable to retrieve key code from text ", quote(s)), e.getCause());
+    Integer keyCode = valueOf(s, KEY_CODES);
+    if (keyCode == null) {
+      throw new ParsingException(concat("Unable to retrieve key code from text ", quote(s)));
     }
+    return keyCode;
   }
 
   private static int modifiersFrom(@Nonnull String s) {
     if ("NO_MASK".equals(s)) {
       return NO_MASK;
     }
-    try {
-      Integer modifiers = field(s).ofType(int.class).in(InputEvent.class).get();
-      return checkNotNull(modifiers);
-    } catch (ReflectionError e) {
-      throw new ParsingException(concat("Unable to retrieve modifiers from text ", quote(s)), e.getCause());
+    Integer modifiers = valueOf(s, MODIFIERS);
+    if (modifiers == null) {
+      throw new ParsingException(concat("Unable to retrieve modifiers from text ", quote(s)));
+    }
+    return modifiers;
+  }
+
+  private static @Nullable Integer valueOf(@Nonnull String s, @Nonnull Map<String, Integer> constants) {
+    if (s.length() > 0 && Character.isDigit(s.charAt(0))) {
+      try {
+        return Integer.decode(s);
+      } catch (NumberFormatException e) {
+        return null;
+      }
     }
+    return constants.get(s);
   }
 }
@@ -14,6 +14,13 @@
  */
 package org.fest.swing.lock;
 
+import static java.awt.GraphicsEnvironment.getLocalGraphicsEnvironment;
+import static java.awt.GraphicsEnvironment.isHeadless;
+import static org.fest.util.Preconditions.checkNotNull;
+
+import java.awt.GraphicsDevice;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -27,6 +34,11 @@ import org.fest.swing.exception.ScreenLockException;
 /**
  * A lock that each GUI test should acquire before being executed, to guarantee sequential execution of GUI tests and to
  * prevent GUI tests from blocking each other.
+ * <p>
+ * There is one lock per screen: GUI tests that use different screens (e.g. one display per test worker) do not block
+ * each other. The lock returned by {@link #instance()} is the lock of the default screen. The keyboard focus is still
+ * shared by all the screens in a JVM, so these tests should not type text at the same time.
+ * </p>
  * 
  * @author Yvonne Wang
  * @author Alex Ruiz
@@ -132,8 +144,40 @@ public final class ScreenLock {
     return ScreenLockHolder.instance;
   }
 
+  /**
+   * Returns the lock of the given screen. GUI tests that use the given screen should acquire this lock, instead of the
+   * one returned by {@link #instance()}, to be able to run concurrently with GUI tests that use other screens.
+   * 
+   * @param screen the given screen.
+   * @return the lock of the given screen. If the given screen is the default one, this method returns the same lock as
+   *         {@link #instance()}.
+   * @throws NullPointerException if the given screen is {@code null}.
+   * @since 1.4
+   */
+  public static @Nonnull ScreenLock instance(@Nonnull GraphicsDevice screen) {
+    String screenId = checkNotNull(screen).getIDstring();
+    if (isDefaultScreen(screenId)) {
+      return instance();
+    }
+    ScreenLock lock = ScreenLockHolder.screenLocks.get(screenId);
+    if (lock != null) {
+      return lock;
+    }
+    ScreenLock newLock = new ScreenLock();
+    lock = ScreenLockHolder.screenLocks.putIfAbsent(screenId, newLock);
+    return lock != null ? lock : newLock;
+  }
+
+  private static boolean isDefaultScreen(@Nonnull String screenId) {
+    if (isHeadless()) {
+      return false;
+    }
+    return screenId.equals(getLocalGraphicsEnvironment().getDefaultScreenDevice().getIDstring());
+  }
+
   private static class ScreenLockHolder {
     static ScreenLock instance = new ScreenLock();
+    static ConcurrentMap<String, ScreenLock> screenLocks = new ConcurrentHashMap<String, ScreenLock>();
   }
 
   ScreenLock() {}
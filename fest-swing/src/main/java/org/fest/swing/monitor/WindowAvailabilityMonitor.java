@@ -14,9 +14,13 @@
  */
 package org.fest.swing.monitor;
 
+import static java.awt.AWTEvent.FOCUS_EVENT_MASK;
 import static java.awt.AWTEvent.MOUSE_EVENT_MASK;
 import static java.awt.AWTEvent.MOUSE_MOTION_EVENT_MASK;
 import static java.awt.AWTEvent.PAINT_EVENT_MASK;
+import static java.awt.AWTEvent.WINDOW_EVENT_MASK;
+import static java.awt.event.FocusEvent.FOCUS_GAINED;
+import static java.awt.event.WindowEvent.WINDOW_ACTIVATED;
 import static javax.swing.SwingUtilities.getWindowAncestor;
 import static org.fest.swing.listener.WeakEventListener.attachAsWeakEventListener;
 
@@ -26,18 +30,22 @@ import java.awt.Toolkit;
 import java.awt.Window;
 import java.awt.event.AWTEventListener;
 import java.awt.event.MouseEvent;
+import java.awt.event.PaintEvent;
 
 import javax.annotation.Nonnull;
 
 import org.fest.swing.annotation.RunsInEDT;
 
 /**
- * Event listener that monitors when a window is ready to receive OS-level event input.
+ * Event listener that monitors when a window is ready to receive OS-level event input. A window is considered ready
+ * when it (or any of its descendants) receives a mouse event, is painted for the first time, is activated or gains
+ * focus.
  * 
  * @author Alex Ruiz
  */
 final class WindowAvailabilityMonitor implements AWTEventListener {
-  private static final long EVENT_MASK = MOUSE_MOTION_EVENT_MASK | MOUSE_EVENT_MASK | PAINT_EVENT_MASK;
+  private static final long EVENT_MASK = MOUSE_MOTION_EVENT_MASK | MOUSE_EVENT_MASK | PAINT_EVENT_MASK
+      | WINDOW_EVENT_MASK | FOCUS_EVENT_MASK;
 
   private final Windows windows;
 
@@ -52,7 +60,7 @@ final class WindowAvailabilityMonitor implements AWTEventListener {
   @RunsInEDT
   @Override
   public void eventDispatched(AWTEvent e) {
-    if (!(e instanceof MouseEvent)) {
+    if (!isReadinessNotification(e)) {
       return;
     }
     Object source = e.getSource();
@@ -63,4 +71,12 @@ final class WindowAvailabilityMonitor implements AWTEventListener {
     Window w = c instanceof Window ? (Window) c : getWindowAncestor(c);
     windows.markAsReady(w);
   }
+
+  private static boolean isReadinessNotification(@Nonnull AWTEvent e) {
+    if (e instanceof MouseEvent || e instanceof PaintEvent) {
+      return true;
+    }
+    int id = e.getID();
+    return id == WINDOW_ACTIVATED || id == FOCUS_GAINED;
+  }
 }
@@ -107,6 +107,28 @@ public class WindowMonitor {
     return false;
   }
 
+  /**
+   * Waits until the given AWT or Swing {@code Window} is ready to receive OS-level event input, or until the given
+   * timeout expires. Unlike polling {@link #isWindowReady(Window)}, this method returns as soon as this monitor is
+   * notified that the {@code Window} is ready.
+   * 
+   * @param w the given {@code Window}.
+   * @param timeout the maximum time to wait, in milliseconds.
+   * @return whether the {@code Window} is ready to receive OS-level event input.
+   * @since 1.4
+   */
+  public boolean waitForWindowReady(@Nonnull Window w, long timeout) {
+    if (isWindowReady(w)) {
+      return true;
+    }
+    try {
+      return windows.waitUntilReady(w, timeout);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return windows.isReady(w);
+    }
+  }
+
   /**
    * Returns the event queue corresponding to the given AWT or Swing {@code Compoenent}. In most cases, this is the same
    * as {@code Component.getToolkit().getSystemEventQueue()}, but in the case of applets will bypass the
@@ -14,6 +14,7 @@
  */
 package org.fest.swing.monitor;
 
+import static java.lang.System.currentTimeMillis;
 import static org.fest.util.Maps.newWeakHashMap;
 
 import java.awt.Component;
@@ -23,6 +24,7 @@ import java.util.Timer;
 import java.util.TimerTask;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.GuardedBy;
 import javax.annotation.concurrent.ThreadSafe;
 
@@ -31,6 +33,12 @@ import org.fest.util.VisibleForTesting;
 
 /**
  * Information collected by the monitors in this package.
+ * <p>
+ * A {@code Window} becomes "ready" as soon as it receives any notification that its peer is able to process input (see
+ * {@link WindowAvailabilityMonitor}.) If no such notification arrives, the {@code Window} is considered ready after
+ * {@link #WINDOW_READY_DELAY} milliseconds. Threads waiting for a {@code Window} to be ready are notified when its state
+ * changes, instead of polling.
+ * </p>
  * 
  * @author Alex Ruiz
  */
@@ -39,21 +47,9 @@ class Windows {
   @VisibleForTesting
   static int WINDOW_READY_DELAY = 10000;
 
-  /** {@link Window#isShowing() isShowing} is true but are not yet ready for input. */
+  /** The state of each known {@code Window}. */
   @GuardedBy("lock")
-  final Map<Window, TimerTask> pending = newWeakHashMap();
-
-  /** Considered to be ready to use. */
-  @GuardedBy("lock")
-  final Map<Window, Boolean> open = newWeakHashMap();
-
-  /** Have sent a {@link java.awt.event.WindowEvent#WINDOW_CLOSED WINDOW_CLOSED} event. */
-  @GuardedBy("lock")
-  final Map<Window, Boolean> closed = newWeakHashMap();
-
-  /** Not visible. */
-  @GuardedBy("lock")
-  final Map<Window, Boolean> hidden = newWeakHashMap();
+  private final Map<Window, WindowState> states = newWeakHashMap();
 
   private final Timer windowReadyTimer;
 
@@ -82,10 +78,12 @@ class Windows {
   @RunsInCurrentThread
   void markExisting(@Nonnull Window w) {
     synchronized (lock) {
-      open.put(w, true);
+      WindowState state = stateOf(w);
+      state.open = true;
       if (!w.isShowing()) {
-        hidden.put(w, true);
+        state.hidden = true;
       }
+      lock.notifyAll();
     }
   }
 
@@ -96,8 +94,9 @@ class Windows {
    */
   void markAsHidden(@Nonnull Window w) {
     synchronized (lock) {
-      hidden.put(w, true);
-      removeWindowFrom(w, pending);
+      WindowState state = stateOf(w);
+      state.hidden = true;
+      state.notPending();
     }
   }
 
@@ -114,8 +113,11 @@ class Windows {
           markAsReady(w);
         }
       };
+      WindowState state = stateOf(w);
+      state.notPending();
+      state.pending = true;
+      state.readyTask = task;
       windowReadyTimer.schedule(new ProtectingTimerTask(task), WINDOW_READY_DELAY);
-      pending.put(w, task);
     }
   }
 
@@ -124,13 +126,17 @@ class Windows {
    * 
    * @param w the given window.
    */
-  void markAsReady(@Nonnull Window w) {
+  void markAsReady(@Nullable Window w) {
     synchronized (lock) {
-      if (!pending.containsKey(w)) {
+      WindowState state = states.get(w);
+      if (state == null || !state.pending) {
         return;
       }
-      removeWindowFrom(w, closed, hidden, pending);
-      open.put(w, true);
+      state.notPending();
+      state.closed = false;
+      state.hidden = false;
+      state.open = true;
+      lock.notifyAll();
     }
   }
 
@@ -141,14 +147,46 @@ class Windows {
    */
   void markAsClosed(@Nonnull Window w) {
     synchronized (lock) {
-      removeWindowFrom(w, open, hidden, pending);
-      closed.put(w, true);
+      WindowState state = stateOf(w);
+      state.notPending();
+      state.open = false;
+      state.hidden = false;
+      state.closed = true;
     }
   }
 
-  private void removeWindowFrom(Window w, Map<?, ?>... maps) {
-    for (Map<?, ?> map : maps) {
-      map.remove(w);
+  @VisibleForTesting
+  @Nonnull WindowState stateOf(@Nonnull Window w) {
+    synchronized (lock) {
+      WindowState state = states.get(w);
+      if (state == null) {
+        state = new WindowState();
+        states.put(w, state);
+      }
+      return state;
+    }
+  }
+
+  /**
+   * Waits until the given {@code Window} is ready to receive OS-level event input, or until the given timeout expires.
+   * This method returns as soon as the {@code Window} is marked as ready.
+   * 
+   * @param w the given {@code Window}.
+   * @param timeout the maximum time to wait, in milliseconds.
+   * @return {@code true} if the given {@code Window} is ready to receive OS-level event input, {@code false} otherwise.
+   * @throws InterruptedException if the current thread is interrupted while waiting.
+   */
+  boolean waitUntilReady(@Nonnull Window w, long timeout) throws InterruptedException {
+    long deadline = currentTimeMillis() + timeout;
+    synchronized (lock) {
+      while (!isReadyInternal(w)) {
+        long remaining = deadline - currentTimeMillis();
+        if (remaining <= 0) {
+          return false;
+        }
+        lock.wait(remaining);
+      }
+      return true;
     }
   }
 
@@ -160,7 +198,8 @@ class Windows {
    */
   boolean isClosed(@Nonnull Component c) {
     synchronized (lock) {
-      return closed.containsKey(c);
+      WindowState state = states.get(c);
+      return state != null && state.closed;
     }
   }
 
@@ -172,10 +211,16 @@ class Windows {
    */
   boolean isReady(@Nonnull Window w) {
     synchronized (lock) {
-      return open.containsKey(w) && !hidden.containsKey(w);
+      return isReadyInternal(w);
     }
   }
 
+  @GuardedBy("lock")
+  private boolean isReadyInternal(@Nonnull Window w) {
+    WindowState state = states.get(w);
+    return state != null && state.open && !state.hidden;
+  }
+
   /**
    * Indicates whether the given {@code Window} is hidden.
    * 
@@ -184,7 +229,8 @@ class Windows {
    */
   boolean isHidden(@Nonnull Window w) {
     synchronized (lock) {
-      return hidden.containsKey(w);
+      WindowState state = states.get(w);
+      return state != null && state.hidden;
     }
   }
 
@@ -197,7 +243,34 @@ class Windows {
    */
   boolean isShowingButNotReady(@Nonnull Window w) {
     synchronized (lock) {
-      return pending.containsKey(w);
+      WindowState state = states.get(w);
+      return state != null && state.pending;
+    }
+  }
+
+  @VisibleForTesting
+  static class WindowState {
+    /** Considered to be ready to use. */
+    boolean open;
+
+    /** {@link Window#isShowing() isShowing} is true but not yet ready for input. */
+    boolean pending;
+
+    /** Not visible. */
+    boolean hidden;
+
+    /** Have sent a {@link java.awt.event.WindowEvent#WINDOW_CLOSED WINDOW_CLOSED} event. */
+    boolean closed;
+
+    /** Marks the {@code Window} as ready if no other notification does it first. */
+    TimerTask readyTask;
+
+    void notPending() {
+      pending = false;
+      if (readyTask != null) {
+        readyTask.cancel();
+        readyTask = null;
+      }
     }
   }
 }
@@ -33,6 +33,8 @@ public abstract class Condition {
 
   private final Description description;
 
+  private volatile WakeUpSignal wakeUpSignal;
+
   /**
    * Creates a new {@link Condition}.
    *
@@ -89,4 +91,58 @@ public abstract class Condition {
    * place to do any necessary resource cleanup.
    */
   protected void done() {}
+
+  final boolean startWaiting(@Nonnull WakeUpSignal signal) {
+    wakeUpSignal = signal;
+    return addWakeUpListeners();
+  }
+
+  final void stopWaiting() {
+    try {
+      removeWakeUpListeners();
+    } finally {
+      wakeUpSignal = null;
+    }
+  }
+
+  /**
+   * <p>
+   * Registers any listeners needed to know when the state verified by this condition may have changed. Such listeners
+   * should call {@link #wakeUp()}, to let {@link Pause} evaluate this condition right away instead of waiting for its
+   * next check.
+   * </p>
+   *
+   * <p>
+   * The default implementation does not register any listener, meaning that this condition can only be polled.
+   * </p>
+   *
+   * @return {@code true} if this condition notifies changes through {@link #wakeUp()}, {@code false} otherwise.
+   * @see #removeWakeUpListeners()
+   * @since 1.4
+   */
+  protected boolean addWakeUpListeners() {
+    return false;
+  }
+
+  /**
+   * Removes the listeners registered in {@link #addWakeUpListeners()}. This method is invoked by
+   * {@link Pause#pause(Condition)} (and all overloaded methods) right before {@link #done()}.
+   *
+   * @since 1.4
+   */
+  protected void removeWakeUpListeners() {}
+
+  /**
+   * Notifies {@link Pause} that the state verified by this condition may have changed, and that this condition should
+   * be evaluated again. This method can be called from any thread, and does nothing if nobody is waiting for this
+   * condition.
+   *
+   * @since 1.4
+   */
+  protected final void wakeUp() {
+    WakeUpSignal signal = wakeUpSignal;
+    if (signal != null) {
+      signal.signal();
+    }
+  }
 }
@@ -36,6 +36,10 @@ public final class Pause {
   private static final int DEFAULT_DELAY = 30000;
   private static final int SLEEP_INTERVAL = 10;
 
+  private static final int MIN_CHECK_INTERVAL = 1;
+  private static final int MAX_POLLING_INTERVAL = SLEEP_INTERVAL;
+  private static final int MAX_NOTIFIED_CHECK_INTERVAL = 200;
+
   /**
    * Waits until the given condition is satisfied.
    * 
@@ -71,15 +75,22 @@ public final class Pause {
    */
   public static void pause(@Nonnull Condition condition, long timeout) {
     checkNotNull(condition);
-    TimeoutWatch watch = startWatchWithTimeoutOf(timeout);
-    while (!condition.test()) {
-      if (watch.isTimeOut() && !condition.test()) {
-        condition.done();
-        throw new WaitTimedOutError(String.format("Timed out waiting for %s", condition.toString()));
+    WakeUpSignal signal = new WakeUpSignal();
+    try {
+      boolean notified = condition.startWaiting(signal);
+      TimeoutWatch watch = startWatchWithTimeoutOf(timeout);
+      long interval = MIN_CHECK_INTERVAL;
+      while (!condition.test()) {
+        if (watch.isTimeOut() && !condition.test()) {
+          throw new WaitTimedOutError(String.format("Timed out waiting for %s", condition.toString()));
+        }
+        signal.await(interval);
+        interval = nextCheckInterval(interval, notified);
       }
-      pause(SLEEP_INTERVAL);
+    } finally {
+      condition.stopWaiting();
+      condition.done();
     }
-    condition.done();
   }
 
   /**
@@ -122,24 +133,47 @@ public final class Pause {
    */
   public static void pause(@Nonnull Condition[] conditions, long timeout) {
     checkNotNullOrEmpty(conditions);
-    TimeoutWatch watch = startWatchWithTimeoutOf(timeout);
-    while (!areSatisfied(conditions)) {
-      if (watch.isTimeOut()) {
-        for (Condition condition : conditions) {
-          condition.done();
+    for (Condition condition : conditions) {
+      checkNotNull(condition);
+    }
+    WakeUpSignal signal = new WakeUpSignal();
+    int started = 0;
+    try {
+      boolean notified = true;
+      for (Condition condition : conditions) {
+        // counted before adding its listeners, so a condition that fails halfway still removes the ones it added
+        started++;
+        notified &= condition.startWaiting(signal);
+      }
+      TimeoutWatch watch = startWatchWithTimeoutOf(timeout);
+      long interval = MIN_CHECK_INTERVAL;
+      while (!areSatisfied(conditions)) {
+        if (watch.isTimeOut()) {
+          throw new WaitTimedOutError(String.format("Timed out waiting for %s", format(conditions)));
         }
-        throw new WaitTimedOutError(String.format("Timed out waiting for %s", format(conditions)));
+        signal.await(interval);
+        interval = nextCheckInterval(interval, notified);
+      }
+    } finally {
+      for (int i = 0; i < started; i++) {
+        conditions[i].stopWaiting();
+      }
+      for (Condition condition : conditions) {
+        condition.done();
       }
-      pause(SLEEP_INTERVAL);
-    }
-    for (Condition condition : conditions) {
-      condition.done();
     }
   }
 
+  // Conditions that cannot notify changes are polled, backing off from 1 ms up to 10 ms (the interval they were always
+  // polled at.) Conditions that notify changes are still checked every now and then, in case they miss any
+  // notification.
+  private static long nextCheckInterval(long interval, boolean notified) {
+    long max = notified ? MAX_NOTIFIED_CHECK_INTERVAL : MAX_POLLING_INTERVAL;
+    return Math.min(interval * 2, max);
+  }
+
   private static boolean areSatisfied(@Nonnull Condition[] conditions) {
     for (Condition condition : conditions) {
-      checkNotNull(condition);
       if (!condition.test()) {
         return false;
       }
@@ -0,0 +1,46 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.timing;
+
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Wakes up a thread waiting in {@link Pause} for a {@link Condition} to be satisfied. A signal sent while nobody is
+ * waiting is not lost: the next call to {@link #await(long)} returns immediately.
+ *
+ * @author Alex Ruiz
+ */
+@ThreadSafe
+final class WakeUpSignal {
+  @GuardedBy("this")
+  private boolean signaled;
+
+  synchronized void signal() {
+    signaled = true;
+    notifyAll();
+  }
+
+  synchronized void await(long ms) {
+    if (!signaled) {
+      try {
+        wait(ms);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    signaled = false;
+  }
+}
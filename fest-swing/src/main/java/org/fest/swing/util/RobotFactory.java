@@ -15,6 +15,7 @@
 package org.fest.swing.util;
 
 import java.awt.AWTException;
+import java.awt.GraphicsDevice;
 import java.awt.Robot;
 
 import javax.annotation.Nonnull;
@@ -36,4 +37,19 @@ public class RobotFactory {
   public @Nonnull Robot newRobotInPrimaryScreen() throws AWTException {
     return new Robot();
   }
+
+  /**
+   * Creates a new AWT {@code Robot} object in the coordinate system of the given screen.
+   *
+   * @param screen the screen the {@code Robot} will operate on.
+   * @return the created {@code Robot}.
+   * @throws AWTException if the platform configuration does not allow low-level input control. This exception is always
+   *           thrown when {@code GraphicsEnvironment.isHeadless()} returns {@code true}.
+   * @throws IllegalArgumentException if the given screen is not a screen device.
+   * @throws SecurityException if {@code createRobot} permission is not granted.
+   * @since 1.4
+   */
+  public @Nonnull Robot newRobotInScreen(@Nonnull GraphicsDevice screen) throws AWTException {
+    return new Robot(screen);
+  }
 }
@@ -0,0 +1,123 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.core;
+
+import static java.awt.event.KeyEvent.KEY_PRESSED;
+import static java.awt.event.KeyEvent.VK_A;
+import static java.awt.event.KeyEvent.VK_B;
+import static java.awt.event.MouseEvent.MOUSE_PRESSED;
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.swing.core.AdaptiveEventPacer.NO_KEY_CODE;
+
+import java.awt.AWTEvent;
+import java.awt.event.KeyEvent;
+import java.awt.event.MouseEvent;
+
+import javax.swing.JButton;
+
+import org.fest.swing.core.AdaptiveEventPacer.ExpectedEvent;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link AdaptiveEventPacer#awaitDispatch(ExpectedEvent, int)}.
+ *
+ * @author Alex Ruiz
+ */
+public class AdaptiveEventPacer_awaitDispatch_Test {
+  private AdaptiveEventPacer pacer;
+  private JButton source;
+
+  @Before
+  public void setUp() {
+    pacer = new AdaptiveEventPacer();
+    source = new JButton();
+  }
+
+  @Test
+  public void should_not_wait_after_event_is_dispatched_in_time() {
+    ExpectedEvent event = pacer.expect(KEY_PRESSED, KEY_PRESSED, VK_A);
+    pacer.eventDispatched(keyPressed(VK_A));
+    long start = System.currentTimeMillis();
+    pacer.awaitDispatch(event, 5000);
+    assertThat(System.currentTimeMillis() - start).isLessThan(1000);
+    assertThat(pacer.settleDelay()).isZero();
+  }
+
+  @Test
+  public void should_ignore_events_not_matching_expected_one() {
+    ExpectedEvent event = pacer.expect(KEY_PRESSED, KEY_PRESSED, VK_A);
+    pacer.eventDispatched(keyPressed(VK_B));
+    pacer.awaitDispatch(event, 20);
+    pacer.eventDispatched(keyPressed(VK_A));
+    assertThat(pacer.settleDelay()).isEqualTo(1);
+  }
+
+  @Test
+  public void should_not_back_off_if_event_is_never_dispatched() {
+    pacer.awaitDispatch(pacer.expect(MOUSE_PRESSED, MOUSE_PRESSED, NO_KEY_CODE), 20);
+    pacer.awaitDispatch(pacer.expect(MOUSE_PRESSED, MOUSE_PRESSED, NO_KEY_CODE), 20);
+    assertThat(pacer.settleDelay()).isZero();
+  }
+
+  @Test
+  public void should_stop_waiting_for_event_after_a_few_round_trips() {
+    ExpectedEvent dispatched = pacer.expect(KEY_PRESSED, KEY_PRESSED, VK_A);
+    pacer.eventDispatched(keyPressed(VK_A));
+    pacer.awaitDispatch(dispatched, 5000);
+    long start = System.currentTimeMillis();
+    pacer.awaitDispatch(pacer.expect(MOUSE_PRESSED, MOUSE_PRESSED, NO_KEY_CODE), 5000);
+    assertThat(System.currentTimeMillis() - start).isLessThan(1000);
+  }
+
+  @Test
+  public void should_back_off_if_event_is_dispatched_late() {
+    ExpectedEvent first = pacer.expect(KEY_PRESSED, KEY_PRESSED, VK_A);
+    pacer.awaitDispatch(first, 20);
+    pacer.settleDelay(4);
+    pacer.eventDispatched(keyPressed(VK_A));
+    assertThat(pacer.settleDelay()).isEqualTo(8);
+  }
+
+  @Test
+  public void should_never_wait_longer_than_maximum_delay() {
+    pacer.settleDelay(50);
+    for (int i = 0; i < 3; i++) {
+      pacer.awaitDispatch(pacer.expect(MOUSE_PRESSED, MOUSE_PRESSED, NO_KEY_CODE), 20);
+      pacer.eventDispatched(mousePressed());
+    }
+    assertThat(pacer.settleDelay()).isEqualTo(20);
+  }
+
+  @Test
+  public void should_reduce_settle_delay_while_events_are_dispatched_in_time() {
+    pacer.settleDelay(8);
+    for (int i = 0; i < 8; i++) {
+      ExpectedEvent event = pacer.expect(KEY_PRESSED, KEY_PRESSED, VK_A);
+      pacer.eventDispatched(keyPressed(VK_A));
+      pacer.awaitDispatch(event, 100);
+    }
+    assertThat(pacer.settleDelay()).isEqualTo(6);
+    assertThat(pacer.averageRoundTrip()).isGreaterThanOrEqualTo(0);
+  }
+
+  private AWTEvent mousePressed() {
+    return new MouseEvent(source, MOUSE_PRESSED, System.currentTimeMillis(), 0, 0, 0, 1, false);
+  }
+
+  private AWTEvent keyPressed(int keyCode) {
+    return new KeyEvent(source, KEY_PRESSED, System.currentTimeMillis(), 0, keyCode, KeyEvent.CHAR_UNDEFINED);
+  }
+}
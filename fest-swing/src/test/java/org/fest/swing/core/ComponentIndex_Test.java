@@ -0,0 +1,159 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.core;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.util.Lists.newArrayList;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.awt.Component;
+import java.awt.Container;
+import java.awt.Toolkit;
+import java.awt.event.AWTEventListener;
+import java.awt.event.AWTEventListenerProxy;
+import java.util.Collection;
+import java.util.List;
+
+import javax.swing.AbstractButton;
+import javax.swing.JButton;
+import javax.swing.JPanel;
+import javax.swing.JTextField;
+
+import org.fest.swing.hierarchy.ComponentHierarchy;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+/**
+ * Tests for {@link ComponentIndex}.
+ *
+ * @author Alex Ruiz
+ */
+public class ComponentIndex_Test {
+  private JPanel root;
+  private JButton button;
+  private ComponentIndex index;
+  private List<AWTEventListener> existingListeners;
+
+  @Before
+  public void setUp() {
+    existingListeners = awtEventListeners();
+    root = new JPanel();
+    button = new JButton();
+    button.setName("okButton");
+    root.add(button);
+    index = new ComponentIndex(Toolkit.getDefaultToolkit(), hierarchyWithRoot(root));
+  }
+
+  // Removes the listeners added by the indexes created in the test, so they do not pile up in the default toolkit.
+  @After
+  public void tearDown() {
+    for (AWTEventListener listener : awtEventListeners()) {
+      if (!existingListeners.contains(listener)) {
+        Toolkit.getDefaultToolkit().removeAWTEventListener(listener);
+      }
+    }
+  }
+
+  private static List<AWTEventListener> awtEventListeners() {
+    List<AWTEventListener> listeners = newArrayList();
+    for (AWTEventListener listener : Toolkit.getDefaultToolkit().getAWTEventListeners()) {
+      listeners.add(((AWTEventListenerProxy) listener).getListener());
+    }
+    return listeners;
+  }
+
+  private static ComponentHierarchy hierarchyWithRoot(Container root) {
+    ComponentHierarchy hierarchy = mock(ComponentHierarchy.class);
+    List<Container> roots = newArrayList(root);
+    when(hierarchy.roots()).thenReturn(roots);
+    when(hierarchy.childrenOf(any(Component.class))).thenAnswer(new Answer<List<Component>>() {
+      @Override
+      public List<Component> answer(InvocationOnMock invocation) {
+        Object c = invocation.getArguments()[0];
+        if (c instanceof Container) {
+          return newArrayList(((Container) c).getComponents());
+        }
+        return newArrayList();
+      }
+    });
+    return hierarchy;
+  }
+
+  @Test
+  public void should_index_existing_Components() {
+    assertThat(index.componentsNamed("okButton")).containsOnly(button);
+    assertThat(index.componentsOfType(JButton.class)).containsOnly(button);
+  }
+
+  @Test
+  public void should_index_added_Components_and_their_children() {
+    JPanel panel = new JPanel();
+    JTextField textField = new JTextField();
+    textField.setName("textField");
+    panel.add(textField);
+    root.add(panel);
+    assertThat(index.componentsNamed("textField")).containsOnly(textField);
+    assertThat(index.componentsOfType(JPanel.class)).containsOnly(root, panel);
+  }
+
+  @Test
+  public void should_update_index_when_Component_is_renamed() {
+    button.setName("cancelButton");
+    assertThat(index.componentsNamed("okButton")).isEmpty();
+    assertThat(index.componentsNamed("cancelButton")).containsOnly(button);
+  }
+
+  @Test
+  public void should_remove_Component_from_index_when_removed_from_its_parent() {
+    root.remove(button);
+    assertThat(index.componentsNamed("okButton")).isEmpty();
+    assertThat(index.componentsOfType(JButton.class)).isEmpty();
+  }
+
+  @Test
+  public void should_return_subtypes_when_looking_up_by_type() {
+    assertThat(index.candidatesFor(new TypeMatcher(AbstractButton.class))).containsOnly(button);
+  }
+
+  @Test
+  public void should_return_candidates_for_NameMatcher() {
+    assertThat(index.candidatesFor(new NameMatcher("okButton"))).containsOnly(button);
+  }
+
+  @Test
+  public void should_index_roots_of_hierarchy_not_indexed_yet_before_returning_candidates() {
+    JPanel detached = new JPanel();
+    JButton first = new JButton();
+    first.setName("sameName");
+    JButton second = new JButton();
+    second.setName("sameName");
+    detached.add(first);
+    detached.add(second);
+    ComponentIndex newIndex = new ComponentIndex(Toolkit.getDefaultToolkit(), hierarchyWithRoot(root));
+    assertThat(newIndex.componentsNamed("sameName")).isEmpty();
+    Collection<Component> candidates = newIndex.candidatesFor(hierarchyWithRoot(detached), new NameMatcher("sameName"));
+    assertThat(candidates).containsOnly(first, second);
+  }
+
+  @Test
+  public void should_return_null_candidates_for_unsupported_matcher() {
+    assertThat(index.candidatesFor(new LabelMatcher("ok"))).isNull();
+  }
+}
@@ -0,0 +1,122 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.core;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.awt.EventQueue;
+import java.awt.Toolkit;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.fest.swing.edt.GuiActionRunner;
+import org.fest.swing.edt.GuiQuery;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link EventQueueIdleWaiter#waitForIdle(EventQueue, long)}.
+ *
+ * @author Alex Ruiz
+ */
+public class EventQueueIdleWaiter_waitForIdle_Test {
+  private Toolkit toolkit;
+  private EventQueue eventQueue;
+  private EventQueueIdleWaiter waiter;
+
+  @Before
+  public void setUp() {
+    toolkit = Toolkit.getDefaultToolkit();
+    eventQueue = toolkit.getSystemEventQueue();
+    waiter = new EventQueueIdleWaiter(toolkit);
+  }
+
+  @Test
+  public void should_return_after_all_pending_events_are_dispatched() {
+    final AtomicInteger dispatched = new AtomicInteger();
+    EventQueue.invokeLater(new Runnable() {
+      @Override
+      public void run() {
+        dispatched.incrementAndGet();
+        // posted while the waiter's first marker is already in the queue
+        EventQueue.invokeLater(new Runnable() {
+          @Override
+          public void run() {
+            dispatched.incrementAndGet();
+          }
+        });
+      }
+    });
+    assertThat(waiter.waitForIdle(eventQueue, 5000)).isTrue();
+    assertThat(dispatched.get()).isEqualTo(2);
+  }
+
+  @Test
+  public void should_return_false_if_event_queue_is_never_drained() {
+    final AtomicBoolean stop = new AtomicBoolean();
+    EventQueue.invokeLater(new Runnable() {
+      @Override
+      public void run() {
+        if (!stop.get()) {
+          EventQueue.invokeLater(this);
+        }
+      }
+    });
+    try {
+      assertThat(waiter.waitForIdle(eventQueue, 200)).isFalse();
+    } finally {
+      stop.set(true);
+    }
+  }
+
+  @Test
+  public void should_not_keep_each_other_waiting_if_called_from_several_threads() throws InterruptedException {
+    int threadCount = 4;
+    final CountDownLatch start = new CountDownLatch(1);
+    final CountDownLatch done = new CountDownLatch(threadCount);
+    final AtomicInteger idleCount = new AtomicInteger();
+    for (int i = 0; i < threadCount; i++) {
+      new Thread() {
+        @Override
+        public void run() {
+          try {
+            start.await();
+            if (waiter.waitForIdle(eventQueue, 5000)) {
+              idleCount.incrementAndGet();
+            }
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          } finally {
+            done.countDown();
+          }
+        }
+      }.start();
+    }
+    start.countDown();
+    done.await();
+    assertThat(idleCount.get()).isEqualTo(threadCount);
+  }
+
+  @Test(expected = IllegalThreadStateException.class)
+  public void should_throw_error_if_called_in_EDT() {
+    GuiActionRunner.execute(new GuiQuery<Boolean>() {
+      @Override
+      protected Boolean executeInEDT() {
+        return waiter.waitForIdle(eventQueue, 100);
+      }
+    });
+  }
+}
@@ -0,0 +1,63 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.core;
+
+import static javax.swing.SwingUtilities.isEventDispatchThread;
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.awt.Component;
+import java.util.Collection;
+
+import javax.annotation.Nullable;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link FinderDelegate#find(org.fest.swing.hierarchy.ComponentHierarchy, ComponentMatcher, int)}.
+ *
+ * @author Alex Ruiz
+ */
+public class FinderDelegate_findInHierarchyWithLimit_Test extends FinderDelegate_TestCase {
+  @Test
+  public void should_stop_search_when_limit_is_reached() {
+    MatchesAllInEDT matcher = new MatchesAllInEDT();
+    Collection<Component> found = finder.find(hierarchy, matcher, 2);
+    assertThat(found).hasSize(2);
+    assertThat(matcher.matchCount).isEqualTo(2);
+  }
+
+  @Test
+  public void should_evaluate_matcher_in_EDT() {
+    MatchesAllInEDT matcher = new MatchesAllInEDT();
+    Collection<Component> found = finder.find(hierarchy, matcher);
+    assertThat(found).contains(window, window.textField);
+    assertThat(matcher.matchCount).isEqualTo(found.size());
+    assertThat(matcher.matchedOutsideEDT).isFalse();
+  }
+
+  private static class MatchesAllInEDT implements ComponentMatcher {
+    int matchCount;
+    boolean matchedOutsideEDT;
+
+    @Override
+    public boolean matches(@Nullable Component c) {
+      matchCount++;
+      if (!isEventDispatchThread()) {
+        matchedOutsideEDT = true;
+      }
+      return true;
+    }
+  }
+}
@@ -0,0 +1,102 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.core;
+
+import static java.awt.event.InputEvent.SHIFT_MASK;
+import static java.awt.event.KeyEvent.KEY_PRESSED;
+import static java.awt.event.KeyEvent.KEY_RELEASED;
+import static java.awt.event.KeyEvent.KEY_TYPED;
+import static java.awt.event.KeyEvent.VK_A;
+import static java.awt.event.KeyEvent.VK_SHIFT;
+import static java.awt.event.KeyEvent.VK_UNDEFINED;
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.swing.core.KeyEventSequence.keyEventsFor;
+import static org.fest.swing.keystroke.KeyStrokeMapping.mapping;
+import static org.fest.swing.test.builder.JTextFields.textField;
+import static org.fest.util.Lists.newArrayList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.awt.event.KeyEvent;
+import java.util.List;
+
+import javax.swing.JTextField;
+
+import org.fest.swing.keystroke.KeyStrokeMap;
+import org.fest.swing.keystroke.KeyStrokeMapping;
+import org.fest.swing.keystroke.KeyStrokeMappingProvider;
+import org.fest.swing.test.core.EDTSafeTestCase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link KeyEventSequence#keyEventsFor(java.awt.Component, String)}.
+ * 
+ * @author Alex Ruiz
+ */
+public class KeyEventSequence_keyEventsFor_Test extends EDTSafeTestCase {
+  private JTextField textField;
+
+  @Before
+  public void setUp() {
+    textField = textField().createNew();
+    List<KeyStrokeMapping> mappings = newArrayList(mapping('a', VK_A, 0), mapping('A', VK_A, SHIFT_MASK));
+    KeyStrokeMappingProvider provider = mock(KeyStrokeMappingProvider.class);
+    when(provider.keyStrokeMappings()).thenReturn(mappings);
+    KeyStrokeMap.clearKeyStrokes();
+    KeyStrokeMap.addKeyStrokesFrom(provider);
+  }
+
+  @After
+  public void tearDown() {
+    KeyStrokeMap.reloadFromSystemSettings();
+  }
+
+  @Test
+  public void should_generate_pressed_typed_and_released_events_for_mapped_character() {
+    List<KeyEvent> events = keyEventsFor(textField, "a");
+    assertThat(events).hasSize(3);
+    assertThatEventIs(events.get(0), KEY_PRESSED, VK_A, 'a', 0);
+    assertThatEventIs(events.get(1), KEY_TYPED, VK_UNDEFINED, 'a', 0);
+    assertThatEventIs(events.get(2), KEY_RELEASED, VK_A, 'a', 0);
+  }
+
+  @Test
+  public void should_press_and_release_modifiers_around_mapped_character() {
+    List<KeyEvent> events = keyEventsFor(textField, "A");
+    assertThat(events).hasSize(5);
+    assertThatEventIs(events.get(0), KEY_PRESSED, VK_SHIFT, KeyEvent.CHAR_UNDEFINED, SHIFT_MASK);
+    assertThatEventIs(events.get(1), KEY_PRESSED, VK_A, 'A', SHIFT_MASK);
+    assertThatEventIs(events.get(2), KEY_TYPED, VK_UNDEFINED, 'A', SHIFT_MASK);
+    assertThatEventIs(events.get(3), KEY_RELEASED, VK_A, 'A', SHIFT_MASK);
+    assertThatEventIs(events.get(4), KEY_RELEASED, VK_SHIFT, KeyEvent.CHAR_UNDEFINED, 0);
+  }
+
+  @Test
+  public void should_generate_only_typed_event_for_unmapped_character() {
+    List<KeyEvent> events = keyEventsFor(textField, "a\u00e9");
+    assertThat(events).hasSize(4);
+    assertThatEventIs(events.get(3), KEY_TYPED, VK_UNDEFINED, '\u00e9', 0);
+  }
+
+  private void assertThatEventIs(KeyEvent event, int id, int keyCode, char keyChar, int modifiers) {
+    assertThat(event.getSource()).isSameAs(textField);
+    assertThat(event.getID()).isEqualTo(id);
+    assertThat(event.getKeyCode()).isEqualTo(keyCode);
+    assertThat(event.getKeyChar()).isEqualTo(keyChar);
+    assertThat(event.getModifiers()).isEqualTo(modifiers);
+  }
+}
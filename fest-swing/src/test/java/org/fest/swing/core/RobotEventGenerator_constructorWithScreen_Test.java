@@ -0,0 +1,61 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.core;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.swing.util.TestRobotFactories.newRobotFactoryMock;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.awt.AWTException;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsDevice;
+import java.awt.Rectangle;
+import java.awt.Robot;
+
+import org.fest.swing.util.RobotFactory;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for
+ * {@link RobotEventGenerator#RobotEventGenerator(org.fest.swing.util.RobotFactory, Settings, java.awt.GraphicsDevice)}.
+ * 
+ * @author Alex Ruiz
+ */
+public class RobotEventGenerator_constructorWithScreen_Test {
+  private RobotFactory robotFactory;
+  private GraphicsDevice screen;
+
+  @Before
+  public void setUp() {
+    robotFactory = newRobotFactoryMock();
+    screen = mock(GraphicsDevice.class);
+    GraphicsConfiguration configuration = mock(GraphicsConfiguration.class);
+    when(configuration.getBounds()).thenReturn(new Rectangle(0, 0, 800, 600));
+    when(screen.getDefaultConfiguration()).thenReturn(configuration);
+  }
+
+  @Test
+  public void should_create_AWTRobot_in_given_screen() throws AWTException {
+    Robot robot = mock(Robot.class);
+    when(robotFactory.newRobotInScreen(screen)).thenReturn(robot);
+    RobotEventGenerator eventGenerator = new RobotEventGenerator(robotFactory, new Settings(), screen);
+    assertThat(eventGenerator.robot()).isSameAs(robot);
+    verify(robotFactory, never()).newRobotInPrimaryScreen();
+  }
+}
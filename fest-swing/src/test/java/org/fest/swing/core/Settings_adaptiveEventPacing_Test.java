@@ -0,0 +1,62 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.core;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.awt.Robot;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link Settings#adaptiveEventPacing(boolean)} and {@link Settings#adaptiveEventPacing()}.
+ *
+ * @author Alex Ruiz
+ */
+public class Settings_adaptiveEventPacing_Test {
+  private Settings settings;
+  private Robot robot;
+
+  @Before
+  public void setUp() {
+    settings = new Settings();
+    robot = mock(Robot.class);
+    settings.attachTo(robot);
+  }
+
+  @Test
+  public void should_be_disabled_by_default() {
+    assertThat(new Settings().adaptiveEventPacing()).isFalse();
+  }
+
+  @Test
+  public void should_remove_auto_delay_of_AWT_Robot_when_enabled() {
+    settings.adaptiveEventPacing(true);
+    assertThat(settings.adaptiveEventPacing()).isTrue();
+    verify(robot).setAutoDelay(0);
+  }
+
+  @Test
+  public void should_restore_auto_delay_of_AWT_Robot_when_disabled() {
+    settings.delayBetweenEvents(80);
+    settings.adaptiveEventPacing(true);
+    settings.adaptiveEventPacing(false);
+    verify(robot, times(2)).setAutoDelay(80);
+  }
+}
@@ -67,6 +67,29 @@ public class JComboBoxDropDownListFinder_findDropDownList_Test extends RobotBase
     assertThatListContains(list, "first", "second", "third");
   }
 
+  @Test
+  public void should_find_drop_down_list_of_JComboBox() {
+    showJComboBoxDropDownList();
+    JList list = finder.findDropDownList(window.comboBox);
+    assertThat(list).isNotNull();
+    assertThatListContains(list, "first", "second", "third");
+  }
+
+  @Test
+  public void should_wait_for_drop_down_list_of_JComboBox_to_be_shown() {
+    showDropDownListWithDelay();
+    JList list = finder.findDropDownList(window.comboBox);
+    assertThat(list).isNotNull();
+    assertThatListContains(list, "first", "second", "third");
+  }
+
+  @Test
+  public void should_return_null_if_drop_down_list_of_JComboBox_is_not_shown() {
+    robot.settings().timeoutToFindPopup(100);
+    JList list = finder.findDropDownList(window.comboBox);
+    assertThat(list).isNull();
+  }
+
   private void showDropDownListWithDelay() {
     java.util.Timer timer = new Timer("showJComboBoxDropDownList", false);
     timer.schedule(new TimerTask() {
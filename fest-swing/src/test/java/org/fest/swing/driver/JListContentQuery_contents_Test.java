@@ -20,6 +20,8 @@ import static org.fest.util.Arrays.array;
 
 import java.awt.Dimension;
 
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import javax.swing.JList;
 import javax.swing.JScrollPane;
 
@@ -52,6 +54,29 @@ public class JListContentQuery_contents_Test extends RobotBasedTestCase {
     assertThat(contents).containsOnly("Yoda", "Luke");
   }
 
+  @Test
+  public void should_return_contents_of_JList_in_range_as_text() {
+    String[] contents = JListContentQuery.contents(list, 1, 2, cellReader);
+    assertThat(contents).containsOnly("Luke");
+  }
+
+  @Test
+  public void should_use_valueAt_overridden_in_subclass_of_BasicJListCellReader() {
+    JListCellReader overriding = new BasicJListCellReader() {
+      @Override
+      public @Nullable String valueAt(@Nonnull JList list, int index) {
+        return String.valueOf(index);
+      }
+    };
+    String[] contents = JListContentQuery.contents(list, overriding);
+    assertThat(contents).containsOnly("0", "1");
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void should_throw_error_if_range_is_out_of_bounds() {
+    JListContentQuery.contents(list, 1, 3, cellReader);
+  }
+
   private static class MyWindow extends TestWindow {
     private static final Dimension LIST_SIZE = new Dimension(80, 40);
 
@@ -17,8 +17,6 @@ package org.fest.swing.driver;
 import static org.fest.assertions.Assertions.assertThat;
 import static org.mockito.Mockito.when;
 
-import java.util.List;
-
 import javax.swing.JList;
 
 import org.fest.swing.cell.JListCellReader;
@@ -36,16 +34,16 @@ public class JListMatchingItemQuery_matchingItemIndices_Test extends JListMatchi
     TextMatcher matcher = mockTextMatcher();
     when(matcher.isMatching("Yoda")).thenReturn(false);
     when(matcher.isMatching("Luke")).thenReturn(true);
-    List<Integer> indices = JListMatchingItemQuery.matchingItemIndices(list, matcher, cellReader);
-    assertThat(indices).hasSize(1).containsOnly(1);
+    int[] indices = JListMatchingItemQuery.matchingItemIndices(list, matcher, cellReader);
+    assertThat(indices).containsOnly(1);
   }
 
   @Test
-  public void should_return_empty_list_if_matching_indices_not_found() {
+  public void should_return_empty_array_if_matching_indices_not_found() {
     TextMatcher matcher = mockTextMatcher();
     when(matcher.isMatching("Yoda")).thenReturn(false);
     when(matcher.isMatching("Luke")).thenReturn(false);
-    List<Integer> indices = JListMatchingItemQuery.matchingItemIndices(list, matcher, cellReader);
+    int[] indices = JListMatchingItemQuery.matchingItemIndices(list, matcher, cellReader);
     assertThat(indices).isEmpty();
   }
 }
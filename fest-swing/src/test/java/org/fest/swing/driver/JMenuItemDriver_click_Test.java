@@ -38,6 +38,7 @@ import org.junit.Test;
  */
 public class JMenuItemDriver_click_Test extends RobotBasedTestCase {
   private JMenuItem menuItem;
+  private JMenuItem subMenuItem;
   private JMenuItemDriver driver;
 
   @Override
@@ -46,6 +47,7 @@ public class JMenuItemDriver_click_Test extends RobotBasedTestCase {
     MyWindow window = MyWindow.createNew();
     robot.showWindow(window);
     menuItem = window.menuNew;
+    subMenuItem = window.menuProject;
   }
 
   @Test
@@ -55,9 +57,19 @@ public class JMenuItemDriver_click_Test extends RobotBasedTestCase {
     clickRecorder.wasClicked();
   }
 
+  @Test
+  public void should_click_menu_in_sub_menu() {
+    ClickRecorder clickRecorder = attachTo(subMenuItem);
+    driver.click(subMenuItem);
+    clickRecorder.wasClicked();
+  }
+
   private static class MyWindow extends TestWindow {
     final JMenu menuFile = new JMenu("File");
     final JMenuItem menuNew = new JMenuItem("New");
+    final JMenu menuOpen = new JMenu("Open");
+    final JMenu menuRecent = new JMenu("Recent");
+    final JMenuItem menuProject = new JMenuItem("Project");
 
     @RunsInEDT
     static MyWindow createNew() {
@@ -73,6 +85,9 @@ public class JMenuItemDriver_click_Test extends RobotBasedTestCase {
       super(JMenuItemDriver_click_Test.class);
       setJMenuBar(new JMenuBar());
       menuFile.add(menuNew);
+      menuRecent.add(menuProject);
+      menuOpen.add(menuRecent);
+      menuFile.add(menuOpen);
       getJMenuBar().add(menuFile);
       setPreferredSize(new Dimension(80, 60));
     }
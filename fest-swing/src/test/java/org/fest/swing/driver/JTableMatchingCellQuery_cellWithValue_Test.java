@@ -0,0 +1,146 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.driver;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.swing.data.TableCell.row;
+import static org.fest.swing.driver.JTableMatchingCellQuery.CELLS_PER_SLICE;
+import static org.fest.swing.edt.GuiActionRunner.execute;
+import static org.fest.swing.test.core.CommonAssertions.failWhenExpectingException;
+
+import javax.swing.JTable;
+import javax.swing.table.DefaultTableCellRenderer;
+import javax.swing.table.DefaultTableModel;
+
+import org.fest.swing.annotation.RunsInEDT;
+import org.fest.swing.data.TableCell;
+import org.fest.swing.edt.GuiQuery;
+import org.fest.swing.edt.GuiTask;
+import org.fest.swing.exception.ActionFailedException;
+import org.fest.swing.test.core.EDTSafeTestCase;
+import org.fest.swing.util.StringTextMatcher;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link JTableMatchingCellQuery#cellWithValue(JTable, org.fest.swing.util.TextMatcher,
+ * org.fest.swing.cell.JTableCellReader, int[])}.
+ * 
+ * @author Alex Ruiz
+ */
+public class JTableMatchingCellQuery_cellWithValue_Test extends EDTSafeTestCase {
+  private static final int ROW_COUNT = CELLS_PER_SLICE + 500;
+
+  private JTable table;
+  private DefaultTableCellRenderer renderer;
+  private BasicJTableCellReader cellReader;
+
+  @Before
+  public void setUp() {
+    table = createTable();
+    renderer = new DefaultTableCellRenderer();
+    renderer.setText("Not rendered");
+    setCellRenderer(table, renderer);
+    cellReader = new BasicJTableCellReader();
+  }
+
+  @Test
+  public void should_find_cell_without_rendering_if_renderer_shows_model_value() {
+    TableCell cell = JTableMatchingCellQuery.cellWithValue(table, new StringTextMatcher("3-1"), cellReader);
+    assertThat(cell).isEqualTo(row(3).column(1));
+    assertThat(renderer.getText()).isEqualTo("Not rendered");
+  }
+
+  @Test
+  public void should_use_cell_reader_if_reader_is_customized() {
+    TableCell cell = JTableMatchingCellQuery.cellWithValue(table, new StringTextMatcher("3-1"),
+        new BasicJTableCellReader() {});
+    assertThat(cell).isEqualTo(row(3).column(1));
+    assertThat(renderer.getText()).isEqualTo("3-1");
+  }
+
+  @Test
+  public void should_use_cell_reader_if_renderer_is_customized() {
+    setCellRenderer(table, new DefaultTableCellRenderer() {
+      @Override
+      protected void setValue(Object value) {
+        setText("Cell " + value);
+      }
+    });
+    TableCell cell = JTableMatchingCellQuery.cellWithValue(table, new StringTextMatcher("Cell 3-1"), cellReader);
+    assertThat(cell).isEqualTo(row(3).column(1));
+  }
+
+  @Test
+  public void should_search_only_given_columns() {
+    TableCell cell = JTableMatchingCellQuery.cellWithValue(table, new StringTextMatcher("2-.*"), cellReader,
+        new int[] { 2, 1 });
+    assertThat(cell).isEqualTo(row(2).column(2));
+  }
+
+  @Test
+  public void should_find_cell_after_first_slice() {
+    String value = cellValue(ROW_COUNT - 1, 0);
+    TableCell cell = JTableMatchingCellQuery.cellWithValue(table, new StringTextMatcher(value), cellReader);
+    assertThat(cell).isEqualTo(row(ROW_COUNT - 1).column(0));
+  }
+
+  @Test
+  public void should_throw_error_if_a_matching_cell_was_not_found() {
+    try {
+      JTableMatchingCellQuery.cellWithValue(table, new StringTextMatcher("3-1"), cellReader, new int[] { 0 });
+      failWhenExpectingException();
+    } catch (ActionFailedException expected) {
+      assertThat(expected.getMessage()).contains("Unable to find cell matching value '3-1'");
+    }
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void should_throw_error_if_column_is_out_of_bounds() {
+    JTableMatchingCellQuery.cellWithValue(table, new StringTextMatcher("3-1"), cellReader, new int[] { 8 });
+  }
+
+  private static String cellValue(int row, int column) {
+    return String.format("%d-%d", row, column);
+  }
+
+  @RunsInEDT
+  private static JTable createTable() {
+    return execute(new GuiQuery<JTable>() {
+      @Override
+      protected JTable executeInEDT() {
+        DefaultTableModel model = new DefaultTableModel(ROW_COUNT, 3);
+        for (int r = 0; r < ROW_COUNT; r++) {
+          for (int c = 0; c < 3; c++) {
+            model.setValueAt(cellValue(r, c), r, c);
+          }
+        }
+        return new JTable(model);
+      }
+    });
+  }
+
+  @RunsInEDT
+  private static void setCellRenderer(final JTable table, final DefaultTableCellRenderer renderer) {
+    execute(new GuiTask() {
+      @Override
+      protected void executeInEDT() {
+        for (int c = 0; c < 3; c++) {
+          table.getColumnModel().getColumn(c).setCellRenderer(renderer);
+        }
+      }
+    });
+  }
+}
@@ -0,0 +1,169 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.driver;
+
+import static java.awt.Color.BLUE;
+import static java.awt.Color.WHITE;
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.swing.data.TableCell.row;
+import static org.fest.swing.edt.GuiActionRunner.execute;
+import static org.fest.swing.test.swing.TestTable.columnNames;
+import static org.fest.swing.test.swing.TestTable.createCellValueFrom;
+import static org.fest.swing.test.swing.TestTable.rowData;
+
+import java.awt.Color;
+import java.awt.Component;
+
+import javax.swing.JTable;
+import javax.swing.table.DefaultTableCellRenderer;
+import javax.swing.table.TableCellRenderer;
+
+import org.fest.swing.annotation.RunsInEDT;
+import org.fest.swing.data.TableCell;
+import org.fest.swing.edt.GuiQuery;
+import org.fest.swing.test.core.EDTSafeTestCase;
+import org.fest.swing.util.StringTextMatcher;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link JTableSnapshotQuery}.
+ * 
+ * @author Alex Ruiz
+ */
+public class JTableSnapshotQuery_snapshotOf_Test extends EDTSafeTestCase {
+  private MyTable table;
+  private BasicJTableCellReader cellReader;
+
+  @Before
+  public void setUp() {
+    table = MyTable.createNew();
+    cellReader = new BasicJTableCellReader();
+  }
+
+  @Test
+  public void should_capture_contents_of_whole_table() {
+    JTableSnapshot snapshot = JTableSnapshotQuery.snapshotOf(table, cellReader, false);
+    assertThat(snapshot.rowCount()).isEqualTo(4);
+    assertThat(snapshot.columnCount()).isEqualTo(3);
+    assertThat(snapshot.contents()).isEqualTo(JTableContentsQuery.tableContents(table, cellReader));
+    assertThat(snapshot.valueAt(2, 1)).isEqualTo(createCellValueFrom(2, 1));
+    assertThat(snapshot.stylesIncluded()).isFalse();
+  }
+
+  @Test
+  public void should_prepare_renderer_once_per_cell() {
+    table.prepareRendererCount = 0;
+    JTableSnapshotQuery.snapshotOf(table, cellReader, true);
+    assertThat(table.prepareRendererCount).isEqualTo(12);
+  }
+
+  @Test
+  public void should_capture_styles() {
+    JTableSnapshot snapshot = JTableSnapshotQuery.snapshotOf(table, cellReader, true);
+    assertThat(snapshot.stylesIncluded()).isTrue();
+    assertThat(snapshot.backgroundAt(1, 0)).isEqualTo(BLUE);
+    assertThat(snapshot.foregroundAt(1, 0)).isEqualTo(WHITE);
+    assertThat(snapshot.fontAt(1, 0)).isEqualTo(cellReader.fontAt(table, 1, 0));
+  }
+
+  @Test
+  public void should_share_equal_values() {
+    JTableSnapshot snapshot = JTableSnapshotQuery.snapshotOf(table, new ConstantCellReader(), false);
+    assertThat(snapshot.valueAt(0, 0)).isSameAs(snapshot.valueAt(3, 2));
+  }
+
+  @Test
+  public void should_use_all_methods_of_custom_cell_reader() {
+    JTableSnapshot snapshot = JTableSnapshotQuery.snapshotOf(table, new ConstantCellReader(), true);
+    assertThat(snapshot.valueAt(1, 1)).isEqualTo("Hello");
+    assertThat(snapshot.foregroundAt(1, 1)).isEqualTo(WHITE);
+  }
+
+  @Test
+  public void should_capture_window_truncated_at_table_bounds() {
+    JTableSnapshot snapshot = JTableSnapshotQuery.snapshotOf(table, cellReader, row(2).column(1), 10, 10, false);
+    assertThat(snapshot.firstRow()).isEqualTo(2);
+    assertThat(snapshot.firstColumn()).isEqualTo(1);
+    assertThat(snapshot.rowCount()).isEqualTo(2);
+    assertThat(snapshot.columnCount()).isEqualTo(2);
+    assertThat(snapshot.valueAt(3, 2)).isEqualTo(createCellValueFrom(3, 2));
+    assertThat(snapshot.contains(1, 1)).isFalse();
+  }
+
+  @Test
+  public void should_find_cell_in_table_coordinates() {
+    JTableSnapshot snapshot = JTableSnapshotQuery.snapshotOf(table, cellReader, row(1).column(1), 3, 2, false);
+    TableCell cell = snapshot.findCell(new StringTextMatcher(createCellValueFrom(3, 2)));
+    assertThat(cell).isEqualTo(row(3).column(2));
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void should_throw_error_if_cell_is_outside_of_snapshot() {
+    JTableSnapshot snapshot = JTableSnapshotQuery.snapshotOf(table, cellReader, row(1).column(1), 1, 1, false);
+    snapshot.valueAt(0, 0);
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void should_throw_error_if_styles_were_not_included() {
+    JTableSnapshot snapshot = JTableSnapshotQuery.snapshotOf(table, cellReader, false);
+    snapshot.fontAt(0, 0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void should_throw_error_if_row_count_is_negative() {
+    JTableSnapshotQuery.snapshotOf(table, cellReader, row(0).column(0), -1, 1, false);
+  }
+
+  private static class ConstantCellReader extends BasicJTableCellReader {
+    @Override
+    public String valueAt(JTable t, int row, int column) {
+      return new String("Hello");
+    }
+
+    @Override
+    public Color foregroundAt(JTable t, int row, int column) {
+      return WHITE;
+    }
+  }
+
+  private static class MyTable extends JTable {
+    int prepareRendererCount;
+
+    @RunsInEDT
+    static MyTable createNew() {
+      return execute(new GuiQuery<MyTable>() {
+        @Override
+        protected MyTable executeInEDT() {
+          return new MyTable();
+        }
+      });
+    }
+
+    private MyTable() {
+      super(rowData(4, 3), columnNames(3));
+      DefaultTableCellRenderer renderer = new DefaultTableCellRenderer();
+      renderer.setBackground(BLUE);
+      renderer.setForeground(WHITE);
+      getColumnModel().getColumn(0).setCellRenderer(renderer);
+    }
+
+    @Override
+    public Component prepareRenderer(TableCellRenderer renderer, int row, int column) {
+      prepareRendererCount++;
+      return super.prepareRenderer(renderer, row, column);
+    }
+  }
+}
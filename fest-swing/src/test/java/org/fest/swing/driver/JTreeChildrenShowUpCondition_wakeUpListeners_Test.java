@@ -0,0 +1,83 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.driver;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.swing.driver.JTreeChildrenShowUpCondition.untilChildrenShowUp;
+import static org.fest.swing.edt.GuiActionRunner.execute;
+
+import javax.swing.JTree;
+import javax.swing.tree.DefaultMutableTreeNode;
+import javax.swing.tree.DefaultTreeModel;
+import javax.swing.tree.TreePath;
+
+import org.fest.swing.annotation.RunsInEDT;
+import org.fest.swing.edt.GuiQuery;
+import org.fest.swing.edt.GuiTask;
+import org.fest.swing.test.core.EDTSafeTestCase;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link JTreeChildrenShowUpCondition#addWakeUpListeners()} and
+ * {@link JTreeChildrenShowUpCondition#removeWakeUpListeners()}.
+ *
+ * @author Alex Ruiz
+ */
+public class JTreeChildrenShowUpCondition_wakeUpListeners_Test extends EDTSafeTestCase {
+  private DefaultTreeModel oldModel;
+  private DefaultTreeModel newModel;
+  private JTree tree;
+  private JTreeChildrenShowUpCondition condition;
+
+  @Before
+  public void setUp() {
+    execute(new GuiTask() {
+      @Override
+      protected void executeInEDT() {
+        oldModel = new DefaultTreeModel(new DefaultMutableTreeNode("root"));
+        newModel = new DefaultTreeModel(new DefaultMutableTreeNode("root"));
+        tree = new JTree(oldModel);
+      }
+    });
+    condition = untilChildrenShowUp(tree, new TreePath(oldModel.getRoot()));
+  }
+
+  @Test
+  public void should_move_listener_to_new_model_when_model_is_replaced() {
+    int treeListenerCount = listenerCountOf(oldModel);
+    condition.addWakeUpListeners();
+    execute(new GuiTask() {
+      @Override
+      protected void executeInEDT() {
+        tree.setModel(newModel);
+      }
+    });
+    assertThat(listenerCountOf(oldModel)).isZero();
+    assertThat(listenerCountOf(newModel)).isEqualTo(treeListenerCount + 1);
+    condition.removeWakeUpListeners();
+    assertThat(listenerCountOf(newModel)).isEqualTo(treeListenerCount);
+  }
+
+  @RunsInEDT
+  private static int listenerCountOf(final DefaultTreeModel model) {
+    return execute(new GuiQuery<Integer>() {
+      @Override
+      protected Integer executeInEDT() {
+        return model.getTreeModelListeners().length;
+      }
+    });
+  }
+}
@@ -0,0 +1,193 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.driver;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.swing.edt.GuiActionRunner.execute;
+import static org.fest.swing.test.core.CommonAssertions.failWhenExpectingException;
+
+import java.awt.Component;
+
+import javax.annotation.Nullable;
+import javax.swing.JTree;
+import javax.swing.tree.DefaultMutableTreeNode;
+import javax.swing.tree.DefaultTreeCellRenderer;
+import javax.swing.tree.DefaultTreeModel;
+import javax.swing.tree.TreePath;
+
+import org.fest.swing.annotation.RunsInEDT;
+import org.fest.swing.edt.GuiQuery;
+import org.fest.swing.edt.GuiTask;
+import org.fest.swing.exception.LocationUnavailableException;
+import org.fest.swing.test.core.EDTSafeTestCase;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link JTreePathFinder#findMatchingPath(JTree, String)}.
+ * 
+ * @author Alex Ruiz
+ */
+public class JTreePathFinder_findMatchingPath_Test extends EDTSafeTestCase {
+  private DefaultMutableTreeNode root;
+  private DefaultMutableTreeNode parent;
+  private JTree tree;
+  private CountingRendererReader rendererReader;
+  private JTreePathFinder finder;
+
+  @Before
+  public void setUp() {
+    root = new DefaultMutableTreeNode("root");
+    parent = new DefaultMutableTreeNode("parent");
+    root.add(parent);
+    for (int i = 0; i < 100; i++) {
+      parent.add(new DefaultMutableTreeNode("child" + i));
+    }
+    tree = createTree(root);
+    rendererReader = new CountingRendererReader();
+    finder = new JTreePathFinder();
+    finder.replaceCellReader(new BasicJTreeCellReader(rendererReader));
+  }
+
+  @Test
+  public void should_find_matching_path() {
+    TreePath path = findMatchingPath("root/parent/child50");
+    assertThat(path.getLastPathComponent()).isSameAs(parent.getChildAt(50));
+    assertThat(path.getPathCount()).isEqualTo(3);
+  }
+
+  @Test
+  public void should_not_read_text_of_all_siblings_again() {
+    findMatchingPath("root/parent/child0");
+    rendererReader.readCount = 0;
+    for (int i = 1; i < 100; i++) {
+      findMatchingPath("root/parent/child" + i);
+    }
+    // only the root is read on each lookup
+    assertThat(rendererReader.readCount).isEqualTo(99);
+  }
+
+  @Test
+  public void should_read_text_of_all_siblings_again_if_renderer_is_not_the_default_one() {
+    execute(new GuiTask() {
+      @Override
+      protected void executeInEDT() {
+        tree.setCellRenderer(new DefaultTreeCellRenderer() {
+          private static final long serialVersionUID = 1L;
+        });
+      }
+    });
+    findMatchingPath("root/parent/child0");
+    rendererReader.readCount = 0;
+    findMatchingPath("root/parent/child1");
+    // root, "parent" and its 100 children
+    assertThat(rendererReader.readCount).isEqualTo(102);
+  }
+
+  @Test
+  public void should_find_node_inserted_in_model() {
+    findMatchingPath("root/parent/child0");
+    final DefaultMutableTreeNode inserted = new DefaultMutableTreeNode("inserted");
+    execute(new GuiTask() {
+      @Override
+      protected void executeInEDT() {
+        ((DefaultTreeModel) tree.getModel()).insertNodeInto(inserted, parent, 0);
+      }
+    });
+    assertThat(findMatchingPath("root/parent/inserted").getLastPathComponent()).isSameAs(inserted);
+  }
+
+  @Test
+  public void should_detect_text_changed_without_notification() {
+    findMatchingPath("root/parent/child0");
+    ((DefaultMutableTreeNode) parent.getChildAt(0)).setUserObject("renamed");
+    assertThat(findMatchingPath("root/parent/renamed").getLastPathComponent()).isSameAs(parent.getChildAt(0));
+    try {
+      findMatchingPath("root/parent/child0");
+      failWhenExpectingException();
+    } catch (LocationUnavailableException expected) {
+      assertThat(expected.getMessage()).isEqualTo("Unable to find path 'root/parent/child0'");
+    }
+  }
+
+  @Test
+  public void should_detect_sibling_renamed_to_match_without_notification() {
+    findMatchingPath("root/parent/child0");
+    ((DefaultMutableTreeNode) parent.getChildAt(1)).setUserObject("child0");
+    try {
+      findMatchingPath("root/parent/child0");
+      failWhenExpectingException();
+    } catch (LocationUnavailableException expected) {
+      assertThat(expected.getMessage()).contains("There is more than one node with value 'child0'");
+    }
+  }
+
+  @Test
+  public void should_use_new_model() {
+    findMatchingPath("root/parent/child0");
+    final DefaultMutableTreeNode newRoot = new DefaultMutableTreeNode("root");
+    final DefaultMutableTreeNode newParent = new DefaultMutableTreeNode("parent");
+    newRoot.add(newParent);
+    newParent.add(new DefaultMutableTreeNode("child0"));
+    execute(new GuiTask() {
+      @Override
+      protected void executeInEDT() {
+        tree.setModel(new DefaultTreeModel(newRoot));
+      }
+    });
+    assertThat(findMatchingPath("root/parent/child0").getLastPathComponent()).isSameAs(newParent.getChildAt(0));
+  }
+
+  @Test
+  public void should_throw_error_if_more_than_one_node_matches() {
+    parent.add(new DefaultMutableTreeNode("child0"));
+    try {
+      findMatchingPath("root/parent/child0");
+      failWhenExpectingException();
+    } catch (LocationUnavailableException expected) {
+      assertThat(expected.getMessage()).contains("There is more than one node with value 'child0'");
+    }
+  }
+
+  @RunsInEDT
+  private TreePath findMatchingPath(final String path) {
+    return execute(new GuiQuery<TreePath>() {
+      @Override
+      protected TreePath executeInEDT() {
+        return finder.findMatchingPath(tree, path);
+      }
+    });
+  }
+
+  @RunsInEDT
+  private static JTree createTree(final DefaultMutableTreeNode root) {
+    return execute(new GuiQuery<JTree>() {
+      @Override
+      protected JTree executeInEDT() {
+        return new JTree(root);
+      }
+    });
+  }
+
+  private static class CountingRendererReader extends BasicCellRendererReader {
+    int readCount;
+
+    @Override
+    public @Nullable String valueFrom(@Nullable Component c) {
+      readCount++;
+      return super.valueFrom(c);
+    }
+  }
+}
@@ -0,0 +1,122 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.driver;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.swing.driver.JTreeWalk.BATCH_SIZE;
+import static org.fest.swing.edt.GuiActionRunner.execute;
+import static org.fest.util.Lists.newArrayList;
+
+import java.util.Iterator;
+import java.util.List;
+
+import javax.annotation.Nullable;
+import javax.swing.JTree;
+import javax.swing.tree.DefaultMutableTreeNode;
+import javax.swing.tree.TreePath;
+
+import org.fest.swing.annotation.RunsInEDT;
+import org.fest.swing.edt.GuiQuery;
+import org.fest.swing.edt.GuiTask;
+import org.fest.swing.test.core.EDTSafeTestCase;
+import org.fest.swing.util.Pair;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link JTreeWalk}.
+ * 
+ * @author Alex Ruiz
+ */
+public class JTreeWalk_Test extends EDTSafeTestCase {
+  private JTree tree;
+  private CountingCellReader cellReader;
+
+  @Before
+  public void setUp() {
+    DefaultMutableTreeNode root = new DefaultMutableTreeNode("root");
+    DefaultMutableTreeNode a = new DefaultMutableTreeNode("a");
+    a.add(new DefaultMutableTreeNode("a1"));
+    a.add(new DefaultMutableTreeNode("a2"));
+    root.add(a);
+    DefaultMutableTreeNode b = new DefaultMutableTreeNode("b");
+    for (int i = 0; i < BATCH_SIZE * 2; i++) {
+      b.add(new DefaultMutableTreeNode("b" + i));
+    }
+    root.add(b);
+    tree = createTree(root);
+    cellReader = new CountingCellReader();
+  }
+
+  @Test
+  public void should_return_nodes_in_depth_first_order() {
+    List<String> texts = newArrayList();
+    for (Pair<TreePath, String> node : new JTreeWalk(tree, cellReader)) {
+      texts.add(node.second);
+    }
+    assertThat(texts).hasSize(BATCH_SIZE * 2 + 5);
+    assertThat(texts.subList(0, 6)).containsExactly("root", "a", "a1", "a2", "b", "b0");
+  }
+
+  @Test
+  public void should_return_path_of_each_node() {
+    Iterator<Pair<TreePath, String>> nodes = new JTreeWalk(tree, cellReader).iterator();
+    nodes.next();
+    nodes.next();
+    TreePath path = nodes.next().first;
+    assertThat(path.getPathCount()).isEqualTo(3);
+    assertThat(path.getLastPathComponent().toString()).isEqualTo("a1");
+  }
+
+  @Test
+  public void should_skip_invisible_root() {
+    execute(new GuiTask() {
+      @Override
+      protected void executeInEDT() {
+        tree.setRootVisible(false);
+      }
+    });
+    Iterator<Pair<TreePath, String>> nodes = new JTreeWalk(tree, cellReader).iterator();
+    assertThat(nodes.next().second).isEqualTo("a");
+  }
+
+  @Test
+  public void should_read_nodes_only_when_requested() {
+    Iterator<Pair<TreePath, String>> nodes = new JTreeWalk(tree, cellReader).iterator();
+    assertThat(cellReader.readCount).isEqualTo(0);
+    nodes.next();
+    assertThat(cellReader.readCount).isEqualTo(BATCH_SIZE);
+  }
+
+  @RunsInEDT
+  private static JTree createTree(final DefaultMutableTreeNode root) {
+    return execute(new GuiQuery<JTree>() {
+      @Override
+      protected JTree executeInEDT() {
+        return new JTree(root);
+      }
+    });
+  }
+
+  private static class CountingCellReader extends BasicJTreeCellReader {
+    int readCount;
+
+    @Override
+    public @Nullable String valueAt(JTree tree, @Nullable Object modelValue) {
+      readCount++;
+      return super.valueAt(tree, modelValue);
+    }
+  }
+}
@@ -0,0 +1,140 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.driver;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.swing.edt.GuiActionRunner.execute;
+
+import java.lang.ref.WeakReference;
+
+import javax.swing.DefaultListModel;
+import javax.swing.JList;
+
+import org.fest.swing.annotation.RunsInEDT;
+import org.fest.swing.cell.JListCellReader;
+import org.fest.swing.edt.GuiQuery;
+import org.fest.swing.edt.GuiTask;
+import org.fest.swing.test.core.EDTSafeTestCase;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link ListContentCache#contentsOf(javax.swing.JComponent, Object)}.
+ *
+ * @author Alex Ruiz
+ */
+public class ListContentCache_contentsOf_Test extends EDTSafeTestCase {
+  private ListContentCache cache;
+  private DefaultListModel model;
+  private JList list;
+  private JListCellReader cellReader;
+
+  @Before
+  public void setUp() {
+    cache = new ListContentCache();
+    cellReader = new BasicJListCellReader();
+    execute(new GuiTask() {
+      @Override
+      protected void executeInEDT() {
+        model = new DefaultListModel();
+        model.addElement("Yoda");
+        model.addElement("Luke");
+        list = new JList(model);
+      }
+    });
+  }
+
+  @Test
+  public void should_return_cached_contents_until_model_changes() {
+    String[] contents = contentsOf(list, cellReader, cache);
+    assertThat(contents).isEqualTo(new String[] { "Yoda", "Luke" });
+    assertThat(contentsOf(list, cellReader, cache)).isSameAs(contents);
+    execute(new GuiTask() {
+      @Override
+      protected void executeInEDT() {
+        model.addElement("Leia");
+      }
+    });
+    assertThat(contentsOf(list, cellReader, cache)).isEqualTo(new String[] { "Yoda", "Luke", "Leia" });
+  }
+
+  @Test
+  public void should_discard_cached_contents_if_model_is_replaced() {
+    contentsOf(list, cellReader, cache);
+    final DefaultListModel newModel = new DefaultListModel();
+    execute(new GuiTask() {
+      @Override
+      protected void executeInEDT() {
+        newModel.addElement("Han");
+        list.setModel(newModel);
+      }
+    });
+    assertThat(contentsOf(list, cellReader, cache)).isEqualTo(new String[] { "Han" });
+    execute(new GuiTask() {
+      @Override
+      protected void executeInEDT() {
+        newModel.addElement("Chewie");
+      }
+    });
+    assertThat(contentsOf(list, cellReader, cache)).isEqualTo(new String[] { "Han", "Chewie" });
+  }
+
+  @Test
+  public void should_not_return_contents_read_with_a_different_cell_reader() {
+    contentsOf(list, cellReader, cache);
+    assertThat(cachedContentsOf(list, new BasicJListCellReader(), cache)).isNull();
+  }
+
+  @Test
+  public void should_not_keep_cached_list_from_being_garbage_collected() throws InterruptedException {
+    JList cachedList = execute(new GuiQuery<JList>() {
+      @Override
+      protected JList executeInEDT() {
+        DefaultListModel cachedModel = new DefaultListModel();
+        cachedModel.addElement("Han");
+        return new JList(cachedModel);
+      }
+    });
+    contentsOf(cachedList, cellReader, cache);
+    WeakReference<JList> listRef = new WeakReference<JList>(cachedList);
+    cachedList = null;
+    for (int i = 0; i < 50 && listRef.get() != null; i++) {
+      System.gc();
+      Thread.sleep(20);
+    }
+    assertThat(listRef.get()).isNull();
+  }
+
+  @RunsInEDT
+  private static String[] contentsOf(final JList list, final JListCellReader cellReader, final ListContentCache cache) {
+    return execute(new GuiQuery<String[]>() {
+      @Override
+      protected String[] executeInEDT() {
+        return JListContentQuery.contentsOf(list, cellReader, cache);
+      }
+    });
+  }
+
+  @RunsInEDT
+  private static String[] cachedContentsOf(final JList list, final JListCellReader cellReader,
+      final ListContentCache cache) {
+    return execute(new GuiQuery<String[]>() {
+      @Override
+      protected String[] executeInEDT() {
+        return cache.contentsOf(list, cellReader);
+      }
+    });
+  }
+}
@@ -0,0 +1,83 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.driver;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.swing.driver.JMenuPopupMenuQuery.popupMenuOf;
+import static org.fest.swing.edt.GuiActionRunner.execute;
+
+import java.awt.Dimension;
+
+import javax.swing.JMenu;
+import javax.swing.JMenuBar;
+import javax.swing.JMenuItem;
+import javax.swing.JPopupMenu;
+
+import org.fest.swing.annotation.RunsInEDT;
+import org.fest.swing.edt.GuiQuery;
+import org.fest.swing.test.core.RobotBasedTestCase;
+import org.fest.swing.test.swing.TestWindow;
+import org.junit.Test;
+
+/**
+ * Tests for {@link PopupMenuShowingWaiter#waitForShowing(JPopupMenu, long)}.
+ *
+ * @author Alex Ruiz
+ */
+public class PopupMenuShowingWaiter_waitForShowing_Test extends RobotBasedTestCase {
+  private JMenu menu;
+  private JPopupMenu popupMenu;
+
+  @Override
+  protected void onSetUp() {
+    MyWindow window = MyWindow.createNew();
+    robot.showWindow(window);
+    menu = window.menuFile;
+    popupMenu = popupMenuOf(menu);
+  }
+
+  @Test
+  public void should_return_true_if_pop_up_menu_is_showing() {
+    robot.click(menu);
+    assertThat(PopupMenuShowingWaiter.waitForShowing(popupMenu, 5000)).isTrue();
+  }
+
+  @Test
+  public void should_return_false_if_pop_up_menu_is_not_showing_before_timeout() {
+    assertThat(PopupMenuShowingWaiter.waitForShowing(popupMenu, 100)).isFalse();
+  }
+
+  private static class MyWindow extends TestWindow {
+    final JMenu menuFile = new JMenu("File");
+
+    @RunsInEDT
+    static MyWindow createNew() {
+      return execute(new GuiQuery<MyWindow>() {
+        @Override
+        protected MyWindow executeInEDT() {
+          return new MyWindow();
+        }
+      });
+    }
+
+    private MyWindow() {
+      super(PopupMenuShowingWaiter_waitForShowing_Test.class);
+      setJMenuBar(new JMenuBar());
+      menuFile.add(new JMenuItem("New"));
+      getJMenuBar().add(menuFile);
+      setPreferredSize(new Dimension(80, 60));
+    }
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.edt;
+
+import static javax.swing.SwingUtilities.isEventDispatchThread;
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.swing.test.core.CommonAssertions.failWhenExpectingException;
+
+import java.util.List;
+
+import org.fest.util.Lists;
+import org.junit.Test;
+
+/**
+ * Tests for {@link GuiActionRunner#execute(GuiBatch)}.
+ *
+ * @author Alex Ruiz
+ */
+public class GuiActionRunner_execute_batch_Test {
+  @Test
+  public void should_execute_actions_in_order_in_EDT() {
+    final List<String> executed = Lists.newArrayList();
+    GuiQuery<Boolean> first = new GuiQuery<Boolean>() {
+      @Override
+      protected Boolean executeInEDT() {
+        executed.add("first");
+        return isEventDispatchThread();
+      }
+    };
+    GuiTask second = new GuiTask() {
+      @Override
+      protected void executeInEDT() {
+        executed.add("second");
+      }
+    };
+    GuiQuery<String> third = new GuiQuery<String>() {
+      @Override
+      protected String executeInEDT() {
+        executed.add("third");
+        return "Hello";
+      }
+    };
+    GuiBatch batch = new GuiBatch().add(first).add(second).add(third);
+    GuiActionRunner.execute(batch);
+    assertThat(executed).containsExactly("first", "second", "third");
+    assertThat(batch.resultOf(first)).isTrue();
+    assertThat(batch.resultOf(third)).isEqualTo("Hello");
+  }
+
+  @Test
+  public void should_rethrow_exception_of_failed_action_and_skip_remaining_actions() {
+    final RuntimeException error = new RuntimeException("Thrown on purpose");
+    final List<String> executed = Lists.newArrayList();
+    GuiTask failing = new GuiTask() {
+      @Override
+      protected void executeInEDT() {
+        executed.add("failing");
+        throw error;
+      }
+    };
+    GuiTask skipped = new GuiTask() {
+      @Override
+      protected void executeInEDT() {
+        executed.add("skipped");
+      }
+    };
+    try {
+      GuiActionRunner.execute(new GuiBatch().add(failing).add(skipped));
+      failWhenExpectingException();
+    } catch (RuntimeException e) {
+      assertThat(e).isSameAs(error);
+    }
+    assertThat(executed).containsExactly("failing");
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void should_throw_error_if_batch_was_not_executed() {
+    GuiQuery<String> query = new GuiQuery<String>() {
+      @Override
+      protected String executeInEDT() {
+        return "Hello";
+      }
+    };
+    new GuiBatch().add(query).resultOf(query);
+  }
+}
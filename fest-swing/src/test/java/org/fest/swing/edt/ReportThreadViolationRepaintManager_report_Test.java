@@ -0,0 +1,104 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.edt;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.swing.test.core.CommonAssertions.failWhenExpectingException;
+
+import javax.swing.JComponent;
+import javax.swing.JLabel;
+
+import org.fest.swing.exception.EdtViolationException;
+import org.junit.Test;
+
+/**
+ * Tests for {@link ReportThreadViolationRepaintManager#report()},
+ * {@link ReportThreadViolationRepaintManager#violationCount()} and
+ * {@link ReportThreadViolationRepaintManager#requireNoViolations()}.
+ * 
+ * @author Alex Ruiz
+ */
+public class ReportThreadViolationRepaintManager_report_Test {
+  @Test
+  public void should_group_violations_by_call_site() {
+    ReportThreadViolationRepaintManager manager = new ReportThreadViolationRepaintManager();
+    for (int i = 0; i < 3; i++) {
+      accessOutsideEDT(manager, new JLabel());
+    }
+    assertThat(manager.violationCount()).isEqualTo(3);
+    String report = manager.report();
+    assertThat(report).startsWith("EDT violation detected 3 time(s) on component of type javax.swing.JLabel")
+                      .contains("accessOutsideEDT");
+  }
+
+  @Test
+  public void should_check_only_sampled_accesses() {
+    ReportThreadViolationRepaintManager manager = new ReportThreadViolationRepaintManager(true, 2);
+    for (int i = 0; i < 4; i++) {
+      accessOutsideEDT(manager, new JLabel());
+    }
+    assertThat(manager.violationCount()).isEqualTo(2);
+  }
+
+  @Test
+  public void should_not_throw_error_if_there_are_no_violations() {
+    ReportThreadViolationRepaintManager manager = new ReportThreadViolationRepaintManager();
+    manager.requireNoViolations();
+    assertThat(manager.report()).isEmpty();
+  }
+
+  @Test
+  public void should_throw_error_with_report_if_there_are_violations() {
+    ReportThreadViolationRepaintManager manager = new ReportThreadViolationRepaintManager();
+    accessOutsideEDT(manager, new JLabel());
+    try {
+      manager.requireNoViolations();
+      failWhenExpectingException();
+    } catch (EdtViolationException e) {
+      assertThat(e.getMessage()).startsWith("1 EDT violation(s) detected:").contains("javax.swing.JLabel");
+    }
+    manager.reset();
+    manager.requireNoViolations();
+  }
+
+  @Test
+  public void should_count_violation_on_last_Component_after_reset() {
+    ReportThreadViolationRepaintManager manager = new ReportThreadViolationRepaintManager();
+    JLabel label = new JLabel();
+    accessOutsideEDT(manager, label);
+    manager.reset();
+    accessOutsideEDT(manager, label);
+    assertThat(manager.violationCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void should_not_share_verdict_among_stack_traces_without_call_site() {
+    ReportThreadViolationRepaintManager manager = new ReportThreadViolationRepaintManager();
+    StackTraceElement[] imageUpdate = { frame("javax.swing.JComponent", "repaint"),
+        frame("java.awt.Component", "imageUpdate") };
+    StackTraceElement[] propertyChange = { frame("javax.swing.JComponent", "revalidate"),
+        frame("javax.swing.JLabel", "setText") };
+    assertThat(manager.isViolation(imageUpdate)).isFalse();
+    assertThat(manager.isViolation(propertyChange)).isTrue();
+  }
+
+  private static StackTraceElement frame(String className, String methodName) {
+    return new StackTraceElement(className, methodName, null, -1);
+  }
+
+  private static void accessOutsideEDT(ReportThreadViolationRepaintManager manager, JComponent c) {
+    manager.addDirtyRegion(c, 0, 0, 10, 10);
+  }
+}
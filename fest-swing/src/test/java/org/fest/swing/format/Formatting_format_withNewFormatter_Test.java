@@ -0,0 +1,80 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.format;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.swing.edt.GuiActionRunner.execute;
+
+import java.awt.Component;
+
+import javax.annotation.Nonnull;
+import javax.swing.JPanel;
+
+import org.fest.swing.annotation.RunsInEDT;
+import org.fest.swing.edt.GuiQuery;
+import org.fest.swing.test.core.EDTSafeTestCase;
+import org.junit.Test;
+
+/**
+ * Tests for {@link Formatting#format(Component)} after registering a {@link ComponentFormatter} for a type that has
+ * been already formatted.
+ * 
+ * @author Alex Ruiz
+ */
+public class Formatting_format_withNewFormatter_Test extends EDTSafeTestCase {
+  @Test
+  public void should_use_formatter_registered_after_type_was_formatted() {
+    MyPanel panel = MyPanel.createNew();
+    assertThat(formatted(panel)).contains("name='myPanel'");
+    Formatting.register(new ComponentFormatterTemplate() {
+      @Override
+      protected @Nonnull String doFormat(@Nonnull Component c) {
+        return "Formatted by new formatter";
+      }
+
+      @Override
+      public @Nonnull Class<? extends Component> targetType() {
+        return MyPanel.class;
+      }
+    });
+    assertThat(formatted(panel)).isEqualTo("Formatted by new formatter");
+  }
+
+  @RunsInEDT
+  private static String formatted(final Component c) {
+    return execute(new GuiQuery<String>() {
+      @Override
+      protected String executeInEDT() {
+        return Formatting.format(c);
+      }
+    });
+  }
+
+  private static class MyPanel extends JPanel {
+    @RunsInEDT
+    static MyPanel createNew() {
+      return execute(new GuiQuery<MyPanel>() {
+        @Override
+        protected MyPanel executeInEDT() {
+          return new MyPanel();
+        }
+      });
+    }
+
+    private MyPanel() {
+      setName("myPanel");
+    }
+  }
+}
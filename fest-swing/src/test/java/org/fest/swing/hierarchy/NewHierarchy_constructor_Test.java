@@ -14,6 +14,7 @@
  */
 package org.fest.swing.hierarchy;
 
+import static java.awt.AWTEvent.CONTAINER_EVENT_MASK;
 import static org.fest.assertions.Assertions.assertThat;
 
 import java.util.List;
@@ -42,6 +43,12 @@ public class NewHierarchy_constructor_Test extends NewHierarchy_TestCase {
     assertThatTransientWindowListenerWasAddedToToolkit();
   }
 
+  @Test
+  public void should_add_listener_of_hierarchy_changes_to_Toolkit() {
+    new NewHierarchy(toolkit, filter, false);
+    assertThat(toolkit.eventListenersUnderEventMask(CONTAINER_EVENT_MASK, WeakEventListener.class)).hasSize(1);
+  }
+
   private void assertThatTransientWindowListenerWasAddedToToolkit() {
     List<WeakEventListener> eventListeners = toolkit.eventListenersUnderEventMask(EVENT_MASK, WeakEventListener.class);
     assertThat(eventListeners).hasSize(1);
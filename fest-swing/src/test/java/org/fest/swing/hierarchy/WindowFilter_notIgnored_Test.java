@@ -0,0 +1,143 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.hierarchy;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.swing.edt.GuiActionRunner.execute;
+import static org.fest.swing.test.awt.TestWindows.newWindowMock;
+import static org.fest.util.Lists.newArrayList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.awt.Component;
+import java.awt.Window;
+import java.util.List;
+
+import javax.swing.JButton;
+import javax.swing.JPanel;
+import javax.swing.JTextField;
+
+import org.fest.swing.annotation.RunsInEDT;
+import org.fest.swing.edt.GuiQuery;
+import org.fest.swing.edt.GuiTask;
+import org.junit.Test;
+
+/**
+ * Tests for {@link WindowFilter#notIgnored(Component, java.util.Collection)}.
+ *
+ * @author Alex Ruiz
+ */
+public class WindowFilter_notIgnored_Test extends WindowFilter_TestCase {
+  private JPanel panel;
+  private JButton button;
+  private JTextField textField;
+
+  @Test
+  public void should_omit_ignored_children() {
+    createPanel();
+    addToIgnoredMap(textField);
+    assertThat(notIgnoredChildren()).containsOnly(button);
+  }
+
+  @Test
+  public void should_remember_children_as_not_ignored() {
+    createPanel();
+    notIgnoredChildren();
+    assertThat(isComponentIgnored(button)).isFalse();
+  }
+
+  @Test
+  public void should_forget_children_not_ignored_if_filter_changes() {
+    createPanel();
+    notIgnoredChildren();
+    execute(new GuiTask() {
+      @Override
+      protected void executeInEDT() {
+        filter.ignore(button);
+      }
+    });
+    assertThat(isComponentIgnored(button)).isTrue();
+  }
+
+  @Test
+  public void should_not_look_up_Window_of_children_not_ignored() {
+    createPanel();
+    ParentFinder parentFinder = mock(ParentFinder.class);
+    filter = new WindowFilter(parentFinder, new ChildrenFinder());
+    notIgnoredChildren();
+    assertThat(isComponentIgnored(button)).isFalse();
+    verify(parentFinder, never()).windowFor(button);
+  }
+
+  @Test
+  public void should_forget_children_not_ignored_if_hierarchy_changes() {
+    createPanel();
+    ParentFinder parentFinder = mock(ParentFinder.class);
+    filter = new WindowFilter(parentFinder, new ChildrenFinder());
+    Window ignoredWindow = newWindowMock();
+    addToIgnoredMap(ignoredWindow);
+    notIgnoredChildren();
+    JPanel newParent = execute(new GuiQuery<JPanel>() {
+      @Override
+      protected JPanel executeInEDT() {
+        JPanel newParent = new JPanel();
+        newParent.add(panel);
+        filter.hierarchyChanged();
+        return newParent;
+      }
+    });
+    when(parentFinder.windowFor(newParent)).thenReturn(ignoredWindow);
+    when(parentFinder.windowFor(panel)).thenReturn(ignoredWindow);
+    when(parentFinder.windowFor(button)).thenReturn(ignoredWindow);
+    assertThat(isComponentIgnored(button)).isTrue();
+  }
+
+  @RunsInEDT
+  private void createPanel() {
+    execute(new GuiTask() {
+      @Override
+      protected void executeInEDT() {
+        panel = new JPanel();
+        button = new JButton("Press Me");
+        textField = new JTextField();
+        panel.add(button);
+        panel.add(textField);
+      }
+    });
+  }
+
+  @RunsInEDT
+  private List<Component> notIgnoredChildren() {
+    return execute(new GuiQuery<List<Component>>() {
+      @Override
+      protected List<Component> executeInEDT() {
+        List<Component> children = newArrayList(panel.getComponents());
+        return filter.notIgnored(panel, children);
+      }
+    });
+  }
+
+  @RunsInEDT
+  private boolean isComponentIgnored(final Component c) {
+    return execute(new GuiQuery<Boolean>() {
+      @Override
+      protected Boolean executeInEDT() {
+        return filter.isIgnored(c);
+      }
+    });
+  }
+}
@@ -0,0 +1,103 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.image;
+
+import static java.awt.image.BufferedImage.TYPE_INT_RGB;
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.swing.image.TestImageFileWriters.newImageFileWriterMock;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+/**
+ * Tests for {@link AsyncImageFileWriter#writeAsPng(BufferedImage, String)}.
+ *
+ * @author Alex Ruiz
+ */
+public class AsyncImageFileWriter_writeAsPng_Test {
+  private BufferedImage image;
+  private ImageFileWriter writer;
+  private AsyncImageFileWriter asyncWriter;
+
+  @Before
+  public void setUp() {
+    image = new BufferedImage(40, 20, TYPE_INT_RGB);
+    writer = newImageFileWriterMock();
+    asyncWriter = new AsyncImageFileWriter(writer, 1);
+  }
+
+  @After
+  public void tearDown() {
+    asyncWriter.shutdown();
+  }
+
+  @Test
+  public void should_write_image_in_background_and_wait_for_it_when_flushing() throws IOException {
+    final CountDownLatch release = new CountDownLatch(1);
+    when(writer.writeAsPng(image, "image.png", 3)).thenAnswer(new Answer<Boolean>() {
+      @Override
+      public Boolean answer(InvocationOnMock invocation) throws Throwable {
+        release.await();
+        return true;
+      }
+    });
+    asyncWriter.compressionLevel(3);
+    asyncWriter.writeAsPng(image, "image.png");
+    assertThat(asyncWriter.pendingCount()).isEqualTo(1);
+    assertThat(asyncWriter.flush(10)).isFalse();
+    release.countDown();
+    assertThat(asyncWriter.flush(10000)).isTrue();
+    assertThat(asyncWriter.pendingCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void should_scale_image_before_writing_it() throws IOException {
+    asyncWriter.scaleFactor(0.5);
+    asyncWriter.writeAsPng(image, "image.png");
+    assertThat(asyncWriter.flush(10000)).isTrue();
+    ArgumentCaptor<BufferedImage> written = ArgumentCaptor.forClass(BufferedImage.class);
+    verify(writer).writeAsPng(written.capture(), eq("image.png"), eq(AsyncImageFileWriter.DEFAULT_COMPRESSION_LEVEL));
+    assertThat(written.getValue().getWidth()).isEqualTo(20);
+    assertThat(written.getValue().getHeight()).isEqualTo(10);
+  }
+
+  @Test
+  public void should_not_stop_writing_images_if_an_error_occurs() throws IOException {
+    when(writer.writeAsPng(any(BufferedImage.class), anyString(), anyInt())).thenThrow(new IOException("On Purpose"));
+    asyncWriter.writeAsPng(image, "image1.png");
+    asyncWriter.writeAsPng(image, "image2.png");
+    assertThat(asyncWriter.flush(10000)).isTrue();
+    verify(writer).writeAsPng(image, "image2.png", AsyncImageFileWriter.DEFAULT_COMPRESSION_LEVEL);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void should_throw_error_if_file_path_does_not_end_with_png() {
+    asyncWriter.writeAsPng(image, "image.jpg");
+  }
+}
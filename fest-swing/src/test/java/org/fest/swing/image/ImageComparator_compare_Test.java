@@ -0,0 +1,106 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.image;
+
+import static java.awt.image.BufferedImage.TYPE_3BYTE_BGR;
+import static java.awt.image.BufferedImage.TYPE_INT_RGB;
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.awt.image.BufferedImage;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link ImageComparator#compare(BufferedImage, BufferedImage)}.
+ *
+ * @author Alex Ruiz
+ */
+public class ImageComparator_compare_Test {
+  private BufferedImage expected;
+
+  @Before
+  public void setUp() {
+    expected = newImage(TYPE_INT_RGB);
+  }
+
+  @Test
+  public void should_match_identical_images_with_different_types() {
+    ImageDiff diff = new ImageComparator().compare(expected, newImage(TYPE_3BYTE_BGR));
+    assertThat(diff.matches()).isTrue();
+    assertThat(diff.diffImage()).isNull();
+  }
+
+  @Test
+  public void should_not_match_images_with_different_sizes() {
+    ImageDiff diff = new ImageComparator().compare(expected, new BufferedImage(10, 10, TYPE_INT_RGB));
+    assertThat(diff.matches()).isFalse();
+    assertThat(diff.description()).isEqualTo("Expected an image of size [80x60] but was [10x10]");
+  }
+
+  @Test
+  public void should_match_if_colors_are_within_tolerance() {
+    BufferedImage actual = newImage(TYPE_INT_RGB);
+    actual.setRGB(5, 5, expected.getRGB(5, 5) + 0x030303);
+    assertThat(new ImageComparator(3, 0).compare(expected, actual).matches()).isTrue();
+    assertThat(new ImageComparator(2, 0).compare(expected, actual).matches()).isFalse();
+  }
+
+  @Test
+  public void should_match_if_number_of_different_pixels_is_within_limit() {
+    BufferedImage actual = newImage(TYPE_INT_RGB);
+    actual.setRGB(5, 5, 0xFF0000);
+    actual.setRGB(70, 50, 0xFF0000);
+    assertThat(new ImageComparator(0, 2).compare(expected, actual).matches()).isTrue();
+    assertThat(new ImageComparator(0, 1).compare(expected, actual).matches()).isFalse();
+  }
+
+  @Test
+  public void should_create_diff_image_if_images_do_not_match() {
+    BufferedImage actual = newImage(TYPE_INT_RGB);
+    actual.setRGB(5, 5, 0x00FF00);
+    ImageDiff diff = new ImageComparator().compare(expected, actual);
+    assertThat(diff.matches()).isFalse();
+    assertThat(diff.differentPixelCount()).isEqualTo(1);
+    BufferedImage diffImage = diff.diffImage();
+    assertThat(diffImage.getRGB(5, 5) & 0xFFFFFF).isEqualTo(0xFF0000);
+    assertThat(diffImage.getRGB(6, 5) & 0xFFFFFF).isNotEqualTo(0xFF0000);
+  }
+
+  @Test
+  public void should_not_match_images_with_different_perceptual_hashes() {
+    BufferedImage actual = new BufferedImage(80, 60, TYPE_INT_RGB);
+    ImageDiff diff = new ImageComparator(0, 10).compare(expected, actual);
+    assertThat(diff.matches()).isFalse();
+    assertThat(diff.differentPixelCount()).isGreaterThan(10);
+  }
+
+  @Test
+  public void should_match_within_limits_even_if_perceptual_hashes_are_different() {
+    BufferedImage actual = new BufferedImage(80, 60, TYPE_INT_RGB);
+    ImageDiff diff = new ImageComparator(255, 0).compare(expected, actual);
+    assertThat(diff.matches()).isTrue();
+  }
+
+  private static BufferedImage newImage(int type) {
+    BufferedImage image = new BufferedImage(80, 60, type);
+    for (int y = 0; y < 60; y++) {
+      for (int x = 0; x < 80; x++) {
+        image.setRGB(x, y, (x * 3) << 16 | (y * 4) << 8 | ((x + y) & 0xFF));
+      }
+    }
+    return image;
+  }
+}
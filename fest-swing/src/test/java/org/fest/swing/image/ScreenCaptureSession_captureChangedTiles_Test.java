@@ -0,0 +1,168 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.image;
+
+import static java.awt.image.BufferedImage.TYPE_INT_RGB;
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.swing.edt.GuiActionRunner.execute;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.util.List;
+
+import javax.swing.JPanel;
+import javax.swing.RepaintManager;
+
+import org.fest.swing.edt.GuiQuery;
+import org.fest.swing.edt.GuiTask;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link ScreenCaptureSession#captureChangedTiles()}.
+ *
+ * @author Alex Ruiz
+ */
+public class ScreenCaptureSession_captureChangedTiles_Test {
+  private ScreenshotTaker screenshotTaker;
+  private Rectangle region;
+  private ScreenCaptureSession session;
+  private RepaintManager originalRepaintManager;
+
+  @Before
+  public void setUp() {
+    screenshotTaker = mock(ScreenshotTaker.class);
+    region = new Rectangle(10, 10, 30, 20);
+    session = new ScreenCaptureSession(screenshotTaker, null, region, 16);
+  }
+
+  @After
+  public void tearDown() {
+    if (originalRepaintManager != null) {
+      RepaintManager.setCurrentManager(originalRepaintManager);
+    }
+  }
+
+  @Test
+  public void should_return_all_tiles_on_first_capture() {
+    BufferedImage frame = newFrame(30, 20);
+    when(screenshotTaker.takeScreenshot(region)).thenReturn(frame);
+    List<ImageTile> tiles = session.captureChangedTiles();
+    assertThat(tiles).hasSize(4);
+    assertThat(tiles.get(3).bounds()).isEqualTo(new Rectangle(16, 16, 14, 4));
+    assertThat(session.lastFrame()).isSameAs(frame);
+  }
+
+  @Test
+  public void should_return_only_changed_tiles() {
+    BufferedImage frame = newFrame(30, 20);
+    BufferedImage changedFrame = newFrame(30, 20);
+    changedFrame.setRGB(20, 5, 0xFF0000);
+    when(screenshotTaker.takeScreenshot(region)).thenReturn(frame, changedFrame);
+    session.captureChangedTiles();
+    List<ImageTile> tiles = session.captureChangedTiles();
+    assertThat(tiles).hasSize(1);
+    ImageTile tile = tiles.get(0);
+    assertThat(tile.bounds()).isEqualTo(new Rectangle(16, 0, 14, 16));
+    assertThat(tile.image().getRGB(4, 5) & 0xFFFFFF).isEqualTo(0xFF0000);
+  }
+
+  @Test
+  public void should_return_no_tiles_if_nothing_changed() {
+    when(screenshotTaker.takeScreenshot(region)).thenReturn(newFrame(30, 20), newFrame(30, 20));
+    session.captureChangedTiles();
+    assertThat(session.captureChangedTiles()).isEmpty();
+  }
+
+  @Test
+  public void should_return_all_tiles_if_size_changed() {
+    when(screenshotTaker.takeScreenshot(region)).thenReturn(newFrame(30, 20), newFrame(20, 20));
+    session.captureChangedTiles();
+    assertThat(session.captureChangedTiles()).hasSize(4);
+  }
+
+  @Test
+  public void should_return_all_tiles_after_reset() {
+    when(screenshotTaker.takeScreenshot(region)).thenReturn(newFrame(30, 20), newFrame(30, 20));
+    session.captureChangedTiles();
+    session.reset();
+    assertThat(session.captureChangedTiles()).hasSize(4);
+  }
+
+  @Test
+  public void should_capture_only_repainted_area_of_Component() {
+    JPanel panel = newPanelWithDefaultRepaintManager();
+    session = new ScreenCaptureSession(screenshotTaker, panel, null, 16);
+    when(screenshotTaker.boundsOnScreenOf(panel)).thenReturn(new Rectangle(100, 100, 30, 20));
+    when(screenshotTaker.takeScreenshot(new Rectangle(100, 100, 30, 20))).thenReturn(newFrame(30, 20));
+    session.captureChangedTiles();
+    BufferedImage repainted = new BufferedImage(1, 1, TYPE_INT_RGB);
+    repainted.setRGB(0, 0, 0xFF0000);
+    when(screenshotTaker.takeScreenshot(new Rectangle(120, 105, 1, 1))).thenReturn(repainted);
+    repaint(panel, 20, 5, 1, 1);
+    List<ImageTile> tiles = session.captureChangedTiles();
+    assertThat(tiles).hasSize(1);
+    ImageTile tile = tiles.get(0);
+    assertThat(tile.bounds()).isEqualTo(new Rectangle(16, 0, 14, 16));
+    assertThat(tile.image().getRGB(4, 5) & 0xFFFFFF).isEqualTo(0xFF0000);
+    assertThat(session.lastFrame().getRGB(0, 0) & 0xFFFFFF).isEqualTo(0x00FF00);
+  }
+
+  @Test
+  public void should_not_capture_Component_if_nothing_was_repainted() {
+    JPanel panel = newPanelWithDefaultRepaintManager();
+    session = new ScreenCaptureSession(screenshotTaker, panel, null, 16);
+    when(screenshotTaker.boundsOnScreenOf(panel)).thenReturn(new Rectangle(100, 100, 30, 20));
+    when(screenshotTaker.takeScreenshot(new Rectangle(100, 100, 30, 20))).thenReturn(newFrame(30, 20));
+    session.captureChangedTiles();
+    assertThat(session.captureChangedTiles()).isEmpty();
+    verify(screenshotTaker).takeScreenshot(any(Rectangle.class));
+  }
+
+  private JPanel newPanelWithDefaultRepaintManager() {
+    return execute(new GuiQuery<JPanel>() {
+      @Override
+      protected JPanel executeInEDT() {
+        JPanel panel = new JPanel();
+        originalRepaintManager = RepaintManager.currentManager(panel);
+        RepaintManager.setCurrentManager(null);
+        panel.setSize(30, 20);
+        return panel;
+      }
+    });
+  }
+
+  private static void repaint(final JPanel panel, final int x, final int y, final int width, final int height) {
+    execute(new GuiTask() {
+      @Override
+      protected void executeInEDT() {
+        panel.repaint(x, y, width, height);
+      }
+    });
+  }
+
+  private static BufferedImage newFrame(int width, int height) {
+    BufferedImage image = new BufferedImage(width, height, TYPE_INT_RGB);
+    for (int x = 0; x < width; x++) {
+      image.setRGB(x, 0, 0x00FF00);
+    }
+    return image;
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.image;
+
+import static java.awt.image.BufferedImage.TYPE_INT_RGB;
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.swing.test.core.CommonAssertions.failWhenExpectingException;
+import static org.fest.util.Files.newTemporaryFolder;
+import static org.mockito.Mockito.mock;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+
+import javax.imageio.ImageIO;
+
+import org.fest.util.Files;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link ScreenshotAssert#assertMatchesBaseline(BufferedImage, File)}.
+ *
+ * @author Alex Ruiz
+ */
+public class ScreenshotAssert_assertMatchesBaseline_Test {
+  private File folder;
+  private File baseline;
+  private ScreenshotAssert screenshots;
+
+  @Before
+  public void setUp() throws IOException {
+    folder = newTemporaryFolder();
+    baseline = new File(folder, "login.png");
+    ImageIO.write(new BufferedImage(20, 10, TYPE_INT_RGB), "png", baseline);
+    screenshots = new ScreenshotAssert(mock(ScreenshotTaker.class), new ImageFileWriter());
+  }
+
+  @After
+  public void tearDown() {
+    Files.delete(folder);
+  }
+
+  @Test
+  public void should_pass_if_image_matches_baseline() {
+    screenshots.assertMatchesBaseline(new BufferedImage(20, 10, TYPE_INT_RGB), baseline);
+    assertThat(new File(folder, "login.actual.png").exists()).isFalse();
+  }
+
+  @Test
+  public void should_save_actual_and_diff_images_if_image_does_not_match_baseline() {
+    BufferedImage actual = new BufferedImage(20, 10, TYPE_INT_RGB);
+    actual.setRGB(3, 3, 0xFFFFFF);
+    try {
+      screenshots.assertMatchesBaseline(actual, baseline);
+      failWhenExpectingException();
+    } catch (AssertionError e) {
+      assertThat(e.getMessage()).contains("1 different pixel(s)");
+    }
+    assertThat(new File(folder, "login.actual.png").isFile()).isTrue();
+    assertThat(new File(folder, "login.diff.png").isFile()).isTrue();
+  }
+
+  @Test
+  public void should_save_actual_image_if_baseline_does_not_exist() {
+    try {
+      screenshots.assertMatchesBaseline(new BufferedImage(20, 10, TYPE_INT_RGB), new File(folder, "other.png"));
+      failWhenExpectingException();
+    } catch (AssertionError e) {
+      assertThat(e.getMessage()).contains("does not exist");
+    }
+    assertThat(new File(folder, "other.actual.png").isFile()).isTrue();
+  }
+}
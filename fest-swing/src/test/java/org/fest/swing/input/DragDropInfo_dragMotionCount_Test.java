@@ -0,0 +1,66 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.input;
+
+import static java.awt.event.MouseEvent.BUTTON1;
+import static java.awt.event.MouseEvent.MOUSE_DRAGGED;
+import static java.awt.event.MouseEvent.MOUSE_PRESSED;
+import static java.awt.event.MouseEvent.MOUSE_RELEASED;
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.awt.event.MouseEvent;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link DragDropInfo#dragMotionCount()} and {@link DragDropInfo#nativeDragMotion()}.
+ * 
+ * @author Alex Ruiz
+ */
+public class DragDropInfo_dragMotionCount_Test extends DragDropInfo_TestCase {
+  @Test
+  public void should_count_drag_motion_while_dragging() {
+    info.update(mouseEvent(MOUSE_PRESSED));
+    info.update(mouseEvent(MOUSE_DRAGGED));
+    info.update(mouseEvent(MOUSE_DRAGGED));
+    assertThat(info.dragMotionCount()).isEqualTo(2);
+  }
+
+  @Test
+  public void should_not_count_drag_motion_if_not_dragging() {
+    info.update(mouseEvent(MOUSE_DRAGGED));
+    assertThat(info.dragMotionCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void should_count_native_drag_motion_while_dragging() {
+    info.nativeDragMotion();
+    info.update(mouseEvent(MOUSE_PRESSED));
+    info.nativeDragMotion();
+    assertThat(info.dragMotionCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void should_not_reset_count_when_drag_ends() {
+    info.update(mouseEvent(MOUSE_PRESSED));
+    info.update(mouseEvent(MOUSE_DRAGGED));
+    info.update(mouseEvent(MOUSE_RELEASED));
+    assertThat(info.dragMotionCount()).isEqualTo(1);
+  }
+
+  private MouseEvent mouseEvent(int id) {
+    return new MouseEvent(source, id, when, 0, origin.x, origin.y, 1, false, BUTTON1);
+  }
+}
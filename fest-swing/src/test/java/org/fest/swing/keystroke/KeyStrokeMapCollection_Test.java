@@ -0,0 +1,86 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.keystroke;
+
+import static java.awt.event.InputEvent.SHIFT_MASK;
+import static java.awt.event.KeyEvent.CHAR_UNDEFINED;
+import static java.awt.event.KeyEvent.VK_A;
+import static java.awt.event.KeyEvent.VK_EURO_SIGN;
+import static org.fest.assertions.Assertions.assertThat;
+
+import javax.swing.KeyStroke;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link KeyStrokeMapCollection}.
+ *
+ * @author Alex Ruiz
+ */
+public class KeyStrokeMapCollection_Test {
+  private KeyStrokeMapCollection maps;
+
+  @Before
+  public void setUp() {
+    maps = new KeyStrokeMapCollection();
+  }
+
+  @Test
+  public void should_map_characters_and_KeyStrokes_in_both_directions() {
+    KeyStroke keyStroke = KeyStroke.getKeyStroke(VK_A, SHIFT_MASK);
+    maps.add('A', keyStroke);
+    assertThat(maps.keyStrokeFor('A')).isSameAs(keyStroke);
+    assertThat(maps.charFor(keyStroke)).isEqualTo('A');
+    assertThat(maps.charFor(VK_A, keyStroke.getModifiers())).isEqualTo('A');
+  }
+
+  @Test
+  public void should_map_characters_outside_of_Latin_1_range() {
+    KeyStroke keyStroke = KeyStroke.getKeyStroke(VK_EURO_SIGN, 0);
+    maps.add('\u20ac', keyStroke);
+    assertThat(maps.keyStrokeFor('\u20ac')).isSameAs(keyStroke);
+    assertThat(maps.charFor(keyStroke)).isEqualTo('\u20ac');
+  }
+
+  @Test
+  public void should_map_key_released_KeyStrokes() {
+    KeyStroke keyStroke = KeyStroke.getKeyStroke(VK_A, 0, true);
+    maps.add('a', keyStroke);
+    assertThat(maps.charFor(keyStroke)).isEqualTo('a');
+    assertThat(maps.charFor(KeyStroke.getKeyStroke(VK_A, 0))).isNull();
+  }
+
+  @Test
+  public void should_keep_mappings_when_growing() {
+    for (char c = 'a'; c < 'a' + 300; c++) {
+      maps.add(c, KeyStroke.getKeyStroke(c, 0));
+    }
+    for (char c = 'a'; c < 'a' + 300; c++) {
+      assertThat(maps.charFor(KeyStroke.getKeyStroke(c, 0))).isEqualTo(c);
+    }
+  }
+
+  @Test
+  public void should_remove_all_mappings_when_cleared() {
+    KeyStroke keyStroke = KeyStroke.getKeyStroke(VK_A, 0);
+    maps.add('a', keyStroke);
+    maps.clear();
+    assertThat(maps.isEmpty()).isTrue();
+    assertThat(maps.keyStrokeFor('a')).isNull();
+    assertThat(maps.charFor(keyStroke)).isNull();
+    assertThat(maps.charFor(VK_A, 0)).isEqualTo(CHAR_UNDEFINED);
+  }
+}
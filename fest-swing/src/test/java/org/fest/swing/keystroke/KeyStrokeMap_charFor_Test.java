@@ -40,11 +40,11 @@ public class KeyStrokeMap_charFor_Test extends KeyStrokeMap_TestCase {
 
   @Test
   public void should_strip_modifiers_except_Shift_if_char_for_KeyStroke_not_found() {
-    Character character = 'a';
+    char character = 'a';
     KeyStrokeMapCollection maps = mock(KeyStrokeMapCollection.class);
     KeyStrokeMap.updateKeyStrokeMapCollection(maps);
     when(maps.charFor(keyStroke)).thenReturn(null);
-    when(maps.charFor(removeModifiersExceptShift(keyStroke))).thenReturn(character);
+    when(maps.charFor(VK_A, removeModifiersExceptShift(keyStroke).getModifiers())).thenReturn(character);
     assertThat(KeyStrokeMap.charFor(keyStroke)).isEqualTo(character);
   }
 
@@ -53,7 +53,7 @@ public class KeyStrokeMap_charFor_Test extends KeyStrokeMap_TestCase {
     KeyStrokeMapCollection maps = mock(KeyStrokeMapCollection.class);
     KeyStrokeMap.updateKeyStrokeMapCollection(maps);
     when(maps.charFor(keyStroke)).thenReturn(null);
-    when(maps.charFor(removeModifiersExceptShift(keyStroke))).thenReturn(null);
+    when(maps.charFor(VK_A, removeModifiersExceptShift(keyStroke).getModifiers())).thenReturn(CHAR_UNDEFINED);
     assertThat(KeyStrokeMap.charFor(keyStroke)).isEqualTo(CHAR_UNDEFINED);
   }
 
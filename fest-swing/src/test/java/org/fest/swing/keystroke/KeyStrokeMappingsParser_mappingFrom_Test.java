@@ -48,6 +48,8 @@ public class KeyStrokeMappingsParser_mappingFrom_Test {
         { "COMMA, COMMA, NO_MASK", mappingForComma() },
         { "COMMA,COMMA,NO_MASK", mappingForComma() },
         { "  COMMA,  COMMA,  NO_MASK", mappingForComma() },
+        { "A, 65, 1", mapping('A', VK_A, SHIFT_MASK) },
+        { "A, 0x41, SHIFT_MASK", mapping('A', VK_A, SHIFT_MASK) },
       });
   }
 
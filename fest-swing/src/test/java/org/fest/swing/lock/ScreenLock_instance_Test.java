@@ -0,0 +1,67 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.lock;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.awt.GraphicsDevice;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link ScreenLock#instance(GraphicsDevice)}.
+ * 
+ * @author Alex Ruiz
+ */
+public class ScreenLock_instance_Test {
+  @Test
+  public void should_return_same_lock_for_same_screen() {
+    assertThat(ScreenLock.instance(screen(":1.0"))).isSameAs(ScreenLock.instance(screen(":1.0")));
+  }
+
+  @Test
+  public void should_return_different_locks_for_different_screens() {
+    ScreenLock lock1 = ScreenLock.instance(screen(":1.0"));
+    ScreenLock lock2 = ScreenLock.instance(screen(":1.1"));
+    assertThat(lock1).isNotSameAs(lock2);
+    assertThat(lock1).isNotSameAs(ScreenLock.instance());
+  }
+
+  @Test
+  public void should_not_block_other_screens_when_acquired() {
+    ScreenLock lock1 = ScreenLock.instance(screen(":2.0"));
+    ScreenLock lock2 = ScreenLock.instance(screen(":2.1"));
+    Object owner = new Object();
+    lock1.acquire(owner);
+    try {
+      assertThat(lock2.acquired()).isFalse();
+    } finally {
+      lock1.release(owner);
+    }
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void should_throw_error_if_screen_is_null() {
+    ScreenLock.instance(null);
+  }
+
+  private static GraphicsDevice screen(String id) {
+    GraphicsDevice screen = mock(GraphicsDevice.class);
+    when(screen.getIDstring()).thenReturn(id);
+    return screen;
+  }
+}
@@ -14,13 +14,20 @@
  */
 package org.fest.swing.monitor;
 
+import static java.awt.event.FocusEvent.FOCUS_GAINED;
+import static java.awt.event.PaintEvent.PAINT;
+import static java.awt.event.WindowEvent.WINDOW_ACTIVATED;
 import static org.fest.swing.edt.GuiActionRunner.execute;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyZeroInteractions;
 
 import java.awt.Component;
+import java.awt.Rectangle;
+import java.awt.event.FocusEvent;
 import java.awt.event.KeyEvent;
 import java.awt.event.MouseEvent;
+import java.awt.event.PaintEvent;
+import java.awt.event.WindowEvent;
 
 import javax.swing.JTextField;
 
@@ -80,6 +87,25 @@ public class WindowAvailabilityMonitor_eventDispatched_Test extends WindowAvaila
     verifyZeroInteractions(windows);
   }
 
+  @Test
+  public void should_mark_source_Window_as_ready_if_event_is_PaintEvent() {
+    monitor.eventDispatched(new PaintEvent(window, PAINT, new Rectangle(0, 0, 10, 10)));
+    verify(windows).markAsReady(window);
+  }
+
+  @Test
+  public void should_mark_source_Window_as_ready_if_Window_is_activated() {
+    monitor.eventDispatched(new WindowEvent(window, WINDOW_ACTIVATED));
+    verify(windows).markAsReady(window);
+  }
+
+  @Test
+  public void should_mark_source_Window_ancestor_as_ready_if_event_is_focus_gained() {
+    JTextField source = window.textField;
+    monitor.eventDispatched(new FocusEvent(source, FOCUS_GAINED));
+    verify(windows).markAsReady(window);
+  }
+
   private MouseEvent mouseEvent(Component source) {
     return new MouseEvent(source, 8, 8912, 0, 0, 0, 0, false, 0);
   }
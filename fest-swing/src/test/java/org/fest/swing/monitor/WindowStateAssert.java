@@ -45,7 +45,7 @@ class WindowStateAssert implements AssertExtension {
   }
 
   private boolean isWindowClosed() {
-    return windows.closed.containsKey(target);
+    return windows.stateOf(target).closed;
   }
 
   WindowStateAssert isPending() {
@@ -59,7 +59,7 @@ class WindowStateAssert implements AssertExtension {
   }
 
   private boolean isWindowPending() {
-    return windows.pending.containsKey(target);
+    return windows.stateOf(target).pending;
   }
 
   WindowStateAssert isOpen() {
@@ -73,7 +73,7 @@ class WindowStateAssert implements AssertExtension {
   }
 
   private boolean isWindowOpen() {
-    return windows.open.containsKey(target);
+    return windows.stateOf(target).open;
   }
 
   WindowStateAssert isHidden() {
@@ -87,7 +87,7 @@ class WindowStateAssert implements AssertExtension {
   }
 
   private boolean isWindowHidden() {
-    return windows.hidden.containsKey(target);
+    return windows.stateOf(target).hidden;
   }
 
   WindowStateAssert isReady() {
@@ -26,13 +26,13 @@ import org.junit.Test;
 public class Windows_isClosed_Test extends Windows_TestCase {
   @Test
   public void should_return_true_if_Window_is_closed() {
-    windows.closed.put(window, true);
+    windows.stateOf(window).closed = true;
     assertThat(windows.isClosed(window)).isTrue();
   }
 
   @Test
   public void should_return_false_if_Window_is_not_closed() {
-    windows.closed.remove(window);
+    windows.stateOf(window).closed = false;
     assertThat(windows.isClosed(window)).isFalse();
   }
 }
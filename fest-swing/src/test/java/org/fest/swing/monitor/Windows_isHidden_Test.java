@@ -26,13 +26,13 @@ import org.junit.Test;
 public class Windows_isHidden_Test extends Windows_TestCase {
   @Test
   public void should_return_true_if_Window_is_hidden() {
-    windows.hidden.put(window, true);
+    windows.stateOf(window).hidden = true;
     assertThat(windows.isHidden(window)).isTrue();
   }
 
   @Test
   public void should_return_false_if_Window_is_not_hidden() {
-    windows.hidden.remove(window);
+    windows.stateOf(window).hidden = false;
     assertThat(windows.isHidden(window)).isFalse();
   }
 }
@@ -26,29 +26,29 @@ import org.junit.Test;
 public class Windows_isReady_Test extends Windows_TestCase {
   @Test
   public void should_return_true_if_Window_is_open_and_not_hidden() {
-    windows.open.put(window, true);
-    windows.hidden.remove(window);
+    windows.stateOf(window).open = true;
+    windows.stateOf(window).hidden = false;
     assertThat(windows.isReady(window)).isTrue();
   }
 
   @Test
   public void should_return_false_if_Window_is_open_and_hidden() {
-    windows.hidden.put(window, true);
-    windows.open.put(window, true);
+    windows.stateOf(window).hidden = true;
+    windows.stateOf(window).open = true;
     assertThat(windows.isReady(window)).isFalse();
   }
 
   @Test
   public void should_return_false_if_Window_is_not_open_and_hidden() {
-    windows.hidden.put(window, true);
-    windows.open.remove(window);
+    windows.stateOf(window).hidden = true;
+    windows.stateOf(window).open = false;
     assertThat(windows.isReady(window)).isFalse();
   }
 
   @Test
   public void should_return_false_if_Window_is_not_open_and_not_hidden() {
-    windows.hidden.remove(window);
-    windows.open.remove(window);
+    windows.stateOf(window).hidden = false;
+    windows.stateOf(window).open = false;
     assertThat(windows.isReady(window)).isFalse();
   }
 }
@@ -26,13 +26,13 @@ import org.junit.Test;
 public class Windows_isShowingButNotReadyTest extends Windows_TestCase {
   @Test
   public void should_return_true_if_Window_is_pending() {
-    windows.pending.put(window, null);
+    windows.stateOf(window).pending = true;
     assertThat(windows.isShowingButNotReady(window)).isTrue();
   }
 
   @Test
   public void should_return_false_if_Window_is_not_pending() {
-    windows.pending.remove(window);
+    windows.stateOf(window).pending = false;
     assertThat(windows.isShowingButNotReady(window)).isFalse();
   }
 }
@@ -0,0 +1,57 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.monitor;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.swing.test.util.StopWatch.startNewStopWatch;
+
+import org.fest.swing.test.util.StopWatch;
+import org.junit.Test;
+
+/**
+ * Tests for {@link Windows#waitUntilReady(java.awt.Window, long)}.
+ * 
+ * @author Alex Ruiz
+ */
+public class Windows_waitUntilReady_Test extends Windows_TestCase {
+  @Test
+  public void should_return_immediately_if_Window_is_ready() throws InterruptedException {
+    windows.stateOf(window).open = true;
+    assertThat(windows.waitUntilReady(window, 0)).isTrue();
+  }
+
+  @Test
+  public void should_return_as_soon_as_Window_is_marked_as_ready() throws InterruptedException {
+    windows.markAsShowing(window);
+    new Thread() {
+      @Override
+      public void run() {
+        windows.markAsReady(window);
+      }
+    }.start();
+    StopWatch stopWatch = startNewStopWatch();
+    assertThat(windows.waitUntilReady(window, Windows.WINDOW_READY_DELAY)).isTrue();
+    stopWatch.stop();
+    assertThat(stopWatch.ellapsedTime()).isLessThan(Windows.WINDOW_READY_DELAY);
+    assertThat(windowState()).isReady();
+  }
+
+  @Test
+  public void should_return_false_if_Window_is_not_ready_before_timeout() throws InterruptedException {
+    windows.markAsShowing(window);
+    assertThat(windows.waitUntilReady(window, 100)).isFalse();
+    assertThat(windowState()).isPending();
+  }
+}
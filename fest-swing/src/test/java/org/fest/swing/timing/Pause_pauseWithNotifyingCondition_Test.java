@@ -0,0 +1,134 @@
+/*
+ * Created on Oct 18, 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright @2026 the original author or authors.
+ */
+package org.fest.swing.timing;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.util.Lists.newArrayList;
+
+import java.util.List;
+
+import org.fest.swing.exception.WaitTimedOutError;
+import org.junit.Test;
+
+/**
+ * Tests for {@link Pause#pause(Condition, long)} and {@link Pause#pause(Condition[], long)} using {@link Condition}s
+ * that notify changes through {@link Condition#wakeUp()}.
+ *
+ * @author Alex Ruiz
+ */
+public class Pause_pauseWithNotifyingCondition_Test {
+  @Test
+  public void should_wait_till_Condition_is_satisfied_after_wake_up() {
+    final NotifyingCondition condition = new NotifyingCondition();
+    new Thread() {
+      @Override
+      public void run() {
+        Pause.pause(100);
+        condition.satisfy();
+      }
+    }.start();
+    Pause.pause(condition, 5000);
+    assertThat(condition.satisfied).isTrue();
+    assertThat(condition.callbacks).containsExactly("add", "remove", "done");
+  }
+
+  @Test
+  public void should_remove_listeners_if_Condition_is_never_satisfied() {
+    NotifyingCondition condition = new NotifyingCondition();
+    try {
+      Pause.pause(condition, 100);
+    } catch (WaitTimedOutError expected) {
+      assertThat(condition.callbacks).containsExactly("add", "remove", "done");
+      return;
+    }
+    throw new AssertionError("Expecting WaitTimedOutError");
+  }
+
+  @Test
+  public void should_remove_listeners_if_adding_them_fails() {
+    NotifyingCondition condition = new NotifyingCondition();
+    condition.failOnAdd = true;
+    try {
+      Pause.pause(condition, 100);
+    } catch (IllegalStateException expected) {
+      assertThat(condition.callbacks).containsExactly("add", "remove", "done");
+      return;
+    }
+    throw new AssertionError("Expecting IllegalStateException");
+  }
+
+  @Test
+  public void should_remove_listeners_only_of_started_Conditions_if_adding_them_fails() {
+    NotifyingCondition started = new NotifyingCondition();
+    NotifyingCondition failing = new NotifyingCondition();
+    failing.failOnAdd = true;
+    NotifyingCondition notStarted = new NotifyingCondition();
+    try {
+      Pause.pause(new Condition[] { started, failing, notStarted }, 100);
+    } catch (IllegalStateException expected) {
+      assertThat(started.callbacks).containsExactly("add", "remove", "done");
+      assertThat(failing.callbacks).containsExactly("add", "remove", "done");
+      assertThat(notStarted.callbacks).containsExactly("done");
+      return;
+    }
+    throw new AssertionError("Expecting IllegalStateException");
+  }
+
+  @Test
+  public void should_ignore_wake_up_if_nobody_is_waiting() {
+    NotifyingCondition condition = new NotifyingCondition();
+    condition.satisfy();
+    assertThat(condition.callbacks).isEmpty();
+  }
+
+  private static class NotifyingCondition extends Condition {
+    final List<String> callbacks = newArrayList();
+    volatile boolean satisfied;
+    boolean failOnAdd;
+
+    NotifyingCondition() {
+      super("Notifying condition");
+    }
+
+    void satisfy() {
+      satisfied = true;
+      wakeUp();
+    }
+
+    @Override
+    public boolean test() {
+      return satisfied;
+    }
+
+    @Override
+    protected boolean addWakeUpListeners() {
+      callbacks.add("add");
+      if (failOnAdd) {
+        throw new IllegalStateException("Thrown on purpose");
+      }
+      return true;
+    }
+
+    @Override
+    protected void removeWakeUpListeners() {
+      callbacks.add("remove");
+    }
+
+    @Override
+    protected void done() {
+      callbacks.add("done");
+    }
+  }
+}